@@ -0,0 +1,12 @@
+-- Executado só na primeira inicialização da réplica (volume vazio).
+-- Replica tudo do serviço "db" desde o início, pela posição GTID.
+-- Dados gravados no "db" antes de o GTID ser ligado não vêm pela replicação:
+-- com um volume antigo, importe um dump na réplica antes de usá-la.
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'db',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'marcela',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
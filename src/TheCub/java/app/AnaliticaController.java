@@ -0,0 +1,62 @@
+package app; // Pacote onde fica o controller de analytics de artigos
+
+// DTO da série temporal
+import dominio.dto.response.AnaliticaArtigoDTO;
+// Granularidade dos pontos (HORA/DIA)
+import dominio.enums.GranularidadeAnalitica;
+// Serviço que lê os rollups
+import servicos_tecnicos.AnaliticaService;
+
+// Swagger/OpenAPI para documentação dos endpoints
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+// Lombok: gera construtor com campos final
+import lombok.RequiredArgsConstructor;
+// Conversão de datas ISO (yyyy-MM-dd) nos parâmetros
+import org.springframework.format.annotation.DateTimeFormat;
+// Classes HTTP para respostas
+import org.springframework.http.ResponseEntity;
+// Segurança: controle de acesso por roles
+import org.springframework.security.access.prepost.PreAuthorize;
+// Anotações REST
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * Controller REST das séries de analytics de artigos (visualizações e reações
+ * por hora/dia), lidas dos rollups e usadas nos gráficos do RelatoriosPanel.
+ */
+@RestController // Indica que a classe expõe endpoints REST (JSON)
+@RequestMapping("/api/admin/artigos") // Prefixo base das rotas administrativas de artigo
+@RequiredArgsConstructor // Lombok: gera construtor com o campo final analiticaService
+@Tag(
+        name = "Analytics de Artigos",
+        description = "Séries temporais de visualizações e reações (Admin/Editor)"
+) // Grupo no Swagger
+@SecurityRequirement(name = "bearerAuth") // Exige autenticação JWT (bearerAuth no Swagger)
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}) // Libera CORS para esses frontends
+public class AnaliticaController {
+
+    // Serviço responsável pelas séries de analytics
+    private final AnaliticaService analiticaService;
+
+    /**
+     * Série do artigo no intervalo [from, to] (padrão: últimos 30 dias, por dia).
+     */
+    @Operation(
+            summary = "Analytics do artigo",
+            description = "Visualizações e reações por dia (ou hora, onde ainda não compactado) no intervalo informado."
+    )
+    @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
+    @GetMapping("/{id}/analytics") // GET /api/admin/artigos/{id}/analytics?from=2024-01-01&to=2024-01-31
+    public ResponseEntity<AnaliticaArtigoDTO> analytics(
+            @PathVariable Long id,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+            @RequestParam(defaultValue = "DIA") GranularidadeAnalitica granularidade) {
+        return ResponseEntity.ok(analiticaService.obterSerie(id, de, ate, granularidade));
+    }
+}
@@ -8,12 +8,20 @@ import dominio.dto.auth.RefreshTokenRequest;
 import dominio.dto.RegisterRequest;
 // Entidade de usuário persistida no banco
 import dominio.entidades.Usuario;
+// Pool de hash de senhas saturado (503 + Retry-After)
+import dominio.exception.ServicoSobrecarregadoException;
+// Refresh token inválido/expirado/reutilizado
+import dominio.exception.BusinessException;
 // Serviço de domínio para regras de negócio de usuário
 import servicos_tecnicos.UsuarioService;
+// Serviço de refresh tokens (opacos, guardados com hash)
+import servicos_tecnicos.RefreshTokenService;
 // Serviço responsável por gerar e validar tokens JWT
 import lib.JwtService;
 // Implementação de UserDetailsService usada pelo Spring Security
 import lib.CustomUserDetailsService;
+// Lista de negação de access tokens (jti)
+import lib.token.ListaRevogacao;
 
 // Anotações do Swagger/OpenAPI para documentar os endpoints
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,11 +31,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 // Validação de dados de entrada (@Valid)
 import jakarta.validation.Valid;
+// Claims do JWT (jti/expiração) no logout
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 // Lombok: gera construtor com campos final e logger (log)
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 // Classes do Spring Web/Security
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -35,6 +47,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Map;
 
 /**
@@ -60,6 +74,10 @@ public class AuthController {
     private final CustomUserDetailsService userDetailsService;
     // Serviço de usuário (buscar por e-mail, criar novo, etc.)
     private final UsuarioService usuarioService;
+    // Emissão/rotação/revogação de refresh tokens
+    private final RefreshTokenService refreshTokenService;
+    // Lista de access tokens revogados (logout)
+    private final ListaRevogacao listaRevogacao;
 
     // ====== LOGIN ======
 
@@ -92,8 +110,13 @@ public class AuthController {
             // Busca a entidade Usuario completa para retornar dados adicionais na resposta
             Usuario usuario = usuarioService.buscarPorEmailEntidade(request.getEmail());
 
+            // Migração transparente: senha legada em texto puro (ou hash fraco) vira BCrypt
+            usuarioService.atualizarHashSenhaSeNecessario(usuario, request.getSenha());
+
             // Gera o token JWT usando o e-mail como "username"
             String token = jwtService.generateToken(usuario.getEmail());
+            // Refresh token opaco (guardado com hash) para renovar o access token
+            String refreshToken = refreshTokenService.emitir(usuario);
 
             log.info("Login bem-sucedido para usuário: {}", request.getEmail());
 
@@ -101,6 +124,7 @@ public class AuthController {
             return ResponseEntity.ok(
                     AuthResponse.builder()
                             .token(token)
+                            .refreshToken(refreshToken)
                             .tipo(usuario.getTipo().name()) // ADMIN, EDITOR, REDATOR, LEITOR
                             .nome(usuario.getNome())
                             .email(usuario.getEmail())
@@ -113,6 +137,12 @@ public class AuthController {
             log.warn("Falha de autenticação para o e-mail: {}", request.getEmail());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("erro", "Credenciais inválidas ou conta inativa"));
+        } catch (ServicoSobrecarregadoException ex) {
+            // Pool de hash de senhas saturado: cliente deve tentar de novo em instantes
+            log.warn("Login adiado por sobrecarga do hash de senhas: {}", request.getEmail());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()))
+                    .body(Map.of("erro", ex.getMessage()));
         } catch (Exception e) {
             // Qualquer erro inesperado durante o processo de login
             log.error("Erro inesperado durante o login: {}", e.getMessage());
@@ -150,34 +180,34 @@ public class AuthController {
     // ====== REFRESH TOKEN ======
 
     /**
-     * Endpoint para renovar (refresh) um token JWT válido.
-     * Recebe o token atual e devolve um novo com prazo renovado.
+     * Endpoint para renovar o access token.
+     * Recebe o refresh token opaco e devolve um novo JWT e um novo refresh token
+     * (o usado é revogado; reusá-lo revoga todos os refresh tokens do usuário).
      */
     @Operation(
             summary = "Renovar token JWT",
-            description = "Recebe um token JWT válido e retorna um novo token com tempo renovado."
+            description = "Troca um refresh token válido por um novo JWT e um novo refresh token."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Token renovado com sucesso."),
-            @ApiResponse(responseCode = "400", description = "Token inválido ou expirado.")
+            @ApiResponse(responseCode = "400", description = "Refresh token inválido, expirado ou já utilizado.")
     })
     @PostMapping("/refresh") // POST /api/auth/refresh
     public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest request) {
         try {
-            // Extrai o "username" (e-mail) do token recebido
-            String username = jwtService.extractUsername(request.getToken());
-            log.info(" Solicitada renovação de token para usuário: {}", username);
+            // Gira o refresh token (valida, revoga o atual e emite outro)
+            RefreshTokenService.Renovacao renovacao = refreshTokenService.girar(request.getRefreshToken());
+            Usuario usuario = renovacao.usuario();
+            log.info(" Solicitada renovação de token para usuário: {}", usuario.getEmail());
 
             // Gera um novo token JWT para esse usuário
-            String novoToken = jwtService.generateToken(username);
-
-            // Opcional: busca o usuário para retornar dados junto com o novo token
-            Usuario usuario = usuarioService.buscarPorEmailEntidade(username);
+            String novoToken = jwtService.generateToken(usuario.getEmail());
 
-            // Retorna novo token e dados do usuário
+            // Retorna novos tokens e dados do usuário
             return ResponseEntity.ok(
                     AuthResponse.builder()
                             .token(novoToken)
+                            .refreshToken(renovacao.refreshToken())
                             .tipo(usuario.getTipo().name())
                             .nome(usuario.getNome())
                             .email(usuario.getEmail())
@@ -185,11 +215,11 @@ public class AuthController {
                             .build()
             );
 
-        } catch (Exception e) {
-            // Qualquer problema ao extrair username ou validar o token
-            log.warn("⚠️ Token de refresh inválido: {}", e.getMessage());
+        } catch (BusinessException e) {
+            // Token desconhecido, expirado, já utilizado ou conta inativa
+            log.warn("⚠️ Refresh token recusado: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(Map.of("erro", "Token inválido ou expirado."));
+                    .body(Map.of("erro", e.getMessage()));
         }
     }
 
@@ -197,24 +227,44 @@ public class AuthController {
 
     /**
      * Endpoint de logout.
-     * Como JWT é stateless, aqui apenas informamos o cliente para descartar o token.
+     * Revoga o access token enviado no header Authorization (até a expiração dele)
+     * e, se informado no corpo, o refresh token.
      */
     @Operation(
             summary = "Logout",
-            description = "Finaliza a sessão localmente no cliente (token expira no dispositivo)."
+            description = "Revoga o token atual (Authorization) e o refresh token informado."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Logout efetuado com sucesso.")
     })
     @PostMapping("/logout") // POST /api/auth/logout
-    public ResponseEntity<Map<String, String>> logout() {
-        // Apenas loga a ação; o cliente é responsável por apagar o token localmente
-        log.info("Usuário efetuou logout (token expira apenas no cliente).");
+    public ResponseEntity<Map<String, String>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+
+        // Access token: entra na lista de revogação consultada pelo JwtAuthenticationFilter
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            try {
+                Claims claims = jwtService.extractAllClaims(authorization.substring(7));
+                LocalDateTime expiracao = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+                listaRevogacao.revogar(claims.getId(), expiracao);
+            } catch (JwtException e) {
+                // Token inválido/expirado já não dá acesso: nada a revogar
+                log.debug("Logout com token inválido: {}", e.getMessage());
+            }
+        }
+
+        // Refresh token: não pode mais ser trocado por um novo JWT
+        if (request != null && request.getRefreshToken() != null && !request.getRefreshToken().isBlank()) {
+            refreshTokenService.revogar(request.getRefreshToken());
+        }
+
+        log.info("Usuário efetuou logout (tokens revogados no servidor).");
 
         return ResponseEntity.ok(
                 Map.of(
                         "mensagem",
-                        "Logout realizado com sucesso. O token expirará automaticamente."
+                        "Logout realizado com sucesso."
                 )
         );
     }
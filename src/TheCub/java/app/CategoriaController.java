@@ -100,6 +100,7 @@ public class CategoriaController {
 
     /**
      * Lista paginada de todas as categorias.
+     * Com exactCount=false responde no formato PaginaResponse (sem COUNT).
      */
     @Operation(
             summary = "Listar todas as categorias",
@@ -107,11 +108,12 @@ public class CategoriaController {
     )
     @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
     @GetMapping // GET /api/admin/categorias
-    public ResponseEntity<Page<CategoriaResponseDTO>> listarTodas(
+    public ResponseEntity<?> listarTodas(
             @RequestParam(defaultValue = "0") int page,     // Número da página
             @RequestParam(defaultValue = "10") int size,    // Tamanho da página
             @RequestParam(defaultValue = "nome") String sort, // Campo de ordenação
-            @RequestParam(defaultValue = "asc") String direction // Direção: asc/desc
+            @RequestParam(defaultValue = "asc") String direction, // Direção: asc/desc
+            @RequestParam(defaultValue = "true") boolean exactCount // false = sem COUNT
     ) {
         // Define a direção do sort com base no parâmetro direction
         Sort.Direction dir =
@@ -120,6 +122,10 @@ public class CategoriaController {
         // Cria objeto Pageable com paginação e ordenação
         Pageable pageable = PageRequest.of(page, size, Sort.by(dir, sort));
 
+        if (!exactCount) {
+            return ResponseEntity.ok(categoriaService.listarTodasSemContagem(pageable));
+        }
+
         // Chama o service para listar todas as categorias de forma paginada
         return ResponseEntity.ok(categoriaService.listarTodas(pageable));
     }
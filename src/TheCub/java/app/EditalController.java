@@ -23,6 +23,8 @@ import org.springframework.http.ResponseEntity;
 // Anotações REST
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Controller REST para gerenciamento de editais.
  * Mistura rotas administrativas (/editais) e públicas (/public/editais).
@@ -70,13 +72,26 @@ public class EditalController {
     )
     public ResponseEntity<Page<EditalResponseDTO>> listar(Pageable pageable) {
         // Log com número da página e tamanho da página
-        log.info("° Listando editais - Página: {}, Tamanho: {}",
+        log.debug("° Listando editais - Página: {}, Tamanho: {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
         // Usa o service para listar apenas editais ativos
         return ResponseEntity.ok(editalService.listarAtivos(pageable));
     }
 
+    /**
+     * Lista os editais abertos agora, ou seja, ativos e dentro da validade (rota pública).
+     */
+    @GetMapping("/public/editais/abertos") // GET /api/public/editais/abertos
+    @Operation(
+            summary = "Listar editais abertos",
+            description = "Lista os editais ativos cuja validade ainda não passou (público, servido de cache)"
+    )
+    public ResponseEntity<List<EditalResponseDTO>> listarAbertos() {
+        log.debug("Listando editais abertos");
+        return ResponseEntity.ok(editalService.listarAbertos());
+    }
+
     /**
      * Busca edital específico por ID (rota pública).
      */
@@ -86,7 +101,7 @@ public class EditalController {
             description = "Busca um edital específico por ID (público)"
     )
     public ResponseEntity<EditalResponseDTO> buscar(@PathVariable Long id) {
-        log.info("° Buscando edital ID: {}", id);
+        log.debug("° Buscando edital ID: {}", id);
         // Busca o edital e retorna 200 OK com o DTO
         return ResponseEntity.ok(editalService.buscarPorId(id));
     }
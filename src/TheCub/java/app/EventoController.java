@@ -19,6 +19,8 @@ import lombok.RequiredArgsConstructor;
 
 // Spring Data para paginação
 import org.springframework.data.domain.*;
+// Conversão de datas ISO nos filtros
+import org.springframework.format.annotation.DateTimeFormat;
 // Classes HTTP para respostas
 import org.springframework.http.*;
 // Segurança: controle de acesso por roles
@@ -26,6 +28,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 // Anotações REST
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -78,18 +81,29 @@ public class EventoController {
 
     /**
      * Lista paginada de todos os eventos cadastrados (independente de status).
+     * Aceita filtros opcionais; sem nenhum filtro, lista tudo.
+     * Com exactCount=false responde no formato PaginaResponse (sem COUNT).
      */
     @Operation(
             summary = "Listar todos",
-            description = "Lista paginada de todos os eventos cadastrados."
+            description = "Lista paginada de eventos, com filtros opcionais por título, local, organizador, status e período."
     )
     @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
     @GetMapping // GET /api/admin/eventos
-    public ResponseEntity<Page<EventoResponseDTO>> listarTodos(
+    public ResponseEntity<?> listarTodos(
+            @RequestParam(required = false) String titulo,
+            @RequestParam(required = false) String local,
+            @RequestParam(required = false) Long organizadorId,
+            @RequestParam(required = false) Boolean ativo,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim,
             @RequestParam(defaultValue = "0") int page,          // Página atual
             @RequestParam(defaultValue = "10") int size,         // Tamanho da página
             @RequestParam(defaultValue = "dataEvento") String sort, // Campo de ordenação
-            @RequestParam(defaultValue = "asc") String direction // Direção da ordenação
+            @RequestParam(defaultValue = "asc") String direction, // Direção da ordenação
+            @RequestParam(defaultValue = "true") boolean exactCount // false = sem COUNT
     ) {
 
         // Converte string asc/desc para Sort.Direction
@@ -99,8 +113,14 @@ public class EventoController {
         // Cria objeto Pageable com paginação e ordenação
         Pageable pageable = PageRequest.of(page, size, Sort.by(dir, sort));
 
-        // Chama o service para listar todos
-        return ResponseEntity.ok(eventoService.listarTodos(pageable));
+        if (!exactCount) {
+            return ResponseEntity.ok(eventoService.buscarComFiltrosSemContagem(
+                    titulo, local, organizadorId, ativo, inicio, fim, pageable));
+        }
+
+        // Filtros vazios viram uma consulta sem WHERE no service
+        return ResponseEntity.ok(
+                eventoService.buscarComFiltros(titulo, local, organizadorId, ativo, inicio, fim, pageable));
     }
 
     /**
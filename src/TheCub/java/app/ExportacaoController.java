@@ -0,0 +1,91 @@
+package app; // Pacote onde fica o controller de exportações administrativas
+
+// Formato do arquivo (CSV/NDJSON)
+import dominio.enums.FormatoExportacao;
+// Serviço que escreve os registros em streaming
+import servicos_tecnicos.ExportacaoService;
+
+// Swagger/OpenAPI para documentação dos endpoints
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+// Resposta HTTP escrita diretamente (sem materializar o corpo)
+import jakarta.servlet.http.HttpServletResponse;
+// Lombok: gera construtor com campos final
+import lombok.RequiredArgsConstructor;
+// Cabeçalhos HTTP
+import org.springframework.http.HttpHeaders;
+// Segurança: controle de acesso por roles
+import org.springframework.security.access.prepost.PreAuthorize;
+// Anotações REST
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Controller REST das exportações completas (relatórios externos).
+ *
+ * Diferente de /api/artigos/estatisticas, que monta uma lista JSON com
+ * todos os artigos, aqui as linhas vão direto para o corpo da resposta à
+ * medida que saem do banco: a memória não cresce com o tamanho da tabela.
+ */
+@RestController // Indica que a classe expõe endpoints REST
+@RequestMapping("/api/admin/exportacoes") // Prefixo base das exportações
+@RequiredArgsConstructor // Lombok: gera construtor com o campo final exportacaoService
+@Tag(
+        name = "Exportações",
+        description = "Exportação completa em CSV ou NDJSON, em streaming (Admin/Editor)"
+) // Grupo no Swagger
+@SecurityRequirement(name = "bearerAuth") // Exige autenticação JWT (bearerAuth no Swagger)
+public class ExportacaoController {
+
+    // Serviço responsável por ler e escrever os registros
+    private final ExportacaoService exportacaoService;
+
+    @Operation(summary = "Exportar artigos", description = "Todos os artigos, com conteúdo e estatísticas")
+    @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
+    @GetMapping("/artigos") // GET /api/admin/exportacoes/artigos?formato=CSV
+    public void artigos(@RequestParam(defaultValue = "CSV") FormatoExportacao formato,
+                        HttpServletResponse response) throws IOException {
+        prepararResposta(response, "artigos", formato);
+        exportacaoService.exportarArtigos(formato, response.getOutputStream());
+    }
+
+    @Operation(summary = "Exportar eventos", description = "Todos os eventos, inclusive inativos e encerrados")
+    @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
+    @GetMapping("/eventos") // GET /api/admin/exportacoes/eventos?formato=CSV
+    public void eventos(@RequestParam(defaultValue = "CSV") FormatoExportacao formato,
+                        HttpServletResponse response) throws IOException {
+        prepararResposta(response, "eventos", formato);
+        exportacaoService.exportarEventos(formato, response.getOutputStream());
+    }
+
+    @Operation(summary = "Exportar usuários", description = "Todos os usuários (sem credenciais)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/usuarios") // GET /api/admin/exportacoes/usuarios?formato=CSV
+    public void usuarios(@RequestParam(defaultValue = "CSV") FormatoExportacao formato,
+                         HttpServletResponse response) throws IOException {
+        prepararResposta(response, "usuarios", formato);
+        exportacaoService.exportarUsuarios(formato, response.getOutputStream());
+    }
+
+    @Operation(summary = "Exportar comentários", description = "Todos os comentários, aprovados ou não")
+    @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
+    @GetMapping("/comentarios") // GET /api/admin/exportacoes/comentarios?formato=CSV
+    public void comentarios(@RequestParam(defaultValue = "CSV") FormatoExportacao formato,
+                            HttpServletResponse response) throws IOException {
+        prepararResposta(response, "comentarios", formato);
+        exportacaoService.exportarComentarios(formato, response.getOutputStream());
+    }
+
+    // Cabeçalhos antes do primeiro byte: depois disso a resposta já foi enviada
+    private static void prepararResposta(HttpServletResponse response, String recurso, FormatoExportacao formato) {
+        response.setContentType(formato.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + recurso + "-" + LocalDate.now() + "." + formato.getExtensao() + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+    }
+}
@@ -13,6 +13,8 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 
 // Lombok: gera construtor com campos final
 import lombok.RequiredArgsConstructor;
+// Lombok: logger SLF4J
+import lombok.extern.slf4j.Slf4j;
 // Classe para montar respostas HTTP
 import org.springframework.http.ResponseEntity;
 // Anotações REST
@@ -30,6 +32,7 @@ import java.util.Map;
 @RestController // Indica que é um controller REST (JSON)
 @RequestMapping("/api/upload") // Prefixo base para o endpoint de upload
 @RequiredArgsConstructor // Lombok: gera construtor com o campo final fileUploadService
+@Slf4j // Logger (substitui os System.out)
 @Tag(name = "Upload de Arquivos") // Grupo no Swagger
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}) // Libera CORS para esses frontends
 public class FileUploadController {
@@ -82,15 +85,14 @@ public class FileUploadController {
             }
 
             // Logs simples com informações do arquivo recebido
-            System.out.println("°°°°°° Recebendo arquivo: " + arquivo.getOriginalFilename());
-            System.out.println("() Tamanho: " + arquivo.getSize() + " bytes");
+            log.debug("Recebendo arquivo: {} ({} bytes)", arquivo.getOriginalFilename(), arquivo.getSize());
 
             // Chama o serviço para salvar a imagem e obter a URL relativa
             String url = fileUploadService.salvarImagem(arquivo);
             // Monta a URL completa, fixando o host/porta da API
             String fullUrl = "http://localhost:8081" + url;
 
-            System.out.println("XXXX URL gerada: " + fullUrl);
+            log.info("Upload concluído, URL gerada: {}", fullUrl);
 
             // Corpo da resposta de sucesso
             Map<String, String> response = new HashMap<>();
@@ -101,8 +103,7 @@ public class FileUploadController {
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             // Tratamento genérico de erro no upload
-            System.err.println("°°° Erro ao fazer upload: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Erro ao fazer upload: {}", e.getMessage(), e);
 
             Map<String, String> error = new HashMap<>();
             error.put("error", "Erro ao fazer upload");
@@ -0,0 +1,49 @@
+package app; // Pacote onde fica o controller público da página inicial
+
+// DTO com todas as seções da home
+import dominio.dto.response.HomeResponseDTO;
+// Serviço que monta a home em paralelo
+import servicos_tecnicos.HomeService;
+
+// Swagger/OpenAPI para documentação dos endpoints
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+// Lombok: gera construtor com campos final para injeção
+import lombok.RequiredArgsConstructor;
+// Construção de respostas HTTP
+import org.springframework.http.ResponseEntity;
+// Anotações REST
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller REST público da página inicial.
+ * Substitui as várias chamadas sequenciais do site/desktop (destaques, recentes,
+ * eventos, categorias e métricas) por um único documento.
+ */
+@RestController // Indica que a classe expõe endpoints REST (JSON)
+@RequestMapping("/api/public/home") // Rota pública da home
+@RequiredArgsConstructor // Lombok: gera construtor com o campo final homeService
+@Tag(
+        name = "Home Pública",
+        description = "Documento único da página inicial"
+) // Grupo no Swagger
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}) // Libera CORS para esses frontends
+public class HomePublicController {
+
+    // Serviço que carrega as seções da home em paralelo
+    private final HomeService homeService;
+
+    /**
+     * Retorna destaques, artigos recentes, próximos eventos, categorias e métricas.
+     * Seções que estouram o tempo vêm vazias e são listadas em secoesIndisponiveis.
+     */
+    @Operation(
+            summary = "Página inicial",
+            description = "Destaques, recentes, próximos eventos, categorias e métricas em uma chamada"
+    )
+    @GetMapping // GET /api/public/home
+    public ResponseEntity<HomeResponseDTO> home() {
+        return ResponseEntity.ok(homeService.montarHome());
+    }
+}
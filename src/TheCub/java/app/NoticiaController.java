@@ -6,6 +6,7 @@ import dominio.enums.StatusNoticia;
 import dominio.dto.request.NoticiaRequestDTO;
 // DTO usado para devolver os dados de artigo na resposta da API
 import dominio.dto.NoticiaResponse;
+import dominio.dto.response.LeitoresUnicosDTO;
 // Serviço responsável pela regra de negócio relacionada a artigos
 import servicos_tecnicos.NoticiaService;
 
@@ -24,12 +25,15 @@ import lombok.RequiredArgsConstructor;
 
 // Classes do Spring Data para paginação e ordenação
 import org.springframework.data.domain.*;
+// Conversão de data/hora ISO nos parâmetros (publicação agendada)
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
 // Controle de autorização baseado em roles (Spring Security)
 import org.springframework.security.access.prepost.PreAuthorize;
 // Anotações de mapeamento REST (GET, POST, etc.)
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -71,11 +75,12 @@ public class NoticiaController {
     /**
      * Endpoint para listar artigos com filtros opcionais e paginação.
      * Requer papel ADMIN ou EDITOR.
+     * Com exactCount=false responde no formato PaginaResponse (sem COUNT).
      */
     @Operation(summary = "Listar artigos")
     @PreAuthorize("hasAnyRole('ADMIN','EDITOR')") // Apenas ADMIN e EDITOR podem listar com esse endpoint interno
     @GetMapping // Mapeia requisições HTTP GET em /api/artigos
-    public ResponseEntity<Page<NoticiaResponse>> listarArtigos(
+    public ResponseEntity<?> listarArtigos(
             @Parameter(description = "Status do artigo")
             @RequestParam(required = false) StatusNoticia status, // Filtro opcional por status
 
@@ -91,7 +96,10 @@ public class NoticiaController {
             @RequestParam(defaultValue = "0") int page, // Página atual (default 0)
             @RequestParam(defaultValue = "10") int size, // Tamanho da página (default 10 registros)
             @RequestParam(defaultValue = "dataCriacao") String sort, // Campo para ordenação (default dataCriacao)
-            @RequestParam(defaultValue = "desc") String direction // Direção da ordenação: asc/desc (default desc)
+            @RequestParam(defaultValue = "desc") String direction, // Direção da ordenação: asc/desc (default desc)
+
+            @Parameter(description = "false = sem COUNT: responde hasNext e o total só se já estiver em cache")
+            @RequestParam(defaultValue = "true") boolean exactCount
     ) {
 
         // Define a direção da ordenação com base no parâmetro direction
@@ -103,6 +111,12 @@ public class NoticiaController {
         // Cria o objeto Pageable com página, tamanho e ordenação
         Pageable pageable = PageRequest.of(page, size, sortOrder);
 
+        // Modo sem COUNT: só hasNext e o total em cache, se houver
+        if (!exactCount) {
+            return ResponseEntity.ok(
+                    artigoService.buscarPorFiltrosSemContagem(status, categoriaId, autorId, titulo, pageable));
+        }
+
         // Busca os artigos no service aplicando filtros e paginação
         Page<NoticiaResponse> artigos =
                 artigoService.buscarPorFiltros(status, categoriaId, autorId, titulo, pageable);
@@ -150,18 +164,35 @@ public class NoticiaController {
 
     /**
      * Endpoint para publicar um artigo (mudança de status, data de publicação, etc.).
+     * Com "em" no futuro, agenda a publicação (status AGENDADO) em vez de publicar agora.
      * Requer papel ADMIN ou EDITOR.
      */
-    @Operation(summary = "Publicar artigo")
+    @Operation(summary = "Publicar artigo", description = "Publica agora ou, com 'em' no futuro, agenda a publicação")
     @PreAuthorize("hasAnyRole('ADMIN','EDITOR')") // Apenas ADMIN e EDITOR podem publicar
-    @PatchMapping("/{id}/publicar") // Mapeia PATCH /api/artigos/{id}/publicar
-    public ResponseEntity<NoticiaResponse> publicarArtigo(@PathVariable Long id) {
-        // Chama o serviço para publicar o artigo (normalmente altera status para PUBLICADO e seta dataPublicacao)
-        NoticiaResponse artigo = artigoService.publicarArtigo(id);
-        // Retorna o artigo já publicado
+    @PatchMapping("/{id}/publicar") // Mapeia PATCH /api/artigos/{id}/publicar[?em=2024-05-01T08:00:00]
+    public ResponseEntity<NoticiaResponse> publicarArtigo(
+            @PathVariable Long id,
+            @Parameter(description = "Data/hora da publicação agendada (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime em) {
+        // Sem data: publica imediatamente (status PUBLICADO e dataPublicacao = agora)
+        NoticiaResponse artigo = em == null
+                ? artigoService.publicarArtigo(id)
+                : artigoService.agendarPublicacao(id, em);
+        // Retorna o artigo publicado (ou agendado)
         return ResponseEntity.ok(artigo);
     }
 
+    /**
+     * Cancela a publicação agendada de um artigo (volta a RASCUNHO).
+     * Requer papel ADMIN ou EDITOR.
+     */
+    @Operation(summary = "Cancelar publicação agendada")
+    @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
+    @DeleteMapping("/{id}/agendamento") // Mapeia DELETE /api/artigos/{id}/agendamento
+    public ResponseEntity<NoticiaResponse> cancelarAgendamento(@PathVariable Long id) {
+        return ResponseEntity.ok(artigoService.cancelarAgendamento(id));
+    }
+
     /**
      * Endpoint para arquivar um artigo (por exemplo, mudar status para ARQUIVADO).
      * Requer papel ADMIN ou EDITOR.
@@ -209,6 +240,17 @@ public class NoticiaController {
         return ResponseEntity.ok(lista);
     }
 
+    /**
+     * Leitores únicos estimados de um artigo (HyperLogLog), para editores
+     * compararem com o contador bruto de visualizações.
+     */
+    @Operation(summary = "Leitores únicos do artigo", description = "Estimativa de leitores únicos nos últimos 7 e 30 dias")
+    @GetMapping("/{id}/leitores") // Mapeia GET /api/artigos/{id}/leitores
+    @PreAuthorize("hasAnyRole('ADMIN','EDITOR','REDATOR')") // Mesmos perfis das estatísticas
+    public ResponseEntity<LeitoresUnicosDTO> leitoresUnicos(@PathVariable Long id) {
+        return ResponseEntity.ok(artigoService.obterLeitoresUnicos(id));
+    }
+
     /**
      * Endpoint para listar somente artigos publicados, com paginação.
      * Requer papel ADMIN ou EDITOR.
@@ -2,19 +2,34 @@ package app; // Pacote onde este controller está localizado
 
 // Entidade JPA que representa a tabela de artigos no banco
 import dominio.entidades.Noticia;
+// HTML sanitizado e pré-comprimido do artigo
+import dominio.entidades.ArtigoRenderizado;
 // Enum que indica o status do artigo (ex.: PUBLICADO, RASCUNHO)
 import dominio.enums.StatusNoticia;
 // DTO usado para enviar dados de artigo na resposta da API pública
 import dominio.dto.NoticiaResponse;
 // Repositório Spring Data para acessar a base de artigos
 import lib.repository.NoticiaRepository;
+// Projeção do artigo sem o conteudo (leitura pública)
+import lib.repository.CabecalhoArtigo;
 // Serviço com regras de negócio relacionadas a artigos (ex.: incrementar visualizações)
 import servicos_tecnicos.NoticiaService;
+// Sketches de leitores únicos por artigo
+import lib.audiencia.EstimadorLeitores;
+import lib.replica.RoteadorLeituras;
 
 // Anotações do Swagger/OpenAPI para documentar os endpoints
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+// Jackson: serializa o cabeçalho do artigo
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// Requisição HTTP (IP e User-Agent do leitor anônimo)
+import jakarta.servlet.http.HttpServletRequest;
+// Resposta HTTP escrita diretamente (corpo vindo do cache off-heap)
+import jakarta.servlet.http.HttpServletResponse;
 // Lombok: gera construtor com todos os campos final (injeção de dependência)
 import lombok.RequiredArgsConstructor;
 
@@ -22,9 +37,22 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 // Classe ResponseEntity para controlar status e corpo da resposta HTTP
 import org.springframework.http.ResponseEntity;
+// Content-Type da resposta escrita à mão e negociação pelo Accept
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 // Anotações para criar endpoints REST
 import org.springframework.web.bind.annotation.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
 /**
  * Controller REST público para acesso aos artigos.
  * Não exige autenticação (rota /api/public/artigos).
@@ -42,6 +70,21 @@ public class NoticiaPublicController {
     // Serviço com lógica adicional (ex.: contabilizar visualizações)
     private final NoticiaService artigoService;
 
+    // Estimativa de leitores únicos (HyperLogLog por artigo/dia)
+    private final EstimadorLeitores estimadorLeitores;
+
+    // Mesmo ObjectMapper do Spring MVC (datas e enums no formato das outras respostas)
+    private final ObjectMapper objectMapper;
+
+    // Abre o campo conteudo logo depois do cabeçalho serializado
+    private static final byte[] PREFIXO_CONTEUDO = ",\"conteudo\":".getBytes(StandardCharsets.UTF_8);
+
+    // Campo seguinte: o HTML sanitizado na publicação
+    private static final byte[] PREFIXO_CONTEUDO_HTML = ",\"conteudoHtml\":".getBytes(StandardCharsets.UTF_8);
+
+    // O HTML já foi sanitizado, mas a página servida não roda script nem carrega nada além de imagens
+    private static final String POLITICA_HTML = "default-src 'none'; img-src http: https: data:";
+
     /**
      * Endpoint público para listar artigos publicados (status PUBLICADO) de forma paginada.
      */
@@ -72,28 +115,157 @@ public class NoticiaPublicController {
     /**
      * Endpoint público para buscar um artigo específico por ID.
      * Só retorna se o artigo estiver PUBLICADO. Também incrementa o contador de visualizações.
+     *
+     * O JSON é montado em duas partes: o cabeçalho (projeção sem o LONGTEXT)
+     * serializado normalmente e o campo "conteudo", copiado em bytes do cache
+     * off-heap direto para a resposta, sem virar String no heap. Em seguida
+     * vai "conteudoHtml", o mesmo HTML sanitizado da resposta text/html (já
+     * como string JSON, também do cache off-heap): clientes JSON que exibem o
+     * corpo devem usar este campo, não o bruto.
+     *
+     * Quem pede text/html (Accept) recebe o HTML sanitizado na publicação,
+     * em gzip como foi gravado quando o Accept-Encoding permite.
      */
     @Operation(
             summary = "Buscar artigo por ID",
             description = "Obtém detalhes de um artigo específico e contabiliza visualização"
     )
     @GetMapping("/{id}") // GET /api/public/artigos/{id}
-    public ResponseEntity<NoticiaResponse> buscarPorId(@PathVariable Long id) {
-        // Busca o artigo pelo ID; Optional<Artigo>
-        return artigoRepository.findById(id)
-                // Filtra para garantir que o artigo está com status PUBLICADO
-                .filter(artigo -> artigo.getStatus() == StatusNoticia.PUBLICADO)
-                // Se passou no filtro, mapeia para incrementar visualização e converter para DTO
-                .map(artigo -> {
-                    // Chama o service para incrementar o contador de visualizações
-                    artigoService.incrVisualizacao(artigo);
-                    // Converte a entidade Artigo em ArtigoResponse
-                    return converterParaDTO(artigo);
-                })
-                // Encapsula o DTO em ResponseEntity.ok(...)
-                .map(ResponseEntity::ok)
-                // Se não encontrar ou não for PUBLICADO, retorna 404 (NOT FOUND)
-                .orElse(ResponseEntity.notFound().build());
+    public void buscarPorId(@PathVariable Long id, HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        // Cabeçalho do artigo PUBLICADO + visualização contabilizada (UPDATE pontual);
+        // o contador não é escrita do leitor: não o prende ao primário
+        Optional<CabecalhoArtigo> encontrado =
+                RoteadorLeituras.semJanelaDeEscrita(() -> artigoService.registrarLeituraPublica(id));
+        if (encontrado.isEmpty()) {
+            // Se não encontrar ou não for PUBLICADO, retorna 404 (NOT FOUND)
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        CabecalhoArtigo cabecalho = encontrado.get();
+        // Leitor único (sketch em memória, sem escrita no banco)
+        estimadorLeitores.registrar(id, request);
+
+        if (preferirHtml(request.getHeader(HttpHeaders.ACCEPT))) {
+            escreverHtml(cabecalho, request, response);
+            return;
+        }
+
+        // Cabeçalho sem os campos do corpo, ainda sem o "}" final
+        ObjectNode json = objectMapper.valueToTree(converterParaDTO(cabecalho));
+        json.remove("conteudo");
+        json.remove("conteudoHtml");
+        byte[] inicio = objectMapper.writeValueAsBytes(json);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        OutputStream out = response.getOutputStream();
+        out.write(inicio, 0, inicio.length - 1);
+        out.write(PREFIXO_CONTEUDO);
+        artigoService.escreverConteudo(id, cabecalho.versaoConteudo(), out);
+        out.write(PREFIXO_CONTEUDO_HTML);
+        artigoService.escreverConteudoHtml(id, cabecalho.versaoConteudo(), out);
+        out.write('}');
+        out.flush();
+    }
+
+    /**
+     * Corpo do artigo como página HTML (renderizado na publicação). Os bytes
+     * gravados já estão em gzip: com Accept-Encoding gzip vão como estão;
+     * sem, são descomprimidos em fluxo para a resposta.
+     */
+    private void escreverHtml(CabecalhoArtigo cabecalho, HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        Optional<ArtigoRenderizado> renderizado =
+                artigoService.htmlRenderizado(cabecalho.id(), cabecalho.versaoConteudo());
+        if (renderizado.isEmpty()) {
+            // Excluído entre a leitura do cabeçalho e a do corpo
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        byte[] gzip = renderizado.get().getHtmlGzip();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.TEXT_HTML_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader("Content-Security-Policy", POLITICA_HTML);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        OutputStream out = response.getOutputStream();
+        if (aceitaGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(gzip.length);
+            out.write(gzip);
+        } else {
+            response.setContentLength(renderizado.get().getTamanhoHtml());
+            try (InputStream html = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+                html.transferTo(out);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * HTML só quando o Accept pede text/html explicitamente, com peso
+     * maior ou igual ao de application/json (navegadores). Sem Accept,
+     * com Accept inválido ou só com curingas, continua o JSON.
+     */
+    private static boolean preferirHtml(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        List<MediaType> tipos;
+        try {
+            tipos = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        double html = 0;
+        double json = 0;
+        for (MediaType tipo : tipos) {
+            if (tipo.isWildcardType() || tipo.isWildcardSubtype()) {
+                continue;
+            }
+            if (MediaType.TEXT_HTML.equalsTypeAndSubtype(tipo)) {
+                html = Math.max(html, tipo.getQualityValue());
+            } else if (MediaType.APPLICATION_JSON.equalsTypeAndSubtype(tipo)) {
+                json = Math.max(json, tipo.getQualityValue());
+            }
+        }
+        return html > 0 && html >= json;
+    }
+
+    // gzip (ou *) no Accept-Encoding, sem q=0
+    private static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double curinga = null;
+        for (String parte : acceptEncoding.split(",")) {
+            String[] campos = parte.trim().split(";");
+            String codificacao = campos[0].trim().toLowerCase();
+            double q = 1;
+            for (int i = 1; i < campos.length; i++) {
+                String parametro = campos[i].trim();
+                if (parametro.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(parametro.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (codificacao.equals("gzip") || codificacao.equals("x-gzip")) {
+                gzip = q;
+            } else if (codificacao.equals("*")) {
+                curinga = q;
+            }
+        }
+        double q = gzip != null ? gzip : (curinga != null ? curinga : 0);
+        return q > 0;
     }
 
     /**
@@ -122,6 +294,33 @@ public class NoticiaPublicController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Mesmo DTO a partir da projeção da leitura pública (conteudo fica de fora).
+     * A visualização desta leitura já conta no número devolvido.
+     */
+    private NoticiaResponse converterParaDTO(CabecalhoArtigo cabecalho) {
+        return NoticiaResponse.builder()
+                .id(cabecalho.id())
+                .titulo(cabecalho.titulo())
+                .resumo(cabecalho.resumo())
+                .status(cabecalho.status())
+                .imagemCapa(cabecalho.imagemCapa())
+                .visualizacoes((cabecalho.visualizacoes() == null ? 0 : cabecalho.visualizacoes()) + 1)
+                .gostei(cabecalho.gostei())
+                .neutro(cabecalho.neutro())
+                .naoGostei(cabecalho.naoGostei())
+                .destaque(cabecalho.destaque())
+                .dataPublicacao(cabecalho.dataPublicacao())
+                .dataCriacao(cabecalho.dataCriacao())
+                .autorNome(cabecalho.autorNome())
+                .categoriaNome(cabecalho.categoriaNome())
+                .categoriaId(cabecalho.categoriaId())
+                .palavras(cabecalho.palavras())
+                .tempoLeituraMinutos(cabecalho.tempoLeituraMinutos())
+                .primeiraImagem(cabecalho.primeiraImagem())
+                .build();
+    }
+
     /**
      * Método utilitário privado para converter a entidade Artigo em ArtigoResponse (DTO).
      * Evita expor diretamente a entidade para o frontend.
@@ -134,8 +333,8 @@ public class NoticiaPublicController {
                 .titulo(artigo.getTitulo())
                 // Resumo/descrição curta
                 .resumo(artigo.getResumo())
-                // Conteúdo completo
-                .conteudo(artigo.getConteudo())
+                // Conteúdo completo (comprimido em artigos_conteudo: só no detalhe)
+                .conteudo(Boolean.TRUE.equals(artigo.getConteudoComprimido()) ? null : artigo.getConteudo())
                 // Status atual do artigo
                 .status(artigo.getStatus())
                 // URL ou caminho da imagem de capa
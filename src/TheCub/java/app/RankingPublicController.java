@@ -0,0 +1,67 @@
+package app; // Pacote onde fica o controller público de rankings
+
+// DTO de saída de cada posição
+import dominio.dto.response.RankingItemDTO;
+// Serviço que lê os placares materializados
+import servicos_tecnicos.RankingService;
+
+// Swagger/OpenAPI para documentação dos endpoints
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+// Lombok: gera construtor com campos final
+import lombok.RequiredArgsConstructor;
+// Construção de respostas HTTP
+import org.springframework.http.ResponseEntity;
+// Anotações REST
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller REST público dos rankings do portal.
+ * Não exige autenticação; lê placares mantidos em memória (sem GROUP BY no banco).
+ */
+@RestController // Indica que a classe expõe endpoints REST (JSON)
+@RequestMapping("/api/public/rankings") // Prefixo base das rotas de ranking
+@RequiredArgsConstructor // Lombok: gera construtor com o campo final rankingService
+@Tag(
+        name = "Rankings Públicos",
+        description = "Top autores, comentaristas e categorias"
+) // Grupo no Swagger
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}) // Libera CORS para esses frontends
+public class RankingPublicController {
+
+    // Serviço responsável pelos rankings
+    private final RankingService rankingService;
+
+    /**
+     * Autores com mais artigos publicados.
+     */
+    @Operation(summary = "Top autores", description = "Autores com mais artigos publicados")
+    @GetMapping("/autores") // GET /api/public/rankings/autores
+    public ResponseEntity<List<RankingItemDTO>> topAutores(
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(rankingService.topAutores(limite));
+    }
+
+    /**
+     * Usuários com mais comentários aprovados.
+     */
+    @Operation(summary = "Top comentaristas", description = "Usuários com mais comentários aprovados")
+    @GetMapping("/comentaristas") // GET /api/public/rankings/comentaristas
+    public ResponseEntity<List<RankingItemDTO>> topComentaristas(
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(rankingService.topComentaristas(limite));
+    }
+
+    /**
+     * Categorias ativas com mais artigos publicados.
+     */
+    @Operation(summary = "Categorias populares", description = "Categorias ativas com mais artigos publicados")
+    @GetMapping("/categorias") // GET /api/public/rankings/categorias
+    public ResponseEntity<List<RankingItemDTO>> topCategorias(
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(rankingService.topCategorias(limite));
+    }
+}
@@ -0,0 +1,82 @@
+package app; // Pacote onde fica o controller da fila de relatórios
+
+// DTO de entrada com a especificação do relatório
+import dominio.dto.request.RelatorioRequestDTO;
+// DTO de saída com a situação do job
+import dominio.dto.response.RelatorioJobDTO;
+// Serviço que cria, consulta e entrega os relatórios
+import servicos_tecnicos.RelatorioService;
+
+// Swagger/OpenAPI para documentação dos endpoints
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+// Validação do corpo da requisição
+import jakarta.validation.Valid;
+// Lombok: gera construtor com campos final
+import lombok.RequiredArgsConstructor;
+// Arquivo devolvido no download
+import org.springframework.core.io.Resource;
+// Classes HTTP para respostas
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+// Segurança: controle de acesso por roles
+import org.springframework.security.access.prepost.PreAuthorize;
+// Anotações REST
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller REST dos relatórios pesados, gerados em segundo plano.
+ *
+ * Fluxo: POST com a especificação -> 202 com o id do job -> GET do job
+ * (polling) até CONCLUIDO -> GET do arquivo.
+ */
+@RestController // Indica que a classe expõe endpoints REST (JSON)
+@RequestMapping("/api/admin/relatorios/jobs") // Prefixo base da fila de relatórios
+@RequiredArgsConstructor // Lombok: gera construtor com o campo final relatorioService
+@Tag(
+        name = "Relatórios",
+        description = "Relatórios pesados gerados em fila (Admin/Editor)"
+) // Grupo no Swagger
+@SecurityRequirement(name = "bearerAuth") // Exige autenticação JWT (bearerAuth no Swagger)
+@PreAuthorize("hasAnyRole('ADMIN','EDITOR')") // Vale para todas as rotas da classe
+public class RelatorioController {
+
+    // Serviço responsável pelos jobs de relatório
+    private final RelatorioService relatorioService;
+
+    @Operation(
+            summary = "Solicitar relatório",
+            description = "Enfileira o relatório e devolve o job. Pedido igual a um já pronto (ou em andamento) reaproveita o mesmo job."
+    )
+    @PostMapping // POST /api/admin/relatorios/jobs
+    public ResponseEntity<RelatorioJobDTO> solicitar(@Valid @RequestBody RelatorioRequestDTO dto) {
+        RelatorioJobDTO job = relatorioService.solicitar(dto);
+        // 202: aceito, mas pode ainda não estar pronto
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @Operation(summary = "Situação do relatório", description = "PENDENTE, PROCESSANDO, CONCLUIDO (com downloadUrl) ou FALHOU")
+    @GetMapping("/{id}") // GET /api/admin/relatorios/jobs/{id}
+    public ResponseEntity<RelatorioJobDTO> buscar(@PathVariable Long id) {
+        return ResponseEntity.ok(relatorioService.buscar(id));
+    }
+
+    @Operation(summary = "Baixar relatório", description = "Arquivo de um relatório CONCLUIDO")
+    @GetMapping("/{id}/arquivo") // GET /api/admin/relatorios/jobs/{id}/arquivo
+    public ResponseEntity<Resource> baixar(@PathVariable Long id) {
+        RelatorioJobDTO job = relatorioService.buscar(id);
+        Resource arquivo = relatorioService.arquivo(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.getFormato().getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(relatorioService.nomeDownload(job))
+                        .build()
+                        .toString())
+                .body(arquivo);
+    }
+}
@@ -0,0 +1,81 @@
+package app; // Pacote onde o controller do feed de sincronização está localizado
+
+// DTOs de saída do feed
+import dominio.dto.NoticiaResponse;
+import dominio.dto.response.EventoResponseDTO;
+import dominio.dto.response.SincronizacaoResponse;
+import dominio.dto.response.UsuarioResponseDTO;
+// Serviço que monta os lotes de alterações/exclusões
+import servicos_tecnicos.SincronizacaoService;
+
+// Swagger/OpenAPI para documentação dos endpoints
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+// Lombok: gera construtor com campos final
+import lombok.RequiredArgsConstructor;
+
+// Classes HTTP para respostas
+import org.springframework.http.ResponseEntity;
+// Segurança: controle de acesso por roles
+import org.springframework.security.access.prepost.PreAuthorize;
+// Anotações REST
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller REST do feed de sincronização incremental dos painéis administrativos.
+ *
+ * Primeira chamada sem cursor traz tudo (em lotes); as seguintes enviam o
+ * cursor recebido e trazem só o que mudou (alterados + excluidos).
+ */
+@RestController // Indica que a classe expõe endpoints REST (JSON)
+@RequestMapping("/api/admin/sincronizacao") // Prefixo base das rotas de sincronização
+@RequiredArgsConstructor // Lombok: gera construtor com o campo final sincronizacaoService
+@Tag(
+        name = "Sincronização",
+        description = "Feed incremental de alterações para os painéis (Admin/Editor)"
+) // Grupo no Swagger
+@SecurityRequirement(name = "bearerAuth") // Exige autenticação JWT (bearerAuth no Swagger)
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}) // Libera CORS para esses frontends
+public class SincronizacaoController {
+
+    // Serviço responsável pelo feed de alterações
+    private final SincronizacaoService sincronizacaoService;
+
+    /**
+     * Artigos criados/alterados/excluídos desde o cursor.
+     */
+    @Operation(summary = "Sincronizar artigos", description = "Retorna as alterações de artigos desde o cursor informado.")
+    @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
+    @GetMapping("/artigos") // GET /api/admin/sincronizacao/artigos
+    public ResponseEntity<SincronizacaoResponse<NoticiaResponse>> artigos(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "500") int limite) {
+        return ResponseEntity.ok(sincronizacaoService.artigos(cursor, limite));
+    }
+
+    /**
+     * Eventos criados/alterados/excluídos desde o cursor.
+     */
+    @Operation(summary = "Sincronizar eventos", description = "Retorna as alterações de eventos desde o cursor informado.")
+    @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
+    @GetMapping("/eventos") // GET /api/admin/sincronizacao/eventos
+    public ResponseEntity<SincronizacaoResponse<EventoResponseDTO>> eventos(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "500") int limite) {
+        return ResponseEntity.ok(sincronizacaoService.eventos(cursor, limite));
+    }
+
+    /**
+     * Usuários criados/alterados/excluídos desde o cursor. Apenas Admins.
+     */
+    @Operation(summary = "Sincronizar usuários", description = "Retorna as alterações de usuários desde o cursor informado.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/usuarios") // GET /api/admin/sincronizacao/usuarios
+    public ResponseEntity<SincronizacaoResponse<UsuarioResponseDTO>> usuarios(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "500") int limite) {
+        return ResponseEntity.ok(sincronizacaoService.usuarios(cursor, limite));
+    }
+}
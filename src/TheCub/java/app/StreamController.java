@@ -0,0 +1,61 @@
+package app; // Pacote onde o controller dos streams SSE está localizado
+
+// Transmissor único dos eventos em tempo real
+import lib.eventos.TransmissorEventos;
+
+// Swagger/OpenAPI para documentação dos endpoints
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+// Lombok: gera construtor com campos final
+import lombok.RequiredArgsConstructor;
+
+// Tipo de conteúdo text/event-stream
+import org.springframework.http.MediaType;
+// Segurança: controle de acesso por roles
+import org.springframework.security.access.prepost.PreAuthorize;
+// Anotações REST
+import org.springframework.web.bind.annotation.*;
+// Resposta SSE assíncrona (não prende thread do Tomcat)
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams Server-Sent Events: substituem o polling para saber de novos
+ * artigos publicados e de mudanças na fila de moderação de comentários.
+ *
+ * Na reconexão o navegador manda o header Last-Event-ID e recebe o que perdeu;
+ * se o evento "reinicio" chegar, o cliente deve recarregar a lista pela API.
+ */
+@RestController // Indica que a classe expõe endpoints REST
+@RequiredArgsConstructor // Lombok: gera construtor com o campo final transmissorEventos
+@Tag(
+        name = "Streams",
+        description = "Eventos em tempo real (Server-Sent Events)"
+) // Grupo no Swagger
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"}) // Libera CORS para esses frontends
+public class StreamController {
+
+    // Transmissor compartilhado por todas as conexões
+    private final TransmissorEventos transmissorEventos;
+
+    /**
+     * Novos artigos publicados. Público.
+     */
+    @Operation(summary = "Stream de artigos", description = "Evento \"artigo-publicado\" a cada publicação")
+    @GetMapping(value = "/api/public/stream/artigos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter artigos(@RequestHeader(value = "Last-Event-ID", required = false) Long ultimoId) {
+        return transmissorEventos.assinar(TransmissorEventos.CANAL_ARTIGOS, ultimoId);
+    }
+
+    /**
+     * Fila de moderação: comentários criados, moderados e removidos. Admins ou Editores.
+     */
+    @Operation(summary = "Stream de moderação", description = "Eventos de criação/moderação/remoção de comentários")
+    @SecurityRequirement(name = "bearerAuth") // Exige autenticação JWT (bearerAuth no Swagger)
+    @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
+    @GetMapping(value = "/api/admin/stream/moderacao", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter moderacao(@RequestHeader(value = "Last-Event-ID", required = false) Long ultimoId) {
+        return transmissorEventos.assinar(TransmissorEventos.CANAL_MODERACAO, ultimoId);
+    }
+}
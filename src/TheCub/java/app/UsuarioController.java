@@ -92,6 +92,7 @@ public class UsuarioController {
 
     /**
      * Listagem paginada e filtrável de usuários.
+     * Com exactCount=false responde no formato PaginaResponse (sem COUNT).
      */
     @Operation(
             summary = "Listar usuários",
@@ -99,7 +100,7 @@ public class UsuarioController {
     )
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping // GET /api/admin/usuarios
-    public ResponseEntity<Page<UsuarioResponseDTO>> listarUsuarios(
+    public ResponseEntity<?> listarUsuarios(
             @Parameter(description = "Página (0-based)")
             @RequestParam(defaultValue = "0") int page,
 
@@ -122,7 +123,10 @@ public class UsuarioController {
             @RequestParam(required = false) TipoUsuario tipo,
 
             @Parameter(description = "Filtrar por status (ativo)")
-            @RequestParam(required = false) Boolean ativo
+            @RequestParam(required = false) Boolean ativo,
+
+            @Parameter(description = "false = sem COUNT: responde hasNext e o total só se já estiver em cache")
+            @RequestParam(defaultValue = "true") boolean exactCount
     ) {
 
         // Define direção ASC/DESC
@@ -132,13 +136,12 @@ public class UsuarioController {
         // Cria objeto Pageable com paginação e ordenação
         Pageable pageable = PageRequest.of(page, size, Sort.by(dir, sort));
 
-        // Se algum filtro foi informado, usa busca filtrada; senão, lista todos
-        Page<UsuarioResponseDTO> usuarios =
-                (nome != null || email != null || tipo != null || ativo != null)
-                        ? usuarioService.buscarComFiltros(nome, email, tipo, ativo, pageable)
-                        : usuarioService.listarTodos(pageable);
-
-        return ResponseEntity.ok(usuarios);
+        // Sem filtros a busca vira um SELECT sem WHERE; o total vem do cache de contagens
+        if (!exactCount) {
+            return ResponseEntity.ok(
+                    usuarioService.buscarComFiltrosSemContagem(nome, email, tipo, ativo, pageable));
+        }
+        return ResponseEntity.ok(usuarioService.buscarComFiltros(nome, email, tipo, ativo, pageable));
     }
 
     /**
@@ -30,6 +30,9 @@ public class NoticiaResponse {
     // Conteúdo completo
     private String conteudo;
 
+    // Conteúdo como HTML sanitizado (só no detalhe público)
+    private String conteudoHtml;
+
     // Status atual (RASCUNHO, PUBLICADO, ARQUIVADO, etc.)
     private StatusNoticia status;
 
@@ -71,4 +74,13 @@ public class NoticiaResponse {
 
     // ID da categoria
     private Long categoriaId;
+
+    // Palavras do texto renderizado (só no detalhe público; null antes da renderização)
+    private Integer palavras;
+
+    // Tempo estimado de leitura, em minutos
+    private Integer tempoLeituraMinutos;
+
+    // Primeira imagem do corpo do artigo
+    private String primeiraImagem;
 }
@@ -13,6 +13,8 @@ import lombok.*; // Importa anotações do Lombok
 public class AuthResponse {
     // Token JWT que o cliente usará nas próximas requisições
     private String token;
+    // Refresh token opaco para obter novos tokens em /api/auth/refresh
+    private String refreshToken;
     // Tipo de usuário (papel): ADMIN, EDITOR, REDATOR, LEITOR
     private String tipo;
     // Nome completo do usuário autenticado
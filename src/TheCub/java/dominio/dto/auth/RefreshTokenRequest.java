@@ -1,16 +1,18 @@
 package dominio.dto.auth; // Pacote dos DTOs de autenticação
 
+import jakarta.validation.constraints.NotBlank;
 import lombok.*; // Importa anotações do Lombok
 
 // Gera automaticamente getters, setters, equals, hashCode e toString
 @Data
 // Construtor sem argumentos (necessário para desserialização JSON)
 @NoArgsConstructor
-// Construtor com todos os argumentos (apenas token)
+// Construtor com todos os argumentos (apenas refreshToken)
 @AllArgsConstructor
 // Permite construir o objeto via padrão Builder
 @Builder
 public class RefreshTokenRequest {
-    // Token JWT atual enviado pelo cliente para ser renovado
-    private String token;
+    // Refresh token recebido no login (ou na última renovação)
+    @NotBlank(message = "O refresh token é obrigatório")
+    private String refreshToken;
 }
@@ -0,0 +1,26 @@
+package dominio.dto.request; // Pacote dos DTOs de entrada (requests)
+
+import dominio.enums.FormatoExportacao;
+import dominio.enums.TipoRelatorio;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// Especificação de um relatório a gerar em segundo plano
+@Data
+public class RelatorioRequestDTO {
+
+    // Qual relatório gerar
+    @NotNull
+    private TipoRelatorio tipo;
+
+    // Início do período (inclusivo); padrão: 30 dias antes de "ate"
+    private LocalDate de;
+
+    // Fim do período (inclusivo); padrão: hoje
+    private LocalDate ate;
+
+    // Formato do arquivo; padrão: CSV
+    private FormatoExportacao formato;
+}
@@ -0,0 +1,33 @@
+package dominio.dto.response; // Pacote de DTOs de resposta específicos (lado admin/público)
+
+import dominio.enums.GranularidadeAnalitica;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Série temporal de visualizações/reações de um artigo (gráficos do RelatoriosPanel)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnaliticaArtigoDTO {
+
+    private Long artigoId;
+
+    // Intervalo pedido (datas inclusivas)
+    private LocalDate de;
+    private LocalDate ate;
+
+    // Granularidade pedida
+    private GranularidadeAnalitica granularidade;
+
+    // Pontos em ordem cronológica (só baldes com movimento)
+    private List<PontoAnaliticoDTO> pontos;
+
+    // Somas do intervalo
+    private Long totalVisualizacoes;
+    private Long totalGostei;
+    private Long totalNeutro;
+    private Long totalNaoGostei;
+}
@@ -1,21 +1,21 @@
-//package dominio.dto.response;
-//
-//import lombok.*;
-//import java.time.LocalDateTime;
-//
-//@Data
-//@NoArgsConstructor
-//@AllArgsConstructor
-//@Builder
-//public class ComentarioResponseDTO {
-//    private Long id;
-//    private String comentario;
-//    private Boolean aprovado;
-//    private LocalDateTime dataComentario;
-//
-//    // Relacionamentos
-//    private String usuarioNome;
-//    private Long usuarioId;
-//    private String artigoTitulo;
-//    private Long artigoId;
-//}
+package dominio.dto.response;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ComentarioResponseDTO {
+    private Long id;
+    private String comentario;
+    private Boolean aprovado;
+    private LocalDateTime dataComentario;
+
+    // Relacionamentos
+    private String usuarioNome;
+    private Long usuarioId;
+    private String artigoTitulo;
+    private Long artigoId;
+}
@@ -23,6 +23,7 @@ public class EventoResponseDTO {
     private String linkInscricao;
     private Boolean ativo;
     private LocalDateTime dataCriacao;
+    private LocalDateTime dataAtualizacao;
 
     // Dados relacionados ao organizador
     private String organizadorNome;
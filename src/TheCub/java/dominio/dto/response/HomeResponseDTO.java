@@ -0,0 +1,41 @@
+package dominio.dto.response; // Pacote de DTOs de resposta específicos (lado admin/público)
+
+import dominio.dto.NoticiaResponse;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Documento único da página inicial (GET /api/public/home).
+ *
+ * Cada seção é carregada em paralelo; se uma delas estourar o tempo ou falhar,
+ * vem vazia e o nome dela aparece em secoesIndisponiveis.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HomeResponseDTO {
+
+    // Artigos marcados como destaque (mais recentes primeiro)
+    private List<NoticiaResponse> destaques;
+
+    // Últimos artigos publicados
+    private List<NoticiaResponse> recentes;
+
+    // Próximos eventos ativos
+    private List<EventoResponseDTO> proximosEventos;
+
+    // Categorias ativas, por nome
+    private List<CategoriaResponseDTO> categorias;
+
+    // Totais: totalUsuarios, totalArtigos, totalComentarios, totalEventos
+    private Map<String, Long> metricas;
+
+    // Seções que não responderam a tempo (ou falharam)
+    private List<String> secoesIndisponiveis;
+
+    // Tempo de cada seção em ms (diagnóstico)
+    private Map<String, Long> temposMs;
+}
@@ -0,0 +1,32 @@
+package dominio.dto.response; // Pacote de DTOs de resposta específicos (lado admin/público)
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// Audiência de um artigo: visualizações brutas x leitores únicos estimados (HyperLogLog)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeitoresUnicosDTO {
+
+    // ID do artigo
+    private Long artigoId;
+
+    // Contador bruto (conta cada recarga da página)
+    private Integer visualizacoes;
+
+    // Leitores únicos estimados nos últimos 7 dias (incluindo hoje)
+    private Long ultimos7Dias;
+
+    // Leitores únicos estimados nos últimos 30 dias (incluindo hoje)
+    private Long ultimos30Dias;
+
+    // Leitores únicos estimados por dia (janela de 30 dias, só dias com leitura)
+    private Map<LocalDate, Long> porDia;
+
+    // Erro padrão relativo das estimativas (ex.: 0.023 = ±2,3%)
+    private Double erroRelativo;
+}
@@ -0,0 +1,46 @@
+package dominio.dto.response; // Pacote de DTOs de resposta específicos (lado admin/público)
+
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página "estilo Slice": não depende de COUNT(*).
+ *
+ * Usada quando a listagem é pedida com exactCount=false. O total só é
+ * preenchido se já estiver em cache (ou estimado, sem filtros); caso
+ * contrário vem null e o cliente navega por hasNext.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaResponse<T> {
+
+    // Itens da página
+    private List<T> content;
+
+    // Número da página (começa em 0)
+    private int number;
+
+    // Tamanho pedido
+    private int size;
+
+    // Existe próxima página?
+    private boolean hasNext;
+
+    // Total de registros, se conhecido sem COUNT (pode ser null)
+    private Long totalElements;
+
+    // true quando totalElements é a estimativa do banco, não o valor exato
+    private boolean totalEstimado;
+
+    /**
+     * Converte o conteúdo mantendo os dados de paginação (ex.: entidade -> DTO).
+     */
+    public <R> PaginaResponse<R> map(Function<? super T, ? extends R> conversor) {
+        List<R> convertido = content.stream().<R>map(conversor).toList();
+        return new PaginaResponse<>(convertido, number, size, hasNext, totalElements, totalEstimado);
+    }
+}
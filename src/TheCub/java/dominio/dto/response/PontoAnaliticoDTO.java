@@ -0,0 +1,27 @@
+package dominio.dto.response; // Pacote de DTOs de resposta específicos (lado admin/público)
+
+import dominio.enums.GranularidadeAnalitica;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Um ponto da série de analytics de um artigo (um balde de hora ou de dia)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PontoAnaliticoDTO {
+
+    // Início do balde
+    private LocalDateTime inicio;
+
+    // HORA ou DIA (dias já compactados só existem como DIA)
+    private GranularidadeAnalitica granularidade;
+
+    private Long visualizacoes;
+
+    // Saldos de reação no balde (trocas de reação podem deixá-los negativos)
+    private Long gostei;
+    private Long neutro;
+    private Long naoGostei;
+}
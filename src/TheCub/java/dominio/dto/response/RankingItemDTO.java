@@ -0,0 +1,26 @@
+package dominio.dto.response; // Pacote de DTOs de resposta específicos (lado admin/público)
+
+import lombok.*;
+
+// Uma posição de ranking (autor, comentarista ou categoria)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingItemDTO {
+
+    // Posição no ranking (1 = primeiro)
+    private Integer posicao;
+
+    // ID do usuário ou da categoria
+    private Long id;
+
+    // Nome exibido
+    private String nome;
+
+    // Foto do usuário ou ícone da categoria
+    private String imagem;
+
+    // Artigos publicados (autores/categorias) ou comentários aprovados (comentaristas)
+    private Long total;
+}
@@ -0,0 +1,51 @@
+package dominio.dto.response; // Pacote de DTOs de resposta específicos (lado admin/público)
+
+import dominio.enums.FormatoExportacao;
+import dominio.enums.StatusRelatorio;
+import dominio.enums.TipoRelatorio;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Situação de um pedido de relatório (consultada por polling até CONCLUIDO/FALHOU)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RelatorioJobDTO {
+
+    // ID do job (usado no polling e no download)
+    private Long id;
+
+    private TipoRelatorio tipo;
+
+    // Período, inclusivo nas duas pontas
+    private LocalDate de;
+
+    private LocalDate ate;
+
+    private FormatoExportacao formato;
+
+    private StatusRelatorio status;
+
+    // true quando o pedido foi atendido por um job anterior com a mesma especificação
+    private Boolean reaproveitado;
+
+    // Preenchidos quando CONCLUIDO
+    private Long linhas;
+
+    private Long tamanhoBytes;
+
+    // Caminho do download (GET), quando CONCLUIDO
+    private String downloadUrl;
+
+    // Motivo, quando FALHOU
+    private String erro;
+
+    private LocalDateTime dataCriacao;
+
+    private LocalDateTime dataInicio;
+
+    private LocalDateTime dataConclusao;
+}
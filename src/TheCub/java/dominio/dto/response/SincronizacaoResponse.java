@@ -0,0 +1,31 @@
+package dominio.dto.response; // Pacote de DTOs de resposta específicos (lado admin/público)
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Lote do feed de sincronização incremental.
+ *
+ * O cliente aplica "alterados" (inserir/substituir por id), depois remove
+ * os ids de "excluidos", guarda o "cursor" e chama de novo enquanto
+ * "temMais" for true.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SincronizacaoResponse<T> {
+
+    // Registros criados ou alterados desde o cursor anterior
+    private List<T> alterados;
+
+    // IDs removidos desde o cursor anterior
+    private List<Long> excluidos;
+
+    // Token a enviar na próxima chamada
+    private String cursor;
+
+    // Há mais alterações além deste lote?
+    private boolean temMais;
+}
@@ -23,6 +23,7 @@ public class UsuarioResponseDTO {
     private String foto;
     private String bio;
     private LocalDateTime dataCriacao;
+    private LocalDateTime dataAtualizacao;
 
     // Métricas relacionadas ao usuário
     private Long totalArtigos;     // Quantidade de artigos produzidos
@@ -0,0 +1,73 @@
+package dominio.entidades;
+
+import dominio.enums.GranularidadeAnalitica;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Rollup de visualizações e reações de um artigo em um balde de tempo.
+ *
+ * Gravado em lote por lib.analitica.AcumuladorAnalitico (INSERT ... ON
+ * DUPLICATE KEY UPDATE somando), em baldes de HORA; a compactação noturna
+ * soma as horas de dias anteriores em uma linha de DIA e remove as horas.
+ * Os contadores de reação são saldos (uma troca de GOSTEI para NEUTRO
+ * soma -1 e +1), então podem ser negativos em um balde.
+ */
+@Entity
+@IdClass(AnaliticaArtigo.Chave.class)
+@Table(name = "analitica_artigos", indexes = {
+        // Gráfico de um artigo em um intervalo (as duas granularidades)
+        @Index(name = "idx_analitica_artigo_inicio", columnList = "artigo_id, inicio"),
+        // Compactação: horas anteriores ao corte
+        @Index(name = "idx_analitica_granularidade_inicio", columnList = "granularidade, inicio")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnaliticaArtigo {
+
+    @Id
+    @Column(name = "artigo_id", nullable = false)
+    private Long artigoId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 4)
+    private GranularidadeAnalitica granularidade;
+
+    // Início do balde (hora cheia ou meia-noite)
+    @Id
+    @Column(nullable = false)
+    private LocalDateTime inicio;
+
+    @Column(nullable = false)
+    private long visualizacoes;
+
+    @Column(nullable = false)
+    private long gostei;
+
+    @Column(nullable = false)
+    private long neutro;
+
+    @Column(name = "nao_gostei", nullable = false)
+    private long naoGostei;
+
+    /**
+     * Chave composta (artigo, granularidade, início do balde).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Chave implements Serializable {
+        private Long artigoId;
+        private GranularidadeAnalitica granularidade;
+        private LocalDateTime inicio;
+    }
+}
@@ -29,7 +29,9 @@ import java.util.List;
 public class Artigo {
 
     @Id // Chave primária
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-increment no banco
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "artigo_legado_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "artigo_legado_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "artigos", allocationSize = 50)
     private Long id;
 
     @NotBlank
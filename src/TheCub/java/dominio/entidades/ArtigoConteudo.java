@@ -0,0 +1,56 @@
+package dominio.entidades;
+
+import dominio.enums.AlgoritmoCompressao;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conteúdo comprimido de um artigo, fora da linha de artigos.
+ *
+ * Com app.artigos.conteudo.comprimido=true, o texto sai de artigos.conteudo
+ * (que fica vazio, com conteudo_comprimido=true) e vem para cá: carregar a
+ * entidade Noticia deixa de trazer o LONGTEXT, e o corpo só é lido (e
+ * descomprimido) no detalhe do artigo. Ver lib.conteudo.ArmazenamentoConteudo.
+ *
+ * Sem FK para artigos: a linha é apagada junto com o artigo e a migração
+ * remove órfãs que sobrarem.
+ */
+@Entity
+@Table(name = "artigos_conteudo")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArtigoConteudo {
+
+    // Mesmo id do artigo (chave atribuída, sem gerador)
+    @Id
+    @Column(name = "artigo_id")
+    private Long artigoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private AlgoritmoCompressao algoritmo;
+
+    // Texto em UTF-8, comprimido
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] dados;
+
+    // Bytes UTF-8 antes da compressão (dimensiona o buffer de leitura)
+    @Column(name = "tamanho_original", nullable = false)
+    private Integer tamanhoOriginal;
+
+    @Column(name = "tamanho_comprimido", nullable = false)
+    private Integer tamanhoComprimido;
+
+    // versao_conteudo do artigo no momento da compressão
+    @Column(name = "versao_conteudo", nullable = false)
+    private Integer versaoConteudo;
+
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+}
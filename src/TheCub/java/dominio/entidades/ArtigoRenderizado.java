@@ -0,0 +1,59 @@
+package dominio.entidades;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * HTML do artigo já sanitizado e comprimido (gzip), gerado na publicação.
+ *
+ * O detalhe público (Accept: text/html) devolve estes bytes como estão,
+ * com Content-Encoding: gzip: nada é sanitizado nem comprimido por
+ * requisição. Também guarda o que sai da renderização para o cabeçalho
+ * do artigo (palavras, tempo de leitura, primeira imagem).
+ *
+ * Vale só para a versao_conteudo gravada; uma edição gera outra linha
+ * (ver lib.conteudo.RenderizadorArtigos). Sem FK para artigos, como
+ * artigos_conteudo.
+ */
+@Entity
+@Table(name = "artigos_renderizados")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArtigoRenderizado {
+
+    // Mesmo id do artigo (chave atribuída, sem gerador)
+    @Id
+    @Column(name = "artigo_id")
+    private Long artigoId;
+
+    // versao_conteudo do artigo renderizado
+    @Column(name = "versao_conteudo", nullable = false)
+    private Integer versaoConteudo;
+
+    // HTML sanitizado em UTF-8, comprimido em gzip
+    @Lob
+    @Column(name = "html_gzip", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] htmlGzip;
+
+    // Bytes UTF-8 do HTML antes da compressão
+    @Column(name = "tamanho_html", nullable = false)
+    private Integer tamanhoHtml;
+
+    @Column(nullable = false)
+    private Integer palavras;
+
+    @Column(name = "tempo_leitura_minutos", nullable = false)
+    private Integer tempoLeituraMinutos;
+
+    // src da primeira imagem que passou pelo sanitizador
+    @Column(name = "primeira_imagem", length = 500)
+    private String primeiraImagem;
+
+    @Column(name = "data_renderizacao", nullable = false)
+    private LocalDateTime dataRenderizacao;
+}
@@ -17,7 +17,9 @@ import jakarta.persistence.*;
 public class AvaliacaoArtigo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID auto-increment
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "avaliacao_artigo_legado_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "avaliacao_artigo_legado_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "avaliacoes_artigos", allocationSize = 50)
     private Long id;
 
     // Usuário que avaliou o artigo
@@ -15,7 +15,9 @@ import jakarta.persistence.*;
 public class AvaliacaoNoticia {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID auto-increment
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "avaliacoes_artigos_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "avaliacoes_artigos_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "avaliacoes_artigos", allocationSize = 50)
     private Long id;
 
     // Usuário que avaliou o artigo
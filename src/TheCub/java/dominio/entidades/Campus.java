@@ -17,7 +17,9 @@ import lombok.*;
 public class Campus {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID auto-increment no banco
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "campus_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "campus_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "campus", allocationSize = 50)
     private Long id;
 
     // Nome do campus, obrigatório e único
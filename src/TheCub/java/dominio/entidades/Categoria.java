@@ -2,15 +2,22 @@ package dominio.entidades; // Pacote das entidades JPA
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lib.repository.filtro.InvalidacaoContagemListener;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Entidade que representa uma categoria de artigos (ex.: Notícias, Eventos, Pesquisa).
+ * Dado de referência: fica no cache de 2º nível (região "categorias").
  */
 @Entity
+@EntityListeners(InvalidacaoContagemListener.class) // invalida os totais de paginação em cache
 @Table(name = "categorias")
+@Cacheable // participa do cache de 2º nível (sharedCache.mode=ENABLE_SELECTIVE)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categorias")
 @Getter // Lombok: gera getters
 @Setter // Lombok: gera setters
 @NoArgsConstructor // Construtor sem argumentos
@@ -19,7 +26,9 @@ import java.util.List;
 public class Categoria {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID auto-increment
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "categorias_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "categorias_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "categorias", allocationSize = 50)
     private Long id;
 
     // Nome da categoria, obrigatório e único
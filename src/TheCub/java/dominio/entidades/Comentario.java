@@ -2,14 +2,21 @@ package dominio.entidades;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lib.eventos.ComentarioEventosListener;
+import lib.ranking.RankingListener;
+import lib.repository.filtro.InvalidacaoContagemListener;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners({InvalidacaoContagemListener.class, ComentarioEventosListener.class, RankingListener.class}) // totais em cache, stream de moderação e rankings
 @Table(name = "comentarios", indexes = {
-        @Index(name = "idx_artigo", columnList = "artigo_id"),
-        @Index(name = "idx_aprovado", columnList = "aprovado")
+        // Filtro + ordenação por data_comentario no mesmo índice (o prefixo
+        // continua atendendo as buscas só por artigo/aprovado)
+        @Index(name = "idx_artigo_data", columnList = "artigo_id, data_comentario"),
+        @Index(name = "idx_aprovado_data", columnList = "aprovado, data_comentario"),
+        @Index(name = "idx_usuario_data", columnList = "usuario_id, data_comentario")
 })
 @Getter
 @Setter
@@ -19,7 +26,9 @@ import java.time.LocalDateTime;
 public class Comentario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comentarios_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "comentarios_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "comentarios", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -35,6 +44,10 @@ public class Comentario {
     @Column(name = "data_comentario", nullable = false, updatable = false)
     private LocalDateTime dataComentario;
 
+    // Momento da aprovação (SLA de moderação); nulo enquanto pendente
+    @Column(name = "data_aprovacao")
+    private LocalDateTime dataAprovacao;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "artigo_id", nullable = false)
     private Noticia artigo;
@@ -43,13 +56,21 @@ public class Comentario {
     @JoinColumn(name = "usuario_id", nullable = false)
     private Usuario usuario;
 
+    // Usuário já contabilizado no ranking de comentaristas (não persistido; ver RankingListener)
+    @Transient
+    private Long rankingUsuarioId;
+
     // ====== MÉTODOS AUXILIARES ======
     public void aprovar() {
+        if (!isAprovado()) {
+            this.dataAprovacao = LocalDateTime.now();
+        }
         this.aprovado = true;
     }
 
     public void reprovar() {
         this.aprovado = false;
+        this.dataAprovacao = null;
     }
 
     public boolean isAprovado() {
@@ -19,7 +19,9 @@ import java.time.LocalDateTime;
 public class Cultura {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID auto-increment
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cultura_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "cultura_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "eventos", allocationSize = 50)
     private Long id;
 
     // Título do evento (obrigatório, com limites de tamanho)
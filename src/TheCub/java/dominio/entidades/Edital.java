@@ -1,6 +1,7 @@
 package dominio.entidades; // Pacote das entidades JPA
 
 import jakarta.persistence.*;
+import lib.manutencao.ExpiracaoListener;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,7 +13,11 @@ import java.time.LocalDateTime;
  * Entidade que representa um edital (ex.: seleção, monitoria, bolsas).
  */
 @Entity
-@Table(name = "editais")
+@EntityListeners(ExpiracaoListener.class) // reprograma o job de expiração se a validade for mais próxima
+@Table(name = "editais", indexes = {
+        // Job de expiração: ativos com validade vencida
+        @Index(name = "idx_edital_ativo_validade", columnList = "ativo, data_validade")
+})
 @Data // Gera getters, setters, equals, hashCode, toString
 @Builder // Permite criação via padrão Builder
 @NoArgsConstructor // Construtor sem argumentos
@@ -20,7 +25,9 @@ import java.time.LocalDateTime;
 public class Edital {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID auto-increment
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "editais_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "editais_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "editais", allocationSize = 50)
     private Long id;
 
     // Título do edital
@@ -2,15 +2,29 @@ package dominio.entidades; // Pacote das entidades JPA
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lib.manutencao.ExpiracaoListener;
+import lib.repository.filtro.InvalidacaoContagemListener;
+import lib.repository.sincronizacao.ExclusaoListener;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 /**
  * Entidade que representa um evento cultural/universitário.
  */
 @Entity
-@Table(name = "eventos")
+@EntityListeners({InvalidacaoContagemListener.class, ExclusaoListener.class, ExpiracaoListener.class}) // totais em cache, tombstones e expiração
+@Table(name = "eventos", indexes = {
+        // Listagens ordenadas por data_evento, com ou sem filtro de status/organizador
+        @Index(name = "idx_evento_data", columnList = "data_evento"),
+        @Index(name = "idx_evento_ativo_data", columnList = "ativo, data_evento"),
+        @Index(name = "idx_evento_organizador_data", columnList = "organizador_id, data_evento"),
+        // Job de expiração: eventos ainda não encerrados cuja data já passou
+        @Index(name = "idx_evento_encerrado_data", columnList = "encerrado, data_evento"),
+        // Feed de sincronização: varredura por intervalo em (data_atualizacao, id)
+        @Index(name = "idx_evento_sincronizacao", columnList = "data_atualizacao, id")
+})
 @Getter // Gera getters
 @Setter // Gera setters
 @NoArgsConstructor // Construtor vazio
@@ -19,7 +33,9 @@ import java.time.LocalDateTime;
 public class Evento {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID auto-increment
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "eventos_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "eventos_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "eventos", allocationSize = 50)
     private Long id;
 
     // Título do evento (obrigatório, com limites de tamanho)
@@ -55,18 +71,28 @@ public class Evento {
     @Builder.Default
     private Boolean ativo = true;
 
+    // Evento já ocorreu; marcado em lote pelo job de expiração (lib.manutencao)
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean encerrado = false;
+
     // Data de criação do registro, preenchida automaticamente
     @CreationTimestamp
     private LocalDateTime dataCriacao;
 
+    // Última alteração (marca d'água da sincronização incremental)
+    @UpdateTimestamp
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+
     // Organizador (usuário responsável)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organizador_id", nullable = false)
     private Usuario organizador;
 
-    // Indica se o evento já ocorreu
+    // Indica se o evento já ocorreu (a flag pode estar atrasada até a próxima rodada do job)
     public boolean jaAconteceu() {
-        return dataEvento.isBefore(LocalDateTime.now());
+        return Boolean.TRUE.equals(encerrado) || dataEvento.isBefore(LocalDateTime.now());
     }
 
     // Indica se o evento está dentro da janela dos próximos 7 dias
@@ -3,6 +3,9 @@ package dominio.entidades; // Pacote das entidades JPA (mapeadas para o banco)
 import dominio.enums.StatusNoticia;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lib.ranking.RankingListener;
+import lib.repository.filtro.InvalidacaoContagemListener;
+import lib.repository.sincronizacao.ExclusaoListener;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -12,13 +15,27 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity // Indica que esta classe é uma entidade JPA
+@EntityListeners({InvalidacaoContagemListener.class, ExclusaoListener.class, RankingListener.class}) // totais em cache, tombstones e rankings
 @Table(
         name = "artigos",
         indexes = {
                 // Índice para buscas por status
                 @Index(name = "idx_status", columnList = "status"),
                 // Índice para ordenação/busca por data de publicação
-                @Index(name = "idx_data_publicacao", columnList = "data_publicacao")
+                @Index(name = "idx_data_publicacao", columnList = "data_publicacao"),
+                // Compostos (filtro de igualdade + campo de ordenação) usados pela busca
+                // por filtros: permitem ler a página pelo índice, sem filesort
+                @Index(name = "idx_status_data_criacao", columnList = "status, data_criacao"),
+                @Index(name = "idx_status_data_publicacao", columnList = "status, data_publicacao"),
+                @Index(name = "idx_categoria_data_criacao", columnList = "categoria_id, data_criacao"),
+                @Index(name = "idx_autor_data_criacao", columnList = "autor_id, data_criacao"),
+                // Listagem sem filtro na ordenação padrão (data_criacao, id): os compostos
+                // acima começam pelo filtro e não servem a ela
+                @Index(name = "idx_data_criacao", columnList = "data_criacao, id"),
+                // Feed de sincronização: varredura por intervalo em (data_atualizacao, id)
+                @Index(name = "idx_artigo_sincronizacao", columnList = "data_atualizacao, id"),
+                // Migração para artigos_conteudo: varre os ainda não comprimidos por id
+                @Index(name = "idx_artigo_conteudo_comprimido", columnList = "conteudo_comprimido, id")
         }
 )
 @Getter // Lombok: gera getters
@@ -29,7 +46,9 @@ import java.util.List;
 public class Noticia {
 
     @Id // Chave primária
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-increment no banco
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "artigos_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "artigos_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "artigos", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -42,11 +61,20 @@ public class Noticia {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String resumo;
 
-    @NotBlank
-    @Size(min = 100)
+    // Vazio quando conteudoComprimido = true (texto em artigos_conteudo); ver isConteudoValido()
     @Column(nullable = false, columnDefinition = "LONGTEXT")
     private String conteudo;
 
+    // true: o texto está comprimido em artigos_conteudo (lib.conteudo.ArmazenamentoConteudo)
+    @Builder.Default
+    @Column(name = "conteudo_comprimido", nullable = false)
+    private Boolean conteudoComprimido = false;
+
+    // Incrementada a cada troca do conteúdo (ver setConteudo); chave do cache de corpos
+    @Builder.Default
+    @Column(name = "versao_conteudo", nullable = false)
+    private Integer versaoConteudo = 0;
+
     @Enumerated(EnumType.STRING) // Salva o nome da constante enum (RASCUNHO, PUBLICADO...)
     @Column(nullable = false, length = 20)
     @Builder.Default
@@ -99,8 +127,32 @@ public class Noticia {
     @Builder.Default
     private List<Comentario> comentarios = new ArrayList<>();
 
+    // Contribuição já contabilizada nos rankings (não persistido; ver RankingListener)
+    @Transient
+    private Long rankingAutorId;
+
+    @Transient
+    private Long rankingCategoriaId;
+
     // ====== MÉTODOS ======
 
+    // Troca o conteúdo; versão nova só quando o texto muda de fato.
+    // O texto volta para a coluna (a cópia comprimida é refeita após o commit)
+    public void setConteudo(String conteudo) {
+        if (this.conteudo != null && !this.conteudo.equals(conteudo)) {
+            this.versaoConteudo = (this.versaoConteudo == null ? 0 : this.versaoConteudo) + 1;
+        }
+        this.conteudo = conteudo;
+        this.conteudoComprimido = false;
+    }
+
+    // Mínimo de 100 caracteres só vale para o texto em linha (comprimido, a coluna fica vazia)
+    @AssertTrue(message = "Conteúdo deve ter no mínimo 100 caracteres")
+    private boolean isConteudoValido() {
+        return Boolean.TRUE.equals(conteudoComprimido)
+                || (conteudo != null && !conteudo.isBlank() && conteudo.length() >= 100);
+    }
+
     // Incrementa contador de visualizações
     public void incrementarVisualizacoes() {
         this.visualizacoes++;
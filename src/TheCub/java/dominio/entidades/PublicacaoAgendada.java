@@ -0,0 +1,44 @@
+package dominio.entidades;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publicação de artigo marcada para o futuro (artigo com status AGENDADO).
+ *
+ * É a fonte durável do agendamento: a fila em memória
+ * (lib.agendamento.AgendadorPublicacoes) é recarregada daqui na
+ * inicialização. A linha é removida na mesma transação que publica o
+ * artigo, sob lock de linha, o que garante uma única publicação mesmo com
+ * várias instâncias disparando o mesmo item.
+ */
+@Entity
+@Table(name = "publicacoes_agendadas",
+        uniqueConstraints = @UniqueConstraint(name = "uk_agendada_artigo", columnNames = "artigo_id"),
+        indexes = @Index(name = "idx_agendada_data", columnList = "data_publicacao"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PublicacaoAgendada {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "publicacoes_agendadas_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "publicacoes_agendadas_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "publicacoes_agendadas", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "artigo_id", nullable = false)
+    private Long artigoId;
+
+    @Column(name = "data_publicacao", nullable = false)
+    private LocalDateTime dataPublicacao;
+
+    @CreationTimestamp
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+}
@@ -0,0 +1,61 @@
+package dominio.entidades;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh token opaco emitido no login.
+ *
+ * Só o hash SHA-256 do token é gravado; o valor em claro existe apenas na
+ * resposta ao cliente. Cada uso gira o token (o antigo fica revogado), e o
+ * reuso de um token já girado revoga todos os tokens do usuário.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_usuario", columnList = "usuario_id, revogado"),
+        @Index(name = "idx_refresh_expiracao", columnList = "data_expiracao")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_tokens_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "refresh_tokens_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "refresh_tokens", allocationSize = 50)
+    private Long id;
+
+    // SHA-256 (hex) do token entregue ao cliente
+    @Column(name = "hash_token", nullable = false, unique = true, length = 64)
+    private String hashToken;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "usuario_id", nullable = false)
+    private Usuario usuario;
+
+    @CreationTimestamp
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_expiracao", nullable = false)
+    private LocalDateTime dataExpiracao;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean revogado = false;
+
+    // ====== MÉTODOS AUXILIARES ======
+    public boolean isExpirado() {
+        return dataExpiracao.isBefore(LocalDateTime.now());
+    }
+
+    public void revogar() {
+        this.revogado = true;
+    }
+}
@@ -0,0 +1,89 @@
+package dominio.entidades;
+
+import dominio.enums.FormatoExportacao;
+import dominio.enums.StatusRelatorio;
+import dominio.enums.TipoRelatorio;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Pedido de relatório processado em segundo plano (lib.relatorios.FilaRelatorios).
+ *
+ * hashEspecificacao identifica tipo + período + formato: um pedido igual a
+ * um já concluído (e ainda válido) devolve o mesmo job e o mesmo arquivo,
+ * sem gerar de novo. O arquivo fica no diretório de uploads, em relatorios/.
+ */
+@Entity
+@Table(name = "relatorios_jobs", indexes = {
+        // Reaproveitamento: último job da mesma especificação
+        @Index(name = "idx_relatorio_hash_criacao", columnList = "hash_especificacao, data_criacao"),
+        // Recolha de pendentes e limpeza dos antigos
+        @Index(name = "idx_relatorio_status_criacao", columnList = "status, data_criacao")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RelatorioJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "relatorios_jobs_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "relatorios_jobs_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "relatorios_jobs", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private TipoRelatorio tipo;
+
+    // Período do relatório, inclusivo nas duas pontas
+    @Column(name = "data_inicial", nullable = false)
+    private LocalDate de;
+
+    @Column(name = "data_final", nullable = false)
+    private LocalDate ate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private FormatoExportacao formato;
+
+    // SHA-256 (hex) de tipo|de|ate|formato
+    @Column(name = "hash_especificacao", nullable = false, length = 64)
+    private String hashEspecificacao;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusRelatorio status = StatusRelatorio.PENDENTE;
+
+    // E-mail de quem pediu
+    @Column(length = 150)
+    private String solicitante;
+
+    // Caminho relativo ao diretório de uploads (ex.: relatorios/<uuid>.csv)
+    @Column(length = 255)
+    private String arquivo;
+
+    private Long linhas;
+
+    @Column(name = "tamanho_bytes")
+    private Long tamanhoBytes;
+
+    @Column(length = 500)
+    private String erro;
+
+    @CreationTimestamp
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_inicio")
+    private LocalDateTime dataInicio;
+
+    @Column(name = "data_conclusao")
+    private LocalDateTime dataConclusao;
+}
@@ -0,0 +1,49 @@
+package dominio.entidades;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Sketch HyperLogLog dos leitores de um artigo em um dia (lib.audiencia).
+ *
+ * Gravado periodicamente a partir da memória; a gravação mescla com o que
+ * já está na linha, então várias instâncias podem escrever no mesmo dia.
+ * O artigo é referenciado só pelo id: linhas antigas (ou de artigos
+ * excluídos) saem pela limpeza por retenção.
+ */
+@Entity
+@Table(name = "sketches_leitores",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sketch_artigo_dia", columnNames = {"artigo_id", "dia"}),
+        indexes = @Index(name = "idx_sketch_dia", columnList = "dia"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SketchLeitores {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "sketches_leitores_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "sketches_leitores_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "sketches_leitores", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "artigo_id", nullable = false)
+    private Long artigoId;
+
+    @Column(nullable = false)
+    private LocalDate dia;
+
+    // Registradores do HyperLogLog (2^precisão bytes)
+    @Lob
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] registros;
+
+    @UpdateTimestamp
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+}
@@ -0,0 +1,38 @@
+package dominio.entidades;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Access token (JWT) revogado antes de expirar, identificado pelo "jti".
+ *
+ * Fica na tabela só até a expiração original do token; depois disso o
+ * próprio JWT já é recusado e a linha é removida pela limpeza periódica.
+ */
+@Entity
+@Table(name = "tokens_revogados", indexes = {
+        @Index(name = "idx_revogado_expiracao", columnList = "data_expiracao"),
+        @Index(name = "idx_revogado_data", columnList = "data_revogacao")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRevogado {
+
+    // Claim "jti" do JWT (UUID)
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "data_expiracao", nullable = false)
+    private LocalDateTime dataExpiracao;
+
+    @CreationTimestamp
+    @Column(name = "data_revogacao", nullable = false, updatable = false)
+    private LocalDateTime dataRevogacao;
+}
@@ -3,6 +3,8 @@ package dominio.entidades; // Pacote das entidades JPA
 import dominio.enums.TipoUsuario;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lib.repository.filtro.InvalidacaoContagemListener;
+import lib.repository.sincronizacao.ExclusaoListener;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -12,9 +14,20 @@ import java.util.List;
 
 /**
  * Entidade que representa um usuário do sistema (THE CLUB).
+ *
+ * Fora do cache de 2º nível de propósito: a entrada guardaria o hash da senha
+ * na memória compartilhada do cache (e nas estatísticas de /actuator/cache2nivel).
  */
 @Entity
-@Table(name = "usuarios")
+@EntityListeners({InvalidacaoContagemListener.class, ExclusaoListener.class}) // invalida os totais de paginação em cache
+@Table(name = "usuarios", indexes = {
+        // Busca administrativa: filtros de igualdade seguidos da ordenação por nome
+        @Index(name = "idx_usuario_nome", columnList = "nome"),
+        @Index(name = "idx_usuario_tipo_nome", columnList = "tipo, nome"),
+        @Index(name = "idx_usuario_ativo_nome", columnList = "ativo, nome"),
+        // Feed de sincronização: varredura por intervalo em (data_atualizacao, id)
+        @Index(name = "idx_usuario_sincronizacao", columnList = "data_atualizacao, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +36,9 @@ import java.util.List;
 public class Usuario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID auto-incremento no banco
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "usuarios_id") // IDs em blocos (permite batch de INSERT)
+    @TableGenerator(name = "usuarios_id", table = "sequencias_id", pkColumnName = "tabela",
+            valueColumnName = "proximo_id", pkColumnValue = "usuarios", allocationSize = 50)
     private Long id;
 
     // Nome completo do usuário, obrigatório
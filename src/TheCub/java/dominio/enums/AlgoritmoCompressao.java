@@ -0,0 +1,10 @@
+package dominio.enums; // Pacote onde ficam os enums de domínio
+
+/**
+ * Algoritmo usado em cada linha de artigos_conteudo. Gravado por linha para
+ * que um algoritmo novo possa conviver com as linhas antigas.
+ */
+public enum AlgoritmoCompressao {
+    // java.util.zip (zlib), sem dependência extra
+    DEFLATE
+}
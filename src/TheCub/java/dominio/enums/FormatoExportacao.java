@@ -0,0 +1,27 @@
+package dominio.enums; // Pacote onde ficam os enums de domínio
+
+/**
+ * Formato dos arquivos de exportação administrativa.
+ */
+public enum FormatoExportacao {
+    // Planilha: cabeçalho + uma linha por registro (RFC 4180)
+    CSV("text/csv", "csv"),
+    // Um objeto JSON por linha (newline-delimited JSON)
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extensao;
+
+    FormatoExportacao(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+}
@@ -0,0 +1,11 @@
+package dominio.enums; // Pacote onde ficam os enums de domínio
+
+/**
+ * Granularidade de uma linha de analytics de artigo.
+ */
+public enum GranularidadeAnalitica {
+    // Balde de uma hora (dias recentes, antes da compactação noturna)
+    HORA,
+    // Balde de um dia (horas já compactadas)
+    DIA
+}
@@ -11,6 +11,8 @@ public enum StatusNoticia {
     RASCUNHO("Rascunho"),
     // Artigo em processo de revisão (editorial, ortográfica etc.)
     REVISAO("Em Revisão"),
+    // Publicação marcada para uma data futura (dataPublicacao); ainda não visível
+    AGENDADO("Agendado"),
     // Artigo publicado e visível publicamente
     PUBLICADO("Publicado"),
     // Artigo arquivado, normalmente não listado para o público
@@ -0,0 +1,15 @@
+package dominio.enums; // Pacote onde ficam os enums de domínio
+
+/**
+ * Estágios de um pedido de relatório na fila.
+ */
+public enum StatusRelatorio {
+    // Aguardando um worker livre
+    PENDENTE,
+    // Sendo gerado por um worker
+    PROCESSANDO,
+    // Arquivo pronto para download
+    CONCLUIDO,
+    // Geração interrompida (ver campo erro)
+    FALHOU
+}
@@ -0,0 +1,25 @@
+package dominio.enums; // Pacote onde ficam os enums de domínio
+
+/**
+ * Relatórios pesados gerados em segundo plano (fila de relatórios).
+ */
+public enum TipoRelatorio {
+
+    // Por mês e categoria: artigos publicados, visualizações e comentários recebidos
+    ATIVIDADE_MENSAL_CATEGORIA("Atividade mensal por categoria"),
+    // Por autor: artigos publicados no período, visualizações e reações
+    PRODUTIVIDADE_AUTORES("Produtividade dos autores"),
+    // Por dia: comentários recebidos, aprovados, pendentes e tempo até a aprovação
+    SLA_MODERACAO("SLA de moderação de comentários");
+
+    // Texto amigável/legível para exibir em telas
+    private final String descricao;
+
+    TipoRelatorio(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
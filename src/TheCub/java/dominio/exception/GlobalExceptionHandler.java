@@ -1,5 +1,6 @@
 package dominio.exception; // Pacote onde ficam as exceções e handlers globais da aplicação
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -68,6 +69,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    /**
+     * Trata saturação de recursos internos (ServicoSobrecarregadoException).
+     *
+     * Devolve HTTP 503 (SERVICE_UNAVAILABLE) com o header Retry-After,
+     * para o cliente repetir a requisição depois.
+     */
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<Map<String, Object>> handleServicoSobrecarregado(ServicoSobrecarregadoException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());                      // Momento do erro
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());      // 503
+        body.put("error", "Serviço sobrecarregado");                     // Tipo genérico de erro
+        body.put("message", ex.getMessage());                            // Detalhe vindo da exceção
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()))
+                .body(body);
+    }
+
     /**
      * Trata erros de validação de argumentos anotados com @Valid/@Validated.
      *
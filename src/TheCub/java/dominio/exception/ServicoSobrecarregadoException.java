@@ -0,0 +1,22 @@
+package dominio.exception; // Pacote específico para exceções de domínio/regra de negócio
+
+/**
+ * Exceção para recursos internos saturados (fila cheia, tempo de espera esgotado).
+ *
+ * Não é erro do cliente nem bug: a requisição pode ser repetida depois de
+ * "retryAfterSegundos" (devolvido como HTTP 503 + Retry-After).
+ */
+public class ServicoSobrecarregadoException extends RuntimeException {
+
+    // Sugestão de espera antes de tentar de novo
+    private final long retryAfterSegundos;
+
+    public ServicoSobrecarregadoException(String message, long retryAfterSegundos) {
+        super(message);
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
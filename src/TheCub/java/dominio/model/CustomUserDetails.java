@@ -2,8 +2,10 @@ package dominio.model; // Pacote de modelos de segurança / integração com Spr
 
 import dominio.entidades.Usuario;
 import dominio.enums.TipoUsuario;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
@@ -122,4 +124,17 @@ public class CustomUserDetails implements UserDetails {
     public Usuario getUsuario() {
         return usuario;
     }
+
+    /**
+     * ID do usuário autenticado na thread corrente, ou null (anônimo, sem
+     * contexto de segurança ou outro tipo de principal). Para infraestrutura
+     * que só precisa do id (roteamento de leituras, audiência).
+     */
+    public static Long idUsuarioAtual() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails usuario) {
+            return usuario.getId();
+        }
+        return null;
+    }
 }
@@ -1,9 +1,11 @@
 package lib; // Pacote de segurança/infra da aplicação
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lib.token.ListaRevogacao;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -34,6 +36,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // Serviço que carrega detalhes do usuário a partir do e-mail (username)
     private final CustomUserDetailsService userDetailsService;
 
+    // Tokens revogados antes de expirar (logout)
+    private final ListaRevogacao listaRevogacao;
+
     /**
      * Método principal do filtro. É executado em TODA requisição HTTP.
      *
@@ -63,9 +68,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Extrai apenas o token, removendo o prefixo "Bearer "
         final String token = authHeader.substring(7);
         final String username;
+        final String jti;
         try {
-            // Tenta extrair o "username" (no seu caso, email) de dentro do JWT
-            username = jwtService.extractUsername(token);
+            // Tenta extrair o "username" (no seu caso, email) e o id (jti) de dentro do JWT
+            Claims claims = jwtService.extractAllClaims(token);
+            username = claims.getSubject();
+            jti = claims.getId();
         } catch (Exception e) {
             // Qualquer erro na extração indica token inválido ou expirado
             log.warn("Token inválido ou expirado: {}", e.getMessage());
@@ -73,6 +81,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // Token revogado (logout): segue como anônimo. Consulta só em memória
+        if (listaRevogacao.estaRevogado(jti)) {
+            log.warn("Token revogado utilizado (jti {})", jti);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         // Se conseguiu extrair username e ainda não há autenticação registrada no contexto
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -52,6 +53,7 @@ public class JwtService {
      * - data de emissão
      * - data de expiração
      * - assinatura com a chave secreta
+     * - jti (UUID), usado para revogar o token no logout
      */
     public String generateToken(String username, Map<String, Object> extraClaims) {
         Date now = new Date();
@@ -59,6 +61,7 @@ public class JwtService {
 
         return Jwts.builder()
                 .setClaims(extraClaims)   // payload customizado
+                .setId(UUID.randomUUID().toString()) // jti: identifica o token na lista de revogação
                 .setSubject(username)     // quem é o "dono" do token (email)
                 .setIssuedAt(now)         // quando foi gerado
                 .setExpiration(expiryDate)// quando expira
@@ -81,6 +84,13 @@ public class JwtService {
         return extractClaim(token, Claims::getSubject);
     }
 
+    /**
+     * Extrai todas as claims de uma vez (um único parse/verificação de assinatura).
+     */
+    public Claims extractAllClaims(String token) {
+        return extractClaim(token, Function.identity());
+    }
+
     /**
      * Extrai uma claim genérica do token, usando uma função que recebe Claims
      * e devolve algo (subject, expiration, etc.).
@@ -1,5 +1,11 @@
 package lib; // Pacote de segurança/infraestrutura da aplicação
 
+import jakarta.servlet.DispatcherType;
+import lib.limite.FiltroLimiteTaxa;
+import lib.limite.LimitadorTaxa;
+import lib.limite.RegraLimite;
+import lib.senha.CodificadorSenhas;
+import lib.senha.ExecutorHashSenhas;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,11 +20,16 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.filter.CorsFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
 
 /**
  * Classe principal de configuração de segurança (Spring Security).
@@ -42,6 +53,9 @@ public class SecurityConfig {
     // Serviço que carrega usuários (implementação de UserDetailsService)
     private final UserDetailsService userDetailsService;
 
+    // Baldes de rate limiting (por grupo de rota + IP)
+    private final LimitadorTaxa limitadorTaxa;
+
     /**
      * Define a SecurityFilterChain, ou seja,
      * toda a configuração de segurança HTTP da aplicação.
@@ -62,6 +76,9 @@ public class SecurityConfig {
 
                 // Configura quais requisições são liberadas ou exigem autenticação
                 .authorizeHttpRequests(auth -> auth
+                        // Dispatch assíncrono dos streams SSE: a requisição original já foi autorizada
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Raiz liberada (pode ser usada para healthcheck)
                         .requestMatchers("/").permitAll()
 
@@ -74,6 +91,9 @@ public class SecurityConfig {
                         // Upload de arquivos (se você quiser público)
                         .requestMatchers("/api/upload/**").permitAll()
 
+                        // Relatórios gerados ficam no mesmo diretório, mas só saem pelo download autenticado
+                        .requestMatchers("/uploads/relatorios/**").denyAll()
+
                         // Servir arquivos estáticos (imagens, etc.)
                         .requestMatchers("/uploads/**").permitAll()
 
@@ -82,6 +102,9 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
 
+                        // Métricas de latência expõem SQL: apenas administradores
+                        .requestMatchers("/actuator/latencias/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/cache2nivel/**").hasRole("ADMIN")
                         // Actuator (monitoramento / health checks)
                         .requestMatchers("/actuator/**").permitAll()
 
@@ -111,6 +134,9 @@ public class SecurityConfig {
                 // Define o UserDetailsService que o Spring Security deve usar internamente
                 .userDetailsService(userDetailsService)
 
+                // Rate limiting logo depois do CORS (429 com headers CORS) e antes do JWT
+                .addFilterAfter(filtroLimiteTaxa(), CorsFilter.class)
+
                 // Adiciona o filtro de JWT ANTES do filtro padrão de login por formulário
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
 
@@ -118,6 +144,24 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * Regras de rate limiting por padrão de rota, avaliadas em ordem
+     * (a primeira que casar decide). Limites por IP de cliente.
+     *
+     * - login/registro: contra força bruta e criação de contas em massa
+     * - leitura de artigo público: cada hit grava uma visualização
+     * - demais rotas públicas: teto geral contra flood
+     */
+    private FiltroLimiteTaxa filtroLimiteTaxa() {
+        return new FiltroLimiteTaxa(limitadorTaxa, List.of(
+                new RegraLimite("auth-login", antMatcher(HttpMethod.POST, "/api/auth/login"), 10, Duration.ofMinutes(1)),
+                new RegraLimite("auth-registro", antMatcher(HttpMethod.POST, "/api/auth/register"), 5, Duration.ofMinutes(10)),
+                new RegraLimite("auth", antMatcher("/api/auth/**"), 30, Duration.ofMinutes(1)),
+                new RegraLimite("artigo-leitura", antMatcher(HttpMethod.GET, "/api/public/artigos/*"), 120, Duration.ofMinutes(1)),
+                new RegraLimite("publico", antMatcher("/api/public/**"), 300, Duration.ofMinutes(1))
+        ));
+    }
+
     /**
      * Configuração CORS global para a API.
      *
@@ -158,29 +202,15 @@ public class SecurityConfig {
     /**
      * PasswordEncoder usado para codificar/verificar senhas.
      *
-     * ATENÇÃO: aqui está usando um "encoder" que NÃO faz hash.
-     * - encode: apenas retorna a senha em texto puro
-     * - matches: compara string direta
-     *
-     * Isso é aceitável só em ambiente de estudo/dev.
-     * Em produção o ideal é usar BCryptPasswordEncoder.
+     * - BCrypt com custo calibrado na inicialização (app.senha.alvo-ms)
+     * - hash e verificação rodam no pool limitado de ExecutorHashSenhas,
+     *   não na thread do Tomcat sem controle
+     * - senhas legadas em texto puro ainda são aceitas e são regravadas
+     *   com BCrypt no próximo login bem-sucedido (AuthController.login)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new PasswordEncoder() {
-            // "Codifica" a senha – aqui, apenas a retorna sem alterações
-            @Override
-            public String encode(CharSequence rawPassword) {
-                return rawPassword.toString();
-            }
-
-            // Compara senha crua com senha "codificada"
-            @Override
-            public boolean matches(CharSequence rawPassword, String encodedPassword) {
-                return rawPassword != null
-                        && rawPassword.toString().equals(encodedPassword);
-            }
-        };
+    public PasswordEncoder passwordEncoder(ExecutorHashSenhas executorHashSenhas) {
+        return new CodificadorSenhas(executorHashSenhas);
     }
 
     /**
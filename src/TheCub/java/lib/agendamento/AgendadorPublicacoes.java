@@ -0,0 +1,181 @@
+package lib.agendamento; // Publicação agendada de artigos (fila com atraso em memória)
+
+import dominio.entidades.PublicacaoAgendada;
+import jakarta.annotation.PreDestroy;
+import lib.repository.PublicacaoAgendadaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import servicos_tecnicos.NoticiaService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispara as publicações agendadas na hora marcada, sem consultar o banco
+ * a cada minuto.
+ *
+ * - DelayQueue em memória com uma thread dedicada: take() só retorna quando
+ *   o primeiro item vence
+ * - Fonte durável: publicacoes_agendadas. Na inicialização (e a cada
+ *   app.agendamento.ressincronizacao-ms) a fila recebe as linhas que vencem
+ *   dentro de app.agendamento.horizonte-ms; agendamentos feitos nesta
+ *   instância entram na fila na hora, após o commit
+ * - Execução única: NoticiaService.publicarAgendado trava a linha do
+ *   agendamento (SELECT ... FOR UPDATE) e a remove na mesma transação; se
+ *   duas instâncias dispararem o mesmo artigo, a segunda não encontra nada
+ * - Reagendar/cancelar não mexe na fila: o item antigo é descartado ao vencer
+ *   por não bater com o horário vigente em "programados"
+ *
+ * NoticiaService é obtido sob demanda (ele também depende deste componente).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AgendadorPublicacoes {
+
+    private final PublicacaoAgendadaRepository agendadaRepository;
+    private final ObjectProvider<NoticiaService> noticiaService;
+
+    @Value("${app.agendamento.horizonte-ms:3600000}")
+    private long horizonteMs;
+
+    @Value("${app.agendamento.nova-tentativa-ms:30000}")
+    private long novaTentativaMs;
+
+    private final DelayQueue<Item> fila = new DelayQueue<>();
+    // artigoId -> instante (epoch ms) vigente; itens da fila que não batem são descartados
+    private final Map<Long, Long> programados = new ConcurrentHashMap<>();
+
+    private volatile Thread disparador;
+
+    // ====== CICLO DE VIDA ======
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        carregarHorizonte();
+        disparador = new Thread(this::executar, "publicacao-agendada");
+        disparador.setDaemon(true);
+        disparador.start();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        if (disparador != null) {
+            disparador.interrupt();
+        }
+    }
+
+    // ====== AGENDA ======
+
+    /**
+     * Coloca (ou move) o artigo na fila após o commit da transação atual.
+     */
+    public void agendarAposCommit(Long artigoId, LocalDateTime dataPublicacao) {
+        aposCommit(() -> agendar(artigoId, dataPublicacao));
+    }
+
+    /**
+     * Tira o artigo da fila após o commit da transação atual.
+     */
+    public void cancelarAposCommit(Long artigoId) {
+        aposCommit(() -> programados.remove(artigoId));
+    }
+
+    private void agendar(Long artigoId, LocalDateTime dataPublicacao) {
+        long instante = dataPublicacao.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Long anterior = programados.put(artigoId, instante);
+        if (anterior == null || anterior != instante) {
+            fila.put(new Item(artigoId, instante));
+        }
+    }
+
+    /**
+     * Relê os agendamentos que vencem dentro do horizonte: cobre a
+     * inicialização, agendamentos feitos em outras instâncias e itens de
+     * uma instância que caiu.
+     */
+    @Scheduled(fixedDelayString = "${app.agendamento.ressincronizacao-ms:600000}",
+            initialDelayString = "${app.agendamento.ressincronizacao-ms:600000}")
+    public void carregarHorizonte() {
+        LocalDateTime limite = LocalDateTime.now().plus(Duration.ofMillis(horizonteMs));
+        int carregados = 0;
+        for (PublicacaoAgendada agendada : agendadaRepository.findByDataPublicacaoBeforeOrderByDataPublicacaoAsc(limite)) {
+            agendar(agendada.getArtigoId(), agendada.getDataPublicacao());
+            carregados++;
+        }
+        if (carregados > 0) {
+            log.info("⏰ {} publicação(ões) agendada(s) na fila (horizonte {} min)", carregados, horizonteMs / 60_000);
+        }
+    }
+
+    // ====== DISPARO ======
+
+    private void executar() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Item item;
+            try {
+                item = fila.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Long vigente = programados.get(item.artigoId());
+            if (vigente == null || vigente != item.instante()) {
+                continue; // cancelado ou reagendado
+            }
+            try {
+                noticiaService.getObject().publicarAgendado(item.artigoId());
+                programados.remove(item.artigoId(), item.instante());
+            } catch (RuntimeException e) {
+                log.error("❌ Falha ao publicar o artigo agendado {}; nova tentativa em {} ms",
+                        item.artigoId(), novaTentativaMs, e);
+                long novoInstante = System.currentTimeMillis() + novaTentativaMs;
+                if (programados.replace(item.artigoId(), item.instante(), novoInstante)) {
+                    fila.put(new Item(item.artigoId(), novoInstante));
+                }
+            }
+        }
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    // ====== ITEM DA FILA ======
+
+    private record Item(long artigoId, long instante) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(instante - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed outro) {
+            return Long.compare(instante, ((Item) outro).instante);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package lib.analitica; // Analytics de artigos (rollups por hora/dia)
+
+import dominio.enums.TipoAvaliacao;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Acumula visualizações e reações de artigos em memória, por artigo e hora,
+ * e grava os baldes em lote na tabela analitica_artigos.
+ *
+ * - registrar*(): só memória, sem tocar no banco na requisição
+ * - a cada app.analitica.gravacao-ms os baldes saem da memória e viram um
+ *   batch de INSERT ... ON DUPLICATE KEY UPDATE (soma ao balde da hora)
+ * - falha na gravação devolve os baldes para a próxima rodada
+ *
+ * A leitura dos gráficos nunca vê eventos individuais: só os baldes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AcumuladorAnalitico {
+
+    private static final String UPSERT_HORA = """
+            INSERT INTO analitica_artigos (artigo_id, granularidade, inicio, visualizacoes, gostei, neutro, nao_gostei)
+            VALUES (?, 'HORA', ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                visualizacoes = visualizacoes + VALUES(visualizacoes),
+                gostei = gostei + VALUES(gostei),
+                neutro = neutro + VALUES(neutro),
+                nao_gostei = nao_gostei + VALUES(nao_gostei)
+            """;
+
+    private static final int TAMANHO_LOTE = 500;
+
+    private record Chave(long artigoId, LocalDateTime hora) {
+    }
+
+    // Só alterado dentro de compute()/merge() do mapa (lock do próprio balde)
+    private static final class Contadores {
+        long visualizacoes;
+        long gostei;
+        long neutro;
+        long naoGostei;
+
+        void somar(Contadores outro) {
+            visualizacoes += outro.visualizacoes;
+            gostei += outro.gostei;
+            neutro += outro.neutro;
+            naoGostei += outro.naoGostei;
+        }
+
+        void somarAvaliacao(TipoAvaliacao tipo, int delta) {
+            switch (tipo) {
+                case GOSTEI -> gostei += delta;
+                case NEUTRO -> neutro += delta;
+                case NAO_GOSTEI -> naoGostei += delta;
+            }
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Chave, Contadores> baldes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registrarMetricas() {
+        Gauge.builder("theclub.analitica.baldes.pendentes", baldes, Map::size)
+                .description("Baldes de analytics aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    // ====== REGISTRO ======
+
+    public void registrarVisualizacao(Long artigoId) {
+        if (artigoId != null) {
+            // compute(): o incremento não se perde se a gravação retirar o balde ao mesmo tempo
+            baldes.compute(chaveAtual(artigoId), (chave, contadores) -> {
+                Contadores atual = contadores != null ? contadores : new Contadores();
+                atual.visualizacoes++;
+                return atual;
+            });
+        }
+    }
+
+    /**
+     * Reação nova ou trocada (anterior = null na primeira avaliação do usuário).
+     */
+    public void registrarAvaliacao(Long artigoId, TipoAvaliacao nova, TipoAvaliacao anterior) {
+        if (artigoId == null || nova == anterior) {
+            return;
+        }
+        baldes.compute(chaveAtual(artigoId), (chave, contadores) -> {
+            Contadores atual = contadores != null ? contadores : new Contadores();
+            if (anterior != null) {
+                atual.somarAvaliacao(anterior, -1);
+            }
+            if (nova != null) {
+                atual.somarAvaliacao(nova, 1);
+            }
+            return atual;
+        });
+    }
+
+    private static Chave chaveAtual(Long artigoId) {
+        return new Chave(artigoId, LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+    }
+
+    // ====== GRAVAÇÃO ======
+
+    @Scheduled(fixedDelayString = "${app.analitica.gravacao-ms:60000}",
+            initialDelayString = "${app.analitica.gravacao-ms:60000}")
+    public void gravar() {
+        List<Map.Entry<Chave, Contadores>> lote = new ArrayList<>();
+        for (Chave chave : new ArrayList<>(baldes.keySet())) {
+            Contadores contadores = baldes.remove(chave);
+            if (contadores != null) {
+                lote.add(Map.entry(chave, contadores));
+            }
+        }
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        try {
+            // Uma transação por rodada: ou o lote inteiro entra, ou volta inteiro para a memória
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPSERT_HORA, lote, TAMANHO_LOTE, (ps, balde) -> {
+                        Contadores c = balde.getValue();
+                        ps.setLong(1, balde.getKey().artigoId());
+                        ps.setTimestamp(2, Timestamp.valueOf(balde.getKey().hora()));
+                        ps.setLong(3, c.visualizacoes);
+                        ps.setLong(4, c.gostei);
+                        ps.setLong(5, c.neutro);
+                        ps.setLong(6, c.naoGostei);
+                    }));
+            log.debug("📈 {} baldes de analytics gravados", lote.size());
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Falha ao gravar {} baldes de analytics, nova tentativa na próxima rodada: {}",
+                    lote.size(), e.getMessage());
+            lote.forEach(balde -> baldes.merge(balde.getKey(), balde.getValue(), (atual, devolvido) -> {
+                atual.somar(devolvido);
+                return atual;
+            }));
+        }
+    }
+
+    @PreDestroy
+    void gravarAoEncerrar() {
+        gravar();
+    }
+}
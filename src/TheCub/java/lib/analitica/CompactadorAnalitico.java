@@ -0,0 +1,74 @@
+package lib.analitica; // Analytics de artigos (rollups por hora/dia)
+
+import lib.repository.AnaliticaArtigoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Compactação noturna de analitica_artigos: as linhas de HORA de dias já
+ * encerrados viram uma linha de DIA por artigo, e as horas são removidas.
+ *
+ * Um dia por transação (INSERT ... SELECT agregado + DELETE), para não
+ * segurar locks de uma vez sobre todo o histórico atrasado.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CompactadorAnalitico {
+
+    private static final String SOMAR_DIA = """
+            INSERT INTO analitica_artigos (artigo_id, granularidade, inicio, visualizacoes, gostei, neutro, nao_gostei)
+            SELECT artigo_id, 'DIA', ?, SUM(visualizacoes), SUM(gostei), SUM(neutro), SUM(nao_gostei)
+            FROM analitica_artigos
+            WHERE granularidade = 'HORA' AND inicio >= ? AND inicio < ?
+            GROUP BY artigo_id
+            ON DUPLICATE KEY UPDATE
+                visualizacoes = analitica_artigos.visualizacoes + VALUES(visualizacoes),
+                gostei = analitica_artigos.gostei + VALUES(gostei),
+                neutro = analitica_artigos.neutro + VALUES(neutro),
+                nao_gostei = analitica_artigos.nao_gostei + VALUES(nao_gostei)
+            """;
+
+    private static final String REMOVER_HORAS = """
+            DELETE FROM analitica_artigos
+            WHERE granularidade = 'HORA' AND inicio >= ? AND inicio < ?
+            """;
+
+    private final AnaliticaArtigoRepository analiticaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${app.analitica.compactacao-cron:0 15 3 * * *}")
+    public void compactar() {
+        LocalDateTime maisAntiga = analiticaRepository.findHoraMaisAntiga();
+        if (maisAntiga == null) {
+            return;
+        }
+        LocalDate hoje = LocalDate.now();
+        int dias = 0;
+        for (LocalDate dia = maisAntiga.toLocalDate(); dia.isBefore(hoje); dia = dia.plusDays(1)) {
+            compactarDia(dia);
+            dias++;
+        }
+        if (dias > 0) {
+            log.info("🗜️ Analytics compactado: {} dia(s) de baldes por hora viraram baldes diários", dias);
+        }
+    }
+
+    private void compactarDia(LocalDate dia) {
+        Timestamp inicio = Timestamp.valueOf(dia.atStartOfDay());
+        Timestamp fim = Timestamp.valueOf(dia.plusDays(1).atStartOfDay());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(SOMAR_DIA, inicio, inicio, fim);
+            jdbcTemplate.update(REMOVER_HORAS, inicio, fim);
+        });
+    }
+}
@@ -0,0 +1,209 @@
+package lib.audiencia; // Audiência: leitores únicos estimados por artigo
+
+import dominio.entidades.SketchLeitores;
+import dominio.model.CustomUserDetails;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lib.repository.SketchLeitoresRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leitores únicos por artigo, estimados com um HyperLogLog por artigo e dia.
+ *
+ * - registrar(): só memória (um sketch por artigo/dia tocado desde a última
+ *   gravação); o visitante é o usuário autenticado ou, se anônimo, IP + User-Agent
+ * - a cada app.audiencia.gravacao-ms os sketches tocados saem da memória e
+ *   são mesclados na linha do dia em sketches_leitores
+ * - estimar(): une os dias da janela (banco + memória) e estima a união, ou
+ *   seja, "leitores únicos nos últimos N dias" sem guardar quem leu
+ * - linhas com mais de app.audiencia.retencao-dias são removidas
+ */
+@Component
+@Slf4j
+public class EstimadorLeitores {
+
+    /**
+     * Estimativa para uma janela de dias (mais o detalhamento por dia).
+     */
+    public record Estimativa(long leitoresUnicos, Map<LocalDate, Long> porDia, double erroRelativo) {
+    }
+
+    private record Chave(long artigoId, LocalDate dia) {
+    }
+
+    private final SketchLeitoresRepository sketchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.audiencia.precisao:11}")
+    private int precisao;
+
+    @Value("${app.audiencia.retencao-dias:30}")
+    private int retencaoDias;
+
+    // Sketches tocados desde a última gravação
+    private final Map<Chave, HyperLogLog> pendentes = new ConcurrentHashMap<>();
+
+    public EstimadorLeitores(SketchLeitoresRepository sketchRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.sketchRepository = sketchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ====== REGISTRO ======
+
+    /**
+     * Conta uma leitura do artigo (repetições do mesmo visitante não alteram o sketch).
+     */
+    public void registrar(Long artigoId, HttpServletRequest request) {
+        if (artigoId == null) {
+            return;
+        }
+        long hash = HyperLogLog.hash64(identificarVisitante(request));
+        // compute(): a inserção não se perde se a gravação retirar o sketch ao mesmo tempo
+        pendentes.compute(new Chave(artigoId, LocalDate.now()), (chave, sketch) -> {
+            HyperLogLog atual = sketch != null ? sketch : new HyperLogLog(precisao);
+            atual.adicionar(hash);
+            return atual;
+        });
+    }
+
+    private static String identificarVisitante(HttpServletRequest request) {
+        Long usuario = CustomUserDetails.idUsuarioAtual();
+        if (usuario != null) {
+            return "u:" + usuario;
+        }
+        String userAgent = request.getHeader("User-Agent");
+        return "a:" + request.getRemoteAddr() + "|" + (userAgent != null ? userAgent : "");
+    }
+
+    // ====== ESTIMATIVA ======
+
+    /**
+     * Leitores únicos do artigo nos últimos "dias" dias (incluindo hoje).
+     */
+    public Estimativa estimar(Long artigoId, int dias) {
+        LocalDate hoje = LocalDate.now();
+        LocalDate desde = hoje.minusDays(Math.max(1, dias) - 1L);
+
+        Map<LocalDate, HyperLogLog> porDia = new LinkedHashMap<>();
+        for (SketchLeitores linha : sketchRepository.findByArtigoIdAndDiaGreaterThanEqualOrderByDiaAsc(artigoId, desde)) {
+            HyperLogLog gravado = HyperLogLog.deRegistros(linha.getRegistros());
+            if (gravado.getPrecisao() == precisao) { // gravado antes de mudar a precisão: ignora
+                porDia.put(linha.getDia(), gravado);
+            }
+        }
+        for (LocalDate dia = desde; !dia.isAfter(hoje); dia = dia.plusDays(1)) {
+            HyperLogLog emMemoria = pendentes.get(new Chave(artigoId, dia));
+            if (emMemoria != null) {
+                mesclarNoDia(porDia, dia, emMemoria);
+            }
+        }
+
+        HyperLogLog uniao = new HyperLogLog(precisao);
+        Map<LocalDate, Long> estimativasPorDia = new LinkedHashMap<>();
+        porDia.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entrada -> {
+                    HyperLogLog sketch = entrada.getValue();
+                    estimativasPorDia.put(entrada.getKey(), sketch.estimar());
+                    uniao.mesclar(sketch);
+                });
+        return new Estimativa(uniao.estimar(), estimativasPorDia, uniao.erroRelativo());
+    }
+
+    private void mesclarNoDia(Map<LocalDate, HyperLogLog> porDia, LocalDate dia, HyperLogLog sketch) {
+        HyperLogLog existente = porDia.get(dia);
+        if (existente == null) {
+            existente = new HyperLogLog(precisao);
+            porDia.put(dia, existente);
+        }
+        existente.mesclar(sketch);
+    }
+
+    // ====== GRAVAÇÃO ======
+
+    /**
+     * Mescla na tabela os sketches tocados desde a última gravação.
+     * Mesclar é idempotente (máximo por registrador): regravar não duplica leitores.
+     */
+    @Scheduled(fixedDelayString = "${app.audiencia.gravacao-ms:60000}",
+            initialDelayString = "${app.audiencia.gravacao-ms:60000}")
+    public void gravar() {
+        List<Chave> chaves = new ArrayList<>(pendentes.keySet());
+        int gravados = 0;
+        for (Chave chave : chaves) {
+            HyperLogLog sketch = pendentes.remove(chave);
+            if (sketch == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> gravar(chave, sketch));
+                gravados++;
+            } catch (DataIntegrityViolationException e) {
+                // Outra instância inseriu o mesmo dia primeiro: fica para o próximo ciclo
+                devolver(chave, sketch);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ Falha ao gravar sketch de leitores do artigo {} ({}): {}",
+                        chave.artigoId(), chave.dia(), e.getMessage());
+                devolver(chave, sketch);
+            }
+        }
+        if (gravados > 0) {
+            log.debug("👥 {} sketches de leitores gravados", gravados);
+        }
+    }
+
+    private void gravar(Chave chave, HyperLogLog sketch) {
+        SketchLeitores linha = sketchRepository.travarPorArtigoEDia(chave.artigoId(), chave.dia())
+                .orElseGet(() -> SketchLeitores.builder()
+                        .artigoId(chave.artigoId())
+                        .dia(chave.dia())
+                        .build());
+        if (linha.getRegistros() != null) {
+            HyperLogLog gravado = HyperLogLog.deRegistros(linha.getRegistros());
+            if (gravado.getPrecisao() == sketch.getPrecisao()) {
+                sketch.mesclar(gravado);
+            }
+            // Precisão mudou na configuração: o dia recomeça com a nova
+        }
+        linha.setRegistros(sketch.registros());
+        sketchRepository.save(linha);
+    }
+
+    private void devolver(Chave chave, HyperLogLog sketch) {
+        pendentes.merge(chave, sketch, (atual, devolvido) -> {
+            atual.mesclar(devolvido);
+            return atual;
+        });
+    }
+
+    @PreDestroy
+    void gravarAoEncerrar() {
+        gravar();
+    }
+
+    // ====== LIMPEZA ======
+
+    @Scheduled(fixedDelayString = "${app.audiencia.limpeza-ms:21600000}",
+            initialDelayString = "${app.audiencia.limpeza-ms:21600000}")
+    public void limparAntigos() {
+        LocalDate limite = LocalDate.now().minusDays(retencaoDias);
+        Integer excluidos = transactionTemplate.execute(status -> sketchRepository.excluirAnterioresA(limite));
+        if (excluidos != null && excluidos > 0) {
+            log.info("🧹 {} sketches de leitores anteriores a {} removidos", excluidos, limite);
+        }
+    }
+}
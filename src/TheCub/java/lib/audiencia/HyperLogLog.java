@@ -0,0 +1,153 @@
+package lib.audiencia; // Audiência: leitores únicos estimados por artigo
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Sketch HyperLogLog: estima quantos valores distintos foram vistos usando
+ * 2^precisao registradores de 1 byte (precisão 11 = 2 KB, erro ~2,3%).
+ *
+ * - adicionar() recebe o hash de 64 bits do visitante (ver hash64)
+ * - mesclar() fica com o máximo de cada registrador: une dias, instâncias
+ *   e o que já está gravado, sem contar ninguém duas vezes
+ * - registros() / deRegistros() são o formato gravado no banco (BLOB)
+ *
+ * Métodos sincronizados: cada sketch é de um artigo em um dia, então a
+ * disputa é pequena.
+ */
+public final class HyperLogLog {
+
+    public static final int PRECISAO_MINIMA = 4;
+    public static final int PRECISAO_MAXIMA = 16;
+
+    private final int precisao;
+    private final byte[] registros;
+
+    public HyperLogLog(int precisao) {
+        if (precisao < PRECISAO_MINIMA || precisao > PRECISAO_MAXIMA) {
+            throw new IllegalArgumentException("Precisão do HyperLogLog fora de [4, 16]: " + precisao);
+        }
+        this.precisao = precisao;
+        this.registros = new byte[1 << precisao];
+    }
+
+    private HyperLogLog(int precisao, byte[] registros) {
+        this.precisao = precisao;
+        this.registros = registros;
+    }
+
+    /**
+     * Reconstrói um sketch gravado; a precisão vem do tamanho do array.
+     */
+    public static HyperLogLog deRegistros(byte[] registros) {
+        int tamanho = registros.length;
+        int precisao = Integer.numberOfTrailingZeros(tamanho);
+        if (Integer.bitCount(tamanho) != 1 || precisao < PRECISAO_MINIMA || precisao > PRECISAO_MAXIMA) {
+            throw new IllegalArgumentException("Sketch HyperLogLog inválido (" + tamanho + " bytes)");
+        }
+        return new HyperLogLog(precisao, registros.clone());
+    }
+
+    public int getPrecisao() {
+        return precisao;
+    }
+
+    // ====== ESCRITA ======
+
+    public synchronized void adicionar(long hash) {
+        // Primeiros "precisao" bits escolhem o registrador; o resto dá o posto
+        int indice = (int) (hash >>> (64 - precisao));
+        long resto = hash << precisao;
+        int posto = resto == 0 ? 64 - precisao + 1 : Long.numberOfLeadingZeros(resto) + 1;
+        if (posto > registros[indice]) {
+            registros[indice] = (byte) posto;
+        }
+    }
+
+    /**
+     * União com outro sketch da mesma precisão (máximo por registrador).
+     */
+    public void mesclar(HyperLogLog outro) {
+        if (outro.precisao != precisao) {
+            throw new IllegalArgumentException("Sketches com precisões diferentes: " + precisao + " e " + outro.precisao);
+        }
+        byte[] deOutro = outro.registros();
+        synchronized (this) {
+            for (int i = 0; i < registros.length; i++) {
+                if (deOutro[i] > registros[i]) {
+                    registros[i] = deOutro[i];
+                }
+            }
+        }
+    }
+
+    // ====== LEITURA ======
+
+    public synchronized long estimar() {
+        int m = registros.length;
+        double soma = 0;
+        int zerados = 0;
+        for (byte registro : registros) {
+            soma += 1.0 / (1L << registro);
+            if (registro == 0) {
+                zerados++;
+            }
+        }
+        double estimativa = alfa(m) * m * m / soma;
+        // Correção para cardinalidades pequenas: contagem linear
+        if (estimativa <= 2.5 * m && zerados > 0) {
+            estimativa = m * Math.log((double) m / zerados);
+        }
+        return Math.round(estimativa);
+    }
+
+    /**
+     * Erro padrão relativo da estimativa (1,04 / raiz de m).
+     */
+    public double erroRelativo() {
+        return 1.04 / Math.sqrt(registros.length);
+    }
+
+    public synchronized boolean isVazio() {
+        for (byte registro : registros) {
+            if (registro != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cópia dos registradores (formato persistido).
+     */
+    public synchronized byte[] registros() {
+        return Arrays.copyOf(registros, registros.length);
+    }
+
+    private static double alfa(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    // ====== HASH ======
+
+    // FNV-1a 64 bits + finalizador do MurmurHash3 (espalha os bits altos,
+    // que aqui escolhem o registrador)
+    public static long hash64(String valor) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
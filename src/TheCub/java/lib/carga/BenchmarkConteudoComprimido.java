@@ -0,0 +1,170 @@
+package lib.carga; // Ferramentas de carga/benchmark (ativadas apenas por profile)
+
+import lib.conteudo.ArmazenamentoConteudo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark do armazenamento comprimido do conteúdo (artigos_conteudo)
+ * contra o texto na coluna artigos.conteudo, sobre uma amostra de artigos
+ * reais:
+ * - compressão: tempo e taxa (bytes UTF-8 -> bytes Deflate)
+ * - leitura do corpo (detalhe): SELECT do LONGTEXT vs SELECT do BLOB + inflate
+ * - leitura da linha inteira de artigos (o que uma carga da entidade faz),
+ *   com o texto na coluna vs com a coluna vazia
+ *
+ * Para cada cenário: bytes lidos do banco e latência (p50/p99/max).
+ * Tudo roda numa transação desfeita ao final: a base não muda.
+ *
+ *   java -jar theclub.jar --spring.profiles.active=benchmark
+ */
+@Component
+@Profile("benchmark") // nunca roda fora do profile de benchmark
+@Order(3)
+@RequiredArgsConstructor
+@Slf4j
+public class BenchmarkConteudoComprimido implements CommandLineRunner {
+
+    private static final long LATENCIA_MAXIMA_US = 10_000_000;
+
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.benchmark.conteudo.amostra:500}")
+    private int amostra;
+
+    @Value("${app.benchmark.conteudo.leituras:5000}")
+    private int leituras;
+
+    @Value("${app.artigos.conteudo.nivel-compressao:6}")
+    private int nivel;
+
+    @Override
+    public void run(String... args) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM artigos WHERE conteudo_comprimido = false ORDER BY id DESC LIMIT ?",
+                Long.class, amostra);
+        if (ids.isEmpty()) {
+            log.warn("⚠️ Benchmark de conteúdo comprimido ignorado: nenhum artigo com texto na coluna "
+                    + "(rode antes o profile 'carga')");
+            return;
+        }
+        log.info("🏁 Benchmark de conteúdo comprimido: {} artigos, {} leituras por cenário (Deflate nível {})",
+                ids.size(), leituras, nivel);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Texto na coluna
+            medir("corpo: LONGTEXT", ids, "SELECT conteudo FROM artigos WHERE id = ?", false);
+            medir("linha artigos (texto)", ids, "SELECT * FROM artigos WHERE id = ?", false);
+
+            comprimirAmostra(ids);
+
+            // Texto em artigos_conteudo, coluna vazia
+            medir("corpo: BLOB + inflate", ids,
+                    "SELECT dados, tamanho_original FROM artigos_conteudo WHERE artigo_id = ?", true);
+            medir("linha artigos (vazia)", ids, "SELECT * FROM artigos WHERE id = ?", false);
+
+            status.setRollbackOnly(); // descarta a compressão da amostra
+        });
+    }
+
+    // ====== CENÁRIOS ======
+
+    private void comprimirAmostra(List<Long> ids) {
+        long nanos = 0;
+        long originais = 0;
+        long comprimidos = 0;
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        for (Long id : ids) {
+            String texto = jdbcTemplate.queryForObject("SELECT conteudo FROM artigos WHERE id = ?", String.class, id);
+            byte[] original = texto.getBytes(StandardCharsets.UTF_8);
+            long inicio = System.nanoTime();
+            byte[] dados = ArmazenamentoConteudo.comprimir(original, nivel);
+            nanos += System.nanoTime() - inicio;
+            originais += original.length;
+            comprimidos += dados.length;
+
+            jdbcTemplate.update("""
+                    INSERT INTO artigos_conteudo
+                        (artigo_id, algoritmo, dados, tamanho_original, tamanho_comprimido, versao_conteudo, data_atualizacao)
+                    VALUES (?, 'DEFLATE', ?, ?, ?, 0, ?)
+                    ON DUPLICATE KEY UPDATE dados = VALUES(dados), tamanho_original = VALUES(tamanho_original),
+                        tamanho_comprimido = VALUES(tamanho_comprimido)
+                    """, id, dados, original.length, dados.length, agora);
+            jdbcTemplate.update("UPDATE artigos SET conteudo = '', conteudo_comprimido = true WHERE id = ?", id);
+        }
+        log.info("   compressão: {} KB -> {} KB ({}%), {} ms de CPU ({} MB/s)",
+                originais / 1024, comprimidos / 1024,
+                originais == 0 ? 100 : comprimidos * 100 / originais,
+                nanos / 1_000_000, (long) (originais / 1_048_576.0 / Math.max(nanos / 1e9, 1e-9)));
+    }
+
+    /**
+     * Lê "leituras" vezes um id aleatório da amostra e reporta bytes e latência.
+     */
+    private void medir(String cenario, List<Long> ids, String sql, boolean inflar) {
+        SplittableRandom random = new SplittableRandom(42);
+        Histogram histograma = new Histogram(LATENCIA_MAXIMA_US, 3);
+        long bytes = 0;
+
+        // Aquecimento (JIT e buffer pool do InnoDB)
+        for (Long id : ids) {
+            ler(sql, id, inflar);
+        }
+        for (int i = 0; i < leituras; i++) {
+            Long id = ids.get(random.nextInt(ids.size()));
+            long inicio = System.nanoTime();
+            bytes += ler(sql, id, inflar);
+            histograma.recordValue(Math.min(LATENCIA_MAXIMA_US, (System.nanoTime() - inicio) / 1000));
+        }
+        log.info(String.format("   %-24s %9d KB lidos %8.1f KB/leitura   p50 %6.3f ms   p99 %6.3f ms   max %6.3f ms",
+                cenario, bytes / 1024, bytes / 1024.0 / leituras,
+                histograma.getValueAtPercentile(50) / 1000.0,
+                histograma.getValueAtPercentile(99) / 1000.0,
+                histograma.getMaxValue() / 1000.0));
+    }
+
+    // Bytes recebidos do banco na leitura (texto em UTF-8, binários como estão)
+    private long ler(String sql, Long id, boolean inflar) {
+        Long lidos = jdbcTemplate.query(sql, (ResultSet rs) -> {
+            long total = 0;
+            if (!rs.next()) {
+                return 0L;
+            }
+            if (inflar) {
+                byte[] dados = rs.getBytes(1);
+                ArmazenamentoConteudo.descomprimir(dados, rs.getInt(2));
+                return (long) dados.length;
+            }
+            ResultSetMetaData meta = rs.getMetaData();
+            for (int c = 1; c <= meta.getColumnCount(); c++) {
+                Object valor = rs.getObject(c);
+                if (valor instanceof String texto) {
+                    total += texto.getBytes(StandardCharsets.UTF_8).length;
+                } else if (valor instanceof byte[] binario) {
+                    total += binario.length;
+                } else if (valor != null) {
+                    total += 8;
+                }
+            }
+            return total;
+        }, id);
+        return lidos == null ? 0 : lidos;
+    }
+}
@@ -0,0 +1,152 @@
+package lib.carga; // Ferramentas de carga/benchmark (ativadas apenas por profile)
+
+import dominio.entidades.Categoria;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Benchmark de vazão de INSERT via JPA, comparando o mesmo volume com:
+ * - batch desligado (jdbc batch size = 1, um round-trip por linha)
+ * - batch configurado (hibernate.jdbc.batch_size)
+ * - JDBC puro (batchUpdate, referência de teto)
+ *
+ * Cada rodada executa dentro de uma transação que é desfeita ao final,
+ * então o banco não fica com lixo (apenas os IDs consumidos do gerador).
+ *
+ *   java -jar theclub.jar --spring.profiles.active=benchmark
+ */
+@Component
+@Profile("benchmark") // nunca roda fora do profile de benchmark
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+public class BenchmarkInsercaoLote implements CommandLineRunner {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.benchmark.insercoes:20000}")
+    private int insercoes;
+
+    @Value("${app.benchmark.rodadas:3}")
+    private int rodadas;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int tamanhoLote;
+
+    @Override
+    public void run(String... args) {
+        log.info("🏁 Benchmark de inserção: {} linhas × {} rodadas (batch_size configurado = {})",
+                insercoes, rodadas, tamanhoLote);
+
+        // Aquecimento (JIT, pool de conexões, bloco do gerador de IDs)
+        inserirViaJpa(1, Math.min(insercoes, 1000));
+        inserirViaJpa(tamanhoLote, Math.min(insercoes, 1000));
+
+        for (int r = 1; r <= rodadas; r++) {
+            reportar("JPA sem batch", r, inserirViaJpa(1, insercoes));
+            reportar("JPA batch=" + tamanhoLote, r, inserirViaJpa(tamanhoLote, insercoes));
+            reportar("JDBC batchUpdate", r, inserirViaJdbc(insercoes));
+        }
+    }
+
+    /**
+     * Persiste N categorias com o batch size informado e mede até o flush final.
+     */
+    private long inserirViaJpa(int lote, int quantidade) {
+        String prefixo = prefixo();
+        Long nanos = transactionTemplate.execute(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(lote);
+
+            long inicio = System.nanoTime();
+            for (int i = 0; i < quantidade; i++) {
+                entityManager.persist(Categoria.builder()
+                        .nome(prefixo + i)
+                        .descricao("Categoria de benchmark")
+                        .build());
+                // Limpa o contexto a cada bloco para não medir o custo do dirty-checking acumulado
+                if ((i + 1) % 500 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            long duracao = System.nanoTime() - inicio;
+
+            status.setRollbackOnly(); // descarta as linhas do benchmark
+            return duracao;
+        });
+        return nanos == null ? 0 : nanos;
+    }
+
+    private long inserirViaJdbc(int quantidade) {
+        String prefixo = prefixo();
+        long primeiroId = reservarIds(quantidade);
+        List<Object[]> linhas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            linhas.add(new Object[]{primeiroId + i, prefixo + i, "Categoria de benchmark"});
+        }
+        Long nanos = transactionTemplate.execute(status -> {
+            long inicio = System.nanoTime();
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO categorias (id, nome, descricao, cor, ativa) VALUES (?, ?, ?, '#007bff', true)",
+                    linhas, 1000, (ps, linha) -> {
+                        ps.setLong(1, (Long) linha[0]);
+                        ps.setString(2, (String) linha[1]);
+                        ps.setString(3, (String) linha[2]);
+                    });
+            long duracao = System.nanoTime() - inicio;
+            status.setRollbackOnly();
+            return duracao;
+        });
+        return nanos == null ? 0 : nanos;
+    }
+
+    /**
+     * Reserva um bloco de IDs de categorias em sequencias_id, como o
+     * @TableGenerator faz (a tabela não tem AUTO_INCREMENT). Transação própria
+     * e confirmada: o gerador do JPA não reaproveita o bloco.
+     */
+    private long reservarIds(int quantidade) {
+        Long proximo = transactionTemplate.execute(status -> {
+            int atualizadas = jdbcTemplate.update(
+                    "UPDATE sequencias_id SET proximo_id = LAST_INSERT_ID(proximo_id + ?) WHERE tabela = 'categorias'",
+                    quantidade);
+            if (atualizadas == 0) {
+                throw new IllegalStateException("Sequência de categorias ausente em sequencias_id");
+            }
+            // Mesma conexão (transação): devolve o valor gravado pelo UPDATE acima
+            return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        });
+        return proximo - quantidade;
+    }
+
+    private void reportar(String cenario, int rodada, long nanos) {
+        double segundos = nanos / 1e9;
+        log.info("   [{}] {}: {} ms ({} linhas/s)", rodada, cenario,
+                nanos / 1_000_000, (long) (insercoes / Math.max(segundos, 1e-9)));
+    }
+
+    // Nome único por rodada (categorias.nome é UNIQUE, limite de 50 caracteres)
+    private static String prefixo() {
+        return "bench-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    }
+}
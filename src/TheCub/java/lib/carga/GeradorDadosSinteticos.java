@@ -0,0 +1,461 @@
+package lib.carga; // Ferramentas de carga/benchmark (ativadas apenas por profile)
+
+import lib.config.SincronizadorSequenciasId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Gerador de massa de dados sintética para testes de carga.
+ *
+ * Popula usuarios, categorias, artigos, comentarios, avaliacoes_artigos,
+ * eventos e editais com volumes configuráveis (application-carga.properties),
+ * usando inserts em lote via JDBC puro (sem passar pelo contexto de persistência).
+ *
+ * Só é carregado com o profile "carga":
+ *   java -jar theclub.jar --spring.profiles.active=carga
+ *
+ * Os IDs são atribuídos explicitamente a partir do próximo ID livre de cada tabela
+ * (maior entre MAX(id) e o gerador em sequencias_id), assim as chaves estrangeiras
+ * podem ser calculadas sem ler nada de volta do banco. Ao final os geradores são
+ * avançados para depois dos IDs gerados.
+ */
+@Component
+@Profile("carga") // nunca roda fora do profile de carga
+@RequiredArgsConstructor // injeta o JdbcTemplate e o sincronizador via construtor
+@Slf4j // logger
+public class GeradorDadosSinteticos implements CommandLineRunner {
+
+    // Acesso JDBC direto (batchUpdate)
+    private final JdbcTemplate jdbcTemplate;
+
+    // Avança sequencias_id depois da carga (os IDs foram atribuídos aqui, não pelo Hibernate)
+    private final SincronizadorSequenciasId sincronizadorSequencias;
+
+    // ====== VOLUMES CONFIGURÁVEIS ======
+
+    @Value("${app.carga.usuarios:10000}")
+    private long totalUsuarios;
+
+    @Value("${app.carga.categorias:20}")
+    private long totalCategorias;
+
+    @Value("${app.carga.artigos:100000}")
+    private long totalArtigos;
+
+    @Value("${app.carga.comentarios:500000}")
+    private long totalComentarios;
+
+    @Value("${app.carga.avaliacoes:2000000}")
+    private long totalAvaliacoes;
+
+    @Value("${app.carga.eventos:5000}")
+    private long totalEventos;
+
+    @Value("${app.carga.editais:2000}")
+    private long totalEditais;
+
+    // Quantidade de linhas por batchUpdate (com rewriteBatchedStatements vira um INSERT multi-linha)
+    @Value("${app.carga.tamanho-lote:2000}")
+    private int tamanhoLote;
+
+    // Semente fixa para que duas execuções gerem a mesma distribuição
+    @Value("${app.carga.semente:42}")
+    private long semente;
+
+    // Senha gravada para todos os usuários sintéticos
+    @Value("${app.carga.senha-padrao:carga123}")
+    private String senhaPadrao;
+
+    // Parágrafos pré-gerados reutilizados no conteúdo dos artigos (evita gerar texto linha a linha)
+    private String[] paragrafos;
+
+    // Primeiro ID livre de cada tabela (calculado no início da execução)
+    private long baseUsuario;
+    private long baseCategoria;
+    private long baseArtigo;
+    private long baseComentario;
+    private long baseAvaliacao;
+    private long baseEvento;
+    private long baseEdital;
+
+    // ====== EXECUÇÃO ======
+
+    @Override
+    public void run(String... args) {
+        long inicio = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(semente);
+        paragrafos = gerarParagrafos(random, 64);
+
+        baseUsuario = proximoId("usuarios");
+        baseCategoria = proximoId("categorias");
+        baseArtigo = proximoId("artigos");
+        baseComentario = proximoId("comentarios");
+        baseAvaliacao = proximoId("avaliacoes_artigos");
+        baseEvento = proximoId("eventos");
+        baseEdital = proximoId("editais");
+
+        log.info("🏗️ Gerando massa sintética: {} usuários, {} categorias, {} artigos, {} comentários, {} avaliações, {} eventos, {} editais",
+                totalUsuarios, totalCategorias, totalArtigos, totalComentarios, totalAvaliacoes, totalEventos, totalEditais);
+
+        validarVolumes();
+
+        gerarUsuarios(random.split());
+        gerarCategorias();
+        gerarArtigos(random.split());
+        gerarComentarios(random.split());
+        gerarAvaliacoes(random.split());
+        sincronizarContadoresAvaliacao();
+        gerarEventos(random.split());
+        gerarEditais(random.split());
+        sincronizadorSequencias.sincronizar();
+
+        log.info("✅ Massa sintética gerada em {} s", (System.nanoTime() - inicio) / 1_000_000_000L);
+    }
+
+    // ====== USUÁRIOS ======
+
+    /**
+     * Distribuição de papéis por índice: 1% ADMIN, 4% EDITOR, 15% REDATOR, 80% LEITOR.
+     * Os redatores/editores/admins servem de autores e organizadores.
+     */
+    private void gerarUsuarios(SplittableRandom random) {
+        String sql = """
+                INSERT INTO usuarios (id, nome, email, senha, tipo, bio, ativo, data_criacao, data_atualizacao)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+
+        inserirEmLotes("usuarios", sql, totalUsuarios, (ps, i) -> {
+            long id = baseUsuario + i;
+            Timestamp criacao = instanteAleatorio(random, 3 * 365);
+            ps.setLong(1, id);
+            ps.setString(2, "Usuário Sintético " + id);
+            ps.setString(3, "carga" + id + "@theclub.local");
+            ps.setString(4, senhaPadrao);
+            ps.setString(5, tipoPorIndice(i));
+            ps.setString(6, "Perfil gerado para testes de carga.");
+            ps.setBoolean(7, random.nextInt(100) < 97);
+            ps.setTimestamp(8, criacao);
+            ps.setTimestamp(9, criacao);
+        });
+    }
+
+    private static String tipoPorIndice(long i) {
+        int faixa = (int) (i % 100);
+        if (faixa == 0) return "ADMIN";
+        if (faixa < 5) return "EDITOR";
+        if (faixa < 20) return "REDATOR";
+        return "LEITOR";
+    }
+
+    /**
+     * Sorteia um usuário com permissão de escrita (faixas 0..19 de cada centena).
+     */
+    private long autorAleatorio(SplittableRandom random) {
+        long centenas = Math.max(1, totalUsuarios / 100);
+        long indice = random.nextLong(centenas) * 100 + random.nextInt(20);
+        return baseUsuario + Math.min(indice, totalUsuarios - 1);
+    }
+
+    // ====== CATEGORIAS ======
+
+    private void gerarCategorias() {
+        String sql = """
+                INSERT INTO categorias (id, nome, descricao, cor, icone, ativa)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """;
+
+        inserirEmLotes("categorias", sql, totalCategorias, (ps, i) -> {
+            long id = baseCategoria + i;
+            ps.setLong(1, id);
+            ps.setString(2, "Categoria " + id);
+            ps.setString(3, "Categoria sintética para testes de carga.");
+            ps.setString(4, String.format("#%06x", (id * 2654435761L) & 0xFFFFFF));
+            ps.setString(5, "tag");
+            ps.setBoolean(6, true);
+        });
+    }
+
+    // ====== ARTIGOS ======
+
+    /**
+     * Status: 80% PUBLICADO, 10% RASCUNHO, 5% REVISAO, 5% ARQUIVADO.
+     * Visualizações seguem cauda longa (poucos artigos muito lidos).
+     */
+    private void gerarArtigos(SplittableRandom random) {
+        String sql = """
+                INSERT INTO artigos (id, titulo, resumo, conteudo, status, imagem_capa, visualizacoes,
+                                     gostei, neutro, nao_gostei, destaque, data_publicacao, data_criacao,
+                                     data_atualizacao, autor_id, categoria_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, 0, ?, ?, ?, ?, ?, ?)
+                """;
+
+        inserirEmLotes("artigos", sql, totalArtigos, (ps, i) -> {
+            long id = baseArtigo + i;
+            int sorteio = random.nextInt(100);
+            String status = sorteio < 80 ? "PUBLICADO" : sorteio < 90 ? "RASCUNHO" : sorteio < 95 ? "REVISAO" : "ARQUIVADO";
+            Timestamp criacao = instanteAleatorio(random, 3 * 365);
+
+            ps.setLong(1, id);
+            ps.setString(2, "Notícia sintética número " + id + " sobre a vida universitária");
+            ps.setString(3, paragrafos[random.nextInt(paragrafos.length)].substring(0, 200));
+            ps.setString(4, conteudoAleatorio(random));
+            ps.setString(5, status);
+            ps.setString(6, "/uploads/capa-" + (id % 50) + ".jpg");
+            ps.setInt(7, visualizacoesCaudaLonga(random));
+            ps.setBoolean(8, random.nextInt(1000) == 0);
+            if ("PUBLICADO".equals(status) || "ARQUIVADO".equals(status)) {
+                ps.setTimestamp(9, criacao);
+            } else {
+                ps.setNull(9, Types.TIMESTAMP);
+            }
+            ps.setTimestamp(10, criacao);
+            ps.setTimestamp(11, criacao);
+            ps.setLong(12, autorAleatorio(random));
+            ps.setLong(13, baseCategoria + random.nextLong(Math.max(1, totalCategorias)));
+        });
+    }
+
+    private String conteudoAleatorio(SplittableRandom random) {
+        int quantidade = 5 + random.nextInt(11);
+        StringBuilder sb = new StringBuilder(quantidade * 700);
+        for (int p = 0; p < quantidade; p++) {
+            sb.append("<p>").append(paragrafos[random.nextInt(paragrafos.length)]).append("</p>\n");
+        }
+        return sb.toString();
+    }
+
+    private static int visualizacoesCaudaLonga(SplittableRandom random) {
+        // Pareto (alfa ~1.2): mediana baixa, alguns artigos com centenas de milhares de leituras
+        double u = 1.0 - random.nextDouble();
+        return (int) Math.min(1_000_000, 10 * Math.pow(u, -1 / 1.2));
+    }
+
+    /**
+     * Sorteia um artigo com viés para os IDs mais baixos (artigos "populares"),
+     * aproximando a distribuição real de comentários/avaliações.
+     */
+    private long artigoEnviesado(SplittableRandom random) {
+        double u = random.nextDouble();
+        return baseArtigo + (long) (totalArtigos * u * u);
+    }
+
+    // ====== COMENTÁRIOS ======
+
+    private void gerarComentarios(SplittableRandom random) {
+        String sql = """
+                INSERT INTO comentarios (id, comentario, aprovado, data_comentario, artigo_id, usuario_id)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """;
+
+        inserirEmLotes("comentarios", sql, totalComentarios, (ps, i) -> {
+            String paragrafo = paragrafos[random.nextInt(paragrafos.length)];
+            ps.setLong(1, baseComentario + i);
+            ps.setString(2, paragrafo.substring(0, 40 + random.nextInt(200)));
+            ps.setBoolean(3, random.nextInt(100) < 90);
+            ps.setTimestamp(4, instanteAleatorio(random, 3 * 365));
+            ps.setLong(5, artigoEnviesado(random));
+            ps.setLong(6, baseUsuario + random.nextLong(totalUsuarios));
+        });
+    }
+
+    // ====== AVALIAÇÕES ======
+
+    /**
+     * Gera pares (usuario, artigo) únicos sem precisar de um conjunto em memória:
+     * a avaliação j pertence ao artigo (j % artigos) e à "rodada" (j / artigos);
+     * dentro de um artigo cada rodada aponta para um usuário diferente.
+     */
+    private void gerarAvaliacoes(SplittableRandom random) {
+        String sql = """
+                INSERT INTO avaliacoes_artigos (id, usuario_id, artigo_id, avaliacao)
+                VALUES (?, ?, ?, ?)
+                """;
+
+        inserirEmLotes("avaliacoes_artigos", sql, totalAvaliacoes, (ps, j) -> {
+            long artigo = j % totalArtigos;
+            long rodada = j / totalArtigos;
+            long usuario = (artigo * 7919 + rodada) % totalUsuarios;
+            int sorteio = random.nextInt(100);
+
+            ps.setLong(1, baseAvaliacao + j);
+            ps.setLong(2, baseUsuario + usuario);
+            ps.setLong(3, baseArtigo + artigo);
+            ps.setString(4, sorteio < 60 ? "GOSTEI" : sorteio < 85 ? "NEUTRO" : "NAO_GOSTEI");
+        });
+    }
+
+    /**
+     * Atualiza os contadores desnormalizados (gostei/neutro/nao_gostei) dos artigos
+     * gerados, para ficarem consistentes com a tabela de avaliações.
+     */
+    private void sincronizarContadoresAvaliacao() {
+        long inicio = System.nanoTime();
+        int atualizados = jdbcTemplate.update("""
+                UPDATE artigos a
+                JOIN (SELECT artigo_id,
+                             SUM(avaliacao = 'GOSTEI')     AS gostei,
+                             SUM(avaliacao = 'NEUTRO')     AS neutro,
+                             SUM(avaliacao = 'NAO_GOSTEI') AS nao_gostei
+                      FROM avaliacoes_artigos
+                      WHERE artigo_id >= ?
+                      GROUP BY artigo_id) t ON t.artigo_id = a.id
+                SET a.gostei = t.gostei, a.neutro = t.neutro, a.nao_gostei = t.nao_gostei
+                """, baseArtigo);
+        log.info("📊 Contadores de avaliação sincronizados em {} artigos ({} ms)",
+                atualizados, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    // ====== EVENTOS ======
+
+    private void gerarEventos(SplittableRandom random) {
+        String sql = """
+                INSERT INTO eventos (id, titulo, descricao, data_evento, local_evento, imagem, link_inscricao,
+                                     ativo, data_criacao, organizador_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+
+        inserirEmLotes("eventos", sql, totalEventos, (ps, i) -> {
+            // Metade dos eventos no passado, metade no próximo ano
+            LocalDateTime data = LocalDateTime.now().plusHours(random.nextLong(-365 * 24, 365 * 24));
+            ps.setLong(1, baseEvento + i);
+            ps.setString(2, "Evento sintético " + i);
+            ps.setString(3, paragrafos[random.nextInt(paragrafos.length)]);
+            ps.setTimestamp(4, Timestamp.valueOf(data));
+            ps.setString(5, "Auditório " + (1 + random.nextInt(30)));
+            ps.setString(6, "/uploads/evento-" + (i % 20) + ".jpg");
+            ps.setString(7, "https://theclub.local/inscricao/" + i);
+            ps.setBoolean(8, random.nextInt(100) < 90);
+            ps.setTimestamp(9, Timestamp.valueOf(data.minusDays(30)));
+            ps.setLong(10, autorAleatorio(random));
+        });
+    }
+
+    // ====== EDITAIS ======
+
+    private void gerarEditais(SplittableRandom random) {
+        String sql = """
+                INSERT INTO editais (id, titulo, descricao, arquivo_url, arquivo_nome, data_publicacao, data_validade,
+                                     ativo, visualizacoes, autor_id, data_criacao, data_atualizacao)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+
+        inserirEmLotes("editais", sql, totalEditais, (ps, i) -> {
+            Timestamp publicacao = instanteAleatorio(random, 2 * 365);
+            ps.setLong(1, baseEdital + i);
+            ps.setString(2, "Edital sintético " + i);
+            ps.setString(3, paragrafos[random.nextInt(paragrafos.length)]);
+            ps.setString(4, "/uploads/editais/edital-" + i + ".pdf");
+            ps.setString(5, "edital-" + i + ".pdf");
+            ps.setTimestamp(6, publicacao);
+            // 20% sem validade, o restante espalhado entre o passado e os próximos 6 meses
+            if (random.nextInt(100) < 20) {
+                ps.setNull(7, Types.TIMESTAMP);
+            } else {
+                ps.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now().plusDays(random.nextLong(-540, 180))));
+            }
+            ps.setBoolean(8, true);
+            ps.setInt(9, visualizacoesCaudaLonga(random));
+            ps.setLong(10, autorAleatorio(random));
+            ps.setTimestamp(11, publicacao);
+            ps.setTimestamp(12, publicacao);
+        });
+    }
+
+    // ====== INFRA DE LOTES ======
+
+    /**
+     * Callback que preenche os parâmetros da linha de índice i (0-based).
+     */
+    @FunctionalInterface
+    private interface PreencherLinha {
+        void preencher(PreparedStatement ps, long indice) throws SQLException;
+    }
+
+    /**
+     * Insere "total" linhas em lotes de tamanhoLote, registrando a vazão no log.
+     */
+    private void inserirEmLotes(String tabela, String sql, long total, PreencherLinha preencher) {
+        long inicio = System.nanoTime();
+        long inseridas = 0;
+
+        while (inseridas < total) {
+            final long deslocamento = inseridas;
+            final int tamanho = (int) Math.min(tamanhoLote, total - inseridas);
+
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    preencher.preencher(ps, deslocamento + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return tamanho;
+                }
+            });
+
+            inseridas += tamanho;
+            if ((inseridas / tamanhoLote) % 50 == 0 || inseridas == total) {
+                double segundos = Math.max(1e-9, (System.nanoTime() - inicio) / 1e9);
+                log.info("   {}: {}/{} linhas ({} linhas/s)", tabela, inseridas, total, (long) (inseridas / segundos));
+            }
+        }
+    }
+
+    /**
+     * Próximo ID livre: o maior entre MAX(id) + 1 e o próximo bloco do gerador
+     * (a aplicação pode ter reservado um bloco que ainda não foi gravado).
+     */
+    private long proximoId(String tabela) {
+        Long proximo = jdbcTemplate.queryForObject("""
+                SELECT GREATEST(COALESCE((SELECT MAX(id) FROM %s), 0) + 1,
+                                COALESCE((SELECT proximo_id FROM sequencias_id WHERE tabela = ?), 0))
+                """.formatted(tabela), Long.class, tabela);
+        return proximo == null ? 1 : proximo;
+    }
+
+    private void validarVolumes() {
+        if (totalUsuarios < 100 || totalCategorias < 1 || totalArtigos < 1) {
+            throw new IllegalStateException("Volumes mínimos: 100 usuários, 1 categoria e 1 artigo");
+        }
+        // Cada artigo só pode receber no máximo uma avaliação por usuário
+        if (totalAvaliacoes > totalArtigos * totalUsuarios) {
+            throw new IllegalStateException("app.carga.avaliacoes não pode exceder artigos × usuários");
+        }
+    }
+
+    private static Timestamp instanteAleatorio(SplittableRandom random, int diasAtras) {
+        return Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextLong((long) diasAtras * 24 * 60)));
+    }
+
+    private static String[] gerarParagrafos(SplittableRandom random, int quantidade) {
+        String[] palavras = ("universidade campus estudantes professores pesquisa extensão reitoria "
+                + "biblioteca laboratório semana acadêmica edital bolsa projeto comunidade cultura "
+                + "esporte ciência tecnologia inovação evento palestra seminário congresso calouros "
+                + "formatura curso graduação pós mestrado doutorado artigo jornal notícia debate").split(" ");
+        String[] resultado = new String[quantidade];
+        for (int p = 0; p < quantidade; p++) {
+            StringBuilder sb = new StringBuilder(800);
+            while (sb.length() < 600) {
+                sb.append(palavras[random.nextInt(palavras.length)]).append(' ');
+            }
+            sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
+            sb.setCharAt(sb.length() - 1, '.');
+            resultado[p] = sb.toString();
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,355 @@
+package lib.carga; // Ferramentas de carga/benchmark (ativadas apenas por profile)
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Driver de carga HTTP (java.net.http.HttpClient) para a API do THE CLUB.
+ *
+ * Reproduz o mix de leitura pública (listagens, detalhe de artigo, destaques,
+ * eventos, editais, categorias) e, opcionalmente, o mix de escrita administrativa
+ * (criar/atualizar/publicar artigos, alternar status de eventos), registrando
+ * a latência de cada operação em histogramas HdrHistogram.
+ *
+ * Taxa fixa (--taxa requisições/s no total, divididas entre os clientes): cada
+ * requisição tem um horário previsto e a latência é medida a partir dele, não
+ * do envio. Se o servidor trava, as requisições atrasadas saem em seguida e o
+ * tempo de espera entra na medida; sem isso (cliente que só envia a próxima
+ * depois da resposta) os percentis altos ficam otimistas (omissão coordenada).
+ * A concorrência precisa sobrar para a taxa pedida; o relatório mostra a taxa
+ * alcançada.
+ *
+ * Uso (com a API já no ar e a massa do GeradorDadosSinteticos carregada):
+ *   java -cp theclub.jar lib.carga.SimuladorCarga --url=http://localhost:8081 \
+ *        --duracao=120 --aquecimento=15 --concorrencia=64 --taxa=2000 --escrita=5 \
+ *        --email=carga1@theclub.local --senha=carga123 --artigo-max=100000
+ *
+ * Não é um componente Spring: é um programa standalone para rodar fora do servidor.
+ */
+public class SimuladorCarga {
+
+    // Maior latência registrável (60 s em microssegundos) e precisão de 3 dígitos
+    private static final long LATENCIA_MAXIMA_US = TimeUnit.SECONDS.toMicros(60);
+
+    // Horário previsto (nanoTime) da requisição corrente do cliente; 0 = mede a partir do envio
+    private static final ThreadLocal<long[]> PREVISTO = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, String> opcoes;
+    private final String baseUrl;
+
+    // Histograma e contador de erros por operação (ordem de inserção = ordem do relatório)
+    private final Map<String, ConcurrentHistogram> histogramas = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> erros = new LinkedHashMap<>();
+
+    // Artigos criados durante o teste (alvo das atualizações/publicações)
+    private final ConcurrentLinkedQueue<Long> artigosCriados = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean medindo = false;
+    private volatile boolean executando = true;
+    private String token;
+    private long autorId;
+
+    public SimuladorCarga(Map<String, String> opcoes) {
+        this.opcoes = opcoes;
+        this.baseUrl = opcoes.getOrDefault("url", "http://localhost:8081");
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        for (String operacao : List.of(
+                "GET artigos (lista)", "GET artigo (detalhe)", "GET artigos/destaques",
+                "GET eventos", "GET editais", "GET categorias",
+                "POST artigo", "PUT artigo", "PATCH artigo/publicar", "PATCH evento/status")) {
+            histogramas.put(operacao, new ConcurrentHistogram(LATENCIA_MAXIMA_US, 3));
+            erros.put(operacao, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opcoes = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int igual = arg.indexOf('=');
+                opcoes.put(arg.substring(2, igual), arg.substring(igual + 1));
+            }
+        }
+        new SimuladorCarga(opcoes).executar();
+    }
+
+    // ====== ORQUESTRAÇÃO ======
+
+    private void executar() throws Exception {
+        int concorrencia = inteiro("concorrencia", 32);
+        int duracao = inteiro("duracao", 60);
+        int aquecimento = inteiro("aquecimento", 10);
+        int percentualEscrita = inteiro("escrita", 0);
+        int taxa = inteiro("taxa", 200);
+
+        if (percentualEscrita > 0) {
+            autenticar();
+        }
+
+        System.out.printf("▶ %d clientes a %d req/s no total, %d s de aquecimento + %d s de medição, %d%% escrita%n",
+                concorrencia, taxa, aquecimento, duracao, percentualEscrita);
+
+        // Cada cliente envia em horários fixos, defasados entre si
+        long intervalo = (long) (1e9 * concorrencia / Math.max(1, taxa));
+        ExecutorService clientes = Executors.newFixedThreadPool(concorrencia);
+        for (int c = 0; c < concorrencia; c++) {
+            long primeiro = System.nanoTime() + intervalo * c / concorrencia;
+            clientes.submit(() -> {
+                long previsto = primeiro;
+                while (executando) {
+                    long espera = previsto - System.nanoTime();
+                    if (espera > 0) {
+                        LockSupport.parkNanos(espera);
+                    }
+                    PREVISTO.get()[0] = previsto;
+                    if (ThreadLocalRandom.current().nextInt(100) < percentualEscrita) {
+                        operacaoEscrita();
+                    } else {
+                        operacaoLeitura();
+                    }
+                    previsto += intervalo; // atrasado: a próxima sai já, e o atraso entra na medida
+                }
+            });
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(aquecimento));
+        histogramas.values().forEach(Histogram::reset);
+        erros.values().forEach(e -> e.set(0));
+        medindo = true;
+        long inicio = System.nanoTime();
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(duracao));
+        medindo = false;
+        executando = false;
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        clientes.shutdown();
+        clientes.awaitTermination(30, TimeUnit.SECONDS);
+
+        relatorio(segundos);
+    }
+
+    // ====== MIX DE LEITURA (PÚBLICO) ======
+
+    private void operacaoLeitura() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int sorteio = random.nextInt(100);
+
+        if (sorteio < 30) {
+            get("GET artigos (lista)", "/api/public/artigos?page=" + paginaEnviesada(random) + "&size=10");
+        } else if (sorteio < 65) {
+            get("GET artigo (detalhe)", "/api/public/artigos/" + artigoEnviesado(random));
+        } else if (sorteio < 75) {
+            get("GET artigos/destaques", "/api/public/artigos/destaques");
+        } else if (sorteio < 85) {
+            get("GET eventos", "/api/public/eventos?page=" + random.nextInt(5) + "&size=10");
+        } else if (sorteio < 90) {
+            get("GET editais", "/api/public/editais");
+        } else {
+            get("GET categorias", "/api/public/categorias");
+        }
+    }
+
+    // As primeiras páginas concentram a maior parte do tráfego real
+    private static int paginaEnviesada(ThreadLocalRandom random) {
+        double u = random.nextDouble();
+        return (int) (50 * u * u * u);
+    }
+
+    private long artigoEnviesado(ThreadLocalRandom random) {
+        long min = longo("artigo-min", 1);
+        long max = longo("artigo-max", 1000);
+        double u = random.nextDouble();
+        return min + (long) ((max - min) * u * u);
+    }
+
+    // ====== MIX DE ESCRITA (ADMIN) ======
+
+    private void operacaoEscrita() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int sorteio = random.nextInt(100);
+        Long alvo = artigosCriados.peek();
+
+        if (sorteio < 40 || alvo == null) {
+            criarArtigo();
+        } else if (sorteio < 70) {
+            enviar("PUT artigo", "PUT", "/api/artigos/" + alvo, corpoArtigo(random));
+        } else if (sorteio < 90) {
+            // Publica e tira da fila para não publicar o mesmo artigo duas vezes
+            Long publicar = artigosCriados.poll();
+            if (publicar != null) {
+                enviar("PATCH artigo/publicar", "PATCH", "/api/artigos/" + publicar + "/publicar", null);
+            }
+        } else {
+            long evento = 1 + random.nextLong(longo("evento-max", 100));
+            enviar("PATCH evento/status", "PATCH",
+                    "/api/admin/eventos/" + evento + "/status?ativo=" + random.nextBoolean(), null);
+        }
+    }
+
+    private void criarArtigo() {
+        HttpResponse<String> resposta = enviar("POST artigo", "POST", "/api/artigos",
+                corpoArtigo(ThreadLocalRandom.current()));
+        if (resposta != null && resposta.statusCode() / 100 == 2) {
+            try {
+                artigosCriados.add(mapper.readTree(resposta.body()).path("id").asLong());
+            } catch (Exception ignorado) {
+                // resposta sem id: apenas não entra na fila de atualização
+            }
+        }
+    }
+
+    private String corpoArtigo(ThreadLocalRandom random) {
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("titulo", "Notícia de carga " + random.nextInt(1_000_000));
+        corpo.put("resumo", "Resumo gerado pelo simulador de carga do THE CLUB.");
+        corpo.put("conteudo", "<p>" + "Conteúdo gerado pelo simulador de carga. ".repeat(20 + random.nextInt(80)) + "</p>");
+        corpo.put("categoriaId", longo("categoria", 1));
+        corpo.put("autorId", autorId);
+        corpo.put("status", "RASCUNHO");
+        try {
+            return mapper.writeValueAsString(corpo);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void autenticar() throws Exception {
+        String corpo = mapper.writeValueAsString(Map.of(
+                "email", opcoes.getOrDefault("email", "admin@theclub.com"),
+                "senha", opcoes.getOrDefault("senha", "admin123")));
+
+        HttpResponse<String> resposta = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("Login falhou (HTTP " + resposta.statusCode() + "): " + resposta.body());
+        }
+        JsonNode json = mapper.readTree(resposta.body());
+        token = json.path("token").asText();
+        autorId = json.path("id").asLong();
+    }
+
+    // ====== HTTP + MEDIÇÃO ======
+
+    private void get(String operacao, String caminho) {
+        enviar(operacao, "GET", caminho, null);
+    }
+
+    private HttpResponse<String> enviar(String operacao, String metodo, String caminho, String corpoJson) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + caminho))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json")
+                .method(metodo, corpoJson == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(corpoJson));
+        if (corpoJson != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        if (token != null && !caminho.startsWith("/api/public")) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+
+        // Uma requisição por horário previsto; as demais da mesma operação medem do envio
+        long[] previsto = PREVISTO.get();
+        long inicio = previsto[0] != 0 ? Math.min(previsto[0], System.nanoTime()) : System.nanoTime();
+        previsto[0] = 0;
+        HttpResponse<String> resposta = null;
+        boolean falhou;
+        try {
+            resposta = http.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            falhou = resposta.statusCode() >= 500 || resposta.statusCode() == 401 || resposta.statusCode() == 403;
+        } catch (Exception e) {
+            falhou = true;
+        }
+        long micros = (System.nanoTime() - inicio) / 1_000;
+
+        if (medindo) {
+            histogramas.get(operacao).recordValue(Math.min(micros, LATENCIA_MAXIMA_US));
+            if (falhou) {
+                erros.get(operacao).incrementAndGet();
+            }
+        }
+        return resposta;
+    }
+
+    // ====== RELATÓRIO ======
+
+    private void relatorio(double segundos) throws Exception {
+        System.out.printf("%n%-24s %9s %8s %7s %9s %9s %9s %9s %9s%n",
+                "operação", "reqs", "req/s", "erros", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        Histogram total = new Histogram(LATENCIA_MAXIMA_US, 3);
+        String diretorioHgrm = opcoes.get("hgrm");
+        if (diretorioHgrm != null) {
+            Files.createDirectories(Path.of(diretorioHgrm));
+        }
+
+        for (Map.Entry<String, ConcurrentHistogram> entrada : histogramas.entrySet()) {
+            Histogram h = entrada.getValue();
+            if (h.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(h);
+            imprimirLinha(entrada.getKey(), h, erros.get(entrada.getKey()).get(), segundos);
+
+            // Distribuição completa em formato .hgrm (plotável no HdrHistogram plotter)
+            if (diretorioHgrm != null) {
+                String arquivo = entrada.getKey().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+                try (PrintStream out = new PrintStream(new FileOutputStream(Path.of(diretorioHgrm, arquivo).toFile()))) {
+                    h.outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+        long totalErros = erros.values().stream().mapToLong(AtomicLong::get).sum();
+        imprimirLinha("TOTAL", total, totalErros, segundos);
+    }
+
+    private static void imprimirLinha(String nome, Histogram h, long erros, double segundos) {
+        System.out.printf("%-24s %9d %8.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                nome, h.getTotalCount(), h.getTotalCount() / segundos, erros,
+                h.getValueAtPercentile(50) / 1000.0,
+                h.getValueAtPercentile(90) / 1000.0,
+                h.getValueAtPercentile(99) / 1000.0,
+                h.getValueAtPercentile(99.9) / 1000.0,
+                h.getMaxValue() / 1000.0);
+    }
+
+    private int inteiro(String chave, int padrao) {
+        return Integer.parseInt(opcoes.getOrDefault(chave, String.valueOf(padrao)));
+    }
+
+    private long longo(String chave, long padrao) {
+        return Long.parseLong(opcoes.getOrDefault(chave, String.valueOf(padrao)));
+    }
+}
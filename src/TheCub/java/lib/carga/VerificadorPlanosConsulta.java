@@ -0,0 +1,199 @@
+package lib.carga; // Ferramentas de carga/benchmark (ativadas apenas por profile)
+
+import dominio.enums.StatusNoticia;
+import dominio.enums.TipoUsuario;
+import lib.metricas.ContadorConsultas;
+import lib.repository.ComentarioRepository;
+import lib.repository.EventoRepository;
+import lib.repository.NoticiaRepository;
+import lib.repository.UsuarioRepository;
+import lib.repository.filtro.FiltroDinamico;
+import lib.repository.filtro.FiltrosConsulta;
+import lib.repository.filtro.OrdenacaoIndexada;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Verifica o plano de execução das buscas por filtros (lib.repository.filtro)
+ * em TODAS as combinações de filtros ativos de cada endpoint.
+ *
+ * Para cada combinação executa a primeira página (LIMIT) e compara os
+ * contadores de sessão do MySQL antes/depois, na mesma conexão:
+ * - Sort_rows > 0   → ORDER BY resolvido com filesort (índice não cobre a ordenação)
+ * - Select_scan > 0 → varredura completa da primeira tabela
+ *
+ * Filtros por trecho de texto (LIKE '%x%') não usam índice por natureza; nesses
+ * casos a varredura é esperada e o relatório só registra o resultado.
+ *
+ * Roda junto com os demais benchmarks e não altera dados:
+ *   java -jar theclub.jar --spring.profiles.active=benchmark
+ */
+@Component
+@Profile("benchmark") // nunca roda fora do profile de benchmark
+@Order(2)
+@RequiredArgsConstructor
+@Slf4j
+public class VerificadorPlanosConsulta implements CommandLineRunner {
+
+    private static final String CONTADORES_SESSAO =
+            "SHOW SESSION STATUS WHERE Variable_name IN ('Select_scan', 'Sort_rows')";
+
+    private final NoticiaRepository noticiaRepository;
+    private final EventoRepository eventoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final ComentarioRepository comentarioRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.benchmark.planos.pagina:20}")
+    private int tamanhoPagina;
+
+    private Map<String, Long> custoLeitura = Map.of();
+    private int combinacoes;
+    private int comFilesort;
+
+    @Override
+    public void run(String... args) {
+        Long categoriaId = menorId("categorias");
+        Long usuarioId = menorId("usuarios");
+        Long artigoId = menorId("artigos");
+        if (categoriaId == null || usuarioId == null || artigoId == null) {
+            log.warn("⚠️ Verificação de planos ignorada: base sem dados (rode antes o profile 'carga')");
+            return;
+        }
+
+        custoLeitura = calibrar();
+        log.info("🧭 Verificando planos das buscas por filtros (página de {} linhas)", tamanhoPagina);
+
+        LocalDateTime agora = LocalDateTime.now();
+
+        // Cada bit da máscara liga um filtro, na ordem dos parâmetros do FiltrosConsulta
+        verificar("artigos", 4, noticiaRepository, OrdenacaoIndexada.NOTICIAS,
+                m -> FiltrosConsulta.noticias(
+                        ligado(m, 0) ? StatusNoticia.PUBLICADO : null,
+                        ligado(m, 1) ? categoriaId : null,
+                        ligado(m, 2) ? usuarioId : null,
+                        ligado(m, 3) ? "a" : null));
+
+        verificar("eventos", 6, eventoRepository, OrdenacaoIndexada.EVENTOS,
+                m -> FiltrosConsulta.eventos(
+                        ligado(m, 0) ? "a" : null,
+                        ligado(m, 1) ? "a" : null,
+                        ligado(m, 2) ? usuarioId : null,
+                        ligado(m, 3) ? Boolean.TRUE : null,
+                        ligado(m, 4) ? agora.minusMonths(1) : null,
+                        ligado(m, 5) ? agora.plusMonths(1) : null));
+
+        verificar("usuarios", 4, usuarioRepository, OrdenacaoIndexada.USUARIOS,
+                m -> FiltrosConsulta.usuarios(
+                        ligado(m, 0) ? "a" : null,
+                        ligado(m, 1) ? "a" : null,
+                        ligado(m, 2) ? TipoUsuario.LEITOR : null,
+                        ligado(m, 3) ? Boolean.TRUE : null));
+
+        verificar("comentarios", 3, comentarioRepository, OrdenacaoIndexada.COMENTARIOS,
+                m -> FiltrosConsulta.comentarios(
+                        ligado(m, 0) ? artigoId : null,
+                        ligado(m, 1) ? usuarioId : null,
+                        ligado(m, 2) ? Boolean.TRUE : null));
+
+        if (comFilesort == 0) {
+            log.info("✅ Planos verificados: {} combinações, nenhuma com filesort", combinacoes);
+        } else {
+            log.warn("⚠️ Planos verificados: {} de {} combinações com filesort", comFilesort, combinacoes);
+        }
+    }
+
+    // ====== VERIFICAÇÃO ======
+
+    private <T> void verificar(String endpoint, int filtros, JpaSpecificationExecutor<T> repositorio,
+                               OrdenacaoIndexada ordenacao, IntFunction<FiltroDinamico<T>> filtro) {
+        Sort sort = ordenacao.ordenacao(Sort.unsorted());
+
+        for (int mascara = 0; mascara < (1 << filtros); mascara++) {
+            Specification<T> spec = filtro.apply(mascara).build();
+            String combinacao = endpoint + "[" + Integer.toBinaryString(mascara | (1 << filtros)).substring(1) + "]";
+
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, Long> antes = lerContadores();
+                ContadorConsultas.iniciar();
+                try {
+                    repositorio.findBy(spec, q -> q.sortBy(sort).limit(tamanhoPagina).all());
+                } finally {
+                    ContadorConsultas.Contexto contexto = ContadorConsultas.encerrar();
+                    Map<String, Long> depois = lerContadores();
+                    registrar(combinacao, antes, depois, contexto);
+                }
+                status.setRollbackOnly(); // somente leitura
+            });
+        }
+    }
+
+    private void registrar(String combinacao, Map<String, Long> antes, Map<String, Long> depois,
+                           ContadorConsultas.Contexto contexto) {
+        long ordenadas = delta("Sort_rows", antes, depois);
+        long varreduras = delta("Select_scan", antes, depois);
+        String sql = contexto == null ? "?" : String.join(" | ", contexto.getSqls());
+
+        combinacoes++;
+        if (ordenadas > 0) {
+            comFilesort++;
+            log.warn("   ❌ {} filesort ({} linhas ordenadas), varreduras={} → {}",
+                    combinacao, ordenadas, varreduras, sql);
+        } else {
+            log.info("   ✔ {} sem filesort, varreduras={}", combinacao, varreduras);
+            log.debug("     {}", sql);
+        }
+    }
+
+    // ====== CONTADORES DE SESSÃO ======
+
+    /**
+     * O próprio SHOW STATUS pode incrementar os contadores; mede esse custo
+     * com duas leituras seguidas para descontá-lo de cada combinação.
+     */
+    private Map<String, Long> calibrar() {
+        Map<String, Long> custo = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Long> primeira = lerContadores();
+            Map<String, Long> segunda = lerContadores();
+            primeira.forEach((nome, valor) -> custo.put(nome, segunda.getOrDefault(nome, valor) - valor));
+        });
+        return custo;
+    }
+
+    private Map<String, Long> lerContadores() {
+        Map<String, Long> valores = new HashMap<>();
+        jdbcTemplate.query(CONTADORES_SESSAO,
+                rs -> { valores.put(rs.getString(1), rs.getLong(2)); });
+        return valores;
+    }
+
+    private long delta(String nome, Map<String, Long> antes, Map<String, Long> depois) {
+        long bruto = depois.getOrDefault(nome, 0L) - antes.getOrDefault(nome, 0L);
+        return Math.max(0, bruto - custoLeitura.getOrDefault(nome, 0L));
+    }
+
+    private Long menorId(String tabela) {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM " + tabela, Long.class);
+    }
+
+    private static boolean ligado(int mascara, int bit) {
+        return (mascara & (1 << bit)) != 0;
+    }
+}
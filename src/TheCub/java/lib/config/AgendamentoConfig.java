@@ -0,0 +1,15 @@
+package lib.config; // Pacote de configurações da aplicação
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas @Scheduled (manutenção periódica no banco, como a
+ * limpeza de tokens expirados).
+ *
+ * O pool vem da autoconfiguração do Spring Boot (spring.task.scheduling.*).
+ */
+@Configuration
+@EnableScheduling
+public class AgendamentoConfig {
+}
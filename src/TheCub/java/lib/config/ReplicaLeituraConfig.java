@@ -0,0 +1,80 @@
+package lib.config; // Pacote de configurações da aplicação (infra)
+
+import com.zaxxer.hikari.HikariDataSource;
+import lib.replica.RoteadorLeituras;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Dois pools (primário e réplica) atrás de um DataSource só, com
+ * app.datasource.replica.habilitada=true; desligado, vale a autoconfiguração
+ * do Spring Boot (um pool, spring.datasource.*).
+ *
+ * - dataSourcePrimario: spring.datasource.* e spring.datasource.hikari.*
+ * - dataSourceReplica: app.datasource.replica.* e app.datasource.replica.hikari.*
+ *   (conexões somente leitura, timeout curto para cair logo no primário)
+ * - dataSource (@Primary, usado pelo JPA, JdbcTemplate e demais):
+ *   LazyConnectionDataSourceProxy sobre o RoteadorLeituras
+ *
+ * O Hibernate passa a devolver a conexão ao fim de cada transação: com a
+ * sessão aberta na view, uma conexão da réplica não pode ficar presa à
+ * requisição e ser reaproveitada por uma transação de escrita.
+ *
+ * Teste local: aponte app.datasource.replica.url para o mesmo MySQL
+ * (dois pools) com app.datasource.replica.exigir-replicacao=false, ou suba a
+ * réplica do docker-compose (profile "replica", porta 3308).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.habilitada", havingValue = "true")
+public class ReplicaLeituraConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties propriedades) {
+        HikariDataSource dataSource = propriedades.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource dataSourceReplica(@Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username}") String usuario,
+                                              @Value("${app.datasource.replica.password}") String senha) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(usuario)
+                .password(senha)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteadorLeituras roteadorLeituras) {
+        return new LazyConnectionDataSourceProxy(roteadorLeituras);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer conexaoPorTransacao() {
+        return propriedades -> propriedades.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
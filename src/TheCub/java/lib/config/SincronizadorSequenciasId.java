@@ -0,0 +1,69 @@
+package lib.config; // Pacote de configurações da aplicação (infra)
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Mantém a tabela "sequencias_id" (geradores @TableGenerator das entidades)
+ * à frente do maior ID já gravado em cada tabela.
+ *
+ * Necessário porque:
+ * - bancos que vieram do AUTO_INCREMENT já têm IDs gravados;
+ * - cargas externas (ex.: GeradorDadosSinteticos) inserem IDs explícitos.
+ *
+ * Com o otimizador pooled-lo (hibernate.id.optimizer.pooled.preferred) o valor
+ * da tabela é o primeiro ID do próximo bloco, então basta garantir proximo_id > MAX(id).
+ * Roda após a criação do EntityManagerFactory (ddl-auto já aplicado) e antes do primeiro insert.
+ */
+@Component
+@DependsOn("entityManagerFactory") // o schema precisa existir antes da sincronização
+@RequiredArgsConstructor
+@Slf4j
+public class SincronizadorSequenciasId {
+
+    // Valores de pkColumnValue usados nos @TableGenerator das entidades
+    private static final List<String> TABELAS = List.of(
+            "usuarios", "categorias", "artigos", "comentarios",
+            "avaliacoes_artigos", "eventos", "editais", "campus", "refresh_tokens",
+            "sketches_leitores", "publicacoes_agendadas", "relatorios_jobs");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void inicializar() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS sequencias_id (
+                    tabela     VARCHAR(255) NOT NULL PRIMARY KEY,
+                    proximo_id BIGINT
+                )
+                """);
+        sincronizar();
+    }
+
+    /**
+     * Avança cada gerador para MAX(id) + 1 (nunca retrocede).
+     */
+    public void sincronizar() {
+        for (String tabela : TABELAS) {
+            try {
+                Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tabela, Long.class);
+                long proximo = (max == null ? 0 : max) + 1;
+                jdbcTemplate.update("""
+                        INSERT INTO sequencias_id (tabela, proximo_id) VALUES (?, ?)
+                        ON DUPLICATE KEY UPDATE proximo_id = GREATEST(proximo_id, VALUES(proximo_id))
+                        """, tabela, proximo);
+            } catch (DataAccessException e) {
+                // Tabela ainda não criada (ex.: ddl-auto=none em banco novo)
+                log.warn("⚠️ Não foi possível sincronizar a sequência de {}: {}", tabela, e.getMessage());
+            }
+        }
+        log.debug("Sequências de ID sincronizadas");
+    }
+}
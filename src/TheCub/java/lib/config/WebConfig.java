@@ -1,7 +1,11 @@
 package lib.config; // Pacote de configurações web da aplicação
 
+import lib.metricas.LatenciaInterceptor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -9,10 +13,25 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * Configurações globais de Web MVC:
  * - Servir arquivos estáticos (uploads)
  * - Regras de CORS para o frontend
+ * - Interceptor de métricas de latência
  */
 @Configuration // Indica que esta classe contém configuração do Spring
+@RequiredArgsConstructor // injeta o interceptor de métricas
+@Slf4j
 public class WebConfig implements WebMvcConfigurer {
 
+    // Mede latência e consultas SQL por endpoint (ver lib.metricas)
+    private final LatenciaInterceptor latenciaInterceptor;
+
+    /**
+     * Registra o interceptor de latência para todas as rotas da API.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(latenciaInterceptor)
+                .addPathPatterns("/api/**");
+    }
+
     /**
      * Configura mapeamento de recursos estáticos.
      *
@@ -28,7 +47,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .addResourceLocations("file:uploads/");
 
         // Log simples para confirmar no console que o mapeamento foi configurado
-        System.out.println("✅ Configurado para servir arquivos de: file:uploads/");
+        log.info("✅ Configurado para servir arquivos de: file:uploads/");
     }
 
     /**
@@ -0,0 +1,299 @@
+package lib.conteudo; // Corpos de artigo: cache off-heap e armazenamento comprimido
+
+import dominio.entidades.ArtigoConteudo;
+import dominio.entidades.Noticia;
+import dominio.enums.AlgoritmoCompressao;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lib.replica.RoteadorLeituras;
+import lib.repository.ArtigoConteudoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Modo opcional de armazenamento do conteúdo dos artigos: texto comprimido
+ * em artigos_conteudo, fora da linha de artigos
+ * (app.artigos.conteudo.comprimido).
+ *
+ * - Leitura: conteudo(...) devolve o texto de onde ele estiver (coluna ou
+ *   tabela comprimida); só o detalhe do artigo, a exportação e o feed de
+ *   sincronização pedem o corpo, as listagens não
+ * - Escrita: gravações via JPA sempre põem o texto de volta na coluna
+ *   (Noticia.setConteudo); com o modo ligado, compressaoAposCommit(...) o
+ *   move para artigos_conteudo logo depois do commit
+ * - A troca é feita por JDBC numa transação curta e só vale se
+ *   versao_conteudo não mudou desde a leitura; senão é desfeita e o artigo
+ *   fica para a próxima rodada de MigracaoConteudoComprimido
+ * - Desligar o modo não exige migração de volta: o que já está comprimido
+ *   continua legível e volta para a coluna na próxima edição
+ *
+ * Métrica: theclub.conteudo.leitura (timer, tag armazenamento=texto|comprimido).
+ */
+@Component
+@Slf4j
+public class ArmazenamentoConteudo {
+
+    // Texto e indicador na mesma leitura: não há como ver o indicador antigo com a coluna já esvaziada
+    private static final String LER_ARMAZENAMENTO = """
+            SELECT conteudo, conteudo_comprimido FROM artigos WHERE id = ?
+            """;
+
+    // Indicador lido com a linha de artigos_conteudo já apagada (o artigo foi
+    // editado e descomprimido entre as leituras): lê de novo
+    private static final int TENTATIVAS_LEITURA = 3;
+
+    private static final String LER_EM_LINHA = """
+            SELECT conteudo, versao_conteudo FROM artigos
+            WHERE id = ? AND conteudo_comprimido = false
+            """;
+
+    private static final String GRAVAR_COMPRIMIDO = """
+            INSERT INTO artigos_conteudo
+                (artigo_id, algoritmo, dados, tamanho_original, tamanho_comprimido, versao_conteudo, data_atualizacao)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE algoritmo = VALUES(algoritmo), dados = VALUES(dados),
+                tamanho_original = VALUES(tamanho_original), tamanho_comprimido = VALUES(tamanho_comprimido),
+                versao_conteudo = VALUES(versao_conteudo), data_atualizacao = VALUES(data_atualizacao)
+            """;
+
+    // Não mexe em data_atualizacao: o texto é o mesmo, o feed de sincronização não precisa reenviar
+    private static final String ESVAZIAR_COLUNA = """
+            UPDATE artigos SET conteudo = '', conteudo_comprimido = true
+            WHERE id = ? AND conteudo_comprimido = false AND versao_conteudo = ?
+            """;
+
+    /**
+     * Resultado da compressão de um artigo (para métricas da migração).
+     */
+    public record Compressao(int bytesOriginais, int bytesComprimidos) {
+    }
+
+    private record Armazenado(String conteudo, boolean comprimido) {
+    }
+
+    private final ArtigoConteudoRepository conteudoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transacaoPropria;
+    private final Timer leituraTexto;
+    private final Timer leituraComprimido;
+
+    @Value("${app.artigos.conteudo.comprimido:false}")
+    private boolean ativo;
+
+    @Value("${app.artigos.conteudo.nivel-compressao:6}")
+    private int nivel;
+
+    public ArmazenamentoConteudo(ArtigoConteudoRepository conteudoRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry) {
+        this.conteudoRepository = conteudoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // Transação própria: chamado após o commit da gravação (ou pela migração)
+        this.transacaoPropria = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transacaoPropria.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.leituraTexto = Timer.builder("theclub.conteudo.leitura").tag("armazenamento", "texto")
+                .description("Leitura do conteúdo de um artigo").register(meterRegistry);
+        this.leituraComprimido = Timer.builder("theclub.conteudo.leitura").tag("armazenamento", "comprimido")
+                .description("Leitura do conteúdo de um artigo").register(meterRegistry);
+    }
+
+    public boolean ativo() {
+        return ativo;
+    }
+
+    // ====== LEITURA ======
+
+    /**
+     * Texto do artigo já carregado: a própria coluna ou, se comprimido, a
+     * linha de artigos_conteudo (do contexto de persistência, se precarregada).
+     */
+    public String conteudo(Noticia artigo) {
+        if (!Boolean.TRUE.equals(artigo.getConteudoComprimido())) {
+            return artigo.getConteudo();
+        }
+        long inicio = System.nanoTime();
+        String texto = conteudoRepository.findById(artigo.getId())
+                .map(ArmazenamentoConteudo::descomprimir)
+                .orElse(null);
+        leituraComprimido.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        return texto;
+    }
+
+    /**
+     * Texto do artigo pelo id, sem carregar a entidade (detalhe público).
+     */
+    public Optional<String> conteudo(Long id) {
+        long inicio = System.nanoTime();
+        for (int tentativa = 0; tentativa < TENTATIVAS_LEITURA; tentativa++) {
+            List<Armazenado> linhas = jdbcTemplate.query(LER_ARMAZENAMENTO,
+                    (rs, n) -> new Armazenado(rs.getString("conteudo"), rs.getBoolean("conteudo_comprimido")), id);
+            if (linhas.isEmpty()) {
+                return Optional.empty();
+            }
+            if (!linhas.get(0).comprimido()) {
+                leituraTexto.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                return Optional.ofNullable(linhas.get(0).conteudo());
+            }
+            // Com o indicador ligado a coluna está vazia: o texto só pode vir de artigos_conteudo
+            // findById abre uma transação readOnly: no primário, como a leitura do indicador
+            Optional<ArtigoConteudo> comprimido = RoteadorLeituras.noPrimario(() -> conteudoRepository.findById(id));
+            if (comprimido.isPresent()) {
+                String texto = descomprimir(comprimido.get());
+                leituraComprimido.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                return Optional.of(texto);
+            }
+        }
+        throw new IllegalStateException("Artigo " + id + " marcado como comprimido sem linha em artigos_conteudo");
+    }
+
+    /**
+     * Carrega de uma vez as linhas comprimidas dos artigos informados; as
+     * chamadas seguintes a conteudo(artigo) saem do contexto de persistência,
+     * sem uma consulta por artigo.
+     */
+    public <C extends Collection<Noticia>> C precarregar(C artigos) {
+        List<Long> ids = new ArrayList<>();
+        for (Noticia artigo : artigos) {
+            if (Boolean.TRUE.equals(artigo.getConteudoComprimido())) {
+                ids.add(artigo.getId());
+            }
+        }
+        if (!ids.isEmpty()) {
+            conteudoRepository.findAllById(ids);
+        }
+        return artigos;
+    }
+
+    // ====== ESCRITA ======
+
+    /**
+     * Com o modo ligado, comprime o artigo recém-gravado depois do commit.
+     * Com o modo desligado, apaga a cópia comprimida que ficou obsoleta.
+     */
+    public void compressaoAposCommit(Long artigoId) {
+        Runnable tarefa = () -> {
+            try {
+                if (ativo) {
+                    comprimir(artigoId);
+                } else {
+                    transacaoPropria.executeWithoutResult(status -> conteudoRepository.removerPorArtigo(artigoId));
+                }
+            } catch (RuntimeException e) {
+                // O texto continua na coluna; a migração tenta de novo
+                log.warn("⚠️ Falha ao comprimir o conteúdo do artigo {}: {}", artigoId, e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tarefa.run();
+                }
+            });
+        } else {
+            tarefa.run();
+        }
+    }
+
+    /**
+     * Move o texto de um artigo para artigos_conteudo. Vazio se o artigo não
+     * existe, já está comprimido ou foi editado no meio do caminho.
+     */
+    public Optional<Compressao> comprimir(Long artigoId) {
+        return Optional.ofNullable(transacaoPropria.execute(status -> {
+            List<Map<String, Object>> linhas = jdbcTemplate.queryForList(LER_EM_LINHA, artigoId);
+            if (linhas.isEmpty()) {
+                return null;
+            }
+            String texto = (String) linhas.get(0).get("conteudo");
+            int versao = ((Number) linhas.get(0).get("versao_conteudo")).intValue();
+            byte[] original = texto.getBytes(StandardCharsets.UTF_8);
+            byte[] dados = comprimir(original, nivel);
+
+            jdbcTemplate.update(GRAVAR_COMPRIMIDO, artigoId, AlgoritmoCompressao.DEFLATE.name(), dados,
+                    original.length, dados.length, versao, Timestamp.valueOf(LocalDateTime.now()));
+            if (jdbcTemplate.update(ESVAZIAR_COLUNA, artigoId, versao) == 0) {
+                status.setRollbackOnly(); // editado entre a leitura e a troca
+                return null;
+            }
+            return new Compressao(original.length, dados.length);
+        }));
+    }
+
+    /**
+     * Apaga a cópia comprimida (na transação corrente), na exclusão do artigo.
+     */
+    public void remover(Long artigoId) {
+        conteudoRepository.removerPorArtigo(artigoId);
+    }
+
+    // ====== CODIFICAÇÃO ======
+
+    public static byte[] comprimir(byte[] original, int nivel) {
+        Deflater deflater = new Deflater(nivel);
+        try {
+            deflater.setInput(original);
+            deflater.finish();
+            ByteArrayOutputStream saida = new ByteArrayOutputStream(Math.max(64, original.length / 3));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                saida.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return saida.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String descomprimir(ArtigoConteudo conteudo) {
+        if (conteudo.getAlgoritmo() != AlgoritmoCompressao.DEFLATE) {
+            throw new IllegalStateException("Algoritmo de compressão não suportado: " + conteudo.getAlgoritmo());
+        }
+        return new String(descomprimir(conteudo.getDados(), conteudo.getTamanhoOriginal()), StandardCharsets.UTF_8);
+    }
+
+    public static byte[] descomprimir(byte[] dados, int tamanhoOriginal) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(dados);
+            byte[] original = new byte[tamanhoOriginal];
+            int lidos = 0;
+            while (lidos < tamanhoOriginal && !inflater.finished()) {
+                int n = inflater.inflate(original, lidos, tamanhoOriginal - lidos);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                lidos += n;
+            }
+            if (lidos != tamanhoOriginal) {
+                throw new IllegalStateException("Conteúdo comprimido truncado (" + lidos + " de " + tamanhoOriginal + " bytes)");
+            }
+            return original;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Conteúdo comprimido inválido", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
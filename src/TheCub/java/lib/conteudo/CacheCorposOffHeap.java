@@ -0,0 +1,297 @@
+package lib.conteudo; // Corpos de artigo fora do heap (leitura pública)
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterOutputStream;
+
+/**
+ * Cache dos corpos de artigo (bytes UTF-8 já prontos para a resposta) em
+ * memória direta, fora do heap: textos grandes não passam pelo GC.
+ *
+ * - Orçamento fixo: um único ByteBuffer direto de app.corpos.memoria-mb,
+ *   alocado na inicialização e dividido em blocos de app.corpos.bloco-bytes;
+ *   cada corpo ocupa uma lista de blocos (sem fragmentação)
+ * - Chave: id + versão; versão diferente é falta (nunca serve corpo antigo).
+ *   O HTML sanitizado do mesmo artigo usa a chave chaveHtml(id)
+ * - Compressão opcional (Deflate) acima de app.corpos.comprimir-acima-bytes,
+ *   só quando reduz pelo menos 10%
+ * - Despejo CLOCK (segunda chance): acessos marcam a entrada; o ponteiro
+ *   poupa as marcadas uma volta e despeja a primeira não marcada
+ * - Leitura sem lock: a entrada fica "presa" (leitores > 0) enquanto os
+ *   bytes são copiados para a saída, e seus blocos só voltam à lista livre
+ *   depois disso
+ *
+ * Métricas: theclub.corpos.bytes, theclub.corpos.entradas (gauges),
+ * theclub.corpos.acertos, theclub.corpos.faltas, theclub.corpos.despejos.
+ */
+@Component
+@Slf4j
+public class CacheCorposOffHeap {
+
+    // Metadados no heap (pequenos); os bytes ficam nos blocos
+    private static final class Entrada {
+        final long chave;
+        final long versao;
+        final int[] blocos;
+        final int tamanho;
+        final boolean comprimido;
+        boolean referenciado = true;
+        int leitores;
+        boolean removida;
+        boolean liberada;
+
+        Entrada(long chave, long versao, int[] blocos, int tamanho, boolean comprimido) {
+            this.chave = chave;
+            this.versao = versao;
+            this.blocos = blocos;
+            this.tamanho = tamanho;
+            this.comprimido = comprimido;
+        }
+    }
+
+    private final ByteBuffer memoria;
+    private final int tamanhoBloco;
+    private final int maximoBlocosEntrada;
+    private final int comprimirAcimaBytes;
+
+    // Pilha de blocos livres
+    private final int[] livres;
+    private int topoLivres;
+
+    // Todo acesso a entradas/relogio/livres é feito sob o monitor "this"
+    private final Map<Long, Entrada> entradas = new HashMap<>();
+    private final ArrayDeque<Entrada> relogio = new ArrayDeque<>();
+
+    private final Counter acertos;
+    private final Counter faltas;
+    private final Counter despejos;
+
+    public CacheCorposOffHeap(@Value("${app.corpos.memoria-mb:64}") int memoriaMb,
+                              @Value("${app.corpos.bloco-bytes:4096}") int tamanhoBloco,
+                              @Value("${app.corpos.maximo-entrada-kb:2048}") int maximoEntradaKb,
+                              @Value("${app.corpos.comprimir-acima-bytes:8192}") int comprimirAcimaBytes,
+                              MeterRegistry meterRegistry) {
+        int blocos = (int) ((long) memoriaMb * 1024 * 1024 / tamanhoBloco);
+        this.tamanhoBloco = tamanhoBloco;
+        this.memoria = ByteBuffer.allocateDirect(blocos * tamanhoBloco);
+        this.maximoBlocosEntrada = Math.max(1, Math.min(blocos / 4, maximoEntradaKb * 1024 / tamanhoBloco));
+        this.comprimirAcimaBytes = comprimirAcimaBytes;
+
+        this.livres = new int[blocos];
+        for (int i = 0; i < blocos; i++) {
+            livres[i] = blocos - 1 - i;
+        }
+        this.topoLivres = blocos;
+
+        this.acertos = Counter.builder("theclub.corpos.acertos")
+                .description("Corpos de artigo servidos do cache off-heap").register(meterRegistry);
+        this.faltas = Counter.builder("theclub.corpos.faltas")
+                .description("Corpos de artigo ausentes (ou de versão antiga) no cache off-heap").register(meterRegistry);
+        this.despejos = Counter.builder("theclub.corpos.despejos")
+                .description("Corpos despejados para abrir espaço").register(meterRegistry);
+        Gauge.builder("theclub.corpos.bytes", this, c -> c.blocosEmUso() * (double) c.tamanhoBloco)
+                .description("Memória direta ocupada pelos corpos em cache").register(meterRegistry);
+        Gauge.builder("theclub.corpos.entradas", this, CacheCorposOffHeap::quantidade)
+                .description("Corpos de artigo em cache").register(meterRegistry);
+
+        log.info("🧱 Cache off-heap de corpos: {} MB em {} blocos de {} bytes", memoriaMb, blocos, tamanhoBloco);
+    }
+
+    /**
+     * Chave do HTML sanitizado (string JSON) do artigo: negativa, não colide com ids.
+     */
+    public static long chaveHtml(long id) {
+        return ~id;
+    }
+
+    // ====== LEITURA ======
+
+    /**
+     * Escreve o corpo (id, versão) em "out", se estiver em cache.
+     *
+     * @return false em caso de falta; nada foi escrito
+     */
+    public boolean escrever(long chave, long versao, OutputStream out) throws IOException {
+        Entrada entrada;
+        synchronized (this) {
+            entrada = entradas.get(chave);
+            if (entrada == null || entrada.versao != versao) {
+                faltas.increment();
+                return false;
+            }
+            entrada.referenciado = true;
+            entrada.leitores++;
+        }
+        acertos.increment();
+        try {
+            copiar(entrada, out);
+        } finally {
+            synchronized (this) {
+                entrada.leitores--;
+                if (entrada.removida && entrada.leitores == 0) {
+                    liberar(entrada);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void copiar(Entrada entrada, OutputStream out) throws IOException {
+        Inflater inflater = entrada.comprimido ? new Inflater() : null;
+        try {
+            OutputStream destino = inflater != null ? new InflaterOutputStream(out, inflater, tamanhoBloco) : out;
+            byte[] buffer = new byte[tamanhoBloco];
+            int restante = entrada.tamanho;
+            for (int bloco : entrada.blocos) {
+                int n = Math.min(restante, tamanhoBloco);
+                memoria.get(bloco * tamanhoBloco, buffer, 0, n); // leitura absoluta: não mexe na posição
+                destino.write(buffer, 0, n);
+                restante -= n;
+            }
+            if (destino instanceof InflaterOutputStream descompressor) {
+                descompressor.finish(); // não fecha "out" (é o stream da resposta)
+            }
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    // ====== ESCRITA ======
+
+    /**
+     * Guarda o corpo (id, versão), substituindo versões anteriores.
+     * Corpos maiores que app.corpos.maximo-entrada-kb não entram no cache.
+     */
+    public void guardar(long chave, long versao, byte[] dados) {
+        byte[] armazenado = dados;
+        boolean comprimido = false;
+        if (dados.length >= comprimirAcimaBytes) {
+            byte[] deflate = comprimir(dados);
+            if (deflate.length < dados.length * 0.9) {
+                armazenado = deflate;
+                comprimido = true;
+            }
+        }
+
+        int necessarios = (armazenado.length + tamanhoBloco - 1) / tamanhoBloco;
+        if (necessarios == 0 || necessarios > maximoBlocosEntrada) {
+            return;
+        }
+
+        synchronized (this) {
+            Entrada anterior = entradas.get(chave);
+            if (anterior != null) {
+                remover(anterior);
+            }
+            while (topoLivres < necessarios) {
+                if (!despejarUma()) {
+                    return; // tudo preso por leitores: fica para a próxima leitura
+                }
+            }
+            int[] blocos = new int[necessarios];
+            for (int i = 0; i < necessarios; i++) {
+                blocos[i] = livres[--topoLivres];
+                int inicio = i * tamanhoBloco;
+                memoria.put(blocos[i] * tamanhoBloco, armazenado, inicio, Math.min(tamanhoBloco, armazenado.length - inicio));
+            }
+            Entrada nova = new Entrada(chave, versao, blocos, armazenado.length, comprimido);
+            entradas.put(chave, nova);
+            relogio.addLast(nova);
+            if (relogio.size() > 2 * entradas.size() + 16) {
+                relogio.removeIf(e -> e.removida); // entradas removidas que o ponteiro ainda não alcançou
+            }
+        }
+    }
+
+    /**
+     * Descarta o corpo do artigo (qualquer versão), se estiver em cache.
+     */
+    public synchronized void invalidar(long chave) {
+        Entrada entrada = entradas.get(chave);
+        if (entrada != null) {
+            remover(entrada);
+        }
+    }
+
+    // ====== DESPEJO (CLOCK) ======
+
+    private boolean despejarUma() {
+        int voltas = 2 * relogio.size();
+        for (int i = 0; i < voltas && !relogio.isEmpty(); i++) {
+            Entrada candidata = relogio.pollFirst();
+            if (candidata.removida) {
+                continue;
+            }
+            if (candidata.referenciado || candidata.leitores > 0) {
+                candidata.referenciado = false; // segunda chance
+                relogio.addLast(candidata);
+                continue;
+            }
+            remover(candidata);
+            despejos.increment();
+            return true;
+        }
+        return false;
+    }
+
+    // ====== AUXILIARES ======
+
+    // Sob o monitor: tira do mapa e devolve os blocos (agora ou quando o último leitor sair)
+    private void remover(Entrada entrada) {
+        entrada.removida = true;
+        entradas.remove(entrada.chave, entrada);
+        if (entrada.leitores == 0) {
+            liberar(entrada);
+        }
+    }
+
+    private void liberar(Entrada entrada) {
+        if (entrada.liberada) {
+            return;
+        }
+        entrada.liberada = true;
+        for (int bloco : entrada.blocos) {
+            livres[topoLivres++] = bloco;
+        }
+    }
+
+    private static byte[] comprimir(byte[] dados) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            ByteArrayOutputStream saida = new ByteArrayOutputStream(dados.length / 2);
+            try (DeflaterOutputStream out = new DeflaterOutputStream(saida, deflater)) {
+                out.write(dados);
+            }
+            return saida.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // ByteArrayOutputStream não lança
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private synchronized int blocosEmUso() {
+        return livres.length - topoLivres;
+    }
+
+    private synchronized int quantidade() {
+        return entradas.size();
+    }
+}
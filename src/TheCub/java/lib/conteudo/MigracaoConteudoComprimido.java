@@ -0,0 +1,131 @@
+package lib.conteudo; // Corpos de artigo: cache off-heap e armazenamento comprimido
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Migração em segundo plano dos artigos com o texto ainda na coluna
+ * artigos.conteudo para artigos_conteudo (só com
+ * app.artigos.conteudo.comprimido=true).
+ *
+ * - Varre por id em lotes de app.artigos.conteudo.migracao-lote, com
+ *   app.artigos.conteudo.migracao-pausa-ms entre eles; cada artigo é trocado
+ *   numa transação curta (ArmazenamentoConteudo.comprimir)
+ * - Artigos editados no meio da troca ficam para a rodada seguinte
+ * - Também remove linhas órfãs de artigos_conteudo (artigo já excluído)
+ *
+ * Métricas: theclub.conteudo.migrados, theclub.conteudo.bytes-originais e
+ * theclub.conteudo.bytes-comprimidos; cada rodada registra no log o total
+ * lido/gravado, a taxa de compressão e a vazão.
+ */
+@Component
+@Slf4j
+public class MigracaoConteudoComprimido {
+
+    private static final String PROXIMOS_EM_LINHA = """
+            SELECT id FROM artigos
+            WHERE conteudo_comprimido = false AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String REMOVER_ORFAOS = """
+            DELETE c FROM artigos_conteudo c
+            LEFT JOIN artigos a ON a.id = c.artigo_id
+            WHERE a.id IS NULL
+            """;
+
+    private final ArmazenamentoConteudo armazenamento;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter migrados;
+    private final Counter bytesOriginais;
+    private final Counter bytesComprimidos;
+
+    // Uma rodada por vez (a anterior pode durar mais que o intervalo)
+    private final AtomicBoolean rodando = new AtomicBoolean();
+
+    @Value("${app.artigos.conteudo.migracao-lote:200}")
+    private int lote;
+
+    @Value("${app.artigos.conteudo.migracao-pausa-ms:100}")
+    private long pausaMs;
+
+    public MigracaoConteudoComprimido(ArmazenamentoConteudo armazenamento,
+                                      JdbcTemplate jdbcTemplate,
+                                      MeterRegistry meterRegistry) {
+        this.armazenamento = armazenamento;
+        this.jdbcTemplate = jdbcTemplate;
+        this.migrados = Counter.builder("theclub.conteudo.migrados")
+                .description("Artigos com o conteúdo movido para artigos_conteudo").register(meterRegistry);
+        this.bytesOriginais = Counter.builder("theclub.conteudo.bytes-originais")
+                .description("Bytes UTF-8 de conteúdo migrados").baseUnit("bytes").register(meterRegistry);
+        this.bytesComprimidos = Counter.builder("theclub.conteudo.bytes-comprimidos")
+                .description("Bytes gravados em artigos_conteudo pela migração").baseUnit("bytes").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.artigos.conteudo.migracao-ms:300000}",
+            initialDelayString = "${app.artigos.conteudo.migracao-atraso-inicial-ms:60000}")
+    public void migrar() {
+        if (!armazenamento.ativo() || !rodando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rodar();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("❌ Falha na migração do conteúdo para artigos_conteudo; nova tentativa na próxima rodada", e);
+        } finally {
+            rodando.set(false);
+        }
+    }
+
+    private void rodar() throws InterruptedException {
+        int orfaos = jdbcTemplate.update(REMOVER_ORFAOS);
+        if (orfaos > 0) {
+            log.info("🧹 {} conteúdo(s) comprimido(s) órfão(s) removido(s)", orfaos);
+        }
+
+        long inicio = System.currentTimeMillis();
+        long artigos = 0;
+        long originais = 0;
+        long comprimidos = 0;
+        long ultimoId = 0;
+        List<Long> ids;
+        do {
+            ids = jdbcTemplate.queryForList(PROXIMOS_EM_LINHA, Long.class, ultimoId, lote);
+            for (Long id : ids) {
+                Optional<ArmazenamentoConteudo.Compressao> compressao = armazenamento.comprimir(id);
+                if (compressao.isPresent()) {
+                    artigos++;
+                    originais += compressao.get().bytesOriginais();
+                    comprimidos += compressao.get().bytesComprimidos();
+                    migrados.increment();
+                    bytesOriginais.increment(compressao.get().bytesOriginais());
+                    bytesComprimidos.increment(compressao.get().bytesComprimidos());
+                }
+                ultimoId = id;
+            }
+            if (ids.size() == lote && pausaMs > 0) {
+                Thread.sleep(pausaMs);
+            }
+        } while (ids.size() == lote);
+
+        if (artigos > 0) {
+            long duracaoMs = Math.max(1, System.currentTimeMillis() - inicio);
+            log.info("🗜️ Conteúdo comprimido: {} artigo(s), {} KB -> {} KB ({}%) em {} ms ({} KB/s)",
+                    artigos, originais / 1024, comprimidos / 1024,
+                    originais == 0 ? 100 : comprimidos * 100 / originais,
+                    duracaoMs, originais * 1000 / 1024 / duracaoMs);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package lib.conteudo; // Corpos de artigo: cache off-heap, armazenamento comprimido e renderização
+
+import dominio.entidades.ArtigoRenderizado;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lib.replica.RoteadorLeituras;
+import lib.repository.ArtigoRenderizadoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Renderização do artigo na publicação: HTML sanitizado (SanitizadorHtml),
+ * palavras, tempo de leitura, primeira imagem e o HTML já comprimido em gzip
+ * (nível máximo: o custo é pago uma vez por versão, não por leitura).
+ *
+ * - NoticiaService renderiza na mesma transação que publica ou edita um
+ *   artigo publicado
+ * - Artigos publicados antes disto (ou cuja linha ficou de uma versão antiga)
+ *   são renderizados na primeira leitura, por atual(...)
+ * - Só gzip: o JDK não traz codificador Brotli; clientes sem gzip recebem o
+ *   HTML descomprimido na hora
+ *
+ * Métrica: theclub.artigos.renderizacao (timer).
+ */
+@Component
+@Slf4j
+public class RenderizadorArtigos {
+
+    private static final Pattern PALAVRA = Pattern.compile("\\S+");
+
+    // Limite da coluna primeira_imagem
+    private static final int TAMANHO_MAXIMO_IMAGEM = 500;
+
+    private final ArtigoRenderizadoRepository renderizadoRepository;
+    private final ArmazenamentoConteudo armazenamentoConteudo;
+    private final Timer renderizacao;
+
+    @Value("${app.artigos.render.palavras-por-minuto:200}")
+    private int palavrasPorMinuto;
+
+    @Value("${app.artigos.render.nivel-gzip:9}")
+    private int nivelGzip;
+
+    public RenderizadorArtigos(ArtigoRenderizadoRepository renderizadoRepository,
+                               ArmazenamentoConteudo armazenamentoConteudo,
+                               MeterRegistry meterRegistry) {
+        this.renderizadoRepository = renderizadoRepository;
+        this.armazenamentoConteudo = armazenamentoConteudo;
+        this.renderizacao = Timer.builder("theclub.artigos.renderizacao")
+                .description("Sanitização, contagem e compressão do HTML de um artigo").register(meterRegistry);
+    }
+
+    // ====== RENDERIZAÇÃO ======
+
+    /**
+     * Renderiza a versão informada do conteúdo e grava (ou substitui) a linha
+     * do artigo, na transação corrente.
+     */
+    public ArtigoRenderizado renderizar(Long artigoId, Integer versao, String conteudo) {
+        long inicio = System.nanoTime();
+        SanitizadorHtml.Resultado resultado = SanitizadorHtml.sanitizar(conteudo);
+        int palavras = contarPalavras(resultado.texto());
+        byte[] html = resultado.html().getBytes(StandardCharsets.UTF_8);
+        String imagem = resultado.primeiraImagem();
+
+        ArtigoRenderizado renderizado = renderizadoRepository.findById(artigoId)
+                .orElseGet(() -> ArtigoRenderizado.builder().artigoId(artigoId).build());
+        renderizado.setVersaoConteudo(versao == null ? 0 : versao);
+        renderizado.setHtmlGzip(gzip(html, nivelGzip));
+        renderizado.setTamanhoHtml(html.length);
+        renderizado.setPalavras(palavras);
+        renderizado.setTempoLeituraMinutos(Math.max(1, (palavras + palavrasPorMinuto - 1) / palavrasPorMinuto));
+        renderizado.setPrimeiraImagem(imagem != null && imagem.length() <= TAMANHO_MAXIMO_IMAGEM ? imagem : null);
+        renderizado.setDataRenderizacao(LocalDateTime.now());
+        renderizadoRepository.save(renderizado);
+
+        renderizacao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        log.debug("🖋️ Artigo {} renderizado (versão {}): {} palavras, {} -> {} bytes",
+                artigoId, versao, palavras, html.length, renderizado.getHtmlGzip().length);
+        return renderizado;
+    }
+
+    /**
+     * HTML renderizado da versão atual; renderiza na hora se ainda não
+     * existir (ou for de outra versão). Vazio se o artigo não existe mais.
+     */
+    public Optional<ArtigoRenderizado> atual(Long artigoId, Integer versao) {
+        int versaoAtual = versao == null ? 0 : versao;
+        // Primário: a versão veio de lá; na réplica atrasada toda leitura veria versão antiga e renderizaria de novo
+        Optional<ArtigoRenderizado> existente = RoteadorLeituras.noPrimario(() -> renderizadoRepository.findById(artigoId));
+        if (existente.isPresent() && existente.get().getVersaoConteudo() == versaoAtual) {
+            return existente;
+        }
+        // Primário: o texto renderizado é gravado com a versão lida de lá
+        Optional<String> conteudo = RoteadorLeituras.noPrimario(() -> armazenamentoConteudo.conteudo(artigoId));
+        if (conteudo.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            // Renderização disparada por uma leitura: não abre a janela de escrita do leitor
+            return Optional.of(RoteadorLeituras.semJanelaDeEscrita(
+                    () -> renderizar(artigoId, versaoAtual, conteudo.get())));
+        } catch (DataIntegrityViolationException e) {
+            // Outra leitura inseriu a mesma linha ao mesmo tempo
+            return RoteadorLeituras.noPrimario(() -> renderizadoRepository.findById(artigoId));
+        }
+    }
+
+    /**
+     * Apaga o HTML renderizado (na transação corrente), na exclusão do artigo.
+     */
+    public void remover(Long artigoId) {
+        renderizadoRepository.removerPorArtigo(artigoId);
+    }
+
+    // ====== AUXILIARES ======
+
+    private static int contarPalavras(String texto) {
+        int palavras = 0;
+        Matcher matcher = PALAVRA.matcher(texto);
+        while (matcher.find()) {
+            palavras++;
+        }
+        return palavras;
+    }
+
+    private static byte[] gzip(byte[] dados, int nivel) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(Math.max(64, dados.length / 3));
+        try (GZIPOutputStream out = new GZIPOutputStream(saida, 8192) {
+            {
+                def.setLevel(Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION, nivel)));
+            }
+        }) {
+            out.write(dados);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // ByteArrayOutputStream não lança
+        }
+        return saida.toByteArray();
+    }
+}
@@ -0,0 +1,452 @@
+package lib.conteudo; // Corpos de artigo: cache off-heap, armazenamento comprimido e renderização
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sanitizador HTML por lista de permissões, em uma passada.
+ *
+ * Nada da entrada é copiado como marcação: o texto sai escapado e cada tag
+ * permitida é reescrita a partir do nome e dos atributos validados.
+ * - tags fora da lista somem, o texto dentro delas fica
+ * - script, style, iframe, svg, etc. somem com o conteúdo
+ * - comentários, doctype e instruções de processamento somem
+ * - href/src só com http(s), mailto (links) ou caminho relativo; o valor é
+ *   decodificado antes da checagem e reescapado na saída, então o navegador
+ *   enxerga exatamente o valor checado
+ * - tags abertas são fechadas ao final; fechamentos sem abertura são ignorados
+ *
+ * Texto sem nenhuma tag é tratado como texto puro: linhas em branco viram
+ * parágrafos e quebras simples viram br.
+ */
+public final class SanitizadorHtml {
+
+    /**
+     * HTML seguro, o texto visível (para contagem de palavras) e o src da
+     * primeira imagem (null se não houver).
+     */
+    public record Resultado(String html, String texto, String primeiraImagem) {
+    }
+
+    private static final Set<String> PERMITIDAS = Set.of(
+            "p", "br", "hr", "b", "strong", "i", "em", "u", "s", "sub", "sup", "small", "mark",
+            "h2", "h3", "h4", "h5", "h6", "blockquote", "pre", "code",
+            "ul", "ol", "li", "dl", "dt", "dd",
+            "figure", "figcaption", "table", "thead", "tbody", "tfoot", "tr", "th", "td", "caption",
+            "a", "img");
+
+    // Cabeçalho h1 é o título do artigo: rebaixado para h2
+    private static final Map<String, String> RENOMEADAS = Map.of("h1", "h2");
+
+    private static final Set<String> VAZIAS = Set.of("br", "hr", "img");
+
+    // Somem junto com tudo o que estiver até o fechamento correspondente
+    private static final Set<String> DESCARTADAS_COM_CONTEUDO = Set.of(
+            "script", "style", "iframe", "frame", "frameset", "object", "embed", "applet",
+            "noscript", "noembed", "noframes", "template", "svg", "math", "textarea", "select",
+            "title", "head", "xmp", "plaintext");
+
+    // Elementos de bloco: separam palavras no texto visível
+    private static final Set<String> BLOCOS = Set.of(
+            "div", "section", "article", "header", "footer", "p", "br", "hr",
+            "h1", "h2", "h3", "h4", "h5", "h6", "blockquote", "pre", "ul", "ol", "li",
+            "dl", "dt", "dd", "figure", "figcaption", "table", "tr", "th", "td", "caption");
+
+    private static final Set<String> PROTOCOLOS_LINK = Set.of("http", "https", "mailto");
+    private static final Set<String> PROTOCOLOS_IMAGEM = Set.of("http", "https");
+
+    private static final Pattern TEM_TAG = Pattern.compile("<[a-zA-Z!/?]");
+    private static final Pattern REFERENCIA = Pattern.compile("&(#[0-9]{1,7}|#[xX][0-9a-fA-F]{1,6}|[a-zA-Z][a-zA-Z0-9]{1,31});");
+    private static final Pattern NUMERO = Pattern.compile("[0-9]{1,4}");
+
+    private SanitizadorHtml() {
+    }
+
+    public static Resultado sanitizar(String entrada) {
+        if (entrada == null || entrada.isEmpty()) {
+            return new Resultado("", "", null);
+        }
+        String origem = TEM_TAG.matcher(entrada).find() ? entrada : paragrafos(entrada);
+        return new Execucao(origem).executar();
+    }
+
+    // Texto puro: blocos separados por linha em branco viram <p>, quebras simples <br>
+    private static String paragrafos(String texto) {
+        StringBuilder html = new StringBuilder(texto.length() + 64);
+        for (String bloco : texto.replace("\r\n", "\n").split("\n\\s*\n")) {
+            String limpo = bloco.strip();
+            if (!limpo.isEmpty()) {
+                html.append("<p>").append(limpo.replace("\n", "<br>")).append("</p>");
+            }
+        }
+        return html.toString();
+    }
+
+    // ====== UMA SANITIZAÇÃO ======
+
+    private static final class Execucao {
+        private final String in;
+        private final int n;
+        private int pos;
+        private final StringBuilder html;
+        private final StringBuilder texto;
+        private final Deque<String> abertas = new ArrayDeque<>();
+        private String primeiraImagem;
+
+        Execucao(String in) {
+            this.in = in;
+            this.n = in.length();
+            this.html = new StringBuilder(n);
+            this.texto = new StringBuilder(n);
+        }
+
+        Resultado executar() {
+            while (pos < n) {
+                char c = in.charAt(pos);
+                if (c == '<') {
+                    marcacao();
+                } else {
+                    int fim = in.indexOf('<', pos);
+                    textoAte(fim < 0 ? n : fim);
+                }
+            }
+            while (!abertas.isEmpty()) {
+                html.append("</").append(abertas.pop()).append('>');
+            }
+            return new Resultado(html.toString(), texto.toString(), primeiraImagem);
+        }
+
+        // ---- texto ----
+
+        private void textoAte(int fim) {
+            while (pos < fim) {
+                char c = in.charAt(pos);
+                if (c == '&') {
+                    Matcher ref = REFERENCIA.matcher(in).region(pos, fim);
+                    if (ref.lookingAt()) {
+                        // Referência bem formada em texto só pode virar caractere, nunca marcação
+                        html.append(ref.group());
+                        texto.append(decodificar(ref.group()));
+                        pos = ref.end();
+                        continue;
+                    }
+                    html.append("&amp;");
+                    texto.append('&');
+                } else {
+                    escapar(c, html);
+                    texto.append(c);
+                }
+                pos++;
+            }
+        }
+
+        // ---- marcação ----
+
+        private void marcacao() {
+            if (in.startsWith("<!--", pos)) {
+                int fim = in.indexOf("-->", pos + 4);
+                pos = fim < 0 ? n : fim + 3;
+                return;
+            }
+            char proximo = pos + 1 < n ? in.charAt(pos + 1) : 0;
+            if (proximo == '!' || proximo == '?') {
+                int fim = in.indexOf('>', pos);
+                pos = fim < 0 ? n : fim + 1;
+                return;
+            }
+            boolean fechamento = proximo == '/';
+            int inicioNome = pos + (fechamento ? 2 : 1);
+            if (inicioNome >= n || !letra(in.charAt(inicioNome))) {
+                // "<" solto: é texto
+                html.append("&lt;");
+                texto.append('<');
+                pos++;
+                return;
+            }
+            int fimNome = inicioNome;
+            while (fimNome < n && nomeChar(in.charAt(fimNome))) {
+                fimNome++;
+            }
+            String nome = in.substring(inicioNome, fimNome).toLowerCase(Locale.ROOT);
+            pos = fimNome;
+
+            // Atributos de fechamento são lidos (para achar o ">") e descartados
+            Map<String, String> atributos = fechamento ? null : new LinkedHashMap<>();
+            if (!lerAtributos(atributos)) {
+                pos = n; // tag sem ">" até o fim: descarta o resto
+                return;
+            }
+
+            if (DESCARTADAS_COM_CONTEUDO.contains(nome)) {
+                if (!fechamento) {
+                    pularAteFechamento(nome);
+                }
+                return;
+            }
+            if (BLOCOS.contains(nome)) {
+                texto.append(' ');
+            }
+            nome = RENOMEADAS.getOrDefault(nome, nome);
+            if (!PERMITIDAS.contains(nome)) {
+                return;
+            }
+            if (fechamento) {
+                fechar(nome);
+            } else {
+                abrir(nome, atributos);
+            }
+        }
+
+        // Lê atributos até ">" (aspas podem conter ">"); false se a entrada acabar antes
+        private boolean lerAtributos(Map<String, String> atributos) {
+            while (pos < n) {
+                char c = in.charAt(pos);
+                if (c == '>') {
+                    pos++;
+                    return true;
+                }
+                if (Character.isWhitespace(c) || c == '/') {
+                    pos++;
+                    continue;
+                }
+                int inicio = pos;
+                while (pos < n && !Character.isWhitespace(in.charAt(pos))
+                        && "=>/".indexOf(in.charAt(pos)) < 0) {
+                    pos++;
+                }
+                String nome = in.substring(inicio, pos).toLowerCase(Locale.ROOT);
+                while (pos < n && Character.isWhitespace(in.charAt(pos))) {
+                    pos++;
+                }
+                String valor = "";
+                if (pos < n && in.charAt(pos) == '=') {
+                    pos++;
+                    while (pos < n && Character.isWhitespace(in.charAt(pos))) {
+                        pos++;
+                    }
+                    if (pos < n && (in.charAt(pos) == '"' || in.charAt(pos) == '\'')) {
+                        char aspa = in.charAt(pos);
+                        int fim = in.indexOf(aspa, pos + 1);
+                        if (fim < 0) {
+                            return false;
+                        }
+                        valor = in.substring(pos + 1, fim);
+                        pos = fim + 1;
+                    } else {
+                        int inicioValor = pos;
+                        while (pos < n && !Character.isWhitespace(in.charAt(pos)) && in.charAt(pos) != '>') {
+                            pos++;
+                        }
+                        valor = in.substring(inicioValor, pos);
+                    }
+                }
+                if (atributos != null && !nome.isEmpty()) {
+                    atributos.putIfAbsent(nome, decodificar(valor));
+                }
+            }
+            return false;
+        }
+
+        private void pularAteFechamento(String nome) {
+            String alvo = "</" + nome;
+            int busca = pos;
+            while (true) {
+                int fim = indexOfIgnoreCase(in, alvo, busca);
+                if (fim < 0) {
+                    pos = n;
+                    return;
+                }
+                int depois = fim + alvo.length();
+                if (depois >= n || !nomeChar(in.charAt(depois))) {
+                    int fecha = in.indexOf('>', depois);
+                    pos = fecha < 0 ? n : fecha + 1;
+                    return;
+                }
+                busca = depois;
+            }
+        }
+
+        private void abrir(String nome, Map<String, String> atributos) {
+            html.append('<').append(nome);
+            switch (nome) {
+                case "a" -> {
+                    String href = url(atributos.get("href"), PROTOCOLOS_LINK);
+                    if (href != null) {
+                        atributo("href", href);
+                        html.append(" rel=\"nofollow noopener noreferrer\"");
+                    }
+                    atributo("title", atributos.get("title"));
+                }
+                case "img" -> {
+                    String src = url(atributos.get("src"), PROTOCOLOS_IMAGEM);
+                    if (src == null) {
+                        html.setLength(html.length() - 4); // imagem sem src válido some
+                        return;
+                    }
+                    atributo("src", src);
+                    atributo("alt", atributos.get("alt"));
+                    atributo("title", atributos.get("title"));
+                    atributo("width", numero(atributos.get("width")));
+                    atributo("height", numero(atributos.get("height")));
+                    html.append(" loading=\"lazy\"");
+                    if (primeiraImagem == null) {
+                        primeiraImagem = src;
+                    }
+                }
+                case "th", "td" -> {
+                    atributo("colspan", numero(atributos.get("colspan")));
+                    atributo("rowspan", numero(atributos.get("rowspan")));
+                }
+                case "ol" -> atributo("start", numero(atributos.get("start")));
+                default -> {
+                }
+            }
+            html.append('>');
+            if (!VAZIAS.contains(nome)) {
+                abertas.push(nome);
+            }
+        }
+
+        private void fechar(String nome) {
+            if (VAZIAS.contains(nome) || !abertas.contains(nome)) {
+                return;
+            }
+            // Fecha também as que ficaram abertas dentro dela
+            String topo;
+            do {
+                topo = abertas.pop();
+                html.append("</").append(topo).append('>');
+            } while (!topo.equals(nome));
+        }
+
+        private void atributo(String nome, String valor) {
+            if (valor == null) {
+                return;
+            }
+            html.append(' ').append(nome).append("=\"");
+            for (int i = 0; i < valor.length(); i++) {
+                escapar(valor.charAt(i), html);
+            }
+            html.append('"');
+        }
+    }
+
+    // ====== AUXILIARES ======
+
+    // URL aceita se relativa ou com um dos protocolos; espaços/controles são ignorados pelos navegadores no esquema
+    private static String url(String valor, Set<String> protocolos) {
+        if (valor == null) {
+            return null;
+        }
+        String limpo = valor.strip();
+        StringBuilder compacto = new StringBuilder(limpo.length());
+        for (int i = 0; i < limpo.length(); i++) {
+            char c = limpo.charAt(i);
+            if (c > ' ' && c != 0x7F) {
+                compacto.append(c);
+            }
+        }
+        String semEspacos = compacto.toString();
+        if (semEspacos.isEmpty()) {
+            return null;
+        }
+        int doisPontos = semEspacos.indexOf(':');
+        int delimitador = indexOfAny(semEspacos, "/?#");
+        if (doisPontos >= 0 && (delimitador < 0 || doisPontos < delimitador)) {
+            String esquema = semEspacos.substring(0, doisPontos).toLowerCase(Locale.ROOT);
+            return protocolos.contains(esquema) ? limpo : null;
+        }
+        // "//host" herda o protocolo da página (http/https)
+        return limpo;
+    }
+
+    private static String numero(String valor) {
+        return valor != null && NUMERO.matcher(valor.strip()).matches() ? valor.strip() : null;
+    }
+
+    private static void escapar(char c, StringBuilder saida) {
+        switch (c) {
+            case '<' -> saida.append("&lt;");
+            case '>' -> saida.append("&gt;");
+            case '&' -> saida.append("&amp;");
+            case '"' -> saida.append("&quot;");
+            case '\'' -> saida.append("&#39;");
+            case '\u0000' -> {
+            }
+            default -> saida.append(c);
+        }
+    }
+
+    // Decodifica referências numéricas e as nomeadas básicas; as demais ficam literais
+    private static String decodificar(String valor) {
+        if (valor.indexOf('&') < 0) {
+            return valor;
+        }
+        Matcher m = REFERENCIA.matcher(valor);
+        StringBuilder saida = new StringBuilder(valor.length());
+        int ultimo = 0;
+        while (m.find()) {
+            saida.append(valor, ultimo, m.start());
+            String ref = m.group(1);
+            String decodificado = null;
+            try {
+                if (ref.startsWith("#x") || ref.startsWith("#X")) {
+                    decodificado = codePoint(Integer.parseInt(ref.substring(2), 16));
+                } else if (ref.startsWith("#")) {
+                    decodificado = codePoint(Integer.parseInt(ref.substring(1)));
+                } else {
+                    decodificado = switch (ref) {
+                        case "amp" -> "&";
+                        case "lt" -> "<";
+                        case "gt" -> ">";
+                        case "quot" -> "\"";
+                        case "apos" -> "'";
+                        case "nbsp" -> " ";
+                        default -> null;
+                    };
+                }
+            } catch (NumberFormatException e) {
+                decodificado = null;
+            }
+            saida.append(decodificado != null ? decodificado : m.group());
+            ultimo = m.end();
+        }
+        return saida.append(valor, ultimo, valor.length()).toString();
+    }
+
+    private static String codePoint(int cp) {
+        return Character.isValidCodePoint(cp) && cp != 0 ? new String(Character.toChars(cp)) : "�";
+    }
+
+    private static boolean letra(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean nomeChar(char c) {
+        return letra(c) || (c >= '0' && c <= '9') || c == '-';
+    }
+
+    private static int indexOfAny(String s, String caracteres) {
+        for (int i = 0; i < s.length(); i++) {
+            if (caracteres.indexOf(s.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfIgnoreCase(String s, String alvo, int de) {
+        for (int i = de; i + alvo.length() <= s.length(); i++) {
+            if (s.regionMatches(true, i, alvo, 0, alvo.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,50 @@
+package lib.eventos; // Transmissão de eventos em tempo real (SSE)
+
+import dominio.entidades.Comentario;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * EntityListener que alimenta o stream da fila de moderação com a criação,
+ * aprovação/alteração e remoção de comentários.
+ *
+ * O payload é montado aqui (sessão ainda aberta) e só é publicado após o commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class ComentarioEventosListener {
+
+    private final TransmissorEventos transmissorEventos;
+
+    @PostPersist
+    public void aoCriar(Comentario comentario) {
+        transmissorEventos.publicarAposCommit(TransmissorEventos.COMENTARIO_CRIADO, resumo(comentario));
+    }
+
+    @PostUpdate
+    public void aoAlterar(Comentario comentario) {
+        transmissorEventos.publicarAposCommit(TransmissorEventos.COMENTARIO_MODERADO, resumo(comentario));
+    }
+
+    @PostRemove
+    public void aoRemover(Comentario comentario) {
+        transmissorEventos.publicarAposCommit(TransmissorEventos.COMENTARIO_REMOVIDO, resumo(comentario));
+    }
+
+    private Map<String, Object> resumo(Comentario comentario) {
+        // LinkedHashMap: aceita nulos e mantém a ordem no JSON
+        Map<String, Object> dados = new LinkedHashMap<>();
+        dados.put("id", comentario.getId());
+        dados.put("artigoId", comentario.getArtigo() != null ? comentario.getArtigo().getId() : null);
+        dados.put("usuarioId", comentario.getUsuario() != null ? comentario.getUsuario().getId() : null);
+        dados.put("aprovado", comentario.getAprovado());
+        dados.put("dataComentario", comentario.getDataComentario());
+        return dados;
+    }
+}
@@ -0,0 +1,11 @@
+package lib.eventos; // Transmissão de eventos em tempo real (SSE)
+
+/**
+ * Evento enviado aos clientes do stream SSE.
+ *
+ * @param id    sequência global (vira o "id:" do SSE e o Last-Event-ID da reconexão)
+ * @param tipo  nome do evento (campo "event:" do SSE)
+ * @param dados payload serializado em JSON
+ */
+public record EventoTransmitido(long id, String tipo, Object dados) {
+}
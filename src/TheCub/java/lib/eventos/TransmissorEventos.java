@@ -0,0 +1,322 @@
+package lib.eventos; // Transmissão de eventos em tempo real (SSE)
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transmissor único dos streams SSE (novos artigos e fila de moderação).
+ *
+ * - Nenhuma thread por conexão: o SseEmitter usa o modo assíncrono do servlet,
+ *   e as escritas são feitas por um pool pequeno (app.sse.threads)
+ * - Cada assinante tem um buffer limitado (app.sse.buffer); cliente lento perde
+ *   os eventos mais antigos em vez de segurar memória ou o publicador
+ * - Os últimos eventos ficam num ring buffer (app.sse.historico) para o replay
+ *   da reconexão via Last-Event-ID; se o cliente perdeu mais do que isso,
+ *   recebe o evento "reinicio" e deve recarregar a lista pela API
+ * - Heartbeat (comentário SSE) a cada app.sse.heartbeat-ms mantém proxies abertos
+ *
+ * Métricas: theclub.sse.assinantes (gauge) e theclub.sse.descartados (counter).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransmissorEventos {
+
+    // ====== TIPOS DE EVENTO ======
+
+    public static final String ARTIGO_PUBLICADO = "artigo-publicado";
+    public static final String COMENTARIO_CRIADO = "comentario-criado";
+    public static final String COMENTARIO_MODERADO = "comentario-moderado";
+    public static final String COMENTARIO_REMOVIDO = "comentario-removido";
+
+    // Avisa o cliente que o replay não cobre o que ele perdeu
+    public static final String REINICIO = "reinicio";
+
+    public static final Set<String> CANAL_ARTIGOS = Set.of(ARTIGO_PUBLICADO);
+    public static final Set<String> CANAL_MODERACAO =
+            Set.of(COMENTARIO_CRIADO, COMENTARIO_MODERADO, COMENTARIO_REMOVIDO);
+
+    // Marcador de heartbeat na fila do assinante
+    private static final Object BATIMENTO = new Object();
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sse.buffer:64}")
+    private int capacidadeBuffer;
+
+    @Value("${app.sse.historico:256}")
+    private int capacidadeHistorico;
+
+    @Value("${app.sse.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${app.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.sse.threads:2}")
+    private int threads;
+
+    // Ids crescentes também entre reinícios: um Last-Event-ID antigo cai
+    // antes do histórico e gera "reinicio"
+    private final AtomicLong sequencia = new AtomicLong(System.currentTimeMillis());
+
+    // Ring buffer de replay; o lock também ordena publicação x nova assinatura
+    private final ArrayDeque<EventoTransmitido> historico = new ArrayDeque<>();
+
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor envio;
+    private ScheduledExecutorService relogio;
+    private Counter descartados;
+
+    // ====== CICLO DE VIDA ======
+
+    @PostConstruct
+    void iniciar() {
+        AtomicInteger contador = new AtomicInteger();
+        // Fila sem limite explícito, mas cada assinante tem no máximo uma
+        // drenagem pendente (flag "agendado"): o tamanho é limitado pelos assinantes
+        envio = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "sse-envio-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        envio.allowCoreThreadTimeOut(true);
+
+        relogio = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        relogio.scheduleAtFixedRate(this::baterCoracao, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("theclub.sse.assinantes", assinantes, Set::size)
+                .description("Conexões SSE abertas")
+                .register(meterRegistry);
+        descartados = Counter.builder("theclub.sse.descartados")
+                .description("Eventos descartados por buffer cheio de assinante lento")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        relogio.shutdownNow();
+        assinantes.forEach(a -> a.emitter.complete());
+        assinantes.clear();
+        envio.shutdownNow();
+    }
+
+    // ====== ASSINATURA ======
+
+    /**
+     * Abre um stream com os tipos informados.
+     *
+     * @param ultimoId Last-Event-ID enviado pelo navegador na reconexão (ou null)
+     */
+    public SseEmitter assinar(Set<String> tipos, Long ultimoId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Assinante assinante = new Assinante(emitter, tipos);
+
+        emitter.onCompletion(() -> assinantes.remove(assinante));
+        emitter.onTimeout(() -> {
+            assinantes.remove(assinante);
+            emitter.complete();
+        });
+        emitter.onError(erro -> assinantes.remove(assinante));
+
+        synchronized (historico) {
+            if (ultimoId != null) {
+                reproduzir(assinante, ultimoId);
+            }
+            // Registra sob o mesmo lock: nenhum evento fica entre o replay e a assinatura
+            assinantes.add(assinante);
+        }
+        log.debug("📡 Nova assinatura SSE {} (total: {})", tipos, assinantes.size());
+        return emitter;
+    }
+
+    private void reproduzir(Assinante assinante, long ultimoId) {
+        EventoTransmitido maisAntigo = historico.peekFirst();
+        long atual = sequencia.get();
+
+        List<EventoTransmitido> perdidos = new ArrayList<>();
+        for (EventoTransmitido evento : historico) {
+            if (evento.id() > ultimoId && assinante.aceita(evento.tipo())) {
+                perdidos.add(evento);
+            }
+        }
+
+        boolean lacuna = ultimoId > atual
+                || (ultimoId < atual && (maisAntigo == null || maisAntigo.id() > ultimoId + 1))
+                || perdidos.size() > capacidadeBuffer;
+        if (lacuna) {
+            assinante.enfileirar(new EventoTransmitido(atual, REINICIO, Map.of("ultimoId", atual)));
+        } else {
+            perdidos.forEach(assinante::enfileirar);
+        }
+    }
+
+    // ====== PUBLICAÇÃO ======
+
+    public void publicar(String tipo, Object dados) {
+        synchronized (historico) {
+            EventoTransmitido evento = new EventoTransmitido(sequencia.incrementAndGet(), tipo, dados);
+            historico.addLast(evento);
+            if (historico.size() > capacidadeHistorico) {
+                historico.pollFirst();
+            }
+            // Só enfileira (sem I/O): o envio acontece no pool
+            for (Assinante assinante : assinantes) {
+                if (assinante.aceita(tipo)) {
+                    assinante.enfileirar(evento);
+                }
+            }
+        }
+    }
+
+    /**
+     * Publica depois do commit da transação atual (ou na hora, se não houver),
+     * para o cliente nunca ver um evento de algo que sofreu rollback.
+     */
+    public void publicarAposCommit(String tipo, Object dados) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publicar(tipo, dados);
+                }
+            });
+        } else {
+            publicar(tipo, dados);
+        }
+    }
+
+    private void baterCoracao() {
+        for (Assinante assinante : assinantes) {
+            assinante.enfileirarBatimento();
+        }
+    }
+
+    // ====== ASSINANTE ======
+
+    private final class Assinante {
+
+        private final SseEmitter emitter;
+        private final Set<String> tipos;
+        private final ArrayDeque<Object> fila = new ArrayDeque<>();
+        private final AtomicBoolean agendado = new AtomicBoolean();
+
+        private Assinante(SseEmitter emitter, Set<String> tipos) {
+            this.emitter = emitter;
+            this.tipos = tipos;
+        }
+
+        private boolean aceita(String tipo) {
+            return tipos.contains(tipo);
+        }
+
+        private void enfileirar(EventoTransmitido evento) {
+            synchronized (fila) {
+                if (fila.size() >= capacidadeBuffer) {
+                    fila.pollFirst();
+                    descartados.increment();
+                }
+                fila.addLast(evento);
+            }
+            agendar();
+        }
+
+        private void enfileirarBatimento() {
+            synchronized (fila) {
+                // Fila com eventos já mantém a conexão viva
+                if (!fila.isEmpty()) {
+                    return;
+                }
+                fila.addLast(BATIMENTO);
+            }
+            agendar();
+        }
+
+        private void agendar() {
+            if (agendado.compareAndSet(false, true)) {
+                try {
+                    envio.execute(this::drenar);
+                } catch (RejectedExecutionException e) {
+                    // Pool encerrado (shutdown)
+                    agendado.set(false);
+                }
+            }
+        }
+
+        private void drenar() {
+            try {
+                Object item;
+                while ((item = proximo()) != null) {
+                    enviar(item);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectou ou emitter já encerrado
+                assinantes.remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                agendado.set(false);
+            }
+            // Item que chegou entre o último poll e a liberação da flag
+            synchronized (fila) {
+                if (fila.isEmpty()) {
+                    return;
+                }
+            }
+            agendar();
+        }
+
+        private Object proximo() {
+            synchronized (fila) {
+                return fila.pollFirst();
+            }
+        }
+
+        private void enviar(Object item) throws IOException {
+            if (item == BATIMENTO) {
+                emitter.send(SseEmitter.event().comment("ping"));
+                return;
+            }
+            EventoTransmitido evento = (EventoTransmitido) item;
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(evento.id()))
+                    .name(evento.tipo())
+                    .data(evento.dados(), MediaType.APPLICATION_JSON));
+        }
+    }
+}
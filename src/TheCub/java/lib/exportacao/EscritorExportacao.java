@@ -0,0 +1,156 @@
+package lib.exportacao; // Exportação administrativa em streaming (CSV/NDJSON)
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dominio.enums.FormatoExportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Escreve registros, um por vez, direto no OutputStream da resposta.
+ *
+ * Nada é acumulado além do buffer do Writer: cada linha vai para a saída
+ * assim que é formatada, então a memória não cresce com o tamanho da tabela.
+ *
+ * @param <E> tipo do registro exportado
+ */
+public abstract class EscritorExportacao<E> implements AutoCloseable {
+
+    /**
+     * Coluna exportada: nome (cabeçalho CSV / campo JSON) e como extrair o valor.
+     */
+    public record Coluna<E>(String nome, Function<E, Object> valor) {
+    }
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    protected final List<Coluna<E>> colunas;
+    protected final Writer saida;
+
+    protected EscritorExportacao(List<Coluna<E>> colunas, OutputStream out) {
+        this.colunas = colunas;
+        this.saida = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+    }
+
+    public static <E> EscritorExportacao<E> para(FormatoExportacao formato, List<Coluna<E>> colunas,
+                                                 OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (formato) {
+            case CSV -> new Csv<>(colunas, out);
+            case NDJSON -> new Ndjson<>(colunas, out, objectMapper);
+        };
+    }
+
+    public abstract void escrever(E registro) throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        saida.flush(); // não fecha o stream da resposta (é do container)
+    }
+
+    // Enum pelo nome da constante (toString() de alguns enums devolve a descrição)
+    protected static String texto(Object valor) {
+        return valor instanceof Enum<?> constante ? constante.name() : valor.toString();
+    }
+
+    // ====== CSV ======
+
+    private static final class Csv<E> extends EscritorExportacao<E> {
+
+        Csv(List<Coluna<E>> colunas, OutputStream out) throws IOException {
+            super(colunas, out);
+            saida.write('\uFEFF'); // BOM: o Excel só reconhece UTF-8 (acentos) com ele
+            for (int i = 0; i < colunas.size(); i++) {
+                if (i > 0) {
+                    saida.write(',');
+                }
+                campo(colunas.get(i).nome());
+            }
+            saida.write("\r\n");
+        }
+
+        @Override
+        public void escrever(E registro) throws IOException {
+            for (int i = 0; i < colunas.size(); i++) {
+                if (i > 0) {
+                    saida.write(',');
+                }
+                Object valor = colunas.get(i).valor().apply(registro);
+                if (valor != null) {
+                    campo(texto(valor));
+                }
+            }
+            saida.write("\r\n");
+        }
+
+        // RFC 4180: aspas quando houver separador, aspas ou quebra de linha
+        private void campo(String texto) throws IOException {
+            if (!texto.isEmpty() && "=+-@".indexOf(texto.charAt(0)) >= 0 && !numerico(texto)) {
+                texto = "'" + texto; // evita que a planilha interprete o texto como fórmula
+            }
+            boolean aspas = texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0
+                    || texto.indexOf('\n') >= 0 || texto.indexOf('\r') >= 0;
+            if (!aspas) {
+                saida.write(texto);
+                return;
+            }
+            saida.write('"');
+            saida.write(texto.replace("\"", "\"\""));
+            saida.write('"');
+        }
+
+        private static boolean numerico(String texto) {
+            try {
+                Double.parseDouble(texto);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+
+    // ====== NDJSON ======
+
+    private static final class Ndjson<E> extends EscritorExportacao<E> {
+
+        private final JsonGenerator gerador;
+
+        Ndjson(List<Coluna<E>> colunas, OutputStream out, ObjectMapper objectMapper) throws IOException {
+            super(colunas, out);
+            this.gerador = objectMapper.getFactory().createGenerator(saida);
+            this.gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.gerador.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            this.gerador.setRootValueSeparator(null); // o separador é o '\n' escrito abaixo
+        }
+
+        @Override
+        public void escrever(E registro) throws IOException {
+            gerador.writeStartObject();
+            for (Coluna<E> coluna : colunas) {
+                Object valor = coluna.valor().apply(registro);
+                gerador.writeFieldName(coluna.nome());
+                if (valor instanceof TemporalAccessor || valor instanceof Enum<?>) {
+                    gerador.writeString(texto(valor)); // ISO-8601 / nome da constante
+                } else {
+                    gerador.writeObject(valor);
+                }
+            }
+            gerador.writeEndObject();
+            gerador.flush(); // só até o Writer (bufferizado); a linha precisa sair antes do '\n'
+            saida.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            gerador.close();
+            super.close();
+        }
+    }
+}
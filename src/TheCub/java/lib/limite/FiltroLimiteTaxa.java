@@ -0,0 +1,74 @@
+package lib.limite; // Limitação de taxa de requisições (rate limiting)
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Filtro da cadeia do Spring Security que aplica as regras de limitação.
+ *
+ * A primeira regra que casar com a requisição decide (ordem da lista);
+ * requisição sem regra passa direto. Estourou o balde: 429 com Retry-After.
+ *
+ * Não é @Component de propósito: as regras são montadas no SecurityConfig
+ * e o filtro não deve ser registrado uma segunda vez como filtro do servlet.
+ */
+@Slf4j
+public class FiltroLimiteTaxa extends OncePerRequestFilter {
+
+    private final LimitadorTaxa limitadorTaxa;
+    private final List<RegraLimite> regras;
+
+    public FiltroLimiteTaxa(LimitadorTaxa limitadorTaxa, List<RegraLimite> regras) {
+        this.limitadorTaxa = limitadorTaxa;
+        this.regras = List.copyOf(regras);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RegraLimite regra = regraPara(request);
+        if (regra == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // IP do cliente; atrás de proxy, configure server.forward-headers-strategy
+        String cliente = request.getRemoteAddr();
+        LimitadorTaxa.Decisao decisao = limitadorTaxa.tentarConsumir(regra, cliente);
+        if (decisao.permitido()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("⛔ Rate limit '{}' excedido por {} em {}", regra.grupo(), cliente, request.getRequestURI());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decisao.esperaSegundos()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        // Mesmo formato de corpo do GlobalExceptionHandler
+        response.getWriter().write("{\"timestamp\":\"" + LocalDateTime.now()
+                + "\",\"status\":429,\"error\":\"Muitas requisições\",\"message\":\"Tente novamente em "
+                + decisao.esperaSegundos() + " segundo(s)\"}");
+    }
+
+    private RegraLimite regraPara(HttpServletRequest request) {
+        for (RegraLimite regra : regras) {
+            if (regra.matcher().matches(request)) {
+                return regra;
+            }
+        }
+        return null;
+    }
+}
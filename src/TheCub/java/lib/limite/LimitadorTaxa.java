@@ -0,0 +1,148 @@
+package lib.limite; // Limitação de taxa de requisições (rate limiting)
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Baldes de fichas (token bucket) por grupo de rota + IP, sem lock.
+ *
+ * Cada balde é um único AtomicLong com o "tempo teórico de chegada" (GCRA):
+ * consumir uma ficha é avançá-lo um intervalo via CAS; o balde está vazio
+ * quando ele passaria de agora + capacidade * intervalo. Equivale ao token
+ * bucket clássico sem precisar de thread de reabastecimento.
+ *
+ * Mapa limitado (app.limite.max-chaves):
+ * - baldes já cheios de novo (tempo teórico <= agora) são removidos a cada
+ *   app.limite.limpeza-ms; removê-los não muda nada, um balde novo nasce cheio
+ * - com o mapa cheio, chaves novas dividem um balde de transbordo do grupo,
+ *   em vez de crescer sem limite sob muitos IPs
+ *
+ * Métricas: theclub.limite.requisicoes{grupo,resultado} e theclub.limite.chaves.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LimitadorTaxa {
+
+    /**
+     * Resultado da tentativa: permitido, ou quanto esperar (Retry-After).
+     */
+    public record Decisao(boolean permitido, long esperaNanos) {
+
+        static final Decisao PERMITIDO = new Decisao(true, 0);
+
+        public long esperaSegundos() {
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + 999_999_999L));
+        }
+    }
+
+    private static final String TRANSBORDO = "*";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.limite.max-chaves:100000}")
+    private int maxChaves;
+
+    @Value("${app.limite.limpeza-ms:30000}")
+    private long limpezaMs;
+
+    private final Map<String, AtomicLong> baldes = new ConcurrentHashMap<>();
+    private final Map<String, Counter> contadores = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService limpeza;
+
+    // ====== CICLO DE VIDA ======
+
+    @PostConstruct
+    void iniciar() {
+        limpeza = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "limite-limpeza");
+            thread.setDaemon(true);
+            return thread;
+        });
+        limpeza.scheduleWithFixedDelay(this::removerOciosos, limpezaMs, limpezaMs, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("theclub.limite.chaves", baldes, Map::size)
+                .description("Baldes de rate limiting em memória")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        limpeza.shutdownNow();
+    }
+
+    // ====== CONSUMO ======
+
+    /**
+     * Tenta consumir uma ficha do balde (regra, cliente).
+     */
+    public Decisao tentarConsumir(RegraLimite regra, String cliente) {
+        AtomicLong balde = balde(regra.grupo(), cliente);
+        long intervalo = regra.intervaloNanos();
+        long tolerancia = regra.toleranciaNanos();
+        long agora = System.nanoTime();
+
+        while (true) {
+            long teorico = balde.get();
+            // Comparação por diferença: nanoTime pode ser negativo
+            long proximo = (teorico - agora > 0 ? teorico : agora) + intervalo;
+            long adiantamento = proximo - agora;
+            if (adiantamento > tolerancia) {
+                contador(regra.grupo(), "rejeitada").increment();
+                return new Decisao(false, adiantamento - tolerancia);
+            }
+            if (balde.compareAndSet(teorico, proximo)) {
+                contador(regra.grupo(), "permitida").increment();
+                return Decisao.PERMITIDO;
+            }
+        }
+    }
+
+    private AtomicLong balde(String grupo, String cliente) {
+        String chave = grupo + "|" + cliente;
+        AtomicLong balde = baldes.get(chave);
+        if (balde != null) {
+            return balde;
+        }
+        if (baldes.size() >= maxChaves) {
+            // Limite de memória: todos os clientes novos do grupo dividem um balde
+            chave = grupo + "|" + TRANSBORDO;
+        }
+        // Balde novo nasce cheio (tempo teórico = agora)
+        return baldes.computeIfAbsent(chave, k -> new AtomicLong(System.nanoTime()));
+    }
+
+    private void removerOciosos() {
+        long agora = System.nanoTime();
+        int antes = baldes.size();
+        baldes.values().removeIf(balde -> balde.get() - agora <= 0);
+        int removidos = antes - baldes.size();
+        if (removidos > 0) {
+            log.debug("🧹 Rate limiting: {} baldes ociosos removidos ({} restantes)", removidos, baldes.size());
+        }
+    }
+
+    private Counter contador(String grupo, String resultado) {
+        return contadores.computeIfAbsent(grupo + "|" + resultado, k ->
+                Counter.builder("theclub.limite.requisicoes")
+                        .tag("grupo", grupo)
+                        .tag("resultado", resultado)
+                        .description("Requisições avaliadas pelo rate limiting")
+                        .register(meterRegistry));
+    }
+}
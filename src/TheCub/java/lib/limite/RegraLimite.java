@@ -0,0 +1,31 @@
+package lib.limite; // Limitação de taxa de requisições (rate limiting)
+
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.time.Duration;
+
+/**
+ * Regra de limitação: requisições que casam com "matcher" podem chegar a
+ * "capacidade" por "periodo", por IP de cliente, contadas no balde do "grupo".
+ *
+ * A capacidade também é a rajada máxima: um cliente ocioso pode gastar tudo
+ * de uma vez e depois recebe uma ficha a cada periodo/capacidade.
+ */
+public record RegraLimite(String grupo, RequestMatcher matcher, int capacidade, Duration periodo) {
+
+    public RegraLimite {
+        if (capacidade <= 0 || periodo.isZero() || periodo.isNegative()) {
+            throw new IllegalArgumentException("Regra de limite inválida: " + grupo);
+        }
+    }
+
+    // Intervalo entre fichas, em nanossegundos
+    long intervaloNanos() {
+        return Math.max(1, periodo.toNanos() / capacidade);
+    }
+
+    // Quanto o "tempo teórico" pode ficar à frente de agora (tamanho do balde)
+    long toleranciaNanos() {
+        return intervaloNanos() * capacidade;
+    }
+}
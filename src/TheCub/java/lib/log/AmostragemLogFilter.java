@@ -0,0 +1,57 @@
+package lib.log; // Pacote de extensões de logging (Logback)
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Filtro do Logback que amostra os logs INFO "por requisição".
+ *
+ * Eventos INFO (ou abaixo) dos pacotes configurados passam com probabilidade
+ * 1/taxa; WARN e ERROR sempre passam. Usado no profile prod (logback-spring.xml)
+ * para que o volume de log não cresça linearmente com o tráfego.
+ *
+ * Configuração no XML:
+ *   <filter class="lib.log.AmostragemLogFilter">
+ *       <taxa>10</taxa>
+ *       <pacotes>app,servicos_tecnicos</pacotes>
+ *   </filter>
+ */
+public class AmostragemLogFilter extends Filter<ILoggingEvent> {
+
+    // Mantém 1 a cada "taxa" eventos (1 = sem amostragem)
+    private int taxa = 10;
+
+    // Prefixos de logger sujeitos à amostragem
+    private String[] pacotes = {"app.", "servicos_tecnicos."};
+
+    @Override
+    public FilterReply decide(ILoggingEvent evento) {
+        if (taxa <= 1 || evento.getLevel().isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        String logger = evento.getLoggerName();
+        for (String pacote : pacotes) {
+            if (logger.startsWith(pacote)) {
+                return ThreadLocalRandom.current().nextInt(taxa) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    public void setTaxa(int taxa) {
+        this.taxa = taxa;
+    }
+
+    public void setPacotes(String pacotes) {
+        String[] partes = pacotes.split(",");
+        for (int i = 0; i < partes.length; i++) {
+            String p = partes[i].trim();
+            partes[i] = p.endsWith(".") ? p : p + ".";
+        }
+        this.pacotes = partes;
+    }
+}
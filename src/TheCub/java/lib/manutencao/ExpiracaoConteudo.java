@@ -0,0 +1,193 @@
+package lib.manutencao; // Manutenção periódica de conteúdo (expiração de editais e eventos)
+
+import dominio.entidades.Edital;
+import dominio.entidades.Evento;
+import jakarta.annotation.PreDestroy;
+import lib.repository.filtro.CacheContagem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Desativa editais vencidos e encerra eventos que já aconteceram.
+ *
+ * - UPDATE em lotes de app.expiracao.lote linhas (LIMIT), cada um em sua
+ *   própria transação curta (autocommit), com app.expiracao.pausa-ms entre
+ *   eles: nenhum lock longo sobre a tabela inteira
+ * - JDBC direto: um UPDATE nativo via Hibernate invalidaria todas as regiões
+ *   do cache de segundo nível; aqui os totais paginados são invalidados à mão
+ * - data_atualizacao é atualizada junto, para o feed de sincronização
+ *   enxergar a mudança
+ * - Sem polling fixo: após cada rodada, a próxima é marcada para o próximo
+ *   vencimento conhecido (limitado a app.expiracao.intervalo-maximo-ms);
+ *   gravações via JPA antecipam a rodada pelo ExpiracaoListener
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiracaoConteudo {
+
+    private static final String EXPIRAR_EDITAIS = """
+            UPDATE editais SET ativo = false, data_atualizacao = ?
+            WHERE ativo = true AND data_validade <= ?
+            LIMIT ?
+            """;
+
+    private static final String ENCERRAR_EVENTOS = """
+            UPDATE eventos SET encerrado = true, data_atualizacao = ?
+            WHERE encerrado = false AND data_evento <= ?
+            LIMIT ?
+            """;
+
+    private static final String PROXIMO_EDITAL = """
+            SELECT MIN(data_validade) FROM editais
+            WHERE ativo = true AND data_validade > ?
+            """;
+
+    private static final String PROXIMO_EVENTO = """
+            SELECT MIN(data_evento) FROM eventos
+            WHERE encerrado = false AND data_evento > ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheContagem cacheContagem;
+
+    @Value("${app.expiracao.lote:500}")
+    private int lote;
+
+    @Value("${app.expiracao.pausa-ms:200}")
+    private long pausaMs;
+
+    @Value("${app.expiracao.intervalo-maximo-ms:3600000}")
+    private long intervaloMaximoMs;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "expiracao-conteudo");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Rodada pendente e o instante (epoch ms) para o qual foi marcada
+    private ScheduledFuture<?> proxima;
+    private long proximaEm = Long.MAX_VALUE;
+
+    // ====== CICLO DE VIDA ======
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        programar(0);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    // ====== PROGRAMAÇÃO ======
+
+    /**
+     * Antecipa a próxima rodada se o vencimento informado vier antes dela
+     * (chamado após o commit de edital/evento gravado via JPA).
+     */
+    public void considerar(LocalDateTime vencimento) {
+        if (vencimento == null) {
+            return;
+        }
+        long atraso = Duration.between(LocalDateTime.now(), vencimento).toMillis();
+        programar(Math.max(0, atraso));
+    }
+
+    private synchronized void programar(long atrasoMs) {
+        long atraso = Math.min(atrasoMs, intervaloMaximoMs);
+        long instante = System.currentTimeMillis() + atraso;
+        if (proxima != null && !proxima.isDone() && proximaEm <= instante) {
+            return; // já existe uma rodada antes disso
+        }
+        if (proxima != null) {
+            proxima.cancel(false);
+        }
+        if (executor.isShutdown()) {
+            return;
+        }
+        proximaEm = instante;
+        proxima = executor.schedule(this::rodar, atraso, TimeUnit.MILLISECONDS);
+    }
+
+    // ====== EXECUÇÃO ======
+
+    private void rodar() {
+        synchronized (this) {
+            proxima = null;
+            proximaEm = Long.MAX_VALUE;
+        }
+        long atraso = intervaloMaximoMs;
+        try {
+            LocalDateTime agora = LocalDateTime.now();
+            int editais = expirar(EXPIRAR_EDITAIS, agora);
+            if (editais > 0) {
+                cacheContagem.invalidar(Edital.class);
+            }
+            int eventos = expirar(ENCERRAR_EVENTOS, agora);
+            if (eventos > 0) {
+                cacheContagem.invalidar(Evento.class);
+            }
+            if (editais > 0 || eventos > 0) {
+                log.info("⌛ Expiração: {} edital(is) desativado(s), {} evento(s) encerrado(s)", editais, eventos);
+            }
+            atraso = atrasoAteProximoVencimento();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            log.error("❌ Falha no job de expiração de conteúdo; nova tentativa em {} ms", intervaloMaximoMs, e);
+        }
+        programar(atraso);
+    }
+
+    /**
+     * Aplica o UPDATE em lotes até sobrar menos de um lote; devolve o total de linhas.
+     */
+    private int expirar(String sql, LocalDateTime agora) throws InterruptedException {
+        Timestamp instante = Timestamp.valueOf(agora);
+        int total = 0;
+        int afetadas;
+        do {
+            afetadas = jdbcTemplate.update(sql, instante, instante, lote);
+            total += afetadas;
+            if (afetadas == lote && pausaMs > 0) {
+                Thread.sleep(pausaMs);
+            }
+        } while (afetadas == lote);
+        return total;
+    }
+
+    private long atrasoAteProximoVencimento() {
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime proximo = maisCedo(
+                jdbcTemplate.queryForObject(PROXIMO_EDITAL, LocalDateTime.class, Timestamp.valueOf(agora)),
+                jdbcTemplate.queryForObject(PROXIMO_EVENTO, LocalDateTime.class, Timestamp.valueOf(agora)));
+        if (proximo == null) {
+            return intervaloMaximoMs;
+        }
+        return Math.max(0, Duration.between(agora, proximo).toMillis());
+    }
+
+    private static LocalDateTime maisCedo(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,56 @@
+package lib.manutencao; // Manutenção periódica de conteúdo (expiração de editais e eventos)
+
+import dominio.entidades.Edital;
+import dominio.entidades.Evento;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * EntityListener que avisa o job de expiração quando um edital ou evento é
+ * gravado com vencimento anterior à próxima rodada programada.
+ *
+ * ExpiracaoConteudo é obtido sob demanda: o listener é criado durante a
+ * inicialização do próprio EntityManagerFactory.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpiracaoListener {
+
+    private final ObjectProvider<ExpiracaoConteudo> expiracao;
+
+    // Uma só callback por evento (exigência da JPA); despacha pelo tipo
+    @PostPersist
+    @PostUpdate
+    public void aoGravar(Object entidade) {
+        LocalDateTime vencimento = null;
+        if (entidade instanceof Edital edital && Boolean.TRUE.equals(edital.getAtivo())) {
+            vencimento = edital.getDataValidade();
+        } else if (entidade instanceof Evento evento && !Boolean.TRUE.equals(evento.getEncerrado())) {
+            vencimento = evento.getDataEvento();
+        }
+        if (vencimento != null) {
+            LocalDateTime considerado = vencimento;
+            aposCommit(() -> expiracao.getObject().considerar(considerado));
+        }
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+}
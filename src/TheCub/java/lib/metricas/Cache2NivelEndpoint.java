@@ -0,0 +1,73 @@
+package lib.metricas; // Pacote de instrumentação/métricas da aplicação
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Endpoint do Actuator com as estatísticas do cache de 2º nível do Hibernate.
+ *
+ *  GET    /actuator/cache2nivel  -> hits/misses/puts/entradas por região + cache de consultas
+ *  DELETE /actuator/cache2nivel  -> esvazia todas as regiões
+ *
+ * Depende de hibernate.generate_statistics=true.
+ */
+@Component
+@Endpoint(id = "cache2nivel")
+@RequiredArgsConstructor
+public class Cache2NivelEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Object> estatisticas() {
+        Statistics stats = sessionFactory().getStatistics();
+
+        Map<String, Object> regioes = new TreeMap<>();
+        for (String regiao : stats.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics r = stats.getDomainDataRegionStatistics(regiao);
+            if (r != null) {
+                regioes.put(regiao, resumo(r.getHitCount(), r.getMissCount(), r.getPutCount(),
+                        r.getElementCountInMemory()));
+            }
+        }
+
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("habilitado", stats.isStatisticsEnabled());
+        resultado.put("regioes", regioes);
+        resultado.put("consultas", resumo(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount(),
+                stats.getQueryCachePutCount(), -1));
+        return resultado;
+    }
+
+    @DeleteOperation
+    public void esvaziar() {
+        sessionFactory().getCache().evictAllRegions();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private static Map<String, Object> resumo(long hits, long misses, long puts, long entradas) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("hits", hits);
+        m.put("misses", misses);
+        m.put("puts", puts);
+        m.put("taxaAcerto", hits + misses == 0 ? 0 : Math.round(hits * 1000.0 / (hits + misses)) / 1000.0);
+        if (entradas >= 0) {
+            m.put("entradasEmMemoria", entradas);
+        }
+        return m;
+    }
+}
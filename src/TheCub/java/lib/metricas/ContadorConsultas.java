@@ -0,0 +1,87 @@
+package lib.metricas; // Pacote de instrumentação/métricas da aplicação
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * StatementInspector do Hibernate que conta os comandos SQL emitidos
+ * durante a requisição HTTP corrente.
+ *
+ * Registrado via propriedade (o Hibernate instancia a classe por reflexão):
+ *   spring.jpa.properties.hibernate.session_factory.statement_inspector=lib.metricas.ContadorConsultas
+ *
+ * O contexto é aberto/fechado pelo LatenciaInterceptor; fora de uma requisição
+ * (jobs, runners) nada é contado.
+ */
+public class ContadorConsultas implements StatementInspector {
+
+    private static final ThreadLocal<Contexto> CONTEXTO = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Contexto contexto = CONTEXTO.get();
+        if (contexto != null) {
+            contexto.registrar(sql);
+        }
+        return sql; // não altera o SQL
+    }
+
+    /**
+     * Inicia a contagem para a thread atual.
+     */
+    public static void iniciar() {
+        CONTEXTO.set(new Contexto());
+    }
+
+    /**
+     * Encerra a contagem da thread atual e devolve o contexto (ou null se não havia).
+     */
+    public static Contexto encerrar() {
+        Contexto contexto = CONTEXTO.get();
+        CONTEXTO.remove();
+        return contexto;
+    }
+
+    /**
+     * Contadores de uma requisição: total de comandos e repetições por SQL.
+     * As strings de SQL geradas pelo Hibernate são reaproveitadas, então o
+     * hash já vem calculado e o custo por consulta é baixo.
+     */
+    public static class Contexto {
+
+        private int total;
+        private final Map<String, Integer> porSql = new HashMap<>();
+
+        void registrar(String sql) {
+            total++;
+            porSql.merge(sql, 1, Integer::sum);
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * SQLs distintos emitidos no contexto (sem ordem definida).
+         */
+        public Set<String> getSqls() {
+            return porSql.keySet();
+        }
+
+        /**
+         * SQL mais repetido na requisição (candidato a N+1), ou null se não houve consultas.
+         */
+        public Map.Entry<String, Integer> maisRepetido() {
+            Map.Entry<String, Integer> maior = null;
+            for (Map.Entry<String, Integer> e : porSql.entrySet()) {
+                if (maior == null || e.getValue() > maior.getValue()) {
+                    maior = e;
+                }
+            }
+            return maior;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package lib.metricas; // Pacote de instrumentação/métricas da aplicação
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Histograma de latência de um único método/endpoint.
+ *
+ * As threads da requisição só gravam no Recorder (wait-free, sem lock);
+ * a consolidação no histograma acumulado acontece apenas na leitura
+ * (Actuator/Micrometer), fora do caminho quente.
+ */
+public class EstatisticaLatencia {
+
+    // Maior valor registrável: 60 s em microssegundos, com 2 dígitos significativos
+    private static final long MAXIMO_US = TimeUnit.SECONDS.toMicros(60);
+
+    private final String camada;
+    private final String nome;
+    private final Recorder recorder = new Recorder(MAXIMO_US, 2);
+
+    // Só acessados dentro de métodos synchronized (leitura)
+    private final Histogram acumulado = new Histogram(MAXIMO_US, 2);
+    private Histogram intervalo;
+
+    public EstatisticaLatencia(String camada, String nome) {
+        this.camada = camada;
+        this.nome = nome;
+    }
+
+    /**
+     * Registra uma execução (duração em nanossegundos).
+     */
+    public void registrar(long nanos) {
+        recorder.recordValue(Math.min(nanos / 1_000, MAXIMO_US));
+    }
+
+    // Drena o Recorder para o histograma acumulado
+    private void consolidar() {
+        intervalo = recorder.getIntervalHistogram(intervalo);
+        acumulado.add(intervalo);
+    }
+
+    public synchronized long contagem() {
+        consolidar();
+        return acumulado.getTotalCount();
+    }
+
+    /**
+     * Soma aproximada das durações (média × contagem), usada pelo FunctionTimer do Micrometer.
+     */
+    public synchronized double totalNanos() {
+        consolidar();
+        return acumulado.getMean() * acumulado.getTotalCount() * 1_000;
+    }
+
+    public synchronized double percentilMs(double percentil) {
+        consolidar();
+        return acumulado.getValueAtPercentile(percentil) / 1000.0;
+    }
+
+    public synchronized void zerar() {
+        consolidar();
+        acumulado.reset();
+    }
+
+    /**
+     * Resumo serializável para o endpoint do Actuator.
+     */
+    public synchronized Map<String, Object> resumo() {
+        consolidar();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("contagem", acumulado.getTotalCount());
+        m.put("mediaMs", arredondar(acumulado.getMean() / 1000.0));
+        m.put("p50Ms", acumulado.getValueAtPercentile(50) / 1000.0);
+        m.put("p95Ms", acumulado.getValueAtPercentile(95) / 1000.0);
+        m.put("p99Ms", acumulado.getValueAtPercentile(99) / 1000.0);
+        m.put("maxMs", acumulado.getMaxValue() / 1000.0);
+        return m;
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 1000) / 1000.0;
+    }
+
+    public String getCamada() {
+        return camada;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+}
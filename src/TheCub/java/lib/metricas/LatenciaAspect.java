@@ -0,0 +1,62 @@
+package lib.metricas; // Pacote de instrumentação/métricas da aplicação
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Aspecto que mede a latência dos serviços (servicos_tecnicos) e dos
+ * repositórios Spring Data (lib.repository).
+ *
+ * A chave da estatística é (classe do proxy, Method): para repositórios, cada
+ * interface tem sua própria classe de proxy, então findById de
+ * NoticiaRepository e de EventoRepository ficam separados.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor // injeta o RegistroLatencias
+public class LatenciaAspect {
+
+    private final RegistroLatencias registro;
+
+    // Qualquer método de serviço do pacote servicos_tecnicos
+    @Around("execution(public * servicos_tecnicos..*.*(..))")
+    public Object medirServico(ProceedingJoinPoint pjp) throws Throwable {
+        return medir(pjp, RegistroLatencias.CAMADA_SERVICO);
+    }
+
+    // Qualquer método de repositório (inclusive herdados de JpaRepository, ex.: findById)
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object medirRepositorio(ProceedingJoinPoint pjp) throws Throwable {
+        return medir(pjp, RegistroLatencias.CAMADA_REPOSITORIO);
+    }
+
+    private Object medir(ProceedingJoinPoint pjp, String camada) throws Throwable {
+        long inicio = System.nanoTime();
+        try {
+            return pjp.proceed();
+        } finally {
+            long duracao = System.nanoTime() - inicio;
+            Class<?> tipo = pjp.getThis().getClass();
+            Method metodo = ((MethodSignature) pjp.getSignature()).getMethod();
+            registro.obter(tipo, metodo, camada, () -> nomeTipo(tipo) + "." + metodo.getName())
+                    .registrar(duracao);
+        }
+    }
+
+    // Nome legível: interface do repositório (lib.repository.*) ou classe real do serviço
+    private static String nomeTipo(Class<?> tipo) {
+        for (Class<?> interfaceRepo : tipo.getInterfaces()) {
+            if (interfaceRepo.getPackageName().startsWith("lib.repository")) {
+                return interfaceRepo.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(tipo).getSimpleName();
+    }
+}
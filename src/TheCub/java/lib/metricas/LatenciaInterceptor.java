@@ -0,0 +1,77 @@
+package lib.metricas; // Pacote de instrumentação/métricas da aplicação
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Interceptor que mede a latência de cada endpoint dos controllers
+ * e conta os comandos SQL emitidos durante a requisição.
+ *
+ * Registrado em WebConfig.addInterceptors para /api/**.
+ *
+ * Handlers assíncronos (SSE, respostas em streaming): a contagem de SQL é
+ * encerrada quando a thread original é liberada (afterConcurrentHandlingStarted),
+ * para o ThreadLocal não ficar na thread do pool; a latência vai do início
+ * até o fim do despacho assíncrono.
+ */
+@Component
+@RequiredArgsConstructor // injeta o RegistroLatencias
+public class LatenciaInterceptor implements AsyncHandlerInterceptor {
+
+    // Atributo da requisição onde guardamos o instante de início
+    private static final String ATRIBUTO_INICIO = LatenciaInterceptor.class.getName() + ".inicio";
+
+    private final RegistroLatencias registro;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Redespacho assíncrono: o início e a contagem vêm do despacho original
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            request.setAttribute(ATRIBUTO_INICIO, System.nanoTime());
+            ContadorConsultas.iniciar();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object inicio = request.getAttribute(ATRIBUTO_INICIO);
+        if (!(handler instanceof HandlerMethod metodo) || inicio == null) {
+            return;
+        }
+        long duracao = System.nanoTime() - (Long) inicio;
+
+        EstatisticaLatencia estatistica = registro.obter(metodo.getBeanType(), metodo.getMethod(),
+                RegistroLatencias.CAMADA_CONTROLLER, () -> nomeEndpoint(request));
+        estatistica.registrar(duracao);
+
+        ContadorConsultas.Contexto contexto = ContadorConsultas.encerrar();
+        if (contexto != null) {
+            registro.registrarConsultas(estatistica.getNome(), contexto);
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        ContadorConsultas.Contexto contexto = ContadorConsultas.encerrar();
+        if (contexto != null && handler instanceof HandlerMethod metodo) {
+            EstatisticaLatencia estatistica = registro.obter(metodo.getBeanType(), metodo.getMethod(),
+                    RegistroLatencias.CAMADA_CONTROLLER, () -> nomeEndpoint(request));
+            registro.registrarConsultas(estatistica.getNome(), contexto);
+        }
+    }
+
+    // Ex.: "GET /api/artigos/{id}" (usa o padrão do mapeamento, não a URL concreta)
+    private static String nomeEndpoint(HttpServletRequest request) {
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (padrao != null ? padrao : request.getRequestURI());
+    }
+}
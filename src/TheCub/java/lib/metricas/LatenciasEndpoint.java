@@ -0,0 +1,33 @@
+package lib.metricas; // Pacote de instrumentação/métricas da aplicação
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Endpoint do Actuator com os histogramas de latência e as contagens de SQL.
+ *
+ *  GET    /actuator/latencias  -> p50/p95/p99/max por endpoint, serviço e repositório + alertas de N+1
+ *  DELETE /actuator/latencias  -> zera os histogramas
+ */
+@Component
+@Endpoint(id = "latencias")
+@RequiredArgsConstructor
+public class LatenciasEndpoint {
+
+    private final RegistroLatencias registro;
+
+    @ReadOperation
+    public Map<String, Object> latencias() {
+        return registro.snapshot();
+    }
+
+    @DeleteOperation
+    public void zerar() {
+        registro.zerar();
+    }
+}
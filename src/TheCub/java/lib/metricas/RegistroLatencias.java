@@ -0,0 +1,223 @@
+package lib.metricas; // Pacote de instrumentação/métricas da aplicação
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Registro central das métricas de latência e de consultas por requisição.
+ *
+ * - Um EstatisticaLatencia por endpoint (controller), serviço e repositório
+ * - Contagem de comandos SQL por endpoint, com alerta de N+1
+ * - Tudo é publicado no Micrometer (FunctionTimer/Gauge) e no endpoint /actuator/latencias
+ *
+ * A busca da estatística no caminho quente é feita por (classe, Method), sem montar Strings.
+ */
+@Component
+@RequiredArgsConstructor // injeta o MeterRegistry
+@Slf4j
+public class RegistroLatencias {
+
+    public static final String CAMADA_CONTROLLER = "controller";
+    public static final String CAMADA_SERVICO = "servico";
+    public static final String CAMADA_REPOSITORIO = "repositorio";
+
+    private static final int MAXIMO_ALERTAS_RECENTES = 50;
+
+    private final MeterRegistry meterRegistry;
+
+    // Mesmo SQL repetido ao menos N vezes numa requisição = suspeita de N+1
+    @Value("${app.metricas.nmais1.repeticoes:10}")
+    private int limiteRepeticoes;
+
+    // Requisição com mais que N comandos SQL também gera alerta
+    @Value("${app.metricas.nmais1.consultas:50}")
+    private int limiteConsultas;
+
+    // (classe do bean/proxy) -> (método) -> estatística
+    private final Map<Class<?>, Map<Method, EstatisticaLatencia>> porMetodo = new ConcurrentHashMap<>();
+
+    // endpoint -> contagem de consultas
+    private final Map<String, EstatisticaConsultas> consultas = new ConcurrentHashMap<>();
+
+    // Últimos alertas de N+1 (para inspeção no Actuator)
+    private final Deque<Map<String, Object>> alertasRecentes = new ArrayDeque<>();
+
+    // ====== LATÊNCIA ======
+
+    /**
+     * Retorna (criando na primeira vez) a estatística de um método.
+     * O nome só é calculado quando a estatística ainda não existe.
+     */
+    public EstatisticaLatencia obter(Class<?> tipo, Method metodo, String camada, Supplier<String> nome) {
+        Map<Method, EstatisticaLatencia> metodos = porMetodo.get(tipo);
+        if (metodos == null) {
+            metodos = porMetodo.computeIfAbsent(tipo, t -> new ConcurrentHashMap<>());
+        }
+        EstatisticaLatencia estatistica = metodos.get(metodo);
+        if (estatistica == null) {
+            estatistica = metodos.computeIfAbsent(metodo, m -> criar(camada, nome.get()));
+        }
+        return estatistica;
+    }
+
+    private EstatisticaLatencia criar(String camada, String nome) {
+        EstatisticaLatencia estatistica = new EstatisticaLatencia(camada, nome);
+
+        FunctionTimer.builder("theclub.latencia", estatistica,
+                        EstatisticaLatencia::contagem, EstatisticaLatencia::totalNanos, TimeUnit.NANOSECONDS)
+                .tag("camada", camada)
+                .tag("metodo", nome)
+                .description("Latência por endpoint/serviço/repositório (HdrHistogram)")
+                .register(meterRegistry);
+
+        for (double percentil : new double[]{95, 99}) {
+            Gauge.builder("theclub.latencia.percentil", estatistica, e -> e.percentilMs(percentil))
+                    .tag("camada", camada)
+                    .tag("metodo", nome)
+                    .tag("percentil", String.valueOf((int) percentil))
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+        return estatistica;
+    }
+
+    // ====== CONSULTAS POR REQUISIÇÃO ======
+
+    /**
+     * Registra quantos comandos SQL a requisição emitiu e sinaliza padrões de N+1.
+     */
+    public void registrarConsultas(String endpoint, ContadorConsultas.Contexto contexto) {
+        EstatisticaConsultas estatistica = consultas.get(endpoint);
+        if (estatistica == null) {
+            estatistica = consultas.computeIfAbsent(endpoint, this::criarConsultas);
+        }
+        estatistica.registrar(contexto.getTotal());
+
+        if (contexto.getTotal() < limiteRepeticoes) {
+            return; // caminho comum: poucas consultas, nada a analisar
+        }
+        Map.Entry<String, Integer> repetido = contexto.maisRepetido();
+        boolean nMais1 = repetido != null && repetido.getValue() >= limiteRepeticoes;
+        if (nMais1 || contexto.getTotal() >= limiteConsultas) {
+            estatistica.alertas.increment();
+            log.warn("⚠️ Possível N+1 em {}: {} consultas, SQL repetido {}x: {}",
+                    endpoint, contexto.getTotal(), repetido.getValue(), repetido.getKey());
+            guardarAlerta(endpoint, contexto.getTotal(), repetido);
+        }
+    }
+
+    private EstatisticaConsultas criarConsultas(String endpoint) {
+        EstatisticaConsultas estatistica = new EstatisticaConsultas();
+        FunctionCounter.builder("theclub.consultas.sql", estatistica, e -> e.consultas.sum())
+                .tag("endpoint", endpoint)
+                .description("Comandos SQL emitidos pelas requisições do endpoint")
+                .register(meterRegistry);
+        FunctionCounter.builder("theclub.consultas.nmais1", estatistica, e -> e.alertas.sum())
+                .tag("endpoint", endpoint)
+                .description("Requisições sinalizadas como possível N+1")
+                .register(meterRegistry);
+        return estatistica;
+    }
+
+    private synchronized void guardarAlerta(String endpoint, int total, Map.Entry<String, Integer> repetido) {
+        Map<String, Object> alerta = new LinkedHashMap<>();
+        alerta.put("momento", LocalDateTime.now().toString());
+        alerta.put("endpoint", endpoint);
+        alerta.put("consultas", total);
+        alerta.put("repeticoes", repetido.getValue());
+        alerta.put("sql", repetido.getKey());
+        alertasRecentes.addFirst(alerta);
+        if (alertasRecentes.size() > MAXIMO_ALERTAS_RECENTES) {
+            alertasRecentes.removeLast();
+        }
+    }
+
+    // ====== LEITURA (ACTUATOR) ======
+
+    /**
+     * Snapshot de todas as métricas, agrupadas por camada e ordenadas por nome.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Map<String, Object>> porCamada = new LinkedHashMap<>();
+        porCamada.put(CAMADA_CONTROLLER, new TreeMap<>());
+        porCamada.put(CAMADA_SERVICO, new TreeMap<>());
+        porCamada.put(CAMADA_REPOSITORIO, new TreeMap<>());
+
+        porMetodo.values().forEach(metodos -> metodos.values().forEach(e ->
+                porCamada.get(e.getCamada()).put(e.getNome(), e.resumo())));
+
+        Map<String, Object> porEndpoint = new TreeMap<>();
+        consultas.forEach((endpoint, e) -> porEndpoint.put(endpoint, e.resumo()));
+
+        Map<String, Object> resultado = new LinkedHashMap<>(porCamada);
+        resultado.put("consultasPorRequisicao", porEndpoint);
+        synchronized (this) {
+            resultado.put("alertasNMais1", new ArrayList<>(alertasRecentes));
+        }
+        return resultado;
+    }
+
+    /**
+     * Zera os histogramas (útil entre rodadas de teste de carga).
+     */
+    public void zerar() {
+        porMetodo.values().forEach(metodos -> metodos.values().forEach(EstatisticaLatencia::zerar));
+        consultas.values().forEach(EstatisticaConsultas::zerar);
+        synchronized (this) {
+            alertasRecentes.clear();
+        }
+    }
+
+    /**
+     * Agregados de consultas SQL de um endpoint (sem lock no caminho quente).
+     */
+    private static class EstatisticaConsultas {
+        private final LongAdder requisicoes = new LongAdder();
+        private final LongAdder consultas = new LongAdder();
+        private final LongAdder alertas = new LongAdder();
+        private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+        void registrar(int total) {
+            requisicoes.increment();
+            consultas.add(total);
+            maximo.accumulate(total);
+        }
+
+        void zerar() {
+            requisicoes.reset();
+            consultas.reset();
+            alertas.reset();
+            maximo.reset();
+        }
+
+        Map<String, Object> resumo() {
+            long reqs = requisicoes.sum();
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("requisicoes", reqs);
+            m.put("mediaConsultas", reqs == 0 ? 0 : Math.round(consultas.sum() * 100.0 / reqs) / 100.0);
+            m.put("maxConsultas", maximo.get());
+            m.put("alertasNMais1", alertas.sum());
+            return m;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package lib.ranking; // Rankings materializados em memória
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Placar incremental: pontos por id, ordenados do maior para o menor.
+ *
+ * - Escrita (ajustar) é O(log n) e serializada; acontece só em publicação,
+ *   aprovação etc., bem mais raras que as leituras
+ * - Leitura (topo) devolve um snapshot imutável dos primeiros "maximo"
+ *   itens, refeito só depois de uma escrita
+ * - substituir() troca tudo pelo resultado de um recálculo completo
+ */
+public class Placar {
+
+    /**
+     * Uma posição no placar.
+     */
+    public record Posicao(long id, long pontos) {
+    }
+
+    // Maior pontuação primeiro; empate pelo menor id (ordem estável)
+    private static final Comparator<Posicao> ORDEM = Comparator
+            .comparingLong(Posicao::pontos).reversed()
+            .thenComparingLong(Posicao::id);
+
+    private final int maximo;
+    private final Map<Long, Long> pontos = new HashMap<>();
+    private final TreeSet<Posicao> ordenado = new TreeSet<>(ORDEM);
+
+    // Snapshot do topo; null = precisa ser refeito
+    private volatile List<Posicao> topo = List.of();
+
+    public Placar(int maximo) {
+        this.maximo = maximo;
+    }
+
+    // ====== ESCRITA ======
+
+    public synchronized void ajustar(long id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        long atual = pontos.getOrDefault(id, 0L);
+        long novo = Math.max(0, atual + delta);
+        if (atual > 0) {
+            ordenado.remove(new Posicao(id, atual));
+        }
+        if (novo > 0) {
+            pontos.put(id, novo);
+            ordenado.add(new Posicao(id, novo));
+        } else {
+            pontos.remove(id);
+        }
+        topo = null;
+    }
+
+    public synchronized void substituir(Map<Long, Long> recalculado) {
+        pontos.clear();
+        ordenado.clear();
+        recalculado.forEach((id, valor) -> {
+            if (valor != null && valor > 0) {
+                pontos.put(id, valor);
+                ordenado.add(new Posicao(id, valor));
+            }
+        });
+        topo = null;
+    }
+
+    // ====== LEITURA ======
+
+    /**
+     * Os "quantidade" primeiros (até o máximo configurado).
+     */
+    public List<Posicao> topo(int quantidade) {
+        List<Posicao> atual = topo;
+        if (atual == null) {
+            atual = refazerTopo();
+        }
+        return atual.subList(0, Math.min(Math.max(quantidade, 0), atual.size()));
+    }
+
+    public synchronized int tamanho() {
+        return pontos.size();
+    }
+
+    private synchronized List<Posicao> refazerTopo() {
+        if (topo != null) {
+            return topo;
+        }
+        List<Posicao> novo = new ArrayList<>(Math.min(maximo, ordenado.size()));
+        Iterator<Posicao> it = ordenado.iterator();
+        while (it.hasNext() && novo.size() < maximo) {
+            novo.add(it.next());
+        }
+        topo = Collections.unmodifiableList(novo);
+        return topo;
+    }
+}
@@ -0,0 +1,174 @@
+package lib.ranking; // Rankings materializados em memória
+
+import dominio.entidades.Comentario;
+import dominio.entidades.Noticia;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * EntityListener que mantém os Rankings em dia a cada publicação de artigo
+ * e aprovação de comentário.
+ *
+ * A contribuição já contabilizada (autor/categoria de um artigo PUBLICADO,
+ * usuário de um comentário aprovado) fica em campos @Transient da entidade,
+ * preenchidos no @PostLoad; a cada gravação aplica-se só a diferença, e
+ * apenas após o commit. As diferenças de uma transação vão num lote só, que
+ * segura a trava de diferenças dos Rankings até o fim da transação (ver
+ * Rankings: o recálculo completo não pode ler o banco entre o commit e a
+ * aplicação delas).
+ *
+ * Rankings é obtido sob demanda: depende de repositórios, e o listener é
+ * criado durante a inicialização do próprio EntityManagerFactory.
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingListener {
+
+    private final ObjectProvider<Rankings> rankings;
+
+    // Uma só callback por evento (exigência da JPA); despacha pelo tipo
+
+    @PostLoad
+    public void aoCarregar(Object entidade) {
+        if (entidade instanceof Noticia artigo) {
+            artigo.setRankingAutorId(autorContabilizavel(artigo));
+            artigo.setRankingCategoriaId(categoriaContabilizavel(artigo));
+        } else if (entidade instanceof Comentario comentario) {
+            comentario.setRankingUsuarioId(usuarioContabilizavel(comentario));
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void aoGravar(Object entidade) {
+        if (entidade instanceof Noticia artigo) {
+            gravarArtigo(artigo);
+        } else if (entidade instanceof Comentario comentario) {
+            gravarComentario(comentario);
+        }
+    }
+
+    @PostRemove
+    public void aoRemover(Object entidade) {
+        if (entidade instanceof Noticia artigo) {
+            Long autor = artigo.getRankingAutorId();
+            Long categoria = artigo.getRankingCategoriaId();
+            if (autor != null || categoria != null) {
+                aposCommit(() -> rankings.getObject().artigoPublicado(autor, categoria, -1));
+            }
+        } else if (entidade instanceof Comentario comentario) {
+            Long usuario = comentario.getRankingUsuarioId();
+            if (usuario != null) {
+                aposCommit(() -> rankings.getObject().comentarioAprovado(usuario, -1));
+            }
+        }
+    }
+
+    // ====== DIFERENÇAS ======
+
+    private void gravarArtigo(Noticia artigo) {
+        Long autorAnterior = artigo.getRankingAutorId();
+        Long categoriaAnterior = artigo.getRankingCategoriaId();
+        Long autorAtual = autorContabilizavel(artigo);
+        Long categoriaAtual = categoriaContabilizavel(artigo);
+        artigo.setRankingAutorId(autorAtual);
+        artigo.setRankingCategoriaId(categoriaAtual);
+
+        if (Objects.equals(autorAnterior, autorAtual) && Objects.equals(categoriaAnterior, categoriaAtual)) {
+            return;
+        }
+        aposCommit(() -> {
+            Rankings r = rankings.getObject();
+            r.artigoPublicado(autorAnterior, categoriaAnterior, -1);
+            r.artigoPublicado(autorAtual, categoriaAtual, 1);
+        });
+    }
+
+    private void gravarComentario(Comentario comentario) {
+        Long anterior = comentario.getRankingUsuarioId();
+        Long atual = usuarioContabilizavel(comentario);
+        comentario.setRankingUsuarioId(atual);
+
+        if (Objects.equals(anterior, atual)) {
+            return;
+        }
+        aposCommit(() -> {
+            Rankings r = rankings.getObject();
+            r.comentarioAprovado(anterior, -1);
+            r.comentarioAprovado(atual, 1);
+        });
+    }
+
+    // ====== AUXILIARES ======
+
+    // getId() de um proxy LAZY não inicializa a associação
+    private static Long autorContabilizavel(Noticia artigo) {
+        return artigo.isPublicado() && artigo.getAutor() != null ? artigo.getAutor().getId() : null;
+    }
+
+    private static Long categoriaContabilizavel(Noticia artigo) {
+        return artigo.isPublicado() && artigo.getCategoria() != null ? artigo.getCategoria().getId() : null;
+    }
+
+    private static Long usuarioContabilizavel(Comentario comentario) {
+        return comentario.isAprovado() && comentario.getUsuario() != null ? comentario.getUsuario().getId() : null;
+    }
+
+    private void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Rankings r = rankings.getObject();
+            r.travarDiferencas();
+            try {
+                acao.run();
+            } finally {
+                r.liberarDiferencas();
+            }
+            return;
+        }
+        // Procura entre as sincronizações da transação corrente (as de uma transação suspensa ficam de fora)
+        LoteDiferencas lote = null;
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sincronizacao instanceof LoteDiferencas existente) {
+                lote = existente;
+            }
+        }
+        if (lote == null) {
+            lote = new LoteDiferencas(rankings.getObject());
+            TransactionSynchronizationManager.registerSynchronization(lote);
+            lote.rankings.travarDiferencas();
+        }
+        lote.acoes.add(acao);
+    }
+
+    // Diferenças de uma transação: aplicadas no commit, trava liberada no fim
+    private static final class LoteDiferencas implements TransactionSynchronization {
+
+        private final Rankings rankings;
+        private final List<Runnable> acoes = new ArrayList<>();
+
+        LoteDiferencas(Rankings rankings) {
+            this.rankings = rankings;
+        }
+
+        @Override
+        public void afterCommit() {
+            acoes.forEach(Runnable::run);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            rankings.liberarDiferencas();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package lib.ranking; // Rankings materializados em memória
+
+import jakarta.annotation.PostConstruct;
+import lib.repository.ComentarioRepository;
+import lib.repository.NoticiaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Rankings mantidos em memória, sem GROUP BY por requisição:
+ * - autores: artigos PUBLICADOS por autor
+ * - comentaristas: comentários aprovados por usuário
+ * - categorias: artigos PUBLICADOS por categoria
+ *
+ * Atualizados incrementalmente pelo RankingListener (após o commit) e
+ * recalculados por completo na inicialização e a cada app.ranking.recalculo-ms,
+ * o que corrige desvios de escritas em massa (UPDATE JPQL/JDBC) que não
+ * passam pelos listeners.
+ *
+ * Recálculo x diferenças: uma transação que gravou diferenças segura a trava
+ * de leitura do flush até o fim (commit ou rollback), e o recálculo pega a
+ * de escrita antes de ler o banco. Assim toda diferença ou já estava aplicada
+ * antes da leitura (e é sobrescrita por ela) ou é de um commit posterior
+ * (e é aplicada depois do substituir) - nunca contada duas vezes.
+ */
+@Component
+@Slf4j
+public class Rankings {
+
+    private final NoticiaRepository artigoRepository;
+    private final ComentarioRepository comentarioRepository;
+    private final TransactionTemplate leitura;
+
+    // Leitura: transações com diferenças pendentes; escrita: recálculo
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+
+    @Value("${app.ranking.maximo:100}")
+    private int maximo;
+
+    // Sem a trava nesse prazo o recálculo fica para a próxima rodada (evita
+    // esperar por uma transação presa em lock do banco)
+    @Value("${app.ranking.espera-trava-ms:5000}")
+    private long esperaTravaMs;
+
+    private Placar autores;
+    private Placar comentaristas;
+    private Placar categorias;
+
+    public Rankings(NoticiaRepository artigoRepository,
+                    ComentarioRepository comentarioRepository,
+                    PlatformTransactionManager transactionManager) {
+        this.artigoRepository = artigoRepository;
+        this.comentarioRepository = comentarioRepository;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+    }
+
+    // ====== CICLO DE VIDA ======
+
+    @PostConstruct
+    void criarPlacares() {
+        autores = new Placar(maximo);
+        comentaristas = new Placar(maximo);
+        categorias = new Placar(maximo);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        recalcular();
+    }
+
+    // ====== LEITURA ======
+
+    public List<Placar.Posicao> topAutores(int quantidade) {
+        return autores.topo(quantidade);
+    }
+
+    public List<Placar.Posicao> topComentaristas(int quantidade) {
+        return comentaristas.topo(quantidade);
+    }
+
+    public List<Placar.Posicao> topCategorias(int quantidade) {
+        return categorias.topo(quantidade);
+    }
+
+    // ====== ATUALIZAÇÃO INCREMENTAL ======
+
+    // Chamados pelo RankingListener: uma vez por transação, do primeiro flush
+    // com diferenças até o afterCompletion (mesma thread)
+    void travarDiferencas() {
+        trava.readLock().lock();
+    }
+
+    void liberarDiferencas() {
+        trava.readLock().unlock();
+    }
+
+    void artigoPublicado(Long autorId, Long categoriaId, int delta) {
+        if (autorId != null) {
+            autores.ajustar(autorId, delta);
+        }
+        if (categoriaId != null) {
+            categorias.ajustar(categoriaId, delta);
+        }
+    }
+
+    void comentarioAprovado(Long usuarioId, int delta) {
+        if (usuarioId != null) {
+            comentaristas.ajustar(usuarioId, delta);
+        }
+    }
+
+    // ====== RECÁLCULO COMPLETO ======
+
+    @Scheduled(fixedDelayString = "${app.ranking.recalculo-ms:600000}",
+            initialDelayString = "${app.ranking.recalculo-ms:600000}")
+    public void recalcular() {
+        long inicio = System.currentTimeMillis();
+        try {
+            if (!trava.writeLock().tryLock(esperaTravaMs, TimeUnit.MILLISECONDS)) {
+                log.warn("⚠️ Recálculo dos rankings adiado: transações com diferenças pendentes há mais de {} ms",
+                        esperaTravaMs);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            // Transação aberta só depois da trava: o snapshot já inclui todo commit com diferença aplicada
+            leitura.executeWithoutResult(status -> {
+                autores.substituir(paraMapa(artigoRepository.contarPublicadosPorAutor()));
+                categorias.substituir(paraMapa(artigoRepository.contarPublicadosPorCategoria()));
+                comentaristas.substituir(paraMapa(comentarioRepository.contarAprovadosPorUsuario()));
+            });
+        } finally {
+            trava.writeLock().unlock();
+        }
+        log.info("🏆 Rankings recalculados em {} ms ({} autores, {} categorias, {} comentaristas)",
+                System.currentTimeMillis() - inicio, autores.tamanho(), categorias.tamanho(), comentaristas.tamanho());
+    }
+
+    private static Map<Long, Long> paraMapa(List<Object[]> linhas) {
+        Map<Long, Long> mapa = new HashMap<>(linhas.size() * 2);
+        for (Object[] linha : linhas) {
+            if (linha[0] != null) {
+                mapa.put(((Number) linha[0]).longValue(), ((Number) linha[1]).longValue());
+            }
+        }
+        return mapa;
+    }
+}
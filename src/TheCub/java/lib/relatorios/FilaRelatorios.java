@@ -0,0 +1,272 @@
+package lib.relatorios; // Relatórios pesados gerados em segundo plano
+
+import dominio.entidades.RelatorioJob;
+import dominio.enums.StatusRelatorio;
+import dominio.exception.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lib.replica.RoteadorLeituras;
+import lib.repository.RelatorioJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import servicos_tecnicos.FileStorageService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fila de geração de relatórios: pool limitado de workers sobre a tabela
+ * relatorios_jobs.
+ *
+ * - app.relatorios.workers threads e fila de app.relatorios.fila-maxima
+ *   posições; cheia, o pedido é recusado com 503 + Retry-After
+ * - a tabela é a fonte durável: jobs PENDENTES que não couberam na fila, de
+ *   outra instância ou de antes de um restart são recolhidos a cada
+ *   app.relatorios.recolha-ms
+ * - cada worker reserva o job com um UPDATE condicional (PENDENTE ->
+ *   PROCESSANDO); o mesmo id enfileirado duas vezes roda uma vez só
+ * - o arquivo é escrito em {app.upload.dir}/relatorios/ e o job guarda o
+ *   caminho relativo; falha apaga o arquivo parcial. Com várias instâncias,
+ *   app.upload.dir tem de ser um volume compartilhado: quem gera não é
+ *   necessariamente quem atende o download
+ *
+ * Métrica: theclub.relatorios.fila (gauge).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FilaRelatorios {
+
+    private static final String SUBDIRETORIO = "relatorios";
+
+    private final RelatorioJobRepository jobRepository;
+    private final GeradorRelatorios gerador;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.relatorios.workers:2}")
+    private int workers;
+
+    @Value("${app.relatorios.fila-maxima:20}")
+    private int capacidadeFila;
+
+    @Value("${app.relatorios.timeout-minutos:60}")
+    private long timeoutMinutos;
+
+    @Value("${app.relatorios.retencao-horas:168}")
+    private long retencaoHoras;
+
+    private ThreadPoolExecutor executor;
+
+    // Ids já entregues ao pool nesta instância (evita enfileirar o mesmo job na recolha)
+    private final Set<Long> enfileirados = ConcurrentHashMap.newKeySet();
+
+    // ====== CICLO DE VIDA ======
+
+    @PostConstruct
+    void iniciar() {
+        AtomicInteger sequencia = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "relatorio-" + sequencia.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("theclub.relatorios.fila", executor, e -> e.getQueue().size())
+                .description("Relatórios aguardando um worker")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aoIniciar() {
+        recolherPendentes();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        // Jobs interrompidos voltam como PENDENTE só após o timeout; ver recolherPendentes()
+        executor.shutdownNow();
+    }
+
+    // ====== ENFILEIRAMENTO ======
+
+    /**
+     * Recusa o pedido antes de gravá-lo se a fila já estiver cheia.
+     */
+    public void verificarCapacidade() {
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw new ServicoSobrecarregadoException("Fila de relatórios cheia; tente novamente em instantes", 30);
+        }
+    }
+
+    /**
+     * Entrega o job ao pool após o commit da transação que o criou.
+     * Se a fila encher nesse meio-tempo, ele fica PENDENTE para a próxima recolha.
+     */
+    public void enfileirarAposCommit(Long jobId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enfileirar(jobId);
+                }
+            });
+        } else {
+            enfileirar(jobId);
+        }
+    }
+
+    private boolean enfileirar(Long jobId) {
+        if (!enfileirados.add(jobId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    executar(jobId);
+                } finally {
+                    enfileirados.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            enfileirados.remove(jobId);
+            log.debug("⏳ Fila de relatórios cheia; job {} fica para a próxima recolha", jobId);
+            return false;
+        }
+    }
+
+    /**
+     * Recolhe jobs PENDENTES (de restarts, de outras instâncias ou que não
+     * couberam na fila) e devolve à fila os PROCESSANDO parados além do timeout.
+     */
+    @Scheduled(fixedDelayString = "${app.relatorios.recolha-ms:60000}",
+            initialDelayString = "${app.relatorios.recolha-ms:60000}")
+    public void recolherPendentes() {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(timeoutMinutos);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (RelatorioJob parado : jobRepository.findByStatusAndDataInicioBefore(StatusRelatorio.PROCESSANDO, limite)) {
+                log.warn("⚠️ Relatório {} parado em PROCESSANDO desde {}; voltando para a fila",
+                        parado.getId(), parado.getDataInicio());
+                parado.setStatus(StatusRelatorio.PENDENTE);
+                parado.setDataInicio(null);
+            }
+        });
+        // Primário: inclui os que acabaram de voltar para PENDENTE
+        for (RelatorioJob pendente : RoteadorLeituras.noPrimario(
+                () -> jobRepository.findByStatusOrderByDataCriacaoAsc(StatusRelatorio.PENDENTE))) {
+            if (!enfileirar(pendente.getId())) {
+                break; // fila cheia: o resto fica para a próxima recolha
+            }
+        }
+    }
+
+    // ====== EXECUÇÃO ======
+
+    private void executar(Long jobId) {
+        // Lido na mesma transação da reserva (primário), não numa leitura solta que iria para a réplica
+        RelatorioJob job = transactionTemplate.execute(status ->
+                jobRepository.reservar(jobId, LocalDateTime.now()) == 0 ? null : jobRepository.findById(jobId).orElse(null));
+        if (job == null) {
+            return; // já reservado por outro worker/instância, ou removido
+        }
+
+        long inicio = System.currentTimeMillis();
+        String arquivo = fileStorageService.novoArquivo(SUBDIRETORIO, job.getFormato().getExtensao());
+        Path caminho = fileStorageService.caminho(arquivo);
+        try {
+            long linhas;
+            try (OutputStream out = Files.newOutputStream(caminho)) {
+                linhas = gerador.gerar(job.getTipo(), job.getDe(), job.getAte(), job.getFormato(), out);
+            }
+            long tamanho = Files.size(caminho);
+            concluir(jobId, arquivo, linhas, tamanho);
+            log.info("📑 Relatório {} ({}, {} a {}) gerado: {} linhas, {} bytes em {} ms",
+                    jobId, job.getTipo(), job.getDe(), job.getAte(), linhas, tamanho,
+                    System.currentTimeMillis() - inicio);
+        } catch (IOException | RuntimeException e) {
+            log.error("❌ Falha ao gerar o relatório {}", jobId, e);
+            apagarArquivo(caminho);
+            falhar(jobId, e.getMessage());
+        }
+    }
+
+    private void concluir(Long jobId, String arquivo, long linhas, long tamanho) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(StatusRelatorio.CONCLUIDO);
+            job.setArquivo(arquivo);
+            job.setLinhas(linhas);
+            job.setTamanhoBytes(tamanho);
+            job.setDataConclusao(LocalDateTime.now());
+        }));
+    }
+
+    private void falhar(Long jobId, String mensagem) {
+        String erro = mensagem == null ? "Erro inesperado" : mensagem;
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(StatusRelatorio.FALHOU);
+            job.setErro(erro.length() > 500 ? erro.substring(0, 500) : erro);
+            job.setDataConclusao(LocalDateTime.now());
+        }));
+    }
+
+    // ====== LIMPEZA ======
+
+    /**
+     * Remove jobs (e arquivos) com mais de app.relatorios.retencao-horas.
+     */
+    @Scheduled(cron = "${app.relatorios.limpeza-cron:0 30 3 * * *}")
+    public void limparAntigos() {
+        LocalDateTime limite = LocalDateTime.now().minusHours(retencaoHoras);
+        Integer removidos = transactionTemplate.execute(status -> {
+            int total = 0;
+            for (RelatorioJob job : jobRepository.findByDataCriacaoBefore(limite)) {
+                if (job.getStatus() == StatusRelatorio.PROCESSANDO) {
+                    continue;
+                }
+                if (job.getArquivo() != null) {
+                    apagarArquivo(fileStorageService.caminho(job.getArquivo()));
+                }
+                jobRepository.delete(job);
+                total++;
+            }
+            return total;
+        });
+        if (removidos != null && removidos > 0) {
+            log.info("🧹 {} relatório(s) anteriores a {} removidos", removidos, limite);
+        }
+    }
+
+    private static void apagarArquivo(Path caminho) {
+        try {
+            Files.deleteIfExists(caminho);
+        } catch (IOException e) {
+            log.warn("⚠️ Não foi possível apagar o arquivo de relatório {}: {}", caminho, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package lib.relatorios; // Relatórios pesados gerados em segundo plano
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dominio.enums.FormatoExportacao;
+import dominio.enums.TipoRelatorio;
+import lib.exportacao.EscritorExportacao;
+import lib.exportacao.EscritorExportacao.Coluna;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL de cada TipoRelatorio e escrita do resultado, linha a linha.
+ *
+ * As consultas agregam no banco e o resultado chega em streaming (fetch size
+ * Integer.MIN_VALUE no MySQL): cada linha vai para o arquivo assim que é
+ * lida, sem montar listas em memória.
+ */
+@Component
+public class GeradorRelatorios {
+
+    // Por mês/categoria: publicações (data_publicacao) e comentários recebidos (data_comentario)
+    private static final String ATIVIDADE_MENSAL_CATEGORIA = """
+            SELECT t.mes, t.categoria_id, t.categoria,
+                   SUM(t.artigos) AS artigos, SUM(t.visualizacoes) AS visualizacoes, SUM(t.comentarios) AS comentarios
+            FROM (
+                SELECT DATE_FORMAT(a.data_publicacao, '%Y-%m') AS mes, c.id AS categoria_id, c.nome AS categoria,
+                       COUNT(*) AS artigos, SUM(a.visualizacoes) AS visualizacoes, 0 AS comentarios
+                FROM artigos a JOIN categorias c ON c.id = a.categoria_id
+                WHERE a.status = 'PUBLICADO' AND a.data_publicacao >= ? AND a.data_publicacao < ?
+                GROUP BY mes, c.id, c.nome
+                UNION ALL
+                SELECT DATE_FORMAT(m.data_comentario, '%Y-%m'), c.id, c.nome, 0, 0, COUNT(*)
+                FROM comentarios m
+                JOIN artigos a ON a.id = m.artigo_id
+                JOIN categorias c ON c.id = a.categoria_id
+                WHERE m.data_comentario >= ? AND m.data_comentario < ?
+                GROUP BY 1, c.id, c.nome
+            ) t
+            GROUP BY t.mes, t.categoria_id, t.categoria
+            ORDER BY t.mes, t.categoria
+            """;
+
+    private static final String PRODUTIVIDADE_AUTORES = """
+            SELECT u.id, u.nome, COUNT(*) AS publicados,
+                   SUM(a.visualizacoes) AS visualizacoes, ROUND(AVG(a.visualizacoes), 1) AS media_visualizacoes,
+                   SUM(a.gostei) AS gostei, SUM(a.nao_gostei) AS nao_gostei,
+                   MIN(a.data_publicacao) AS primeira_publicacao, MAX(a.data_publicacao) AS ultima_publicacao
+            FROM artigos a JOIN usuarios u ON u.id = a.autor_id
+            WHERE a.status = 'PUBLICADO' AND a.data_publicacao >= ? AND a.data_publicacao < ?
+            GROUP BY u.id, u.nome
+            ORDER BY publicados DESC, u.nome
+            """;
+
+    // Tempos só para comentários com data_aprovacao (aprovados antes dela existir ficam de fora)
+    private static final String SLA_MODERACAO = """
+            SELECT DATE(c.data_comentario) AS dia,
+                   COUNT(*) AS recebidos,
+                   SUM(CASE WHEN c.aprovado = true THEN 1 ELSE 0 END) AS aprovados,
+                   SUM(CASE WHEN c.aprovado = false THEN 1 ELSE 0 END) AS pendentes,
+                   ROUND(AVG(TIMESTAMPDIFF(MINUTE, c.data_comentario, c.data_aprovacao)) / 60, 2) AS horas_media,
+                   ROUND(MAX(TIMESTAMPDIFF(MINUTE, c.data_comentario, c.data_aprovacao)) / 60, 2) AS horas_maxima,
+                   SUM(CASE WHEN c.data_aprovacao IS NOT NULL
+                             AND TIMESTAMPDIFF(MINUTE, c.data_comentario, c.data_aprovacao) <= ? THEN 1 ELSE 0 END) AS no_prazo
+            FROM comentarios c
+            WHERE c.data_comentario >= ? AND c.data_comentario < ?
+            GROUP BY DATE(c.data_comentario)
+            ORDER BY dia
+            """;
+
+    private final JdbcTemplate streaming;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.relatorios.sla-moderacao-horas:24}")
+    private long slaModeracaoHoras;
+
+    public GeradorRelatorios(DataSource dataSource, ObjectMapper objectMapper) {
+        // Template próprio: o fetch size de streaming não pode valer para o resto da aplicação
+        this.streaming = new JdbcTemplate(dataSource);
+        this.streaming.setFetchSize(Integer.MIN_VALUE);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Executa o relatório do período [de, ate] (dias inteiros) e escreve o
+     * resultado em "out". Devolve o número de linhas escritas.
+     */
+    public long gerar(TipoRelatorio tipo, LocalDate de, LocalDate ate,
+                      FormatoExportacao formato, OutputStream out) throws IOException {
+        Timestamp inicio = Timestamp.valueOf(de.atStartOfDay());
+        Timestamp fim = Timestamp.valueOf(ate.plusDays(1).atStartOfDay());
+        return switch (tipo) {
+            case ATIVIDADE_MENSAL_CATEGORIA -> escrever(ATIVIDADE_MENSAL_CATEGORIA,
+                    List.of("mes", "categoriaId", "categoria", "artigos", "visualizacoes", "comentarios"),
+                    formato, out, inicio, fim, inicio, fim);
+            case PRODUTIVIDADE_AUTORES -> escrever(PRODUTIVIDADE_AUTORES,
+                    List.of("autorId", "autor", "publicados", "visualizacoes", "mediaVisualizacoes",
+                            "gostei", "naoGostei", "primeiraPublicacao", "ultimaPublicacao"),
+                    formato, out, inicio, fim);
+            case SLA_MODERACAO -> escrever(SLA_MODERACAO,
+                    List.of("dia", "recebidos", "aprovados", "pendentes", "horasMediaAprovacao",
+                            "horasMaximaAprovacao", "aprovadosNoPrazo"),
+                    formato, out, slaModeracaoHoras * 60, inicio, fim);
+        };
+    }
+
+    private long escrever(String sql, List<String> nomes, FormatoExportacao formato,
+                          OutputStream out, Object... parametros) throws IOException {
+        List<Coluna<Object[]>> colunas = new ArrayList<>(nomes.size());
+        for (int i = 0; i < nomes.size(); i++) {
+            int indice = i;
+            colunas.add(new Coluna<>(nomes.get(i), linha -> linha[indice]));
+        }
+
+        AtomicLong total = new AtomicLong();
+        try (EscritorExportacao<Object[]> escritor = EscritorExportacao.para(formato, colunas, out, objectMapper)) {
+            streaming.query(sql, rs -> {
+                Object[] linha = new Object[nomes.size()];
+                for (int i = 0; i < linha.length; i++) {
+                    linha[i] = normalizar(rs.getObject(i + 1));
+                }
+                try {
+                    escritor.escrever(linha);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                total.incrementAndGet();
+            }, parametros);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return total.get();
+    }
+
+    // Tipos java.sql viram java.time (ISO-8601 no CSV e no JSON)
+    private static Object normalizar(Object valor) {
+        if (valor instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (valor instanceof Date data) {
+            return data.toLocalDate();
+        }
+        return valor;
+    }
+}
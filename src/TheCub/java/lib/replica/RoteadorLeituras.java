@@ -0,0 +1,264 @@
+package lib.replica; // Roteamento das leituras para a réplica do MySQL
+
+import dominio.model.CustomUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Escolhe, a cada conexão pedida, entre o pool do primário e o da réplica
+ * (app.datasource.replica.habilitada=true; ver lib.config.ReplicaLeituraConfig).
+ *
+ * - Transações readOnly vão para a réplica; todo o resto vai para o primário
+ * - Ler as próprias escritas: depois do commit de uma escrita, as leituras
+ *   do mesmo usuário ficam no primário por
+ *   app.datasource.replica.ler-proprias-escritas-segundos. Escritas que o
+ *   usuário não fez (contador de visualizações, renderização sob demanda)
+ *   passam por semJanelaDeEscrita(...) e não abrem a janela. A janela fica
+ *   na memória desta instância: com várias, o balanceador precisa de sessão
+ *   fixa (sticky) por usuário, senão a leitura seguinte em outra instância
+ *   pode ir para a réplica atrasada
+ * - Atraso: a cada app.datasource.replica.verificacao-ms o SHOW REPLICA STATUS
+ *   da réplica é lido; acima de app.datasource.replica.atraso-maximo-segundos,
+ *   com a replicação parada ou sem resposta, as leituras voltam ao primário
+ *   até a próxima verificação boa
+ * - Falha ao abrir conexão na réplica: a leitura segue no primário e a
+ *   réplica fica fora até a próxima verificação
+ * - noPrimario(...): leituras que alimentam caches por versão ou cursores
+ *   (não podem ver a réplica atrasada) ficam no primário
+ *
+ * A decisão usa o estado da transação corrente, então precisa do
+ * LazyConnectionDataSourceProxy na frente (a conexão só é pedida no primeiro
+ * comando, quando o readOnly já está definido).
+ *
+ * Métricas: theclub.datasource.leituras (tags destino e motivo),
+ * theclub.datasource.replica.disponivel e theclub.datasource.replica.atraso (gauges).
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.habilitada", havingValue = "true")
+@Slf4j
+public class RoteadorLeituras extends AbstractDataSource {
+
+    // Leituras forçadas no primário na thread corrente (ver noPrimario)
+    private static final ThreadLocal<Boolean> NO_PRIMARIO = new ThreadLocal<>();
+
+    // Escritas da thread corrente que não abrem a janela (ver semJanelaDeEscrita)
+    private static final ThreadLocal<Boolean> SEM_JANELA = new ThreadLocal<>();
+
+    private final DataSource primario;
+    private final DataSource replica;
+
+    // Usuário -> instante (ms) do último commit de escrita
+    private final Map<Long, Long> ultimasEscritas = new ConcurrentHashMap<>();
+
+    private volatile boolean disponivel;
+    private volatile long atrasoSegundos = -1;
+
+    private final Counter leiturasReplica;
+    private final Counter primarioEscritaRecente;
+    private final Counter primarioForcado;
+    private final Counter primarioIndisponivel;
+    private final Counter primarioFalha;
+
+    @Value("${app.datasource.replica.atraso-maximo-segundos:2}")
+    private long atrasoMaximoSegundos;
+
+    @Value("${app.datasource.replica.ler-proprias-escritas-segundos:5}")
+    private long janelaEscritasSegundos;
+
+    // false: aceita uma réplica sem status de replicação (ex.: segundo pool no mesmo MySQL, em testes locais)
+    @Value("${app.datasource.replica.exigir-replicacao:true}")
+    private boolean exigirReplicacao;
+
+    public RoteadorLeituras(@Qualifier("dataSourcePrimario") DataSource primario,
+                            @Qualifier("dataSourceReplica") DataSource replica,
+                            MeterRegistry meterRegistry) {
+        this.primario = primario;
+        this.replica = replica;
+        this.leiturasReplica = contador(meterRegistry, "replica", "readonly");
+        this.primarioEscritaRecente = contador(meterRegistry, "primario", "escrita-recente");
+        this.primarioForcado = contador(meterRegistry, "primario", "forcado");
+        this.primarioIndisponivel = contador(meterRegistry, "primario", "replica-indisponivel");
+        this.primarioFalha = contador(meterRegistry, "primario", "falha-conexao");
+        Gauge.builder("theclub.datasource.replica.disponivel", this, r -> r.disponivel ? 1 : 0)
+                .description("1 quando as leituras readOnly estão indo para a réplica").register(meterRegistry);
+        Gauge.builder("theclub.datasource.replica.atraso", this, r -> r.atrasoSegundos)
+                .description("Atraso da réplica na última verificação (-1 = desconhecido)")
+                .baseUnit("seconds").register(meterRegistry);
+    }
+
+    private static Counter contador(MeterRegistry meterRegistry, String destino, String motivo) {
+        return Counter.builder("theclub.datasource.leituras").tag("destino", destino).tag("motivo", motivo)
+                .description("Conexões de transações readOnly por destino").register(meterRegistry);
+    }
+
+    // ====== ROTEAMENTO ======
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registrarEscrita();
+            return primario.getConnection();
+        }
+        if (Boolean.TRUE.equals(NO_PRIMARIO.get())) {
+            primarioForcado.increment();
+            return primario.getConnection();
+        }
+        if (!disponivel) {
+            primarioIndisponivel.increment();
+            return primario.getConnection();
+        }
+        if (escreveuRecentemente()) {
+            primarioEscritaRecente.increment();
+            return primario.getConnection();
+        }
+        try {
+            Connection conexao = replica.getConnection();
+            leiturasReplica.increment();
+            return conexao;
+        } catch (SQLException e) {
+            tirarReplica("falha ao abrir conexão: " + e.getMessage());
+            primarioFalha.increment();
+            return primario.getConnection();
+        }
+    }
+
+    // Credenciais explícitas: sempre o primário
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primario.getConnection(username, password);
+    }
+
+    /**
+     * Executa a leitura no primário mesmo dentro de uma transação readOnly.
+     * Sem o roteamento ligado, só executa.
+     */
+    public static <T> T noPrimario(Supplier<T> leitura) {
+        return marcado(NO_PRIMARIO, leitura);
+    }
+
+    /**
+     * Executa escritas que não são do usuário (ex.: contador de visualizações
+     * numa leitura pública) sem abrir a janela de ler as próprias escritas.
+     * Precisa envolver a transação inteira (chamar de fora dela).
+     */
+    public static <T> T semJanelaDeEscrita(Supplier<T> escrita) {
+        return marcado(SEM_JANELA, escrita);
+    }
+
+    private static <T> T marcado(ThreadLocal<Boolean> marca, Supplier<T> acao) {
+        Boolean anterior = marca.get();
+        marca.set(Boolean.TRUE);
+        try {
+            return acao.get();
+        } finally {
+            if (anterior == null) {
+                marca.remove();
+            } else {
+                marca.set(anterior);
+            }
+        }
+    }
+
+    // ====== LER AS PRÓPRIAS ESCRITAS ======
+
+    // Transação de escrita de um usuário: a janela começa no commit. Comandos
+    // fora de transação (carga LAZY da view, por exemplo) não contam
+    private void registrarEscrita() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || Boolean.TRUE.equals(SEM_JANELA.get())) {
+            return;
+        }
+        Long usuario = CustomUserDetails.idUsuarioAtual();
+        if (usuario == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ultimasEscritas.put(usuario, System.currentTimeMillis());
+            }
+        });
+    }
+
+    private boolean escreveuRecentemente() {
+        Long usuario = CustomUserDetails.idUsuarioAtual();
+        if (usuario == null) {
+            return false;
+        }
+        Long escrita = ultimasEscritas.get(usuario);
+        return escrita != null && System.currentTimeMillis() - escrita < janelaEscritasSegundos * 1000;
+    }
+
+    // ====== VERIFICAÇÃO DA RÉPLICA ======
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.verificacao-ms:2000}")
+    public void verificar() {
+        long limite = System.currentTimeMillis() - janelaEscritasSegundos * 1000;
+        ultimasEscritas.values().removeIf(escrita -> escrita < limite);
+
+        try (Connection conexao = replica.getConnection();
+             Statement comando = conexao.createStatement();
+             ResultSet rs = comando.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                if (exigirReplicacao) {
+                    atrasoSegundos = -1;
+                    tirarReplica("o servidor não é uma réplica (SHOW REPLICA STATUS vazio)");
+                } else {
+                    atrasoSegundos = 0;
+                    colocarReplica();
+                }
+                return;
+            }
+            long atraso = rs.getLong("Seconds_Behind_Source");
+            if (rs.wasNull()) {
+                atrasoSegundos = -1;
+                tirarReplica("replicação parada (Seconds_Behind_Source nulo)");
+            } else if (atraso > atrasoMaximoSegundos) {
+                atrasoSegundos = atraso;
+                tirarReplica("atraso de " + atraso + " s");
+            } else {
+                atrasoSegundos = atraso;
+                colocarReplica();
+            }
+        } catch (SQLException e) {
+            atrasoSegundos = -1;
+            tirarReplica("verificação falhou: " + e.getMessage());
+        }
+    }
+
+    private void colocarReplica() {
+        if (!disponivel) {
+            disponivel = true;
+            log.info("🟢 Réplica de leitura disponível (atraso {} s): transações readOnly vão para ela", atrasoSegundos);
+        }
+    }
+
+    private void tirarReplica(String motivo) {
+        if (disponivel) {
+            disponivel = false;
+            log.warn("🔴 Réplica de leitura fora: {}; leituras no primário até a próxima verificação", motivo);
+        } else {
+            log.debug("Réplica de leitura segue fora: {}", motivo);
+        }
+    }
+}
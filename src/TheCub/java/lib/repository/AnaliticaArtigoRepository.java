@@ -0,0 +1,29 @@
+package lib.repository;
+
+import dominio.entidades.AnaliticaArtigo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AnaliticaArtigoRepository extends JpaRepository<AnaliticaArtigo, AnaliticaArtigo.Chave> {
+
+    // Baldes (hora e dia) de um artigo em [de, ate), pelo índice artigo_id, inicio
+    @Query("""
+        SELECT a FROM AnaliticaArtigo a
+        WHERE a.artigoId = :artigoId
+          AND a.inicio >= :de AND a.inicio < :ate
+        ORDER BY a.inicio ASC
+        """)
+    List<AnaliticaArtigo> findBaldes(@Param("artigoId") Long artigoId,
+                                     @Param("de") LocalDateTime de,
+                                     @Param("ate") LocalDateTime ate);
+
+    // Hora mais antiga ainda não compactada (null = nada a compactar)
+    @Query("SELECT MIN(a.inicio) FROM AnaliticaArtigo a WHERE a.granularidade = dominio.enums.GranularidadeAnalitica.HORA")
+    LocalDateTime findHoraMaisAntiga();
+}
@@ -0,0 +1,17 @@
+package lib.repository;
+
+import dominio.entidades.ArtigoConteudo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArtigoConteudoRepository extends JpaRepository<ArtigoConteudo, Long> {
+
+    // Exclusão do artigo (não falha se o conteúdo nunca foi comprimido)
+    @Modifying
+    @Query("DELETE FROM ArtigoConteudo c WHERE c.artigoId = :artigoId")
+    int removerPorArtigo(@Param("artigoId") Long artigoId);
+}
@@ -0,0 +1,17 @@
+package lib.repository;
+
+import dominio.entidades.ArtigoRenderizado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArtigoRenderizadoRepository extends JpaRepository<ArtigoRenderizado, Long> {
+
+    // Exclusão do artigo (não falha se ele nunca foi renderizado)
+    @Modifying
+    @Query("DELETE FROM ArtigoRenderizado r WHERE r.artigoId = :artigoId")
+    int removerPorArtigo(@Param("artigoId") Long artigoId);
+}
@@ -0,0 +1,33 @@
+package lib.repository;
+
+import dominio.enums.StatusNoticia;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção do artigo sem o conteudo (LONGTEXT), para a leitura pública:
+ * o corpo vem do cache off-heap (lib.conteudo.CacheCorposOffHeap) pela
+ * chave (id, versaoConteudo).
+ */
+public record CabecalhoArtigo(
+        Long id,
+        String titulo,
+        String resumo,
+        StatusNoticia status,
+        String imagemCapa,
+        Integer visualizacoes,
+        Integer gostei,
+        Integer neutro,
+        Integer naoGostei,
+        Boolean destaque,
+        LocalDateTime dataPublicacao,
+        LocalDateTime dataCriacao,
+        String autorNome,
+        Long categoriaId,
+        String categoriaNome,
+        Integer versaoConteudo,
+        // Da renderização da versão atual (null se ainda não renderizada)
+        Integer palavras,
+        Integer tempoLeituraMinutos,
+        String primeiraImagem) {
+}
@@ -1,10 +1,12 @@
 package lib.repository;
 
 import dominio.entidades.Categoria;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -23,6 +25,8 @@ public interface CategoriaRepository extends JpaRepository<Categoria, Long> {
 
     List<Categoria> findByAtivaTrue();
 
+    // Lista pública de categorias: resultado no cache de consultas (invalidado a cada escrita em categorias)
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Categoria> findByAtivaTrueOrderByNomeAsc();
 
     Page<Categoria> findByAtivaTrue(Pageable pageable);
@@ -42,13 +46,6 @@ public interface CategoriaRepository extends JpaRepository<Categoria, Long> {
             "ORDER BY COUNT(a) DESC")
     List<Categoria> findCategoriasOrdenadaPorQuantidadeArtigos();
 
-    @Query("SELECT c FROM Categoria c " +
-            "LEFT JOIN c.artigos a " +
-            "WHERE c.ativa = true AND a.status = 'PUBLICADO' " +
-            "GROUP BY c " +
-            "ORDER BY COUNT(a) DESC")
-    Page<Categoria> findCategoriasMaisPopulares(Pageable pageable);
-
     Long countByAtivaTrue();
 
     @Query("SELECT COUNT(a) FROM Noticia a WHERE a.categoria.id = :categoriaId AND a.status = 'PUBLICADO'")
@@ -3,17 +3,21 @@ package lib.repository;
 import dominio.entidades.Noticia;
 import dominio.entidades.Comentario;
 import dominio.entidades.Usuario;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface ComentarioRepository extends JpaRepository<Comentario, Long> {
+public interface ComentarioRepository extends JpaRepository<Comentario, Long>, JpaSpecificationExecutor<Comentario> {
 
     List<Comentario> findByArtigo(Noticia artigo);
 
@@ -54,22 +58,9 @@ public interface ComentarioRepository extends JpaRepository<Comentario, Long> {
     @Query("SELECT c FROM Comentario c WHERE c.aprovado = true ORDER BY c.dataComentario DESC")
     Page<Comentario> findComentariosRecentes(Pageable pageable);
 
-    @Query("SELECT c.usuario FROM Comentario c WHERE c.aprovado = true GROUP BY c.usuario ORDER BY COUNT(c) DESC")
-    Page<Usuario> findUsuariosMaisAtivos(Pageable pageable);
-
-    @Query("""
-        SELECT c FROM Comentario c
-        WHERE (COALESCE(:artigoId, 0) = 0 OR c.artigo.id = :artigoId)
-          AND (COALESCE(:usuarioId, 0) = 0 OR c.usuario.id = :usuarioId)
-          AND (:aprovado IS NULL OR c.aprovado = :aprovado)
-        ORDER BY c.dataComentario DESC
-        """)
-    Page<Comentario> findByFiltros(
-            @Param("artigoId") Long artigoId,
-            @Param("usuarioId") Long usuarioId,
-            @Param("aprovado") Boolean aprovado,
-            Pageable pageable
-    );
+    // Recálculo completo do ranking de comentaristas (ver lib.ranking.Rankings)
+    @Query("SELECT c.usuario.id, COUNT(c) FROM Comentario c WHERE c.aprovado = true GROUP BY c.usuario.id")
+    List<Object[]> contarAprovadosPorUsuario();
 
     @Query("SELECT c FROM Comentario c WHERE c.aprovado = false ORDER BY c.dataComentario ASC")
     Page<Comentario> listarPendentesDeAprovacaoComPaginacao(Pageable pageable);
@@ -86,4 +77,15 @@ public interface ComentarioRepository extends JpaRepository<Comentario, Long> {
 
     @Query("SELECT COUNT(c) FROM Comentario c WHERE c.aprovado = false")
     Long contarPendentesDeAprovacao();
+
+    // Exportação: lida em streaming (fetch size MIN_VALUE = linha a linha no MySQL),
+    // somente leitura e sem passar pelo cache de segundo nível
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheMode", value = "IGNORE")
+    })
+    // Usuário vem no JOIN; do artigo só o id (lido da FK, sem carregar o artigo)
+    @Query("SELECT c FROM Comentario c JOIN FETCH c.usuario ORDER BY c.id")
+    Stream<Comentario> streamParaExportacao();
 }
@@ -4,6 +4,8 @@ import dominio.entidades.Edital;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -14,5 +16,14 @@ public interface EditalRepository extends JpaRepository<Edital, Long> {
 
     Page<Edital> findByAtivoTrueOrderByDataPublicacaoDesc(Pageable pageable);
 
-    List<Edital> findByAtivoTrueAndDataValidadeAfterOrderByDataPublicacaoDesc(LocalDateTime agora);
+    /**
+     * Editais abertos agora: ativos e sem validade ou com validade futura.
+     * Autor vem junto (o DTO usa o nome) para a listagem sair em uma consulta.
+     */
+    @Query("""
+            SELECT e FROM Edital e JOIN FETCH e.autor
+            WHERE e.ativo = true AND (e.dataValidade IS NULL OR e.dataValidade > :agora)
+            ORDER BY e.dataPublicacao DESC
+            """)
+    List<Edital> findAbertos(@Param("agora") LocalDateTime agora);
 }
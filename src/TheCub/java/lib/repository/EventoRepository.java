@@ -2,18 +2,23 @@ package lib.repository;
 
 import dominio.entidades.Evento;
 import dominio.entidades.Usuario;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventoRepository extends JpaRepository<Evento, Long> {
+public interface EventoRepository extends JpaRepository<Evento, Long>, JpaSpecificationExecutor<Evento> {
 
     List<Evento> findByAtivoTrue();
 
@@ -29,6 +34,10 @@ public interface EventoRepository extends JpaRepository<Evento, Long> {
     @Query("SELECT e FROM Evento e WHERE e.dataEvento >= :agora AND e.ativo = true ORDER BY e.dataEvento ASC")
     Page<Evento> findProximosEventos(@Param("agora") LocalDateTime agora, Pageable pageable);
 
+    // Versão "top N" (sem COUNT), usada pela home
+    @Query("SELECT e FROM Evento e WHERE e.dataEvento >= :agora AND e.ativo = true ORDER BY e.dataEvento ASC")
+    List<Evento> findProximosEventos(@Param("agora") LocalDateTime agora, Limit limite);
+
     @Query("SELECT e FROM Evento e WHERE e.dataEvento < :agora ORDER BY e.dataEvento DESC")
     Page<Evento> findEventosPassados(@Param("agora") LocalDateTime agora, Pageable pageable);
 
@@ -66,23 +75,29 @@ public interface EventoRepository extends JpaRepository<Evento, Long> {
 
     long countByOrganizador(Usuario organizador);
 
+    // ====== SINCRONIZAÇÃO INCREMENTAL ======
+
+    // (dataAtualizacao, id) > (:data, :id) escrito por extenso: assim o MySQL usa o
+    // índice (data_atualizacao, id) como range scan
     @Query("""
         SELECT e FROM Evento e
-        WHERE (:titulo IS NULL OR LOWER(e.titulo) LIKE LOWER(CONCAT('%', :titulo, '%')))
-          AND (:local IS NULL OR LOWER(e.localEvento) LIKE LOWER(CONCAT('%', :local, '%')))
-          AND (:organizadorId IS NULL OR e.organizador.id = :organizadorId)
-          AND (:ativo IS NULL OR e.ativo = :ativo)
-          AND (:dataInicio IS NULL OR e.dataEvento >= :dataInicio)
-          AND (:dataFim IS NULL OR e.dataEvento <= :dataFim)
-        ORDER BY e.dataEvento ASC
+        WHERE (e.dataAtualizacao > :data OR (e.dataAtualizacao = :data AND e.id > :id))
+          AND e.dataAtualizacao <= :ate
+        ORDER BY e.dataAtualizacao ASC, e.id ASC
         """)
-    Page<Evento> buscarComFiltros(
-            @Param("titulo") String titulo,
-            @Param("local") String local,
-            @Param("organizadorId") Long organizadorId,
-            @Param("ativo") Boolean ativo,
-            @Param("dataInicio") LocalDateTime dataInicio,
-            @Param("dataFim") LocalDateTime dataFim,
-            Pageable pageable
-    );
+    List<Evento> findAlteradosDesde(@Param("data") LocalDateTime data,
+                                    @Param("id") Long id,
+                                    @Param("ate") LocalDateTime ate,
+                                    Limit limite);
+
+    // Exportação: lida em streaming (fetch size MIN_VALUE = linha a linha no MySQL),
+    // somente leitura e sem passar pelo cache de segundo nível
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheMode", value = "IGNORE")
+    })
+    // Organizador vem no JOIN: com o resultado em streaming a conexão não aceita outra consulta
+    @Query("SELECT e FROM Evento e LEFT JOIN FETCH e.organizador ORDER BY e.id")
+    Stream<Evento> streamParaExportacao();
 }
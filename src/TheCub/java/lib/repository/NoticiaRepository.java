@@ -4,19 +4,25 @@ import dominio.entidades.Noticia;
 import dominio.entidades.Categoria;
 import dominio.entidades.Usuario;
 import dominio.enums.StatusNoticia;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface NoticiaRepository extends JpaRepository<Noticia, Long> {
+public interface NoticiaRepository extends JpaRepository<Noticia, Long>, JpaSpecificationExecutor<Noticia> {
 
     List<Noticia> findByStatus(StatusNoticia status);
 
@@ -40,12 +46,19 @@ public interface NoticiaRepository extends JpaRepository<Noticia, Long> {
     @Query("SELECT a FROM Noticia a WHERE a.destaque = true AND a.status = 'PUBLICADO' ORDER BY a.dataPublicacao DESC")
     Page<Noticia> findArtigosEmDestaque(Pageable pageable);
 
+    // Versão "top N" (sem COUNT), usada pela home
+    @Query("SELECT a FROM Noticia a WHERE a.destaque = true AND a.status = 'PUBLICADO' ORDER BY a.dataPublicacao DESC")
+    List<Noticia> findArtigosEmDestaque(Limit limite);
+
     @Query("SELECT a FROM Noticia a WHERE a.status = 'PUBLICADO' ORDER BY a.visualizacoes DESC")
     Page<Noticia> findArtigosMaisVistos(Pageable pageable);
 
     @Query("SELECT a FROM Noticia a WHERE a.status = 'PUBLICADO' ORDER BY a.dataPublicacao DESC")
     Page<Noticia> findArtigosRecentes(Pageable pageable);
 
+    @Query("SELECT a FROM Noticia a WHERE a.status = 'PUBLICADO' ORDER BY a.dataPublicacao DESC")
+    List<Noticia> findArtigosRecentes(Limit limite);
+
     Page<Noticia> findByTituloContainingIgnoreCaseAndStatus(String titulo, StatusNoticia status, Pageable pageable);
 
     @Query("""
@@ -90,20 +103,59 @@ public interface NoticiaRepository extends JpaRepository<Noticia, Long> {
                                           @Param("artigoId") Long artigoId,
                                           Pageable pageable);
 
+    @Query("SELECT a FROM Noticia a WHERE a.status = 'REVISAO' ORDER BY a.dataCriacao ASC")
+    List<Noticia> findArtigosAguardandoRevisao();
+
+    // ====== RANKINGS (recálculo completo, ver lib.ranking.Rankings) ======
+
+    @Query("SELECT a.autor.id, COUNT(a) FROM Noticia a WHERE a.status = 'PUBLICADO' GROUP BY a.autor.id")
+    List<Object[]> contarPublicadosPorAutor();
+
+    @Query("SELECT a.categoria.id, COUNT(a) FROM Noticia a WHERE a.status = 'PUBLICADO' GROUP BY a.categoria.id")
+    List<Object[]> contarPublicadosPorCategoria();
+
+    // ====== SINCRONIZAÇÃO INCREMENTAL ======
+
+    // (dataAtualizacao, id) > (:data, :id) escrito por extenso: assim o MySQL usa o
+    // índice (data_atualizacao, id) como range scan
     @Query("""
         SELECT a FROM Noticia a
-        WHERE (:status IS NULL OR a.status = :status)
-          AND (:categoriaId IS NULL OR a.categoria.id = :categoriaId)
-          AND (:autorId IS NULL OR a.autor.id = :autorId)
-          AND (:titulo IS NULL OR LOWER(a.titulo) LIKE LOWER(CONCAT('%', :titulo, '%')))
-        ORDER BY a.dataCriacao DESC
+        WHERE (a.dataAtualizacao > :data OR (a.dataAtualizacao = :data AND a.id > :id))
+          AND a.dataAtualizacao <= :ate
+        ORDER BY a.dataAtualizacao ASC, a.id ASC
         """)
-    Page<Noticia> buscarArtigosPorFiltros(@Param("status") StatusNoticia status,
-                                          @Param("categoriaId") Long categoriaId,
-                                          @Param("autorId") Long autorId,
-                                          @Param("titulo") String titulo,
-                                          Pageable pageable);
+    List<Noticia> findAlteradosDesde(@Param("data") LocalDateTime data,
+                                     @Param("id") Long id,
+                                     @Param("ate") LocalDateTime ate,
+                                     Limit limite);
 
-    @Query("SELECT a FROM Noticia a WHERE a.status = 'REVISAO' ORDER BY a.dataCriacao ASC")
-    List<Noticia> findArtigosAguardandoRevisao();
+    // Leitura pública sem o LONGTEXT: o corpo sai do cache off-heap
+    @Query("""
+        SELECT new lib.repository.CabecalhoArtigo(
+            a.id, a.titulo, a.resumo, a.status, a.imagemCapa,
+            a.visualizacoes, a.gostei, a.neutro, a.naoGostei, a.destaque,
+            a.dataPublicacao, a.dataCriacao, au.nome, c.id, c.nome, a.versaoConteudo,
+            r.palavras, r.tempoLeituraMinutos, r.primeiraImagem)
+        FROM Noticia a JOIN a.autor au JOIN a.categoria c
+        LEFT JOIN ArtigoRenderizado r ON r.artigoId = a.id AND r.versaoConteudo = a.versaoConteudo
+        WHERE a.id = :id AND a.status = :status
+        """)
+    Optional<CabecalhoArtigo> findCabecalho(@Param("id") Long id, @Param("status") StatusNoticia status);
+
+    // Exportação: lida em streaming (fetch size MIN_VALUE = linha a linha no MySQL),
+    // somente leitura e sem passar pelo cache de segundo nível
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheMode", value = "IGNORE")
+    })
+    // Associações LAZY e o conteúdo comprimido (null quando o texto está na coluna) vêm no
+    // JOIN: com o resultado em streaming a conexão não aceita outra consulta
+    @Query("""
+        SELECT a, c FROM Noticia a
+        LEFT JOIN FETCH a.autor LEFT JOIN FETCH a.categoria
+        LEFT JOIN ArtigoConteudo c ON c.artigoId = a.id AND a.conteudoComprimido = true
+        ORDER BY a.id
+        """)
+    Stream<Object[]> streamParaExportacao();
 }
@@ -0,0 +1,27 @@
+package lib.repository;
+
+import dominio.entidades.PublicacaoAgendada;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PublicacaoAgendadaRepository extends JpaRepository<PublicacaoAgendada, Long> {
+
+    Optional<PublicacaoAgendada> findByArtigoId(Long artigoId);
+
+    // Disparo: trava a linha; quem chegar depois espera e já não a encontra
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PublicacaoAgendada p WHERE p.artigoId = :artigoId")
+    Optional<PublicacaoAgendada> travarPorArtigo(@Param("artigoId") Long artigoId);
+
+    // Carga da fila em memória (todas ou só as que vencem até o limite)
+    List<PublicacaoAgendada> findByDataPublicacaoBeforeOrderByDataPublicacaoAsc(LocalDateTime limite);
+}
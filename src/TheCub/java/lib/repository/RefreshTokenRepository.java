@@ -0,0 +1,32 @@
+package lib.repository;
+
+import dominio.entidades.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // Busca pelo hash (índice único); o usuário vem junto para montar a resposta.
+    // Lock de escrita: duas renovações simultâneas com o mesmo token não giram os dois
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.usuario WHERE r.hashToken = :hashToken")
+    Optional<RefreshToken> findByHashToken(@Param("hashToken") String hashToken);
+
+    // Reuso de token girado: invalida todos os tokens ativos do usuário
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revogado = true WHERE r.usuario.id = :usuarioId AND r.revogado = false")
+    int revogarTodosDoUsuario(@Param("usuarioId") Long usuarioId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.dataExpiracao < :limite")
+    int excluirExpirados(@Param("limite") LocalDateTime limite);
+}
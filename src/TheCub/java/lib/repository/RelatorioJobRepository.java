@@ -0,0 +1,36 @@
+package lib.repository;
+
+import dominio.entidades.RelatorioJob;
+import dominio.enums.StatusRelatorio;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RelatorioJobRepository extends JpaRepository<RelatorioJob, Long> {
+
+    // Último job da mesma especificação ainda aproveitável (na fila, rodando ou pronto)
+    Optional<RelatorioJob> findFirstByHashEspecificacaoAndStatusInOrderByDataCriacaoDesc(
+            String hashEspecificacao, Collection<StatusRelatorio> status);
+
+    List<RelatorioJob> findByStatusOrderByDataCriacaoAsc(StatusRelatorio status);
+
+    List<RelatorioJob> findByStatusAndDataInicioBefore(StatusRelatorio status, LocalDateTime limite);
+
+    List<RelatorioJob> findByDataCriacaoBefore(LocalDateTime limite);
+
+    // Reserva o job para um worker: só um UPDATE encontra a linha ainda PENDENTE
+    @Modifying
+    @Query("""
+        UPDATE RelatorioJob j SET j.status = dominio.enums.StatusRelatorio.PROCESSANDO, j.dataInicio = :agora
+        WHERE j.id = :id AND j.status = dominio.enums.StatusRelatorio.PENDENTE
+        """)
+    int reservar(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,31 @@
+package lib.repository;
+
+import dominio.entidades.SketchLeitores;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SketchLeitoresRepository extends JpaRepository<SketchLeitores, Long> {
+
+    // Gravação periódica: mescla com a linha do dia, se já existir. Lock de
+    // escrita: duas instâncias gravando o mesmo dia mesclam uma após a outra
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SketchLeitores s WHERE s.artigoId = :artigoId AND s.dia = :dia")
+    Optional<SketchLeitores> travarPorArtigoEDia(@Param("artigoId") Long artigoId, @Param("dia") LocalDate dia);
+
+    // Janela de N dias de um artigo (usa o índice único artigo_id, dia)
+    List<SketchLeitores> findByArtigoIdAndDiaGreaterThanEqualOrderByDiaAsc(Long artigoId, LocalDate desde);
+
+    @Modifying
+    @Query("DELETE FROM SketchLeitores s WHERE s.dia < :limite")
+    int excluirAnterioresA(@Param("limite") LocalDate limite);
+}
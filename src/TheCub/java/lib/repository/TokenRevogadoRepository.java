@@ -0,0 +1,25 @@
+package lib.repository;
+
+import dominio.entidades.TokenRevogado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenRevogadoRepository extends JpaRepository<TokenRevogado, String> {
+
+    // Carga inicial da lista em memória: só o que ainda não expirou
+    List<TokenRevogado> findByDataExpiracaoAfter(LocalDateTime agora);
+
+    // Revogações feitas (por qualquer instância) desde a última leitura
+    List<TokenRevogado> findByDataRevogacaoAfter(LocalDateTime desde);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevogado t WHERE t.dataExpiracao < :limite")
+    int excluirExpirados(@Param("limite") LocalDateTime limite);
+}
@@ -2,21 +2,30 @@ package lib.repository;
 
 import dominio.entidades.Usuario;
 import dominio.enums.TipoUsuario;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+public interface UsuarioRepository extends JpaRepository<Usuario, Long>, JpaSpecificationExecutor<Usuario> {
 
     Optional<Usuario> findByEmail(String email);
 
+    // Chamado a cada requisição autenticada (CustomUserDetailsService). Sem cache de
+    // consultas: Usuario não está no 2º nível, e o resultado em cache (só ids) viraria
+    // uma busca por id de qualquer forma
     Optional<Usuario> findByEmailAndAtivoTrue(String email);
 
     boolean existsByEmail(String email);
@@ -42,23 +51,28 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
 
     Long countByAtivoTrue();
 
-    @Query("SELECT u FROM Usuario u " +
-            "LEFT JOIN u.artigos a " +
-            "WHERE a.status = 'PUBLICADO' " +
-            "GROUP BY u " +
-            "ORDER BY COUNT(a) DESC")
-    Page<Usuario> findTopAutores(Pageable pageable);
-
-    @Query("SELECT u FROM Usuario u WHERE " +
-            "(:nome IS NULL OR LOWER(u.nome) LIKE LOWER(CONCAT('%', :nome, '%'))) AND " +
-            "(:email IS NULL OR LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%'))) AND " +
-            "(:tipo IS NULL OR u.tipo = :tipo) AND " +
-            "(:ativo IS NULL OR u.ativo = :ativo)")
-    Page<Usuario> findByFiltros(
-            @Param("nome") String nome,
-            @Param("email") String email,
-            @Param("tipo") TipoUsuario tipo,
-            @Param("ativo") Boolean ativo,
-            Pageable pageable
-    );
+    // ====== SINCRONIZAÇÃO INCREMENTAL ======
+
+    // (dataAtualizacao, id) > (:data, :id) escrito por extenso: assim o MySQL usa o
+    // índice (data_atualizacao, id) como range scan
+    @Query("""
+        SELECT u FROM Usuario u
+        WHERE (u.dataAtualizacao > :data OR (u.dataAtualizacao = :data AND u.id > :id))
+          AND u.dataAtualizacao <= :ate
+        ORDER BY u.dataAtualizacao ASC, u.id ASC
+        """)
+    List<Usuario> findAlteradosDesde(@Param("data") LocalDateTime data,
+                                     @Param("id") Long id,
+                                     @Param("ate") LocalDateTime ate,
+                                     Limit limite);
+
+    // Exportação: lida em streaming (fetch size MIN_VALUE = linha a linha no MySQL),
+    // somente leitura e sem passar pelo cache de segundo nível
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheMode", value = "IGNORE")
+    })
+    @Query("SELECT u FROM Usuario u ORDER BY u.id")
+    Stream<Usuario> streamParaExportacao();
 }
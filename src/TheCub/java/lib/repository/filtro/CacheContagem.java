@@ -0,0 +1,183 @@
+package lib.repository.filtro; // Motor de filtros dinâmicos (Specification/Criteria)
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Table;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache dos totais (COUNT) das listagens paginadas.
+ *
+ * - Chave: {@link FiltroDinamico#chave()}, ou seja, entidade + filtros ativos normalizados.
+ * - Invalidação: cada entidade tem um contador de geração, incrementado a cada
+ *   escrita via JPA ({@link InvalidacaoContagemListener}). Entradas de gerações
+ *   antigas são descartadas na leitura.
+ * - Escritas fora do JPA (JDBC, bulk update) não passam pelo listener; para
+ *   elas vale o TTL (app.contagem.ttl-segundos).
+ * - Sem filtros e com a tabela acima de app.contagem.limiar-estimativa linhas,
+ *   o total vem da estimativa do information_schema em vez de COUNT(*).
+ */
+@Component
+public class CacheContagem {
+
+    /**
+     * Total de uma listagem; estimado = true quando veio do information_schema.
+     */
+    public record Total(long valor, boolean estimado) {
+    }
+
+    private record Entrada(long geracao, Total total, long expiraEm) {
+    }
+
+    private static final String ESTIMATIVA_SQL = """
+            SELECT TABLE_ROWS FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, AtomicLong> geracoes = new ConcurrentHashMap<>();
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+
+    private final Counter acertos;
+    private final Counter calculadas;
+    private final Counter estimadas;
+
+    @Value("${app.contagem.ttl-segundos:300}")
+    private long ttlSegundos;
+
+    @Value("${app.contagem.limiar-estimativa:100000}")
+    private long limiarEstimativa;
+
+    @Value("${app.contagem.max-entradas:10000}")
+    private int maxEntradas;
+
+    public CacheContagem(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.acertos = contador(meterRegistry, "cache");
+        this.calculadas = contador(meterRegistry, "count");
+        this.estimadas = contador(meterRegistry, "estimativa");
+    }
+
+    // ====== LEITURA ======
+
+    /**
+     * Total da listagem: do cache, da estimativa (sem filtros, tabela grande)
+     * ou calculado com a contagem exata informada, que então é guardada.
+     */
+    public Total contar(FiltroDinamico<?> filtro, LongSupplier contagemExata) {
+        String entidade = filtro.getTipo().getSimpleName();
+        // A geração é lida ANTES do COUNT: uma escrita concorrente invalida o resultado
+        long geracao = geracao(entidade);
+
+        Total emCache = valido(filtro.chave(), geracao);
+        if (emCache != null) {
+            acertos.increment();
+            return emCache;
+        }
+
+        Total total = filtro.vazio() ? estimativaAcimaDoLimiar(filtro.getTipo()) : null;
+        if (total != null) {
+            estimadas.increment();
+        } else {
+            total = new Total(contagemExata.getAsLong(), false);
+            calculadas.increment();
+        }
+        guardar(filtro.chave(), geracao, total);
+        return total;
+    }
+
+    /**
+     * Total sem executar COUNT: o valor em cache ou, sem filtros, a estimativa
+     * da tabela. Retorna null se nenhum dos dois estiver disponível.
+     */
+    public Total consultar(FiltroDinamico<?> filtro) {
+        Total emCache = valido(filtro.chave(), geracao(filtro.getTipo().getSimpleName()));
+        if (emCache != null) {
+            acertos.increment();
+            return emCache;
+        }
+        if (filtro.vazio()) {
+            Long linhas = estimativa(filtro.getTipo());
+            if (linhas != null) {
+                estimadas.increment();
+                return new Total(linhas, true);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registra um total exato já conhecido (ex.: última página incompleta).
+     */
+    public void registrar(FiltroDinamico<?> filtro, long total) {
+        guardar(filtro.chave(), geracao(filtro.getTipo().getSimpleName()), new Total(total, false));
+    }
+
+    // ====== INVALIDAÇÃO ======
+
+    /**
+     * Invalida todos os totais da entidade (chamado a cada insert/update/delete).
+     */
+    public void invalidar(Class<?> tipo) {
+        geracoes.computeIfAbsent(tipo.getSimpleName(), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    // ====== INTERNOS ======
+
+    private long geracao(String entidade) {
+        AtomicLong geracao = geracoes.get(entidade);
+        return geracao == null ? 0 : geracao.get();
+    }
+
+    private Total valido(String chave, long geracao) {
+        Entrada entrada = entradas.get(chave);
+        if (entrada == null) {
+            return null;
+        }
+        if (entrada.geracao() != geracao || System.currentTimeMillis() > entrada.expiraEm()) {
+            entradas.remove(chave, entrada);
+            return null;
+        }
+        return entrada.total();
+    }
+
+    private void guardar(String chave, long geracao, Total total) {
+        // Limite simples de memória: muitas combinações distintas de filtro zeram o cache
+        if (entradas.size() >= maxEntradas) {
+            entradas.clear();
+        }
+        entradas.put(chave, new Entrada(geracao, total, System.currentTimeMillis() + ttlSegundos * 1000));
+    }
+
+    private Total estimativaAcimaDoLimiar(Class<?> tipo) {
+        Long linhas = estimativa(tipo);
+        return linhas != null && linhas >= limiarEstimativa ? new Total(linhas, true) : null;
+    }
+
+    /**
+     * Número aproximado de linhas mantido pelo InnoDB (pode errar em ~10-20%).
+     */
+    private Long estimativa(Class<?> tipo) {
+        Table tabela = tipo.getAnnotation(Table.class);
+        if (tabela == null || tabela.name().isEmpty()) {
+            return null;
+        }
+        return jdbcTemplate.query(ESTIMATIVA_SQL,
+                rs -> rs.next() ? rs.getObject(1, Long.class) : null,
+                tabela.name());
+    }
+
+    private static Counter contador(MeterRegistry registry, String origem) {
+        return Counter.builder("theclub.contagem")
+                .description("Totais de paginação por origem (cache, count, estimativa)")
+                .tag("origem", origem)
+                .register(registry);
+    }
+}
@@ -0,0 +1,129 @@
+package lib.repository.filtro; // Motor de filtros dinâmicos (Specification/Criteria)
+
+import dominio.dto.response.PaginaResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Paginação das listagens administrativas sem COUNT(*) a cada requisição.
+ *
+ * - {@link #pagina}: mantém o contrato de Page (totalElements/totalPages),
+ *   mas o total vem do {@link CacheContagem}.
+ * - {@link #fatia}: busca size+1 linhas para saber se há próxima página e só
+ *   informa o total se ele já estiver em cache (modo exactCount=false).
+ *
+ * Em ambos, quando a página vem incompleta o total exato fica evidente
+ * (offset + itens) e é registrado no cache sem custo extra.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsultaPaginada {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CacheContagem cacheContagem;
+
+    /**
+     * Página com total (exato ou, sem filtros em tabela grande, estimado).
+     */
+    public <T> Page<T> pagina(FiltroDinamico<T> filtro, Pageable pageable) {
+        List<T> conteudo = buscar(filtro, pageable, pageable.getPageSize());
+
+        if (totalEvidente(pageable, conteudo.size(), pageable.getPageSize())) {
+            long total = pageable.getOffset() + conteudo.size();
+            cacheContagem.registrar(filtro, total);
+            return new PageImpl<>(conteudo, pageable, total);
+        }
+
+        CacheContagem.Total total = cacheContagem.contar(filtro, () -> contar(filtro));
+        return new PageImpl<>(conteudo, pageable, total.valor());
+    }
+
+    /**
+     * Página sem COUNT: hasNext + total somente se já conhecido.
+     */
+    public <T> PaginaResponse<T> fatia(FiltroDinamico<T> filtro, Pageable pageable) {
+        int tamanho = pageable.getPageSize();
+        List<T> conteudo = buscar(filtro, pageable, tamanho + 1);
+        boolean temProxima = conteudo.size() > tamanho;
+        if (temProxima) {
+            conteudo = conteudo.subList(0, tamanho);
+        }
+
+        CacheContagem.Total total;
+        if (!temProxima && totalEvidente(pageable, conteudo.size(), tamanho)) {
+            long exato = pageable.getOffset() + conteudo.size();
+            cacheContagem.registrar(filtro, exato);
+            total = new CacheContagem.Total(exato, false);
+        } else {
+            total = cacheContagem.consultar(filtro);
+        }
+
+        return PaginaResponse.<T>builder()
+                .content(conteudo)
+                .number(pageable.getPageNumber())
+                .size(tamanho)
+                .hasNext(temProxima)
+                .totalElements(total == null ? null : total.valor())
+                .totalEstimado(total != null && total.estimado())
+                .build();
+    }
+
+    /**
+     * Somente o total do filtro (cache, estimativa ou COUNT), ex.: contadores da home.
+     */
+    public <T> CacheContagem.Total total(FiltroDinamico<T> filtro) {
+        return cacheContagem.contar(filtro, () -> contar(filtro));
+    }
+
+    // ====== CONSULTAS ======
+
+    private <T> List<T> buscar(FiltroDinamico<T> filtro, Pageable pageable, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(filtro.getTipo());
+        Root<T> root = query.from(filtro.getTipo());
+
+        Predicate where = filtro.build().toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<T> typed = entityManager.createQuery(query);
+        typed.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        typed.setMaxResults(limite);
+        return typed.getResultList();
+    }
+
+    private <T> long contar(FiltroDinamico<T> filtro) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(filtro.getTipo());
+
+        Predicate where = filtro.build().toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // Página incompleta: o total é offset + itens (página vazia após o fim não conta)
+    private static boolean totalEvidente(Pageable pageable, int itens, int tamanho) {
+        return itens < tamanho && (pageable.getOffset() == 0 || itens > 0);
+    }
+}
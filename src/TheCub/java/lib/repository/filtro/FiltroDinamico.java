@@ -0,0 +1,167 @@
+package lib.repository.filtro; // Motor de filtros dinâmicos (Specification/Criteria)
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Construtor de Specification que só emite os predicados ativos.
+ *
+ * Substitui o padrão "(:x IS NULL OR col = :x)" das queries JPQL: cada filtro
+ * nulo/vazio simplesmente não entra no WHERE, então cada combinação de filtros
+ * gera um SQL próprio e o MySQL consegue escolher o índice mais seletivo.
+ *
+ * Exemplo:
+ *   FiltroDinamico.de(Noticia.class)
+ *       .igual("status", status)
+ *       .igualId("categoria", categoriaId)
+ *       .contem("titulo", titulo)
+ *       .build();
+ *
+ * Além da Specification, o filtro expõe uma chave normalizada dos predicados
+ * ativos ({@link #chave()}), usada pelo cache de contagens da paginação.
+ */
+public final class FiltroDinamico<T> {
+
+    /**
+     * Um predicado já "armado" com o valor do filtro.
+     */
+    @FunctionalInterface
+    private interface Criterio<T> {
+        Predicate criar(Root<T> root, CriteriaBuilder cb);
+    }
+
+    private final Class<T> tipo;
+    private final List<Criterio<T>> criterios = new ArrayList<>();
+    // "atributo operador" -> valor normalizado; ordenado para a chave não depender da ordem das chamadas
+    private final Map<String, String> assinatura = new TreeMap<>();
+
+    private FiltroDinamico(Class<T> tipo) {
+        this.tipo = tipo;
+    }
+
+    public static <T> FiltroDinamico<T> de(Class<T> tipo) {
+        return new FiltroDinamico<>(tipo);
+    }
+
+    // ====== PREDICADOS ======
+
+    /**
+     * atributo = valor (ignorado se valor for null).
+     */
+    public FiltroDinamico<T> igual(String atributo, Object valor) {
+        if (valor != null) {
+            criterios.add((root, cb) -> cb.equal(root.get(atributo), valor));
+            assinatura.put(atributo + "=", String.valueOf(valor));
+        }
+        return this;
+    }
+
+    /**
+     * associacao.id = id, comparando direto a FK (sem JOIN).
+     */
+    public FiltroDinamico<T> igualId(String associacao, Long id) {
+        if (id != null) {
+            criterios.add((root, cb) -> cb.equal(root.get(associacao).get("id"), id));
+            assinatura.put(associacao + ".id=", id.toString());
+        }
+        return this;
+    }
+
+    /**
+     * atributo LIKE %texto% (ignorado se texto for null/vazio).
+     *
+     * Não aplica LOWER() na coluna: a collation padrão do MySQL (utf8mb4_0900_ai_ci)
+     * já compara sem diferenciar maiúsculas, e a função impediria o uso de índice.
+     */
+    public FiltroDinamico<T> contem(String atributo, String texto) {
+        if (texto != null && !texto.isBlank()) {
+            String padrao = "%" + escaparLike(texto.trim()) + "%";
+            criterios.add((root, cb) -> cb.like(root.get(atributo), padrao, '\\'));
+            // a comparação é case-insensitive, então "Java" e "java" contam o mesmo
+            assinatura.put(atributo + "~", texto.trim().toLowerCase());
+        }
+        return this;
+    }
+
+    /**
+     * atributo >= valor (ignorado se valor for null).
+     */
+    public <Y extends Comparable<? super Y>> FiltroDinamico<T> aPartirDe(String atributo, Y valor) {
+        if (valor != null) {
+            criterios.add((root, cb) -> {
+                Path<Y> caminho = root.get(atributo);
+                return cb.greaterThanOrEqualTo(caminho, valor);
+            });
+            assinatura.put(atributo + ">=", valor.toString());
+        }
+        return this;
+    }
+
+    /**
+     * atributo <= valor (ignorado se valor for null).
+     */
+    public <Y extends Comparable<? super Y>> FiltroDinamico<T> ate(String atributo, Y valor) {
+        if (valor != null) {
+            criterios.add((root, cb) -> {
+                Path<Y> caminho = root.get(atributo);
+                return cb.lessThanOrEqualTo(caminho, valor);
+            });
+            assinatura.put(atributo + "<=", valor.toString());
+        }
+        return this;
+    }
+
+    // ====== RESULTADO ======
+
+    /**
+     * Indica se nenhum filtro ficou ativo (consulta equivalente a findAll).
+     */
+    public boolean vazio() {
+        return criterios.isEmpty();
+    }
+
+    public Class<T> getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Chave normalizada dos filtros ativos (ex.: "Noticia[categoria.id=3&status=PUBLICADO]").
+     * Dois filtros com os mesmos predicados geram a mesma chave.
+     */
+    public String chave() {
+        StringJoiner chave = new StringJoiner("&", tipo.getSimpleName() + "[", "]");
+        assinatura.forEach((predicado, valor) -> chave.add(predicado + valor));
+        return chave.toString();
+    }
+
+    /**
+     * Monta a Specification com os predicados ativos (na ordem em que foram adicionados).
+     */
+    public Specification<T> build() {
+        List<Criterio<T>> ativos = List.copyOf(criterios);
+        return (root, query, cb) -> {
+            if (ativos.isEmpty()) {
+                return null; // sem WHERE
+            }
+            Predicate[] predicados = new Predicate[ativos.size()];
+            for (int i = 0; i < predicados.length; i++) {
+                predicados[i] = ativos.get(i).criar(root, cb);
+            }
+            return cb.and(predicados);
+        };
+    }
+
+    // Escapa os curingas do LIKE digitados pelo usuário
+    private static String escaparLike(String texto) {
+        return texto.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
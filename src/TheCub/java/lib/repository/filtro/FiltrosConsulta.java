@@ -0,0 +1,69 @@
+package lib.repository.filtro; // Motor de filtros dinâmicos (Specification/Criteria)
+
+import dominio.entidades.Comentario;
+import dominio.entidades.Evento;
+import dominio.entidades.Noticia;
+import dominio.entidades.Usuario;
+import dominio.enums.StatusNoticia;
+import dominio.enums.TipoUsuario;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros das listagens administrativas, todos montados pelo FiltroDinamico.
+ *
+ * Usados pelos endpoints de artigos, eventos, usuários e comentários
+ * (repositórios estendem JpaSpecificationExecutor).
+ */
+public final class FiltrosConsulta {
+
+    private FiltrosConsulta() {
+    }
+
+    /**
+     * Artigos por status, categoria, autor e parte do título.
+     */
+    public static FiltroDinamico<Noticia> noticias(StatusNoticia status, Long categoriaId,
+                                                   Long autorId, String titulo) {
+        return FiltroDinamico.de(Noticia.class)
+                .igual("status", status)
+                .igualId("categoria", categoriaId)
+                .igualId("autor", autorId)
+                .contem("titulo", titulo);
+    }
+
+    /**
+     * Eventos por título, local, organizador, status e período da data do evento.
+     */
+    public static FiltroDinamico<Evento> eventos(String titulo, String local, Long organizadorId,
+                                                 Boolean ativo, LocalDateTime inicio, LocalDateTime fim) {
+        return FiltroDinamico.de(Evento.class)
+                .igual("ativo", ativo)
+                .igualId("organizador", organizadorId)
+                .aPartirDe("dataEvento", inicio)
+                .ate("dataEvento", fim)
+                .contem("titulo", titulo)
+                .contem("localEvento", local);
+    }
+
+    /**
+     * Usuários por nome, e-mail, tipo e status.
+     */
+    public static FiltroDinamico<Usuario> usuarios(String nome, String email, TipoUsuario tipo, Boolean ativo) {
+        return FiltroDinamico.de(Usuario.class)
+                .igual("tipo", tipo)
+                .igual("ativo", ativo)
+                .contem("nome", nome)
+                .contem("email", email);
+    }
+
+    /**
+     * Comentários por artigo, autor do comentário e status de aprovação.
+     */
+    public static FiltroDinamico<Comentario> comentarios(Long artigoId, Long usuarioId, Boolean aprovado) {
+        return FiltroDinamico.de(Comentario.class)
+                .igualId("artigo", artigoId)
+                .igualId("usuario", usuarioId)
+                .igual("aprovado", aprovado);
+    }
+}
@@ -0,0 +1,43 @@
+package lib.repository.filtro; // Motor de filtros dinâmicos (Specification/Criteria)
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * EntityListener que invalida os totais em cache da entidade alterada.
+ *
+ * Registrado com @EntityListeners nas entidades paginadas; o Spring Boot
+ * configura o Hibernate para obter o listener do contexto (SpringBeanContainer),
+ * por isso a injeção por construtor funciona.
+ */
+@Component
+@RequiredArgsConstructor
+public class InvalidacaoContagemListener {
+
+    private final CacheContagem cacheContagem;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void aoAlterar(Object entidade) {
+        Class<?> tipo = Hibernate.getClass(entidade);
+        cacheContagem.invalidar(tipo);
+
+        // Invalida de novo após o commit: um COUNT feito entre o flush e o commit
+        // ainda enxerga o total antigo e não pode ficar valendo para a nova geração
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheContagem.invalidar(tipo);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package lib.repository.filtro; // Motor de filtros dinâmicos (Specification/Criteria)
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Ordenações permitidas nas listagens filtradas, alinhadas aos índices das entidades.
+ *
+ * - Só aceita campos que têm índice compatível (ex.: artigos (status, data_criacao));
+ *   qualquer outro valor de "sort" cai na ordenação padrão da entidade.
+ * - Usa apenas o primeiro campo pedido e acrescenta "id" na mesma direção como
+ *   desempate: o InnoDB guarda a PK no fim de todo índice secundário, então
+ *   (status, data_criacao, id) continua sendo lido na ordem do índice, sem filesort,
+ *   e a paginação fica determinística.
+ */
+public final class OrdenacaoIndexada {
+
+    // artigos: (status|categoria_id|autor_id, data_criacao), (data_criacao, id),
+    // (status, data_publicacao) e (data_publicacao)
+    public static final OrdenacaoIndexada NOTICIAS = new OrdenacaoIndexada(
+            Sort.Direction.DESC, "dataCriacao", Set.of("dataCriacao", "dataPublicacao", "id"));
+
+    // eventos: (ativo|organizador_id, data_evento) e (data_evento)
+    public static final OrdenacaoIndexada EVENTOS = new OrdenacaoIndexada(
+            Sort.Direction.ASC, "dataEvento", Set.of("dataEvento", "id"));
+
+    // usuarios: (tipo|ativo, nome), (nome) e email único
+    public static final OrdenacaoIndexada USUARIOS = new OrdenacaoIndexada(
+            Sort.Direction.ASC, "nome", Set.of("nome", "email", "id"));
+
+    // comentarios: (artigo_id|usuario_id|aprovado, data_comentario)
+    public static final OrdenacaoIndexada COMENTARIOS = new OrdenacaoIndexada(
+            Sort.Direction.DESC, "dataComentario", Set.of("dataComentario", "id"));
+
+    private final Sort.Direction direcaoPadrao;
+    private final String campoPadrao;
+    private final Set<String> camposIndexados;
+
+    private OrdenacaoIndexada(Sort.Direction direcaoPadrao, String campoPadrao, Set<String> camposIndexados) {
+        this.direcaoPadrao = direcaoPadrao;
+        this.campoPadrao = campoPadrao;
+        this.camposIndexados = camposIndexados;
+    }
+
+    /**
+     * Reescreve a ordenação do Pageable para uma compatível com os índices.
+     */
+    public Pageable ajustar(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), ordenacao(pageable.getSort()));
+    }
+
+    /**
+     * Ordenação indexada equivalente ao Sort pedido (ou a padrão).
+     */
+    public Sort ordenacao(Sort pedido) {
+        Sort.Order primeiro = pedido.stream().findFirst().orElse(null);
+
+        String campo = campoPadrao;
+        Sort.Direction direcao = direcaoPadrao;
+        if (primeiro != null && camposIndexados.contains(primeiro.getProperty())) {
+            campo = primeiro.getProperty();
+            direcao = primeiro.getDirection();
+        }
+
+        Sort sort = Sort.by(direcao, campo);
+        return "id".equals(campo) ? sort : sort.and(Sort.by(direcao, "id"));
+    }
+}
@@ -0,0 +1,65 @@
+package lib.repository.sincronizacao; // Sincronização incremental (feed de alterações)
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Marca d'água do feed de sincronização: última posição (data, id) entregue
+ * de alterações e de exclusões.
+ *
+ * Para o cliente é um token opaco; ele só devolve o valor recebido na
+ * chamada anterior (ou nada, na primeira sincronização).
+ */
+public record CursorSincronizacao(LocalDateTime data, long id,
+                                  LocalDateTime dataExclusao, long idExclusao) {
+
+    private static final LocalDateTime ORIGEM = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Cursor da primeira sincronização (traz tudo).
+     */
+    public static final CursorSincronizacao INICIAL = new CursorSincronizacao(ORIGEM, 0, ORIGEM, 0);
+
+    public String codificar() {
+        String texto = micros(data) + ":" + id + ":" + micros(dataExclusao) + ":" + idExclusao;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Lê o token recebido do cliente; null/vazio equivale ao cursor inicial.
+     *
+     * @throws IllegalArgumentException se o token não for um cursor válido
+     */
+    public static CursorSincronizacao decodificar(String token) {
+        if (token == null || token.isBlank()) {
+            return INICIAL;
+        }
+        String texto = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.US_ASCII);
+        String[] partes = texto.split(":");
+        if (partes.length != 4) {
+            throw new IllegalArgumentException("cursor com formato inesperado");
+        }
+        return new CursorSincronizacao(
+                data(Long.parseLong(partes[0])), Long.parseLong(partes[1]),
+                data(Long.parseLong(partes[2])), Long.parseLong(partes[3]));
+    }
+
+    public CursorSincronizacao comAlteracao(LocalDateTime novaData, long novoId) {
+        return new CursorSincronizacao(novaData, novoId, dataExclusao, idExclusao);
+    }
+
+    public CursorSincronizacao comExclusao(LocalDateTime novaData, long novoId) {
+        return new CursorSincronizacao(data, id, novaData, novoId);
+    }
+
+    // DATETIME(6) do MySQL: precisão de microssegundos
+    private static long micros(LocalDateTime data) {
+        return ChronoUnit.MICROS.between(ORIGEM, data);
+    }
+
+    private static LocalDateTime data(long micros) {
+        return ORIGEM.plus(micros, ChronoUnit.MICROS);
+    }
+}
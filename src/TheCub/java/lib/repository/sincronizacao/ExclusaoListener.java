@@ -0,0 +1,35 @@
+package lib.repository.sincronizacao; // Sincronização incremental (feed de alterações)
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.Table;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * EntityListener que grava um tombstone em registros_excluidos a cada remoção
+ * de entidade sincronizável (artigos, eventos, usuários).
+ *
+ * O EntityManagerFactory é obtido sob demanda: o listener é criado durante a
+ * inicialização do próprio EntityManagerFactory.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExclusaoListener {
+
+    private final RegistrosExcluidos registrosExcluidos;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @PostRemove
+    public void aoRemover(Object entidade) {
+        Table tabela = Hibernate.getClass(entidade).getAnnotation(Table.class);
+        Object id = entityManagerFactory.getObject().getPersistenceUnitUtil().getIdentifier(entidade);
+        if (tabela != null && id != null) {
+            registrosExcluidos.registrar(tabela.name(), id, LocalDateTime.now());
+        }
+    }
+}
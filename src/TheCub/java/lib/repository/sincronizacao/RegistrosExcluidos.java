@@ -0,0 +1,104 @@
+package lib.repository.sincronizacao; // Sincronização incremental (feed de alterações)
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Tabela de "tombstones": registra os IDs removidos de cada entidade
+ * sincronizável, para que o feed de alterações também informe exclusões.
+ *
+ * A tabela é criada aqui (não é entidade JPA): o insert acontece dentro de
+ * um callback @PostRemove, onde o JPA não permite usar o EntityManager.
+ * Via JdbcTemplate o insert entra na mesma transação/conexão do delete.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrosExcluidos {
+
+    /**
+     * Uma exclusão registrada.
+     */
+    public record Exclusao(long id, long registroId, LocalDateTime dataExclusao) {
+    }
+
+    // Tabelas com feed de sincronização (data_atualizacao + índice (data_atualizacao, id))
+    private static final List<String> TABELAS = List.of("artigos", "eventos", "usuarios");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void inicializar() {
+        // Não depende do schema JPA: pode rodar antes do EntityManagerFactory
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS registros_excluidos (
+                    id            BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                    entidade      VARCHAR(40) NOT NULL,
+                    registro_id   BIGINT NOT NULL,
+                    data_exclusao DATETIME(6) NOT NULL,
+                    INDEX idx_excluidos_sincronizacao (entidade, data_exclusao, id)
+                )
+                """);
+    }
+
+    /**
+     * Linhas antigas (anteriores à coluna data_atualizacao) ficariam fora do feed,
+     * que filtra por intervalo; preenche com a data de criação.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preencherDataAtualizacao() {
+        for (String tabela : TABELAS) {
+            try {
+                int linhas = jdbcTemplate.update("UPDATE " + tabela
+                        + " SET data_atualizacao = COALESCE(data_criacao, NOW(6)) WHERE data_atualizacao IS NULL");
+                if (linhas > 0) {
+                    log.info("🔄 {}: data_atualizacao preenchida em {} registros", tabela, linhas);
+                }
+            } catch (DataAccessException e) {
+                log.warn("⚠️ Não foi possível preencher data_atualizacao de {}: {}", tabela, e.getMessage());
+            }
+        }
+    }
+
+    // ====== ESCRITA ======
+
+    public void registrar(String entidade, Object registroId, LocalDateTime dataExclusao) {
+        jdbcTemplate.update(
+                "INSERT INTO registros_excluidos (entidade, registro_id, data_exclusao) VALUES (?, ?, ?)",
+                entidade, registroId, Timestamp.valueOf(dataExclusao));
+    }
+
+    // ====== LEITURA ======
+
+    /**
+     * Exclusões depois do cursor (data_exclusao, id), até o limite "ate".
+     * Mesmo formato de range do feed das entidades, coberto pelo índice
+     * (entidade, data_exclusao, id).
+     */
+    public List<Exclusao> listarDesde(String entidade, LocalDateTime data, long id,
+                                      LocalDateTime ate, int limite) {
+        return jdbcTemplate.query("""
+                        SELECT id, registro_id, data_exclusao FROM registros_excluidos
+                        WHERE entidade = ?
+                          AND (data_exclusao > ? OR (data_exclusao = ? AND id > ?))
+                          AND data_exclusao <= ?
+                        ORDER BY data_exclusao ASC, id ASC
+                        LIMIT ?
+                        """,
+                (rs, i) -> new Exclusao(
+                        rs.getLong("id"),
+                        rs.getLong("registro_id"),
+                        rs.getTimestamp("data_exclusao").toLocalDateTime()),
+                entidade, Timestamp.valueOf(data), Timestamp.valueOf(data), id, Timestamp.valueOf(ate), limite);
+    }
+}
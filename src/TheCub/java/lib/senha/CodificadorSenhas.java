@@ -0,0 +1,71 @@
+package lib.senha; // Hash de senhas (BCrypt em pool dedicado)
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+/**
+ * PasswordEncoder da aplicação: BCrypt (prefixo "{bcrypt}") executado no
+ * pool de ExecutorHashSenhas.
+ *
+ * Senhas antigas, gravadas em texto puro e sem prefixo, ainda são aceitas
+ * na verificação; upgradeEncoding() devolve true para elas (e para hashes
+ * com custo menor que o calibrado), e o login regrava o hash.
+ */
+public class CodificadorSenhas implements PasswordEncoder {
+
+    private static final String BCRYPT = "bcrypt";
+
+    private final ExecutorHashSenhas executor;
+    private final DelegatingPasswordEncoder delegado;
+
+    public CodificadorSenhas(ExecutorHashSenhas executor) {
+        this.executor = executor;
+        this.delegado = new DelegatingPasswordEncoder(BCRYPT,
+                Map.of(BCRYPT, new BCryptPasswordEncoder(executor.getCusto())));
+        // Registros sem "{id}": legado em texto puro
+        this.delegado.setDefaultPasswordEncoderForMatches(new TextoPuroLegado());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.executar(() -> delegado.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.executar(() -> delegado.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Só lê o prefixo/custo do hash: barato, não precisa do pool
+        return delegado.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Verificação das senhas legadas em texto puro (somente leitura; nunca codifica).
+     */
+    private static final class TextoPuroLegado implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            throw new UnsupportedOperationException("Senhas novas são sempre gravadas com BCrypt");
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (rawPassword == null || encodedPassword == null) {
+                return false;
+            }
+            // Comparação em tempo constante
+            return MessageDigest.isEqual(
+                    rawPassword.toString().getBytes(StandardCharsets.UTF_8),
+                    encodedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
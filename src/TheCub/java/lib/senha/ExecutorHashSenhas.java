@@ -0,0 +1,170 @@
+package lib.senha; // Hash de senhas (BCrypt em pool dedicado)
+
+import dominio.exception.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool dedicado e limitado para as operações de hash/verificação de senha.
+ *
+ * BCrypt custa dezenas/centenas de ms de CPU por operação. Com o pool:
+ * - no máximo app.senha.threads hashes rodam ao mesmo tempo; um pico de
+ *   logins não satura a CPU que atende o resto da API
+ * - a fila é limitada (app.senha.fila); cheia, a requisição falha na hora
+ *   com 503 + Retry-After em vez de acumular threads do Tomcat esperando
+ * - a espera tem teto (app.senha.timeout-ms)
+ *
+ * O custo (work factor) do BCrypt é calibrado na inicialização para ficar
+ * perto de app.senha.alvo-ms por hash nesta máquina, dentro de
+ * [app.senha.custo-minimo, app.senha.custo-maximo].
+ *
+ * Métricas: theclub.senha.hash (timer) e theclub.senha.fila (gauge).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutorHashSenhas {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.senha.threads:0}")
+    private int threads;
+
+    @Value("${app.senha.fila:64}")
+    private int capacidadeFila;
+
+    @Value("${app.senha.timeout-ms:5000}")
+    private long timeoutMs;
+
+    @Value("${app.senha.alvo-ms:100}")
+    private long alvoMs;
+
+    @Value("${app.senha.custo-minimo:10}")
+    private int custoMinimo;
+
+    @Value("${app.senha.custo-maximo:14}")
+    private int custoMaximo;
+
+    private ThreadPoolExecutor executor;
+    private Timer timer;
+    private int custo;
+
+    // ====== CICLO DE VIDA ======
+
+    @PostConstruct
+    void iniciar() {
+        int tamanho = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequencia = new AtomicInteger();
+        executor = new ThreadPoolExecutor(tamanho, tamanho, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "hash-senha-" + sequencia.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        timer = Timer.builder("theclub.senha.hash")
+                .description("Tempo das operações de hash/verificação de senha (fila + CPU)")
+                .register(meterRegistry);
+        Gauge.builder("theclub.senha.fila", executor, e -> e.getQueue().size())
+                .description("Operações de senha aguardando no pool")
+                .register(meterRegistry);
+
+        custo = calibrarCusto();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Mede um hash no custo mínimo e sobe o custo enquanto o tempo estimado
+     * (dobra a cada ponto) não passar do alvo.
+     */
+    private int calibrarCusto() {
+        BCryptPasswordEncoder referencia = new BCryptPasswordEncoder(custoMinimo);
+        referencia.encode("aquecimento");
+
+        long inicio = System.nanoTime();
+        int amostras = 3;
+        for (int i = 0; i < amostras; i++) {
+            referencia.encode("calibracao-" + i);
+        }
+        double medidoMs = (System.nanoTime() - inicio) / 1_000_000.0 / amostras;
+
+        int escolhido = custoMinimo;
+        double estimadoMs = medidoMs;
+        while (escolhido < custoMaximo && estimadoMs * 2 <= alvoMs) {
+            escolhido++;
+            estimadoMs *= 2;
+        }
+        log.info("🔐 BCrypt calibrado: custo {} (~{} ms por hash; custo {} mediu {} ms, alvo {} ms)",
+                escolhido, Math.round(estimadoMs), custoMinimo, Math.round(medidoMs), alvoMs);
+        return escolhido;
+    }
+
+    // ====== EXECUÇÃO ======
+
+    /**
+     * Custo do BCrypt escolhido para esta instância.
+     */
+    public int getCusto() {
+        return custo;
+    }
+
+    /**
+     * Executa a operação no pool e espera o resultado.
+     *
+     * @throws ServicoSobrecarregadoException fila cheia ou espera acima do timeout
+     */
+    public <T> T executar(Callable<T> operacao) {
+        long inicio = System.nanoTime();
+        Future<T> futuro;
+        try {
+            futuro = executor.submit(operacao);
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ Pool de hash de senhas cheio ({} na fila)", executor.getQueue().size());
+            throw new ServicoSobrecarregadoException("Muitas autenticações simultâneas; tente novamente", 1);
+        }
+
+        try {
+            return futuro.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            throw new ServicoSobrecarregadoException("Tempo de espera da autenticação esgotado; tente novamente", 2);
+        } catch (InterruptedException e) {
+            futuro.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Operação de senha interrompida", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Falha na operação de senha", causa);
+        } finally {
+            timer.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+}
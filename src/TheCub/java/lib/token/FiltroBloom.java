@@ -0,0 +1,77 @@
+package lib.token; // Revogação de tokens (lista de negação em memória)
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de tamanho fixo, com inserção e consulta sem lock.
+ *
+ * "Não contém" é definitivo; "talvez contém" precisa ser confirmado no
+ * conjunto exato. Não suporta remoção: para esquecer itens, reconstrói-se
+ * um filtro novo (ListaRevogacao faz isso na limpeza).
+ */
+final class FiltroBloom {
+
+    private final AtomicLongArray palavras;
+    private final long numBits;
+    private final int numHashes;
+    private final int capacidade;
+
+    FiltroBloom(int capacidade, double taxaFalsoPositivo) {
+        this.capacidade = Math.max(1, capacidade);
+        // m = -n ln(p) / (ln 2)^2 ; k = (m / n) ln 2
+        long bits = (long) Math.ceil(-this.capacidade * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        this.numBits = Math.max(64, bits);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / this.capacidade * Math.log(2)));
+        this.palavras = new AtomicLongArray((int) ((numBits + 63) / 64));
+    }
+
+    int capacidade() {
+        return capacidade;
+    }
+
+    void adicionar(String valor) {
+        long hash = hash64(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = indice(h1, h2, i);
+            long mascara = 1L << (bit & 63);
+            palavras.getAndUpdate((int) (bit >>> 6), palavra -> palavra | mascara);
+        }
+    }
+
+    boolean talvezContem(String valor) {
+        long hash = hash64(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = indice(h1, h2, i);
+            if ((palavras.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Double hashing (Kirsch-Mitzenmacher): k índices a partir de dois hashes
+    private long indice(int h1, int h2, int i) {
+        long combinado = h1 + (long) i * h2;
+        return Math.floorMod(combinado, numBits);
+    }
+
+    // FNV-1a 64 bits + finalizador do MurmurHash3 (espalha os bits altos)
+    private static long hash64(String valor) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
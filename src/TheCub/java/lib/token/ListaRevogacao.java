@@ -0,0 +1,175 @@
+package lib.token; // Revogação de tokens (lista de negação em memória)
+
+import dominio.entidades.TokenRevogado;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lib.replica.RoteadorLeituras;
+import lib.repository.TokenRevogadoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lista de negação dos access tokens (JWT) revogados antes de expirar,
+ * consultada pelo JwtAuthenticationFilter a cada requisição autenticada.
+ *
+ * - Filtro de Bloom na frente: o caso comum (token não revogado) responde
+ *   sem tocar no mapa nem no banco
+ * - Conjunto exato (jti -> expiração) confirma os "talvez" do Bloom
+ * - Persistida em tokens_revogados: recarregada na inicialização e relida
+ *   a cada app.token.sincronizacao-ms (revogações de outras instâncias)
+ * - Entradas expiradas são removidas do banco e da memória a cada
+ *   app.token.limpeza-ms; o Bloom é reconstruído só com o que sobrou
+ *
+ * Métrica: theclub.token.revogacao{resultado}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ListaRevogacao {
+
+    // Margem na releitura incremental (relógios de instâncias diferentes)
+    private static final long MARGEM_SINCRONIZACAO_SEGUNDOS = 5;
+
+    private final TokenRevogadoRepository tokenRevogadoRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.token.bloom.capacidade:100000}")
+    private int capacidadeBloom;
+
+    @Value("${app.token.bloom.falso-positivo:0.01}")
+    private double taxaFalsoPositivo;
+
+    private final Map<String, LocalDateTime> revogados = new ConcurrentHashMap<>();
+    private volatile FiltroBloom bloom;
+    private volatile LocalDateTime ultimaSincronizacao;
+
+    private Counter descartadosPeloBloom;
+    private Counter falsosPositivos;
+    private Counter confirmados;
+
+    // ====== CICLO DE VIDA ======
+
+    @PostConstruct
+    void carregar() {
+        descartadosPeloBloom = contador("bloom-negativo");
+        falsosPositivos = contador("falso-positivo");
+        confirmados = contador("revogado");
+
+        LocalDateTime agora = LocalDateTime.now();
+        List<TokenRevogado> ativos = tokenRevogadoRepository.findByDataExpiracaoAfter(agora);
+        ativos.forEach(t -> revogados.put(t.getJti(), t.getDataExpiracao()));
+        reconstruirBloom();
+        ultimaSincronizacao = agora;
+        log.info("🔒 Lista de revogação carregada: {} tokens", revogados.size());
+    }
+
+    // ====== CONSULTA ======
+
+    /**
+     * O token com este jti foi revogado? Sem acesso a banco.
+     */
+    public boolean estaRevogado(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        if (!bloom.talvezContem(jti)) {
+            descartadosPeloBloom.increment();
+            return false;
+        }
+        if (revogados.containsKey(jti)) {
+            confirmados.increment();
+            return true;
+        }
+        falsosPositivos.increment();
+        return false;
+    }
+
+    // ====== REVOGAÇÃO ======
+
+    /**
+     * Revoga o token até a sua expiração original.
+     */
+    @Transactional
+    public void revogar(String jti, LocalDateTime expiracao) {
+        if (jti == null || revogados.containsKey(jti)) {
+            return;
+        }
+        tokenRevogadoRepository.save(TokenRevogado.builder()
+                .jti(jti)
+                .dataExpiracao(expiracao)
+                .build());
+        lembrar(jti, expiracao);
+        log.info("🔒 Token revogado (jti {})", jti);
+    }
+
+    private synchronized void lembrar(String jti, LocalDateTime expiracao) {
+        revogados.put(jti, expiracao);
+        if (revogados.size() > bloom.capacidade()) {
+            // Acima da capacidade a taxa de falso positivo sobe: dimensiona de novo
+            reconstruirBloom();
+        } else {
+            bloom.adicionar(jti);
+        }
+    }
+
+    private synchronized void reconstruirBloom() {
+        FiltroBloom novo = new FiltroBloom(Math.max(capacidadeBloom, revogados.size() * 2), taxaFalsoPositivo);
+        revogados.keySet().forEach(novo::adicionar);
+        bloom = novo;
+    }
+
+    // ====== SINCRONIZAÇÃO / LIMPEZA ======
+
+    /**
+     * Traz revogações gravadas por outras instâncias desde a última leitura.
+     */
+    @Scheduled(fixedDelayString = "${app.token.sincronizacao-ms:30000}",
+            initialDelayString = "${app.token.sincronizacao-ms:30000}")
+    public void sincronizar() {
+        LocalDateTime inicio = LocalDateTime.now();
+        // Primário: com a réplica atrasada além da margem, revogações ficariam para trás do cursor
+        List<TokenRevogado> novos = RoteadorLeituras.noPrimario(() -> tokenRevogadoRepository.findByDataRevogacaoAfter(
+                ultimaSincronizacao.minusSeconds(MARGEM_SINCRONIZACAO_SEGUNDOS)));
+        for (TokenRevogado token : novos) {
+            if (!revogados.containsKey(token.getJti())) {
+                lembrar(token.getJti(), token.getDataExpiracao());
+            }
+        }
+        ultimaSincronizacao = inicio;
+    }
+
+    /**
+     * Remove as revogações de tokens que já expiraram (o JWT já é recusado pela data).
+     */
+    @Scheduled(fixedDelayString = "${app.token.limpeza-ms:3600000}",
+            initialDelayString = "${app.token.limpeza-ms:3600000}")
+    @Transactional
+    public void limparExpirados() {
+        LocalDateTime agora = LocalDateTime.now();
+        int excluidos = tokenRevogadoRepository.excluirExpirados(agora);
+        synchronized (this) {
+            revogados.values().removeIf(expiracao -> expiracao.isBefore(agora));
+            reconstruirBloom();
+        }
+        if (excluidos > 0) {
+            log.info("🧹 {} revogações expiradas removidas ({} ativas)", excluidos, revogados.size());
+        }
+    }
+
+    private Counter contador(String resultado) {
+        return Counter.builder("theclub.token.revogacao")
+                .tag("resultado", resultado)
+                .description("Consultas à lista de revogação de tokens")
+                .register(meterRegistry);
+    }
+}
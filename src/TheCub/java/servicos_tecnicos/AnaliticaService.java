@@ -0,0 +1,109 @@
+package servicos_tecnicos;
+
+import dominio.dto.response.AnaliticaArtigoDTO;
+import dominio.dto.response.PontoAnaliticoDTO;
+import dominio.entidades.AnaliticaArtigo;
+import dominio.enums.GranularidadeAnalitica;
+import dominio.exception.BusinessException;
+import dominio.exception.ResourceNotFoundException;
+import lib.repository.AnaliticaArtigoRepository;
+import lib.repository.NoticiaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leitura das séries de analytics de artigos a partir dos rollups
+ * (analitica_artigos), sem varrer eventos individuais.
+ *
+ * Os dados de hoje chegam com atraso de até app.analitica.gravacao-ms
+ * (baldes ainda em memória no AcumuladorAnalitico).
+ */
+@Service
+@RequiredArgsConstructor
+public class AnaliticaService {
+
+    private final AnaliticaArtigoRepository analiticaRepository;
+    private final NoticiaRepository artigoRepository;
+
+    @Value("${app.analitica.intervalo-maximo-dias:366}")
+    private int intervaloMaximoDias;
+
+    /**
+     * Série do artigo entre "de" e "ate" (inclusivos).
+     * Padrão: últimos 30 dias, por DIA.
+     */
+    @Transactional(readOnly = true)
+    public AnaliticaArtigoDTO obterSerie(Long artigoId, LocalDate de, LocalDate ate,
+                                        GranularidadeAnalitica granularidade) {
+        if (!artigoRepository.existsById(artigoId)) {
+            throw new ResourceNotFoundException("Artigo", "id", artigoId);
+        }
+        LocalDate fim = ate != null ? ate : LocalDate.now();
+        LocalDate inicio = de != null ? de : fim.minusDays(29);
+        GranularidadeAnalitica modo = granularidade != null ? granularidade : GranularidadeAnalitica.DIA;
+        if (inicio.isAfter(fim)) {
+            throw new BusinessException("Intervalo inválido: 'from' depois de 'to'");
+        }
+        if (ChronoUnit.DAYS.between(inicio, fim) >= intervaloMaximoDias) {
+            throw new BusinessException("Intervalo maior que " + intervaloMaximoDias + " dias");
+        }
+
+        List<AnaliticaArtigo> baldes = analiticaRepository.findBaldes(
+                artigoId, inicio.atStartOfDay(), fim.plusDays(1).atStartOfDay());
+
+        List<PontoAnaliticoDTO> pontos = modo == GranularidadeAnalitica.DIA
+                ? somarPorDia(baldes)
+                : baldes.stream().map(this::toPonto).toList();
+
+        return AnaliticaArtigoDTO.builder()
+                .artigoId(artigoId)
+                .de(inicio)
+                .ate(fim)
+                .granularidade(modo)
+                .pontos(pontos)
+                .totalVisualizacoes(baldes.stream().mapToLong(AnaliticaArtigo::getVisualizacoes).sum())
+                .totalGostei(baldes.stream().mapToLong(AnaliticaArtigo::getGostei).sum())
+                .totalNeutro(baldes.stream().mapToLong(AnaliticaArtigo::getNeutro).sum())
+                .totalNaoGostei(baldes.stream().mapToLong(AnaliticaArtigo::getNaoGostei).sum())
+                .build();
+    }
+
+    // Horas ainda não compactadas (hoje/ontem) somadas no dia, junto com os dias já compactados
+    private List<PontoAnaliticoDTO> somarPorDia(List<AnaliticaArtigo> baldes) {
+        Map<LocalDateTime, PontoAnaliticoDTO> porDia = new LinkedHashMap<>();
+        for (AnaliticaArtigo balde : baldes) {
+            LocalDateTime dia = balde.getInicio().truncatedTo(ChronoUnit.DAYS);
+            PontoAnaliticoDTO ponto = porDia.computeIfAbsent(dia, d -> PontoAnaliticoDTO.builder()
+                    .inicio(d)
+                    .granularidade(GranularidadeAnalitica.DIA)
+                    .visualizacoes(0L).gostei(0L).neutro(0L).naoGostei(0L)
+                    .build());
+            ponto.setVisualizacoes(ponto.getVisualizacoes() + balde.getVisualizacoes());
+            ponto.setGostei(ponto.getGostei() + balde.getGostei());
+            ponto.setNeutro(ponto.getNeutro() + balde.getNeutro());
+            ponto.setNaoGostei(ponto.getNaoGostei() + balde.getNaoGostei());
+        }
+        return new ArrayList<>(porDia.values());
+    }
+
+    private PontoAnaliticoDTO toPonto(AnaliticaArtigo balde) {
+        return PontoAnaliticoDTO.builder()
+                .inicio(balde.getInicio())
+                .granularidade(balde.getGranularidade())
+                .visualizacoes(balde.getVisualizacoes())
+                .gostei(balde.getGostei())
+                .neutro(balde.getNeutro())
+                .naoGostei(balde.getNaoGostei())
+                .build();
+    }
+}
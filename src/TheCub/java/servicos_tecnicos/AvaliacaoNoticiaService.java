@@ -4,6 +4,7 @@ import dominio.entidades.AvaliacaoNoticia;
 import dominio.entidades.Noticia;
 import dominio.entidades.Usuario;
 import dominio.enums.TipoAvaliacao;
+import lib.analitica.AcumuladorAnalitico;
 import lib.repository.AvaliacaoNoticiaRepository;
 import lib.repository.NoticiaRepository;
 import lib.repository.UsuarioRepository;
@@ -11,6 +12,8 @@ import dominio.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -32,6 +35,9 @@ public class AvaliacaoArtigoService {
     // Repositório de artigos (o que é avaliado)
     private final NoticiaRepository artigoRepo;
 
+    // Baldes de analytics por hora (reações)
+    private final AcumuladorAnalitico acumuladorAnalitico;
+
     /**
      * Cria ou atualiza a avaliação de um usuário para um artigo específico.
      *
@@ -60,6 +66,9 @@ public class AvaliacaoArtigoService {
         AvaliacaoNoticia av = avaliacaoRepo.findByUsuarioAndArtigo(usuario, artigo)
                 .orElse(new AvaliacaoNoticia());
 
+        // Avaliação anterior (null se é a primeira do usuário neste artigo)
+        TipoAvaliacao anterior = av.getAvaliacao();
+
         // Preenche/atualiza os dados da avaliação
         av.setUsuario(usuario);
         av.setArtigo(artigo);
@@ -67,6 +76,19 @@ public class AvaliacaoArtigoService {
 
         // Salva (insert ou update, dependendo se já tinha ID)
         avaliacaoRepo.save(av);
+
+        // Saldo da reação no balde da hora (analytics), só depois do commit:
+        // um rollback (ex.: violação da unicidade usuário/artigo) não conta
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acumuladorAnalitico.registrarAvaliacao(artigoId, avaliacao, anterior);
+                }
+            });
+        } else {
+            acumuladorAnalitico.registrarAvaliacao(artigoId, avaliacao, anterior);
+        }
     }
 
     /**
@@ -3,12 +3,17 @@ package servicos_tecnicos;
 import dominio.entidades.Categoria;
 import dominio.dto.request.CategoriaRequestDTO;
 import dominio.dto.response.CategoriaResponseDTO;
+import dominio.dto.response.PaginaResponse;
 import dominio.exception.BusinessException;
 import dominio.exception.ResourceNotFoundException;
+import lib.ranking.Rankings;
 import lib.repository.CategoriaRepository;
+import lib.repository.filtro.ConsultaPaginada;
+import lib.repository.filtro.FiltroDinamico;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +31,8 @@ import java.util.stream.Collectors;
 public class CategoriaService {
 
     private final CategoriaRepository categoriaRepository;
+    private final ConsultaPaginada consultaPaginada;
+    private final Rankings rankings;
 
     // ====== CRIAR ======
 
@@ -89,12 +96,22 @@ public class CategoriaService {
     // ====== LISTAR ======
 
     /**
-     * Lista todas as categorias paginadas.
+     * Lista todas as categorias paginadas (total vindo do cache de contagens).
      */
     @Transactional(readOnly = true)
     public Page<CategoriaResponseDTO> listarTodas(Pageable pageable) {
-        return categoriaRepository
-                .findAll(pageable)
+        return consultaPaginada
+                .pagina(FiltroDinamico.de(Categoria.class), pageable)
+                .map(this::toResponse);
+    }
+
+    /**
+     * Lista todas as categorias sem COUNT (exactCount=false).
+     */
+    @Transactional(readOnly = true)
+    public PaginaResponse<CategoriaResponseDTO> listarTodasSemContagem(Pageable pageable) {
+        return consultaPaginada
+                .fatia(FiltroDinamico.de(Categoria.class), pageable)
                 .map(this::toResponse);
     }
 
@@ -125,13 +142,25 @@ public class CategoriaService {
     // ====== LISTAR MAIS POPULARES ======
 
     /**
-     * Lista categorias mais populares (em geral ordenadas por quantidade de artigos),
-     * com suporte a paginação.
+     * Lista categorias ativas mais populares (artigos publicados), com paginação.
+     *
+     * A ordem vem do ranking materializado (lib.ranking.Rankings), sem GROUP BY;
+     * as categorias saem do cache de 2º nível. Só as app.ranking.maximo primeiras
+     * posições são mantidas.
      */
     @Transactional(readOnly = true)
     public Page<CategoriaResponseDTO> listarMaisPopulares(Pageable pageable) {
-        Page<Categoria> categorias = categoriaRepository.findCategoriasMaisPopulares(pageable);
-        return categorias.map(this::toResponse);
+        List<Categoria> ativas = rankings.topCategorias(Integer.MAX_VALUE).stream()
+                .map(posicao -> categoriaRepository.findById(posicao.id()).orElse(null))
+                .filter(categoria -> categoria != null && Boolean.TRUE.equals(categoria.getAtiva()))
+                .collect(Collectors.toList());
+
+        int inicio = (int) Math.min(pageable.getOffset(), ativas.size());
+        int fim = Math.min(inicio + pageable.getPageSize(), ativas.size());
+        List<CategoriaResponseDTO> pagina = ativas.subList(inicio, fim).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        return new PageImpl<>(pagina, pageable, ativas.size());
     }
 
     /**
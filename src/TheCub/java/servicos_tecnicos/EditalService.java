@@ -4,16 +4,26 @@ import dominio.entidades.Edital;
 import dominio.entidades.Usuario;
 import dominio.dto.request.EditalRequestDTO;
 import dominio.dto.response.EditalResponseDTO;
+import lib.replica.RoteadorLeituras;
 import lib.repository.EditalRepository;
 import lib.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Serviço responsável pelas regras de negócio relacionadas a Editais.
@@ -30,6 +40,19 @@ public class EditalService {
     // Repositório para usuários (autores dos editais)
     private final UsuarioRepository usuarioRepository;
 
+    // TTL de segurança do cache de abertos (escritas feitas em outra instância)
+    @Value("${app.editais.abertos.ttl-segundos:300}")
+    private long ttlAbertosSegundos;
+
+    // Lista de editais abertos em memória e o instante (epoch ms) em que deixa de valer
+    private record EditaisAbertos(List<EditalResponseDTO> itens, long expiraEm) {
+    }
+
+    private volatile EditaisAbertos abertos;
+
+    // Incrementada a cada escrita; uma carga iniciada antes dela não é guardada
+    private final AtomicLong geracaoAbertos = new AtomicLong();
+
     /**
      * Cria um novo edital a partir de um DTO de requisição.
      * Usa o usuário autenticado como autor.
@@ -66,6 +89,7 @@ public class EditalService {
         // Persiste no banco
         Edital editalSalvo = editalRepository.save(edital);
         log.info(" Edital salvo com ID: {}", editalSalvo.getId());
+        invalidarAbertosAposCommit();
 
         // Converte para DTO de resposta
         return toDTO(editalSalvo);
@@ -77,24 +101,64 @@ public class EditalService {
      */
     @Transactional(readOnly = true)
     public Page<EditalResponseDTO> listarAtivos(Pageable pageable) {
-        log.info(" Listando editais ativos");
-
         // Busca pagina de editais ativos ordenados por dataPublicacao DESC
         Page<Edital> editais = editalRepository.findByAtivoTrueOrderByDataPublicacaoDesc(pageable);
 
-        log.info(" Encontrados {} editais", editais.getTotalElements());
+        // Leitura frequente: apenas DEBUG (INFO fica para operações de escrita)
+        log.debug(" Listando editais ativos: {} encontrados", editais.getTotalElements());
 
         // Converte a página de entidades para página de DTOs
         return editais.map(this::toDTO);
     }
 
+    /**
+     * Lista os editais abertos agora (ativos e dentro da validade), servida
+     * da memória.
+     *
+     * A lista vale até o primeiro dataValidade dentro dela passar (quando o
+     * conjunto muda por si só) ou até uma escrita deste serviço; o TTL
+     * app.editais.abertos.ttl-segundos cobre escritas de outras instâncias.
+     * Visualizações na lista são as do momento da carga.
+     */
+    public List<EditalResponseDTO> listarAbertos() {
+        EditaisAbertos atual = abertos;
+        if (atual != null && System.currentTimeMillis() < atual.expiraEm()) {
+            return atual.itens();
+        }
+
+        long geracao = geracaoAbertos.get();
+        LocalDateTime agora = LocalDateTime.now();
+        // Primário: uma réplica atrasada deixaria a escrita que invalidou a lista de fora até o TTL
+        List<Edital> editais = RoteadorLeituras.noPrimario(() -> editalRepository.findAbertos(agora));
+        List<EditalResponseDTO> itens = editais.stream().map(this::toDTO).toList();
+
+        long expiraEm = System.currentTimeMillis() + ttlAbertosSegundos * 1000;
+        LocalDateTime primeiroVencimento = editais.stream()
+                .map(Edital::getDataValidade)
+                .filter(Objects::nonNull)
+                .min(LocalDateTime::compareTo)
+                .orElse(null);
+        if (primeiroVencimento != null) {
+            expiraEm = Math.min(expiraEm, primeiroVencimento.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+
+        EditaisAbertos carregado = new EditaisAbertos(itens, expiraEm);
+        synchronized (geracaoAbertos) {
+            if (geracaoAbertos.get() == geracao) {
+                abertos = carregado;
+            }
+        }
+        log.debug(" Editais abertos recarregados: {} itens", itens.size());
+        return itens;
+    }
+
     /**
      * Busca um edital pelo ID.
      * Se encontrar, incrementa o contador de visualizações.
      */
     @Transactional
     public EditalResponseDTO buscarPorId(Long id) {
-        log.info(" Buscando edital ID: {}", id);
+        log.debug(" Buscando edital ID: {}", id);
 
         // Busca edital ou lança exceção se não existir
         Edital edital = editalRepository.findById(id)
@@ -104,7 +168,7 @@ public class EditalService {
                 });
 
         // Regra de negócio: cada busca incrementa visualizações
-        log.info("👁 Incrementando visualizações do edital: {}", edital.getTitulo());
+        log.debug("👁 Incrementando visualizações do edital: {}", edital.getTitulo());
         edital.incrementarVisualizacoes();
         editalRepository.save(edital);
 
@@ -126,6 +190,7 @@ public class EditalService {
 
         // Exclui por ID diretamente
         editalRepository.deleteById(id);
+        invalidarAbertosAposCommit();
         log.info(" Edital excluído com sucesso");
     }
 
@@ -160,11 +225,32 @@ public class EditalService {
 
         // Salva as alterações
         Edital editalAtualizado = editalRepository.save(edital);
+        invalidarAbertosAposCommit();
         log.info(" Edital atualizado - Novo título: {}", editalAtualizado.getTitulo());
 
         return toDTO(editalAtualizado);
     }
 
+    // Descarta o cache de abertos quando a escrita for confirmada
+    private void invalidarAbertosAposCommit() {
+        Runnable invalidar = () -> {
+            synchronized (geracaoAbertos) {
+                geracaoAbertos.incrementAndGet();
+                abertos = null;
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidar.run();
+                }
+            });
+        } else {
+            invalidar.run();
+        }
+    }
+
     /**
      * Converte a entidade Edital para o DTO de resposta EditalResponseDTO.
      * Centraliza o mapeamento para evitar duplicação.
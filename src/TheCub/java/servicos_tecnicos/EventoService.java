@@ -4,12 +4,17 @@ import dominio.entidades.Evento;
 import dominio.entidades.Usuario;
 import dominio.dto.request.EventoRequestDTO;
 import dominio.dto.response.EventoResponseDTO;
+import dominio.dto.response.PaginaResponse;
 import dominio.exception.BusinessException;
 import dominio.exception.ResourceNotFoundException;
 import lib.repository.EventoRepository;
 import lib.repository.UsuarioRepository;
+import lib.repository.filtro.ConsultaPaginada;
+import lib.repository.filtro.FiltrosConsulta;
+import lib.repository.filtro.OrdenacaoIndexada;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,6 +37,8 @@ public class EventoService {
     private final EventoRepository eventoRepository;
     // Repositório de usuários (organizadores dos eventos)
     private final UsuarioRepository usuarioRepository;
+    // Paginação com total em cache (sem COUNT a cada página)
+    private final ConsultaPaginada consultaPaginada;
 
     // ====== CRIAR EVENTO ======
 
@@ -127,6 +134,18 @@ public class EventoService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Os N próximos eventos ativos (sem paginação/COUNT).
+     */
+    @Transactional(readOnly = true)
+    public List<EventoResponseDTO> listarProximosEventos(int quantidade) {
+        return eventoRepository
+                .findProximosEventos(LocalDateTime.now(), Limit.of(quantidade))
+                .stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Lista eventos próximos com suporte a paginação.
      */
@@ -205,8 +224,28 @@ public class EventoService {
             LocalDateTime fim,
             Pageable pageable
     ) {
-        return eventoRepository
-                .buscarComFiltros(titulo, local, organizadorId, ativo, inicio, fim, pageable)
+        return consultaPaginada
+                .pagina(FiltrosConsulta.eventos(titulo, local, organizadorId, ativo, inicio, fim),
+                        OrdenacaoIndexada.EVENTOS.ajustar(pageable))
+                .map(this::convertToDTO);
+    }
+
+    /**
+     * Mesma busca por filtros, sem COUNT (exactCount=false).
+     */
+    @Transactional(readOnly = true)
+    public PaginaResponse<EventoResponseDTO> buscarComFiltrosSemContagem(
+            String titulo,
+            String local,
+            Long organizadorId,
+            Boolean ativo,
+            LocalDateTime inicio,
+            LocalDateTime fim,
+            Pageable pageable
+    ) {
+        return consultaPaginada
+                .fatia(FiltrosConsulta.eventos(titulo, local, organizadorId, ativo, inicio, fim),
+                        OrdenacaoIndexada.EVENTOS.ajustar(pageable))
                 .map(this::convertToDTO);
     }
 
@@ -438,8 +477,9 @@ public class EventoService {
     /**
      * Converte entidade Cultura para DTO de resposta.
      * Inclui informações do organizador.
+     * Visível no pacote para o feed de sincronização (SincronizacaoService).
      */
-    private EventoResponseDTO convertToDTO(Evento cultura) {
+    EventoResponseDTO convertToDTO(Evento cultura) {
         return EventoResponseDTO.builder()
                 .id(cultura.getId())
                 .titulo(cultura.getTitulo())
@@ -452,6 +492,7 @@ public class EventoService {
                 .organizadorNome(cultura.getOrganizador().getNome())
                 .organizadorId(cultura.getOrganizador().getId())
                 .dataCriacao(cultura.getDataCriacao())
+                .dataAtualizacao(cultura.getDataAtualizacao())
                 .build();
     }
 }
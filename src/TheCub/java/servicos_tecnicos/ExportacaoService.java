@@ -0,0 +1,172 @@
+package servicos_tecnicos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dominio.entidades.ArtigoConteudo;
+import dominio.entidades.Comentario;
+import dominio.entidades.Evento;
+import dominio.entidades.Noticia;
+import dominio.entidades.Usuario;
+import dominio.enums.FormatoExportacao;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lib.conteudo.ArmazenamentoConteudo;
+import lib.exportacao.EscritorExportacao;
+import lib.exportacao.EscritorExportacao.Coluna;
+import lib.repository.ComentarioRepository;
+import lib.repository.EventoRepository;
+import lib.repository.NoticiaRepository;
+import lib.repository.UsuarioRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Exportação completa de artigos, eventos, usuários e comentários (CSV ou NDJSON).
+ *
+ * - Stream<> do repositório: o MySQL entrega as linhas uma a uma (fetch size
+ *   em streaming), sem carregar a tabela na memória
+ * - Cada registro é escrito na saída e desanexado do contexto de persistência
+ *   logo em seguida; a cada TAMANHO_LIMPEZA registros o contexto é limpo por
+ *   inteiro (associações trazidas no JOIN)
+ * - Transação somente leitura do começo ao fim: a conexão fica presa à
+ *   exportação enquanto o cliente baixa o arquivo
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportacaoService {
+
+    private static final int TAMANHO_LIMPEZA = 1000;
+
+    // ====== COLUNAS ======
+
+    // Conteúdo completo incluído: é a exportação integral do artigo
+    private static final List<Coluna<Noticia>> COLUNAS_ARTIGOS = List.of(
+            new Coluna<>("id", Noticia::getId),
+            new Coluna<>("titulo", Noticia::getTitulo),
+            new Coluna<>("resumo", Noticia::getResumo),
+            new Coluna<>("conteudo", Noticia::getConteudo),
+            new Coluna<>("status", Noticia::getStatus),
+            new Coluna<>("destaque", Noticia::getDestaque),
+            new Coluna<>("visualizacoes", Noticia::getVisualizacoes),
+            new Coluna<>("gostei", Noticia::getGostei),
+            new Coluna<>("neutro", Noticia::getNeutro),
+            new Coluna<>("naoGostei", Noticia::getNaoGostei),
+            new Coluna<>("autorId", a -> a.getAutor() != null ? a.getAutor().getId() : null),
+            new Coluna<>("autorNome", a -> a.getAutor() != null ? a.getAutor().getNome() : null),
+            new Coluna<>("categoriaId", a -> a.getCategoria() != null ? a.getCategoria().getId() : null),
+            new Coluna<>("categoriaNome", a -> a.getCategoria() != null ? a.getCategoria().getNome() : null),
+            new Coluna<>("dataPublicacao", Noticia::getDataPublicacao),
+            new Coluna<>("dataCriacao", Noticia::getDataCriacao),
+            new Coluna<>("dataAtualizacao", Noticia::getDataAtualizacao)
+    );
+
+    private static final List<Coluna<Evento>> COLUNAS_EVENTOS = List.of(
+            new Coluna<>("id", Evento::getId),
+            new Coluna<>("titulo", Evento::getTitulo),
+            new Coluna<>("descricao", Evento::getDescricao),
+            new Coluna<>("dataEvento", Evento::getDataEvento),
+            new Coluna<>("localEvento", Evento::getLocalEvento),
+            new Coluna<>("linkInscricao", Evento::getLinkInscricao),
+            new Coluna<>("ativo", Evento::getAtivo),
+            new Coluna<>("encerrado", Evento::getEncerrado),
+            new Coluna<>("organizadorId", e -> e.getOrganizador() != null ? e.getOrganizador().getId() : null),
+            new Coluna<>("organizadorNome", e -> e.getOrganizador() != null ? e.getOrganizador().getNome() : null),
+            new Coluna<>("dataCriacao", Evento::getDataCriacao),
+            new Coluna<>("dataAtualizacao", Evento::getDataAtualizacao)
+    );
+
+    // Sem senha (hash) nem qualquer credencial
+    private static final List<Coluna<Usuario>> COLUNAS_USUARIOS = List.of(
+            new Coluna<>("id", Usuario::getId),
+            new Coluna<>("nome", Usuario::getNome),
+            new Coluna<>("email", Usuario::getEmail),
+            new Coluna<>("tipo", Usuario::getTipo),
+            new Coluna<>("ativo", Usuario::getAtivo),
+            new Coluna<>("dataCriacao", Usuario::getDataCriacao),
+            new Coluna<>("dataAtualizacao", Usuario::getDataAtualizacao)
+    );
+
+    // getArtigo().getId() lê a FK do proxy, sem carregar o artigo
+    private static final List<Coluna<Comentario>> COLUNAS_COMENTARIOS = List.of(
+            new Coluna<>("id", Comentario::getId),
+            new Coluna<>("artigoId", c -> c.getArtigo() != null ? c.getArtigo().getId() : null),
+            new Coluna<>("usuarioId", c -> c.getUsuario() != null ? c.getUsuario().getId() : null),
+            new Coluna<>("usuarioNome", c -> c.getUsuario() != null ? c.getUsuario().getNome() : null),
+            new Coluna<>("comentario", Comentario::getComentario),
+            new Coluna<>("aprovado", Comentario::getAprovado),
+            new Coluna<>("dataComentario", Comentario::getDataComentario)
+    );
+
+    private final NoticiaRepository artigoRepository;
+    private final EventoRepository eventoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final ComentarioRepository comentarioRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // ====== EXPORTAÇÕES ======
+
+    // O conteúdo comprimido vem na mesma linha do resultado (a conexão em streaming não aceita
+    // outra consulta); o artigo é desanexado antes de receber o texto, nada volta ao banco
+    @Transactional(readOnly = true)
+    public long exportarArtigos(FormatoExportacao formato, OutputStream out) throws IOException {
+        Stream<Noticia> artigos = artigoRepository.streamParaExportacao().map(linha -> {
+            Noticia artigo = (Noticia) linha[0];
+            if (linha[1] instanceof ArtigoConteudo comprimido) {
+                entityManager.detach(comprimido);
+                entityManager.detach(artigo);
+                artigo.setConteudo(ArmazenamentoConteudo.descomprimir(comprimido));
+            }
+            return artigo;
+        });
+        return exportar("artigos", artigos, COLUNAS_ARTIGOS, formato, out);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportarEventos(FormatoExportacao formato, OutputStream out) throws IOException {
+        return exportar("eventos", eventoRepository.streamParaExportacao(), COLUNAS_EVENTOS, formato, out);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportarUsuarios(FormatoExportacao formato, OutputStream out) throws IOException {
+        return exportar("usuarios", usuarioRepository.streamParaExportacao(), COLUNAS_USUARIOS, formato, out);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportarComentarios(FormatoExportacao formato, OutputStream out) throws IOException {
+        return exportar("comentarios", comentarioRepository.streamParaExportacao(), COLUNAS_COMENTARIOS, formato, out);
+    }
+
+    // ====== INTERNOS ======
+
+    private <E> long exportar(String recurso, Stream<E> registros, List<Coluna<E>> colunas,
+                              FormatoExportacao formato, OutputStream out) throws IOException {
+        long inicio = System.currentTimeMillis();
+        long total = 0;
+        // try-with-resources: fecha o ResultSet mesmo se o cliente desconectar no meio
+        try (registros; EscritorExportacao<E> escritor = EscritorExportacao.para(formato, colunas, out, objectMapper)) {
+            Iterator<E> it = registros.iterator();
+            while (it.hasNext()) {
+                E registro = it.next();
+                escritor.escrever(registro);
+                entityManager.detach(registro);
+                if (++total % TAMANHO_LIMPEZA == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        log.info("📤 Exportação de {} ({}): {} registros em {} ms",
+                recurso, formato, total, System.currentTimeMillis() - inicio);
+        return total;
+    }
+}
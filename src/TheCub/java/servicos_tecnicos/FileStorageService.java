@@ -74,6 +74,33 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * Reserva um nome único para um arquivo gerado pelo próprio sistema
+     * (ex.: relatórios) dentro de um subdiretório do armazenamento.
+     * Retorna o caminho relativo (ex.: "relatorios/<uuid>.csv"); o arquivo
+     * em si é escrito por quem chamou, via {@link #caminho(String)}.
+     */
+    public String novoArquivo(String subdiretorio, String extensao) {
+        try {
+            Files.createDirectories(this.fileStorageLocation.resolve(subdiretorio));
+        } catch (IOException ex) {
+            throw new RuntimeException("Não foi possível criar o diretório " + subdiretorio, ex);
+        }
+        return subdiretorio + "/" + UUID.randomUUID() + "." + extensao;
+    }
+
+    /**
+     * Caminho absoluto de um arquivo do armazenamento, recusando nomes que
+     * apontem para fora do diretório de uploads (ex.: "../").
+     */
+    public Path caminho(String nomeArquivo) {
+        Path caminho = this.fileStorageLocation.resolve(nomeArquivo).normalize();
+        if (!caminho.startsWith(this.fileStorageLocation)) {
+            throw new IllegalArgumentException("Caminho fora do diretório de uploads: " + nomeArquivo);
+        }
+        return caminho;
+    }
+
     /**
      * Deleta um arquivo do servidor, se existir.
      * Não lança erro se o arquivo já não existir.
@@ -1,5 +1,6 @@
 package servicos_tecnicos;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -15,6 +16,7 @@ import java.util.UUID;
  * e salvá-las no sistema de arquivos, retornando uma URL de acesso.
  */
 @Service
+@Slf4j // logger (em vez de System.out, que é síncrono e ignora o formato de log)
 public class FileUploadService {
 
     /**
@@ -37,7 +39,7 @@ public class FileUploadService {
         // Se a pasta não existir, cria
         if (!Files.exists(uploadPath)) {
             Files.createDirectories(uploadPath);
-            System.out.println("📁 Pasta criada: " + uploadPath.toAbsolutePath());
+            log.info("📁 Pasta criada: {}", uploadPath.toAbsolutePath());
         }
 
         // Nome original enviado pelo cliente (ex.: "foto.png")
@@ -55,7 +57,7 @@ public class FileUploadService {
         // Copia o conteúdo do MultipartFile para o caminho de destino
         Files.copy(file.getInputStream(), filePath);
 
-        System.out.println("✅ Arquivo salvo: " + filePath.toAbsolutePath());
+        log.info("✅ Arquivo salvo: {}", filePath.toAbsolutePath());
 
         // Retorna a URL de acesso que será usada pelo frontend
         // (assumindo que "/uploads/**" está mapeado em WebConfig/FileUploadConfig)
@@ -0,0 +1,200 @@
+package servicos_tecnicos;
+
+import dominio.dto.NoticiaResponse;
+import dominio.dto.response.CategoriaResponseDTO;
+import dominio.dto.response.EventoResponseDTO;
+import dominio.dto.response.HomeResponseDTO;
+import dominio.entidades.Comentario;
+import dominio.entidades.Evento;
+import dominio.entidades.Noticia;
+import dominio.entidades.Usuario;
+import dominio.enums.StatusNoticia;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lib.repository.filtro.ConsultaPaginada;
+import lib.repository.filtro.FiltroDinamico;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Monta o documento da página inicial em uma única chamada.
+ *
+ * As seções (destaques, recentes, próximos eventos, categorias e métricas) são
+ * lidas em paralelo num pool próprio e limitado, cada uma com seu timeout
+ * (app.home.timeout-ms.<secao>). Seção lenta ou com erro não derruba a home:
+ * volta vazia e é listada em secoesIndisponiveis.
+ *
+ * Cada seção registra o timer "theclub.home.secao" (tags secao/resultado).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HomeService {
+
+    private final NoticiaService noticiaService;
+    private final EventoService eventoService;
+    private final CategoriaService categoriaService;
+    private final ConsultaPaginada consultaPaginada;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Value("${app.home.threads:8}")
+    private int threads;
+
+    @Value("${app.home.fila:64}")
+    private int capacidadeFila;
+
+    @Value("${app.home.timeout-ms.padrao:800}")
+    private long timeoutPadraoMs;
+
+    @Value("${app.home.quantidade:6}")
+    private int quantidade;
+
+    private ThreadPoolExecutor executor;
+
+    // ====== CICLO DE VIDA ======
+
+    @PostConstruct
+    void iniciar() {
+        AtomicInteger sequencia = new AtomicInteger();
+        // Fila limitada + AbortPolicy: sob sobrecarga a seção falha na hora
+        // (e a home degrada) em vez de acumular trabalho
+        executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "home-" + sequencia.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    // ====== HOME ======
+
+    public HomeResponseDTO montarHome() {
+        List<String> indisponiveis = new CopyOnWriteArrayList<>();
+        Map<String, Long> tempos = new ConcurrentHashMap<>();
+
+        CompletableFuture<List<NoticiaResponse>> destaques = secao("destaques",
+                () -> noticiaService.listarDestaques(quantidade), List.of(), indisponiveis, tempos);
+        CompletableFuture<List<NoticiaResponse>> recentes = secao("recentes",
+                () -> noticiaService.listarRecentes(quantidade), List.of(), indisponiveis, tempos);
+        CompletableFuture<List<EventoResponseDTO>> eventos = secao("eventos",
+                () -> eventoService.listarProximosEventos(quantidade), List.of(), indisponiveis, tempos);
+        CompletableFuture<List<CategoriaResponseDTO>> categorias = secao("categorias",
+                categoriaService::listarAtivas, List.of(), indisponiveis, tempos);
+        CompletableFuture<Map<String, Long>> metricas = secao("metricas",
+                this::contarMetricas, Map.of(), indisponiveis, tempos);
+
+        // Nenhum futuro termina com exceção (timeout/erro viram o valor padrão)
+        CompletableFuture.allOf(destaques, recentes, eventos, categorias, metricas).join();
+
+        if (!indisponiveis.isEmpty()) {
+            log.warn("⚠️ Home montada sem as seções {}", indisponiveis);
+        }
+
+        return HomeResponseDTO.builder()
+                .destaques(destaques.join())
+                .recentes(recentes.join())
+                .proximosEventos(eventos.join())
+                .categorias(categorias.join())
+                .metricas(metricas.join())
+                .secoesIndisponiveis(List.copyOf(indisponiveis))
+                .temposMs(Map.copyOf(tempos))
+                .build();
+    }
+
+    /**
+     * Totais exibidos na home. Vêm do cache de contagens, então o COUNT
+     * só roda quando houve escrita na entidade (ou no fim do TTL).
+     */
+    private Map<String, Long> contarMetricas() {
+        Map<String, Long> metricas = new LinkedHashMap<>();
+        metricas.put("totalUsuarios", consultaPaginada.total(
+                FiltroDinamico.de(Usuario.class).igual("ativo", true)).valor());
+        metricas.put("totalArtigos", consultaPaginada.total(
+                FiltroDinamico.de(Noticia.class).igual("status", StatusNoticia.PUBLICADO)).valor());
+        metricas.put("totalComentarios", consultaPaginada.total(
+                FiltroDinamico.de(Comentario.class).igual("aprovado", true)).valor());
+        metricas.put("totalEventos", consultaPaginada.total(
+                FiltroDinamico.de(Evento.class).igual("ativo", true)).valor());
+        return metricas;
+    }
+
+    // ====== EXECUÇÃO DAS SEÇÕES ======
+
+    /**
+     * Dispara a leitura no pool e aplica o timeout da seção.
+     * Em timeout a tarefa continua no pool até terminar (o JDBC não é
+     * interrompível), mas a resposta segue sem esperar por ela.
+     */
+    private <T> CompletableFuture<T> secao(String nome, Supplier<T> leitura, T padrao,
+                                           List<String> indisponiveis, Map<String, Long> tempos) {
+        long timeoutMs = environment.getProperty("app.home.timeout-ms." + nome, Long.class, timeoutPadraoMs);
+        long inicio = System.nanoTime();
+
+        CompletableFuture<T> futuro;
+        try {
+            futuro = CompletableFuture.supplyAsync(leitura, executor);
+        } catch (RejectedExecutionException e) {
+            futuro = CompletableFuture.failedFuture(e);
+        }
+
+        return futuro
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .handle((valor, erro) -> {
+                    long nanos = System.nanoTime() - inicio;
+                    tempos.put(nome, TimeUnit.NANOSECONDS.toMillis(nanos));
+
+                    Throwable causa = erro instanceof CompletionException && erro.getCause() != null
+                            ? erro.getCause() : erro;
+                    String resultado = causa == null ? "ok"
+                            : causa instanceof TimeoutException ? "timeout"
+                            : causa instanceof RejectedExecutionException ? "rejeitada"
+                            : "erro";
+                    timer(nome, resultado).record(nanos, TimeUnit.NANOSECONDS);
+
+                    if (causa != null) {
+                        indisponiveis.add(nome);
+                        log.warn("⏱️ Seção '{}' da home indisponível ({} após {} ms): {}",
+                                nome, resultado, TimeUnit.NANOSECONDS.toMillis(nanos), causa.toString());
+                        return padrao;
+                    }
+                    return valor;
+                });
+    }
+
+    private Timer timer(String secao, String resultado) {
+        return Timer.builder("theclub.home.secao")
+                .description("Tempo de cada seção da home")
+                .tag("secao", secao)
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
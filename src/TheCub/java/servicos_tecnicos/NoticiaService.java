@@ -1,27 +1,58 @@
 package servicos_tecnicos;
 
+import dominio.entidades.ArtigoRenderizado;
 import dominio.entidades.Noticia;
 import dominio.entidades.Categoria;
+import dominio.entidades.PublicacaoAgendada;
 import dominio.entidades.Usuario;
 import dominio.enums.StatusNoticia;
 import dominio.dto.request.NoticiaRequestDTO;
 import dominio.dto.NoticiaResponse;
+import dominio.dto.response.LeitoresUnicosDTO;
+import dominio.dto.response.PaginaResponse;
+import dominio.exception.BusinessException;
 import dominio.exception.ResourceNotFoundException;
+import lib.agendamento.AgendadorPublicacoes;
+import lib.analitica.AcumuladorAnalitico;
+import lib.audiencia.EstimadorLeitores;
+import lib.conteudo.ArmazenamentoConteudo;
+import lib.conteudo.CacheCorposOffHeap;
+import lib.conteudo.RenderizadorArtigos;
+import lib.replica.RoteadorLeituras;
+import lib.eventos.TransmissorEventos;
+import lib.repository.CabecalhoArtigo;
 import lib.repository.NoticiaRepository;
+import lib.repository.PublicacaoAgendadaRepository;
 import lib.repository.CategoriaRepository;
 import lib.repository.UsuarioRepository;
+import lib.repository.filtro.ConsultaPaginada;
+import lib.repository.filtro.FiltrosConsulta;
+import lib.repository.filtro.OrdenacaoIndexada;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Camada de serviço responsável pelas regras de negócio relacionadas a Noticia.
@@ -38,6 +69,27 @@ public class NoticiaService {
     private final UsuarioRepository usuarioRepository;
     // Repositório para categorias de artigos
     private final CategoriaRepository categoriaRepository;
+    // Paginação com total em cache (sem COUNT a cada página)
+    private final ConsultaPaginada consultaPaginada;
+    // Stream SSE de novos artigos (publicação)
+    private final TransmissorEventos transmissorEventos;
+    // Leitores únicos estimados (HyperLogLog por artigo/dia)
+    private final EstimadorLeitores estimadorLeitores;
+    // Visualizações por hora (analytics)
+    private final AcumuladorAnalitico acumuladorAnalitico;
+    // Agenda durável das publicações futuras
+    private final PublicacaoAgendadaRepository agendadaRepository;
+    // Fila em memória que dispara as publicações agendadas
+    private final AgendadorPublicacoes agendadorPublicacoes;
+    // Corpos dos artigos (UTF-8, fora do heap) para a leitura pública
+    private final CacheCorposOffHeap cacheCorpos;
+    // Codifica o corpo como string JSON antes de guardá-lo no cache
+    private final ObjectMapper objectMapper;
+    // Conteúdo comprimido em artigos_conteudo (modo opcional)
+    private final ArmazenamentoConteudo armazenamentoConteudo;
+
+    // HTML sanitizado e pré-comprimido, gerado na publicação
+    private final RenderizadorArtigos renderizadorArtigos;
 
     // ====== CRIAR ======
 
@@ -85,6 +137,8 @@ public class NoticiaService {
         artigo.setResumo(dto.getResumo() != null ? dto.getResumo().trim() : "");
         artigo.setConteudo(dto.getConteudo().trim());
         artigo.setImagemCapa(dto.getImagemCapa());
+        // AGENDADO só via agendamento (precisa da linha em publicacoes_agendadas)
+        exigirStatusNaoAgendado(dto.getStatus());
         // Se status não vier, padrão RASCUNHO
         artigo.setStatus(dto.getStatus() != null ? dto.getStatus() : StatusNoticia.RASCUNHO);
         artigo.setDestaque(false);
@@ -105,6 +159,9 @@ public class NoticiaService {
         // Persiste no banco
         artigoRepository.save(artigo);
         log.info("✅ Artigo criado ID: {}", artigo.getId());
+        renderizarSePublicado(artigo);
+        // Com o armazenamento comprimido ligado, o texto sai da coluna após o commit
+        armazenamentoConteudo.compressaoAposCommit(artigo.getId());
 
         // Converte entidade para DTO de resposta
         return toDTO(artigo);
@@ -122,6 +179,98 @@ public class NoticiaService {
                 (artigo.getVisualizacoes() == null ? 0 : artigo.getVisualizacoes()) + 1
         );
         artigoRepository.save(artigo);
+        // Balde da hora (analytics), gravado em lote
+        acumuladorAnalitico.registrarVisualizacao(artigo.getId());
+    }
+
+    /**
+     * Leitura pública: cabeçalho do artigo PUBLICADO (sem o conteudo) e
+     * visualização contabilizada com um UPDATE pontual, sem carregar nem
+     * regravar a entidade (e o LONGTEXT).
+     */
+    @Transactional
+    public Optional<CabecalhoArtigo> registrarLeituraPublica(Long id) {
+        Optional<CabecalhoArtigo> cabecalho = artigoRepository.findCabecalho(id, StatusNoticia.PUBLICADO);
+        if (cabecalho.isPresent()) {
+            artigoRepository.incrementarVisualizacoes(id);
+            acumuladorAnalitico.registrarVisualizacao(id);
+        }
+        return cabecalho;
+    }
+
+    /**
+     * Escreve o conteudo do artigo em "out" como string JSON (com aspas e
+     * escapes), direto do cache off-heap; na falta, lê só a coluna do banco
+     * (ou de artigos_conteudo) e guarda o resultado para as próximas leituras da mesma versão.
+     * Sem @Transactional: no acerto não se toca no banco (nem se segura conexão
+     * enquanto os bytes vão para o cliente).
+     */
+    public void escreverConteudo(Long id, Integer versao, OutputStream out) throws IOException {
+        long chaveVersao = versao == null ? 0 : versao;
+        if (cacheCorpos.escrever(id, chaveVersao, out)) {
+            return;
+        }
+        // Primário: a versão veio de lá, e o cache guarda o corpo com ela
+        String conteudo = RoteadorLeituras.noPrimario(() -> armazenamentoConteudo.conteudo(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Artigo", "id", id));
+        byte[] json = objectMapper.writeValueAsBytes(conteudo);
+        cacheCorpos.guardar(id, chaveVersao, json);
+        out.write(json);
+    }
+
+    /**
+     * Escreve o HTML sanitizado da versão informada em "out" como string JSON,
+     * do cache off-heap (chave própria, mesma versão do conteudo); na falta,
+     * descomprime o render uma vez e guarda. null se o artigo foi excluído.
+     */
+    public void escreverConteudoHtml(Long id, Integer versao, OutputStream out) throws IOException {
+        long chaveVersao = versao == null ? 0 : versao;
+        long chave = CacheCorposOffHeap.chaveHtml(id);
+        if (cacheCorpos.escrever(chave, chaveVersao, out)) {
+            return;
+        }
+        Optional<ArtigoRenderizado> renderizado = htmlRenderizado(id, versao);
+        if (renderizado.isEmpty()) {
+            out.write("null".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        String html;
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(renderizado.get().getHtmlGzip()))) {
+            html = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        byte[] json = objectMapper.writeValueAsBytes(html);
+        cacheCorpos.guardar(chave, chaveVersao, json);
+        out.write(json);
+    }
+
+    /**
+     * HTML renderizado da versão informada (a do cabeçalho da leitura
+     * pública); renderiza na hora os artigos publicados antes da
+     * renderização na publicação existir.
+     */
+    public Optional<ArtigoRenderizado> htmlRenderizado(Long id, Integer versao) {
+        return renderizadorArtigos.atual(id, versao);
+    }
+
+    /**
+     * Leitores únicos estimados do artigo (7 e 30 dias), ao lado do contador bruto.
+     */
+    @Transactional(readOnly = true)
+    public LeitoresUnicosDTO obterLeitoresUnicos(Long id) {
+        Noticia artigo = artigoRepository.findById(id)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Artigo", "id", id)
+                );
+        EstimadorLeitores.Estimativa mes = estimadorLeitores.estimar(id, 30);
+        EstimadorLeitores.Estimativa semana = estimadorLeitores.estimar(id, 7);
+        return LeitoresUnicosDTO.builder()
+                .artigoId(id)
+                .visualizacoes(artigo.getVisualizacoes())
+                .ultimos7Dias(semana.leitoresUnicos())
+                .ultimos30Dias(mes.leitoresUnicos())
+                .porDia(mes.porDia())
+                .erroRelativo(mes.erroRelativo())
+                .build();
     }
 
     // ====== LISTAR TODOS PARA ESTATÍSTICA DO DASH ======
@@ -150,7 +299,31 @@ public class NoticiaService {
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Artigo", "id", id)
                 );
-        return toDTO(artigo);
+        return toDTOComConteudo(artigo);
+    }
+
+    /**
+     * Os N artigos em destaque mais recentes (sem paginação/COUNT).
+     */
+    @Transactional(readOnly = true)
+    public List<NoticiaResponse> listarDestaques(int quantidade) {
+        return artigoRepository
+                .findArtigosEmDestaque(Limit.of(quantidade))
+                .stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Os N artigos publicados mais recentes (sem paginação/COUNT).
+     */
+    @Transactional(readOnly = true)
+    public List<NoticiaResponse> listarRecentes(int quantidade) {
+        return artigoRepository
+                .findArtigosRecentes(Limit.of(quantidade))
+                .stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -178,6 +351,8 @@ public class NoticiaService {
     /**
      * Busca artigos usando múltiplos filtros opcionais
      * (status, categoria, autor, parte do título), com paginação.
+     * Só os filtros informados entram no WHERE, e a ordenação é restrita
+     * aos campos cobertos pelos índices compostos de {@link Noticia}.
      */
     @Transactional(readOnly = true)
     public Page<NoticiaResponse> buscarPorFiltros(
@@ -187,8 +362,27 @@ public class NoticiaService {
             String titulo,
             Pageable pageable
     ) {
-        return artigoRepository
-                .buscarArtigosPorFiltros(status, categoriaId, autorId, titulo, pageable)
+        return consultaPaginada
+                .pagina(FiltrosConsulta.noticias(status, categoriaId, autorId, titulo),
+                        OrdenacaoIndexada.NOTICIAS.ajustar(pageable))
+                .map(this::toDTO);
+    }
+
+    /**
+     * Mesma busca por filtros, sem COUNT: informa se há próxima página e o
+     * total apenas se já estiver em cache (exactCount=false).
+     */
+    @Transactional(readOnly = true)
+    public PaginaResponse<NoticiaResponse> buscarPorFiltrosSemContagem(
+            StatusNoticia status,
+            Long categoriaId,
+            Long autorId,
+            String titulo,
+            Pageable pageable
+    ) {
+        return consultaPaginada
+                .fatia(FiltrosConsulta.noticias(status, categoriaId, autorId, titulo),
+                        OrdenacaoIndexada.NOTICIAS.ajustar(pageable))
                 .map(this::toDTO);
     }
 
@@ -233,10 +427,17 @@ public class NoticiaService {
         // Atualiza campos de texto
         artigo.setTitulo(dto.getTitulo().trim());
         artigo.setResumo(dto.getResumo() != null ? dto.getResumo().trim() : "");
-        artigo.setConteudo(dto.getConteudo().trim());
+        // Comprimido, a coluna está vazia: compara com o texto guardado para não
+        // gerar versão nova (e refazer cache, render e compressão) quando só o resto mudou
+        String conteudo = dto.getConteudo().trim();
+        if (!Boolean.TRUE.equals(artigo.getConteudoComprimido())
+                || !conteudo.equals(armazenamentoConteudo.conteudo(artigo))) {
+            artigo.setConteudo(conteudo);
+        }
         artigo.setImagemCapa(dto.getImagemCapa());
 
-        // Atualiza status se veio no DTO
+        // Atualiza status se veio no DTO (sair de AGENDADO descarta o agendamento no disparo)
+        exigirStatusNaoAgendado(dto.getStatus());
         if (dto.getStatus() != null) artigo.setStatus(dto.getStatus());
 
         // Atualiza timestamp de alteração
@@ -244,12 +445,17 @@ public class NoticiaService {
 
         artigoRepository.save(artigo);
         log.info("✏️ Artigo {} atualizado", id);
+        renderizarSePublicado(artigo);
+        // A versão nova já não casa com a antiga; isto só devolve a memória mais cedo
+        invalidarCorpoAposCommit(id);
+        armazenamentoConteudo.compressaoAposCommit(id);
 
         return toDTO(artigo);
     }
 
     /**
      * Marca o artigo como PUBLICADO e define a data de publicação.
+     * Se havia publicação agendada, ela é cancelada.
      */
     @Transactional
     public NoticiaResponse publicarArtigo(Long id) {
@@ -258,14 +464,136 @@ public class NoticiaService {
                         new ResourceNotFoundException("Artigo", "id", id)
                 );
 
-        artigo.setStatus(StatusNoticia.PUBLICADO);
-        artigo.setDataPublicacao(LocalDateTime.now());
-        artigoRepository.save(artigo);
+        agendadaRepository.findByArtigoId(id).ifPresent(agendada -> {
+            agendadaRepository.delete(agendada);
+            agendadorPublicacoes.cancelarAposCommit(id);
+        });
 
+        NoticiaResponse publicado = efetivarPublicacao(artigo, LocalDateTime.now());
         log.info("🚀 Artigo publicado ID: {}", id);
+        return publicado;
+    }
+
+    // ====== PUBLICAÇÃO AGENDADA ======
+
+    /**
+     * Agenda a publicação para uma data futura: o artigo fica AGENDADO (fora
+     * das listagens públicas) e é publicado pelo AgendadorPublicacoes na hora.
+     * Data já passada publica imediatamente.
+     */
+    @Transactional
+    public NoticiaResponse agendarPublicacao(Long id, LocalDateTime dataPublicacao) {
+        if (!dataPublicacao.isAfter(LocalDateTime.now())) {
+            return publicarArtigo(id);
+        }
+        Noticia artigo = artigoRepository.findById(id)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Artigo", "id", id)
+                );
+        if (artigo.isPublicado()) {
+            throw new BusinessException("Artigo já está publicado");
+        }
+
+        PublicacaoAgendada agendada = agendadaRepository.findByArtigoId(id)
+                .orElseGet(() -> PublicacaoAgendada.builder().artigoId(id).build());
+        agendada.setDataPublicacao(dataPublicacao);
+        agendadaRepository.save(agendada);
+
+        artigo.setStatus(StatusNoticia.AGENDADO);
+        artigo.setDataPublicacao(dataPublicacao);
+        artigoRepository.save(artigo);
+        agendadorPublicacoes.agendarAposCommit(id, dataPublicacao);
+
+        log.info("⏰ Artigo {} agendado para {}", id, dataPublicacao);
         return toDTO(artigo);
     }
 
+    /**
+     * Cancela a publicação agendada; o artigo volta a RASCUNHO.
+     */
+    @Transactional
+    public NoticiaResponse cancelarAgendamento(Long id) {
+        PublicacaoAgendada agendada = agendadaRepository.findByArtigoId(id)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Publicação agendada", "artigoId", id)
+                );
+        Noticia artigo = artigoRepository.findById(id)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Artigo", "id", id)
+                );
+
+        agendadaRepository.delete(agendada);
+        artigo.setStatus(StatusNoticia.RASCUNHO);
+        artigo.setDataPublicacao(null);
+        artigoRepository.save(artigo);
+        agendadorPublicacoes.cancelarAposCommit(id);
+
+        log.info("⏰ Agendamento do artigo {} cancelado", id);
+        return toDTO(artigo);
+    }
+
+    /**
+     * Chamado pelo AgendadorPublicacoes quando o agendamento vence.
+     *
+     * Trava a linha do agendamento e a remove na mesma transação: com várias
+     * instâncias, só a primeira publica; as demais não encontram a linha.
+     * O horário vale o da linha travada: o item na fila de uma instância pode
+     * ser de antes de um reagendamento feito em outra.
+     */
+    @Transactional
+    public void publicarAgendado(Long artigoId) {
+        PublicacaoAgendada agendada = agendadaRepository.travarPorArtigo(artigoId).orElse(null);
+        if (agendada == null) {
+            return; // já publicado por outra instância, ou cancelado
+        }
+        if (agendada.getDataPublicacao().isAfter(LocalDateTime.now())) {
+            // Reagendado para mais tarde: a linha fica, e a fila local passa a apontar para o novo horário
+            agendadorPublicacoes.agendarAposCommit(artigoId, agendada.getDataPublicacao());
+            log.info("⏰ Artigo {} reagendado para {}; item antigo da fila ignorado", artigoId, agendada.getDataPublicacao());
+            return;
+        }
+        agendadaRepository.delete(agendada);
+
+        Noticia artigo = artigoRepository.findById(artigoId).orElse(null);
+        if (artigo == null || artigo.getStatus() != StatusNoticia.AGENDADO) {
+            log.warn("⚠️ Agendamento do artigo {} descartado: artigo inexistente ou fora do status AGENDADO", artigoId);
+            return;
+        }
+        efetivarPublicacao(artigo, agendada.getDataPublicacao());
+        log.info("🚀 Artigo agendado publicado ID: {}", artigoId);
+    }
+
+    private static void exigirStatusNaoAgendado(StatusNoticia status) {
+        if (status == StatusNoticia.AGENDADO) {
+            throw new BusinessException("Para agendar, use PATCH /api/artigos/{id}/publicar?em=<data>");
+        }
+    }
+
+    /**
+     * Publica de fato: status, data, e evento do stream após o commit.
+     * As demais invalidações (totais em cache, rankings, feed de sincronização)
+     * seguem dos listeners da entidade.
+     */
+    private NoticiaResponse efetivarPublicacao(Noticia artigo, LocalDateTime dataPublicacao) {
+        artigo.setStatus(StatusNoticia.PUBLICADO);
+        artigo.setDataPublicacao(dataPublicacao);
+        artigoRepository.save(artigo);
+        renderizarSePublicado(artigo);
+
+        NoticiaResponse publicado = toDTO(artigo);
+        // Avisa os clientes do stream só após o commit; o conteúdo fica fora do evento
+        Map<String, Object> evento = new LinkedHashMap<>();
+        evento.put("id", publicado.getId());
+        evento.put("titulo", publicado.getTitulo());
+        evento.put("resumo", publicado.getResumo());
+        evento.put("imagemCapa", publicado.getImagemCapa());
+        evento.put("categoriaNome", publicado.getCategoriaNome());
+        evento.put("autorNome", publicado.getAutorNome());
+        evento.put("dataPublicacao", publicado.getDataPublicacao());
+        transmissorEventos.publicarAposCommit(TransmissorEventos.ARTIGO_PUBLICADO, evento);
+        return publicado;
+    }
+
     /**
      * Altera o status do artigo para ARQUIVADO.
      */
@@ -290,23 +618,51 @@ public class NoticiaService {
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Artigo", "id", id)
                 );
+        armazenamentoConteudo.remover(id);
+        renderizadorArtigos.remover(id);
         artigoRepository.delete(artigo);
+        invalidarCorpoAposCommit(id);
 
         log.warn("🗑️ Artigo excluído ID: {}", id);
     }
 
+    // Publicado: HTML renderizado na mesma transação (a leitura pública não sanitiza nem comprime)
+    private void renderizarSePublicado(Noticia artigo) {
+        if (artigo.isPublicado()) {
+            renderizadorArtigos.renderizar(artigo.getId(), artigo.getVersaoConteudo(),
+                    armazenamentoConteudo.conteudo(artigo));
+        }
+    }
+
+    // Remove o corpo do cache off-heap só depois que a alteração estiver no banco
+    private void invalidarCorpoAposCommit(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheCorpos.invalidar(id);
+                    cacheCorpos.invalidar(CacheCorposOffHeap.chaveHtml(id));
+                }
+            });
+        } else {
+            cacheCorpos.invalidar(id);
+            cacheCorpos.invalidar(CacheCorposOffHeap.chaveHtml(id));
+        }
+    }
+
     // ====== CONVERSÃO ======
 
     /**
      * Converte a entidade Artigo para o DTO de resposta ArtigoResponse.
      * Centraliza o mapeamento para evitar repetição nos métodos.
      */
-    private NoticiaResponse toDTO(Noticia artigo) {
+    NoticiaResponse toDTO(Noticia artigo) {
         return NoticiaResponse.builder()
                 .id(artigo.getId())
                 .titulo(artigo.getTitulo())
                 .resumo(artigo.getResumo())
-                .conteudo(artigo.getConteudo())
+                // Comprimido: o corpo só é lido no detalhe (toDTOComConteudo), não nas listagens
+                .conteudo(Boolean.TRUE.equals(artigo.getConteudoComprimido()) ? null : artigo.getConteudo())
                 .status(artigo.getStatus())
                 .imagemCapa(artigo.getImagemCapa())
                 .visualizacoes(artigo.getVisualizacoes())
@@ -323,4 +679,15 @@ public class NoticiaService {
                 .dataAtualizacao(artigo.getDataAtualizacao())
                 .build();
     }
+
+    /**
+     * DTO com o conteúdo completo, inclusive quando ele está comprimido em
+     * artigos_conteudo (detalhe e feed de sincronização).
+     * Visível no pacote para o feed de sincronização (SincronizacaoService).
+     */
+    NoticiaResponse toDTOComConteudo(Noticia artigo) {
+        NoticiaResponse dto = toDTO(artigo);
+        dto.setConteudo(armazenamentoConteudo.conteudo(artigo));
+        return dto;
+    }
 }
@@ -0,0 +1,100 @@
+package servicos_tecnicos;
+
+import dominio.dto.response.RankingItemDTO;
+import dominio.entidades.Categoria;
+import dominio.entidades.Usuario;
+import lib.ranking.Placar;
+import lib.ranking.Rankings;
+import lib.repository.CategoriaRepository;
+import lib.repository.UsuarioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Leitura dos rankings públicos (top autores, comentaristas e categorias).
+ *
+ * A ordem vem pronta dos placares em memória (lib.ranking.Rankings); aqui só
+ * se completam nome/imagem com usuários (busca por id) e categorias (cache
+ * de 2º nível).
+ * Inativos são pulados, sem abrir buraco na numeração.
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingService {
+
+    private final Rankings rankings;
+    private final UsuarioRepository usuarioRepository;
+    private final CategoriaRepository categoriaRepository;
+
+    @Value("${app.ranking.maximo:100}")
+    private int maximo;
+
+    @Transactional(readOnly = true)
+    public List<RankingItemDTO> topAutores(int limite) {
+        return montar(rankings.topAutores(maximo), limite, this::usuarioAtivo);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RankingItemDTO> topComentaristas(int limite) {
+        return montar(rankings.topComentaristas(maximo), limite, this::usuarioAtivo);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RankingItemDTO> topCategorias(int limite) {
+        return montar(rankings.topCategorias(maximo), limite, this::categoriaAtiva);
+    }
+
+    // ====== AUXILIARES ======
+
+    private List<RankingItemDTO> montar(List<Placar.Posicao> topo, int limite,
+                                        Function<Long, Optional<RankingItemDTO>> carregar) {
+        int quantidade = Math.max(1, Math.min(limite, maximo));
+        List<RankingItemDTO> itens = new ArrayList<>(Math.min(quantidade, topo.size()));
+        for (Placar.Posicao posicao : topo) {
+            if (itens.size() >= quantidade) {
+                break;
+            }
+            carregar.apply(posicao.id()).ifPresent(item -> {
+                item.setPosicao(itens.size() + 1);
+                item.setTotal(posicao.pontos());
+                itens.add(item);
+            });
+        }
+        return itens;
+    }
+
+    private Optional<RankingItemDTO> usuarioAtivo(Long id) {
+        return usuarioRepository.findById(id)
+                .filter(u -> Boolean.TRUE.equals(u.getAtivo()))
+                .map(this::paraItem);
+    }
+
+    private Optional<RankingItemDTO> categoriaAtiva(Long id) {
+        return categoriaRepository.findById(id)
+                .filter(c -> Boolean.TRUE.equals(c.getAtiva()))
+                .map(this::paraItem);
+    }
+
+    private RankingItemDTO paraItem(Usuario usuario) {
+        return RankingItemDTO.builder()
+                .id(usuario.getId())
+                .nome(usuario.getNome())
+                .imagem(usuario.getFoto())
+                .build();
+    }
+
+    private RankingItemDTO paraItem(Categoria categoria) {
+        return RankingItemDTO.builder()
+                .id(categoria.getId())
+                .nome(categoria.getNome())
+                .imagem(categoria.getIcone())
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package servicos_tecnicos;
+
+import dominio.entidades.RefreshToken;
+import dominio.entidades.Usuario;
+import dominio.exception.BusinessException;
+import lib.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Emissão, rotação e revogação dos refresh tokens.
+ *
+ * - O token é opaco (256 bits aleatórios); no banco fica só o SHA-256
+ * - Cada renovação revoga o token usado e emite outro (rotação)
+ * - Reuso de um token já girado indica vazamento: todos os refresh tokens
+ *   do usuário são revogados e ele precisa fazer login de novo
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    /**
+     * Resultado de uma renovação: dono do token e o novo refresh token (em claro).
+     */
+    public record Renovacao(Usuario usuario, String refreshToken) {
+    }
+
+    private static final SecureRandom ALEATORIO = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${app.token.refresh-dias:30}")
+    private long validadeDias;
+
+    // ====== EMISSÃO ======
+
+    @Transactional
+    public String emitir(Usuario usuario) {
+        byte[] bytes = new byte[32];
+        ALEATORIO.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .hashToken(hash(token))
+                .usuario(usuario)
+                .dataExpiracao(LocalDateTime.now().plusDays(validadeDias))
+                .build());
+        return token;
+    }
+
+    // ====== ROTAÇÃO ======
+
+    /**
+     * Troca um refresh token válido por um novo.
+     * noRollbackFor: a revogação em massa por reuso precisa ser gravada mesmo com o erro.
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public Renovacao girar(String token) {
+        RefreshToken atual = refreshTokenRepository.findByHashToken(hash(token))
+                .orElseThrow(() -> new BusinessException("Refresh token inválido"));
+        Usuario usuario = atual.getUsuario();
+
+        if (Boolean.TRUE.equals(atual.getRevogado())) {
+            int revogados = refreshTokenRepository.revogarTodosDoUsuario(usuario.getId());
+            log.warn("🚨 Reuso de refresh token do usuário ID {}: {} tokens revogados", usuario.getId(), revogados);
+            throw new BusinessException("Refresh token já utilizado. Faça login novamente.");
+        }
+        if (atual.isExpirado()) {
+            throw new BusinessException("Refresh token expirado. Faça login novamente.");
+        }
+        if (!Boolean.TRUE.equals(usuario.getAtivo())) {
+            throw new BusinessException("Conta inativa.");
+        }
+
+        atual.revogar();
+        return new Renovacao(usuario, emitir(usuario));
+    }
+
+    // ====== REVOGAÇÃO ======
+
+    @Transactional
+    public void revogar(String token) {
+        refreshTokenRepository.findByHashToken(hash(token)).ifPresent(RefreshToken::revogar);
+    }
+
+    @Scheduled(fixedDelayString = "${app.token.limpeza-ms:3600000}",
+            initialDelayString = "${app.token.limpeza-ms:3600000}")
+    @Transactional
+    public void limparExpirados() {
+        int excluidos = refreshTokenRepository.excluirExpirados(LocalDateTime.now());
+        if (excluidos > 0) {
+            log.info("🧹 {} refresh tokens expirados removidos", excluidos);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package servicos_tecnicos;
+
+import dominio.dto.request.RelatorioRequestDTO;
+import dominio.dto.response.RelatorioJobDTO;
+import dominio.entidades.RelatorioJob;
+import dominio.enums.FormatoExportacao;
+import dominio.enums.StatusRelatorio;
+import dominio.exception.BusinessException;
+import dominio.exception.ResourceNotFoundException;
+import lib.relatorios.FilaRelatorios;
+import lib.repository.RelatorioJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Pedidos de relatório assíncronos: cria o job, consulta a situação e
+ * entrega o arquivo pronto.
+ *
+ * Reaproveitamento pela especificação (tipo + período + formato):
+ * - job igual ainda na fila ou rodando: o pedido devolve esse job
+ * - job igual CONCLUIDO: devolve o mesmo arquivo, se o período já terminou
+ *   (o resultado não muda mais) ou se ele tem menos de
+ *   app.relatorios.cache-minutos (períodos que incluem hoje)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RelatorioService {
+
+    private static final List<StatusRelatorio> REAPROVEITAVEIS =
+            List.of(StatusRelatorio.PENDENTE, StatusRelatorio.PROCESSANDO, StatusRelatorio.CONCLUIDO);
+
+    private final RelatorioJobRepository jobRepository;
+    private final FilaRelatorios filaRelatorios;
+    private final FileStorageService fileStorageService;
+
+    @Value("${app.relatorios.cache-minutos:15}")
+    private long cacheMinutos;
+
+    @Value("${app.relatorios.periodo-maximo-dias:731}")
+    private long periodoMaximoDias;
+
+    // ====== PEDIDO ======
+
+    @Transactional
+    public RelatorioJobDTO solicitar(RelatorioRequestDTO dto) {
+        LocalDate ate = dto.getAte() != null ? dto.getAte() : LocalDate.now();
+        LocalDate de = dto.getDe() != null ? dto.getDe() : ate.minusDays(30);
+        FormatoExportacao formato = dto.getFormato() != null ? dto.getFormato() : FormatoExportacao.CSV;
+        if (de.isAfter(ate)) {
+            throw new BusinessException("A data inicial deve ser anterior ou igual à data final.");
+        }
+        if (ChronoUnit.DAYS.between(de, ate) > periodoMaximoDias) {
+            throw new BusinessException("O período do relatório não pode passar de " + periodoMaximoDias + " dias.");
+        }
+
+        String hash = hashEspecificacao(dto.getTipo() + "|" + de + "|" + ate + "|" + formato);
+        Optional<RelatorioJob> existente = jobRepository
+                .findFirstByHashEspecificacaoAndStatusInOrderByDataCriacaoDesc(hash, REAPROVEITAVEIS)
+                .filter(job -> aproveitavel(job, ate));
+        if (existente.isPresent()) {
+            log.debug("♻️ Relatório {} reaproveitado para {} {} a {}", existente.get().getId(), dto.getTipo(), de, ate);
+            return toDTO(existente.get(), true);
+        }
+
+        filaRelatorios.verificarCapacidade();
+        RelatorioJob job = jobRepository.save(RelatorioJob.builder()
+                .tipo(dto.getTipo())
+                .de(de)
+                .ate(ate)
+                .formato(formato)
+                .hashEspecificacao(hash)
+                .solicitante(usuarioAtual())
+                .build());
+        filaRelatorios.enfileirarAposCommit(job.getId());
+        log.info("📝 Relatório {} solicitado: {} de {} a {} ({})", job.getId(), job.getTipo(), de, ate, formato);
+        return toDTO(job, false);
+    }
+
+    // ====== CONSULTA ======
+
+    @Transactional(readOnly = true)
+    public RelatorioJobDTO buscar(Long id) {
+        return toDTO(buscarJob(id), false);
+    }
+
+    /**
+     * Arquivo de um job CONCLUIDO.
+     */
+    @Transactional(readOnly = true)
+    public Resource arquivo(Long id) {
+        RelatorioJob job = buscarJob(id);
+        if (job.getStatus() != StatusRelatorio.CONCLUIDO) {
+            throw new BusinessException("Relatório ainda não está pronto (status " + job.getStatus() + ").");
+        }
+        Path caminho = fileStorageService.caminho(job.getArquivo());
+        if (!Files.exists(caminho)) {
+            // Removido pela limpeza ou, com várias instâncias, app.upload.dir não compartilhado
+            log.warn("⚠️ Arquivo do relatório {} não encontrado em {}", id, caminho);
+            throw new ResourceNotFoundException("Arquivo do relatório", "id", id);
+        }
+        return new FileSystemResource(caminho);
+    }
+
+    /**
+     * Nome sugerido para o download (ex.: produtividade_autores-2024-01-01-a-2024-01-31.csv).
+     */
+    public String nomeDownload(RelatorioJobDTO job) {
+        return job.getTipo().name().toLowerCase() + "-" + job.getDe() + "-a-" + job.getAte()
+                + "." + job.getFormato().getExtensao();
+    }
+
+    // ====== AUXILIARES ======
+
+    private RelatorioJob buscarJob(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Relatório", "id", id));
+    }
+
+    private boolean aproveitavel(RelatorioJob job, LocalDate ate) {
+        if (job.getStatus() != StatusRelatorio.CONCLUIDO) {
+            return true; // na fila ou rodando: basta esperar por ele
+        }
+        if (!Files.exists(fileStorageService.caminho(job.getArquivo()))) {
+            return false;
+        }
+        return ate.isBefore(LocalDate.now())
+                || job.getDataConclusao().isAfter(LocalDateTime.now().minusMinutes(cacheMinutos));
+    }
+
+    private static String hashEspecificacao(String especificacao) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(especificacao.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static String usuarioAtual() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null ? auth.getName() : null;
+    }
+
+    private RelatorioJobDTO toDTO(RelatorioJob job, boolean reaproveitado) {
+        return RelatorioJobDTO.builder()
+                .id(job.getId())
+                .tipo(job.getTipo())
+                .de(job.getDe())
+                .ate(job.getAte())
+                .formato(job.getFormato())
+                .status(job.getStatus())
+                .reaproveitado(reaproveitado)
+                .linhas(job.getLinhas())
+                .tamanhoBytes(job.getTamanhoBytes())
+                .downloadUrl(job.getStatus() == StatusRelatorio.CONCLUIDO
+                        ? "/api/admin/relatorios/jobs/" + job.getId() + "/arquivo"
+                        : null)
+                .erro(job.getErro())
+                .dataCriacao(job.getDataCriacao())
+                .dataInicio(job.getDataInicio())
+                .dataConclusao(job.getDataConclusao())
+                .build();
+    }
+}
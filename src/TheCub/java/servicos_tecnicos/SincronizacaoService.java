@@ -0,0 +1,147 @@
+package servicos_tecnicos;
+
+import dominio.dto.NoticiaResponse;
+import dominio.dto.response.EventoResponseDTO;
+import dominio.dto.response.SincronizacaoResponse;
+import dominio.dto.response.UsuarioResponseDTO;
+import dominio.entidades.Evento;
+import dominio.entidades.Noticia;
+import dominio.entidades.Usuario;
+import dominio.exception.BusinessException;
+import lib.conteudo.ArmazenamentoConteudo;
+import lib.replica.RoteadorLeituras;
+import lib.repository.EventoRepository;
+import lib.repository.NoticiaRepository;
+import lib.repository.UsuarioRepository;
+import lib.repository.sincronizacao.CursorSincronizacao;
+import lib.repository.sincronizacao.RegistrosExcluidos;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Feed de sincronização incremental (delta-sync) dos painéis administrativos.
+ *
+ * Em vez de baixar páginas inteiras a cada atualização, o cliente guarda um
+ * cursor e recebe só o que mudou desde ele:
+ * - alterados: registros com (dataAtualizacao, id) depois do cursor
+ * - excluidos: tombstones de registros_excluidos depois do cursor
+ *
+ * O feed para em "agora - margem" (app.sincronizacao.margem-ms): uma transação
+ * que gravou dataAtualizacao mas ainda não fez commit não pode ser pulada
+ * quando o cursor avançar além dela. Pelo mesmo motivo o feed é lido no
+ * primário, nunca na réplica (cujo atraso pode passar da margem).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SincronizacaoService {
+
+    @FunctionalInterface
+    private interface ConsultaAlterados<E> {
+        List<E> buscar(LocalDateTime data, Long id, LocalDateTime ate, Limit limite);
+    }
+
+    private final NoticiaRepository artigoRepository;
+    private final EventoRepository eventoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final RegistrosExcluidos registrosExcluidos;
+    private final NoticiaService noticiaService;
+    private final ArmazenamentoConteudo armazenamentoConteudo;
+    private final EventoService eventoService;
+    private final UsuarioService usuarioService;
+
+    @Value("${app.sincronizacao.margem-ms:2000}")
+    private long margemMs;
+
+    @Value("${app.sincronizacao.limite-maximo:1000}")
+    private int limiteMaximo;
+
+    // ====== FEEDS ======
+
+    @Transactional(readOnly = true)
+    public SincronizacaoResponse<NoticiaResponse> artigos(String cursor, int limite) {
+        // Feed leva o conteúdo completo: comprimidos carregados numa consulta só por lote
+        return sincronizar("artigos", cursor, limite,
+                (data, id, ate, limiteLote) -> armazenamentoConteudo.precarregar(
+                        artigoRepository.findAlteradosDesde(data, id, ate, limiteLote)),
+                noticiaService::toDTOComConteudo, Noticia::getDataAtualizacao, Noticia::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public SincronizacaoResponse<EventoResponseDTO> eventos(String cursor, int limite) {
+        return sincronizar("eventos", cursor, limite, eventoRepository::findAlteradosDesde,
+                eventoService::convertToDTO, Evento::getDataAtualizacao, Evento::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public SincronizacaoResponse<UsuarioResponseDTO> usuarios(String cursor, int limite) {
+        return sincronizar("usuarios", cursor, limite, usuarioRepository::findAlteradosDesde,
+                usuarioService::toResponse, Usuario::getDataAtualizacao, Usuario::getId);
+    }
+
+    // ====== MOTOR DO FEED ======
+
+    private <E, D> SincronizacaoResponse<D> sincronizar(String tabela,
+                                                        String token,
+                                                        int limite,
+                                                        ConsultaAlterados<E> consulta,
+                                                        Function<E, D> conversor,
+                                                        Function<E, LocalDateTime> dataAtualizacao,
+                                                        Function<E, Long> id) {
+        CursorSincronizacao cursor = lerCursor(token);
+        int tamanho = Math.max(1, Math.min(limite, limiteMaximo));
+        LocalDateTime ate = LocalDateTime.now().minusNanos(margemMs * 1_000_000);
+
+        // Busca um registro a mais para saber se o lote esgotou o feed
+        List<E> alterados = RoteadorLeituras.noPrimario(
+                () -> consulta.buscar(cursor.data(), cursor.id(), ate, Limit.of(tamanho + 1)));
+        boolean maisAlterados = alterados.size() > tamanho;
+        if (maisAlterados) {
+            alterados = alterados.subList(0, tamanho);
+        }
+
+        List<RegistrosExcluidos.Exclusao> exclusoes = RoteadorLeituras.noPrimario(() -> registrosExcluidos.listarDesde(
+                tabela, cursor.dataExclusao(), cursor.idExclusao(), ate, tamanho + 1));
+        boolean maisExclusoes = exclusoes.size() > tamanho;
+        if (maisExclusoes) {
+            exclusoes = exclusoes.subList(0, tamanho);
+        }
+
+        // Avança cada metade do cursor até o último item entregue
+        CursorSincronizacao proximo = cursor;
+        if (!alterados.isEmpty()) {
+            E ultimo = alterados.get(alterados.size() - 1);
+            proximo = proximo.comAlteracao(dataAtualizacao.apply(ultimo), id.apply(ultimo));
+        }
+        if (!exclusoes.isEmpty()) {
+            RegistrosExcluidos.Exclusao ultima = exclusoes.get(exclusoes.size() - 1);
+            proximo = proximo.comExclusao(ultima.dataExclusao(), ultima.id());
+        }
+
+        log.debug("🔄 Sincronização de {}: {} alterados, {} excluídos", tabela, alterados.size(), exclusoes.size());
+
+        return SincronizacaoResponse.<D>builder()
+                .alterados(alterados.stream().map(conversor).collect(Collectors.toList()))
+                .excluidos(exclusoes.stream().map(RegistrosExcluidos.Exclusao::registroId).collect(Collectors.toList()))
+                .cursor(proximo.codificar())
+                .temMais(maisAlterados || maisExclusoes)
+                .build();
+    }
+
+    private CursorSincronizacao lerCursor(String token) {
+        try {
+            return CursorSincronizacao.decodificar(token);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor de sincronização inválido; reinicie a sincronização sem cursor");
+        }
+    }
+}
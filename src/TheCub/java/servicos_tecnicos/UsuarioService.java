@@ -4,10 +4,15 @@ import dominio.entidades.Usuario;
 import dominio.enums.TipoUsuario;
 import dominio.dto.request.UsuarioRequestDTO;
 import dominio.dto.response.UsuarioResponseDTO;
+import dominio.dto.response.PaginaResponse;
 import dominio.dto.RegisterRequest;
 import dominio.exception.BusinessException;
 import dominio.exception.ResourceNotFoundException;
+import dominio.exception.ServicoSobrecarregadoException;
 import lib.repository.UsuarioRepository;
+import lib.repository.filtro.ConsultaPaginada;
+import lib.repository.filtro.FiltrosConsulta;
+import lib.repository.filtro.OrdenacaoIndexada;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -28,6 +33,9 @@ public class UsuarioService {
     // Repositório JPA de usuários
     private final UsuarioRepository usuarioRepository;
 
+    // Paginação com total em cache (sem COUNT a cada página)
+    private final ConsultaPaginada consultaPaginada;
+
     // Encoder de senha (definido em SecurityConfig)
     private final PasswordEncoder passwordEncoder;
 
@@ -140,6 +148,32 @@ public class UsuarioService {
                 );
     }
 
+    /**
+     * Regrava o hash da senha se ele estiver desatualizado (texto puro legado
+     * ou BCrypt com custo menor que o atual). Chamado após login bem-sucedido,
+     * único momento em que a senha em claro está disponível.
+     */
+    @Transactional
+    public void atualizarHashSenhaSeNecessario(Usuario usuario, String senha) {
+        if (!passwordEncoder.upgradeEncoding(usuario.getSenha())) {
+            return;
+        }
+        String novoHash;
+        try {
+            novoHash = passwordEncoder.encode(senha);
+        } catch (ServicoSobrecarregadoException e) {
+            // Não derruba um login válido: tenta de novo no próximo
+            log.warn("⚠️ Atualização do hash adiada para o usuário ID {}: {}", usuario.getId(), e.getMessage());
+            return;
+        }
+
+        // Recarrega na transação atual (a entidade recebida veio de outra) e grava via dirty checking
+        usuarioRepository.findById(usuario.getId()).ifPresent(atual -> {
+            atual.setSenha(novoHash);
+            log.info("🔐 Hash de senha atualizado para o usuário ID {}", atual.getId());
+        });
+    }
+
     // ====== LISTAGENS ======
 
     /**
@@ -264,7 +298,8 @@ public class UsuarioService {
      * - tipo (enum)
      * - ativo (true/false)
      *
-     * Se nenhum filtro for informado, retorna todos paginados.
+     * Se nenhum filtro for informado, retorna todos paginados
+     * (a Specification vazia não gera WHERE).
      */
     @Transactional(readOnly = true)
     public Page<UsuarioResponseDTO> buscarComFiltros(
@@ -274,22 +309,29 @@ public class UsuarioService {
             Boolean ativo,
             Pageable pageable
     ) {
-        log.info("🔍 Buscando usuários com filtros - Nome: {}, Email: {}, Tipo: {}, Ativo: {}",
+        log.debug("🔍 Buscando usuários com filtros - Nome: {}, Email: {}, Tipo: {}, Ativo: {}",
                 nome, email, tipo, ativo);
 
-        // Se nenhum filtro foi informado, retorna o findAll padrão
-        if (nome == null && email == null && tipo == null && ativo == null) {
-            return usuarioRepository
-                    .findAll(pageable)
-                    .map(this::toResponse);
-        }
-
-        // Monta padrões de busca com like (%texto%)
-        String nomeFiltro = nome != null ? "%" + nome.trim() + "%" : null;
-        String emailFiltro = email != null ? "%" + email.trim().toLowerCase() + "%" : null;
+        return consultaPaginada
+                .pagina(FiltrosConsulta.usuarios(nome, email, tipo, ativo),
+                        OrdenacaoIndexada.USUARIOS.ajustar(pageable))
+                .map(this::toResponse);
+    }
 
-        return usuarioRepository
-                .findByFiltros(nomeFiltro, emailFiltro, tipo, ativo, pageable)
+    /**
+     * Mesma busca por filtros, sem COUNT (exactCount=false).
+     */
+    @Transactional(readOnly = true)
+    public PaginaResponse<UsuarioResponseDTO> buscarComFiltrosSemContagem(
+            String nome,
+            String email,
+            TipoUsuario tipo,
+            Boolean ativo,
+            Pageable pageable
+    ) {
+        return consultaPaginada
+                .fatia(FiltrosConsulta.usuarios(nome, email, tipo, ativo),
+                        OrdenacaoIndexada.USUARIOS.ajustar(pageable))
                 .map(this::toResponse);
     }
 
@@ -298,8 +340,9 @@ public class UsuarioService {
     /**
      * Converte a entidade Usuario em UsuarioResponseDTO.
      * Inclui métricas: total de artigos e comentários do usuário.
+     * Visível no pacote para o feed de sincronização (SincronizacaoService).
      */
-    private UsuarioResponseDTO toResponse(Usuario usuario) {
+    UsuarioResponseDTO toResponse(Usuario usuario) {
         return UsuarioResponseDTO.builder()
                 .id(usuario.getId())
                 .nome(usuario.getNome())
@@ -309,6 +352,7 @@ public class UsuarioService {
                 .foto(usuario.getFoto())
                 .bio(usuario.getBio())
                 .dataCriacao(usuario.getDataCriacao())
+                .dataAtualizacao(usuario.getDataAtualizacao())
                 // Evita NullPointer se a lista for nula
                 .totalArtigos(usuario.getArtigos() != null
                         ? (long) usuario.getArtigos().size()
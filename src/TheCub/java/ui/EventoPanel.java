@@ -3,13 +3,8 @@ package ui;
 import dominio.entidades.Usuario;
 import javax.swing.*;
 import java.awt.*;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.List;
 import java.util.Map;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Painel de gerenciamento de eventos que consome a API do backend THE CLUB.
@@ -23,6 +18,9 @@ public class EventoPanel extends JPanel {
     // Área de texto onde os eventos serão exibidos
     private JTextArea areaConteudo;
 
+    // Cópia local dos eventos, atualizada pelo feed de sincronização
+    private final SincronizacaoCliente sincronizacao = new SincronizacaoCliente("eventos");
+
     /**
      * Construtor recebe o usuário logado e inicia UI + chamada à API.
      */
@@ -55,89 +53,61 @@ public class EventoPanel extends JPanel {
 
         // Coloca a área de texto dentro de um scroll
         add(new JScrollPane(areaConteudo), BorderLayout.CENTER);
+
+        // Atualiza só o que mudou desde a última carga
+        JButton btnAtualizar = new JButton("🔄 Atualizar");
+        btnAtualizar.addActionListener(e -> carregarEventosAPI());
+        add(btnAtualizar, BorderLayout.SOUTH);
     }
 
     /**
-     * Consome a API REST de eventos e preenche o painel com os dados.
+     * Sincroniza a cópia local de eventos com a API (feed incremental) e
+     * preenche o painel com os alterados mais recentemente.
      * Usa SwingWorker para não travar a thread da interface gráfica (EDT).
      */
     private void carregarEventosAPI() {
-        SwingWorker<Void, Void> worker = new SwingWorker<>() {
+        SwingWorker<List<Map<String, Object>>, Void> worker = new SwingWorker<>() {
             @Override
-            protected Void doInBackground() {
-                try {
-                    // URL da API (paginada, 5 eventos por página)
-                    URL url = new URL("http://localhost:8081/api/admin/eventos?page=0&size=5");
-                    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-                    connection.setRequestMethod("GET");
-                    connection.setRequestProperty("Accept", "application/json");
-                    // aqui você poderia adicionar Authorization se precisar de JWT
-
-                    int status = connection.getResponseCode();
-                    if (status == 200) {
-                        // Lê resposta JSON do backend
-                        BufferedReader reader = new BufferedReader(
-                                new InputStreamReader(connection.getInputStream())
-                        );
-                        StringBuilder response = new StringBuilder();
-                        String line;
-
-                        while ((line = reader.readLine()) != null) {
-                            response.append(line);
-                        }
-                        reader.close();
-
-                        // Converte JSON em Map genérico usando Jackson
-                        ObjectMapper mapper = new ObjectMapper();
-                        Map<String, Object> json =
-                                mapper.readValue(response.toString(), Map.class);
-
-                        // Conteúdo da página vem no campo "content" (padrão Page Spring Data)
-                        List<Map<String, Object>> eventos =
-                                (List<Map<String, Object>>) json.get("content");
-
-                        // Monta texto amigável para exibir na área de texto
-                        StringBuilder texto = new StringBuilder("📅 Eventos Recentes:\n\n");
-                        for (Map<String, Object> evento : eventos) {
-                            texto.append("• Título: ").append(evento.get("titulo")).append("\n")
-                                    // Usa o mesmo nome de campo do DTO: "localEvento"
-                                    .append("  Local: ").append(
-                                            evento.get("localEvento") != null
-                                                    ? evento.get("localEvento")
-                                                    : "Não informado"
-                                    ).append("\n")
-                                    .append("  Data: ").append(
-                                            evento.get("dataEvento") != null
-                                                    ? evento.get("dataEvento")
-                                                    : "Sem data"
-                                    ).append("\n")
-                                    .append("  Organizador: ").append(
-                                            evento.get("organizadorNome") != null
-                                                    ? evento.get("organizadorNome")
-                                                    : "Desconhecido"
-                                    ).append("\n")
-                                    .append("--------------------------------------------------------------\n");
-                        }
-
-                        // Atualiza o JTextArea na EDT (Event Dispatch Thread)
-                        SwingUtilities.invokeLater(() ->
-                                areaConteudo.setText(texto.toString())
-                        );
+            protected List<Map<String, Object>> doInBackground() throws Exception {
+                // Primeira vez baixa tudo; depois só o que mudou desde o cursor
+                sincronizacao.sincronizar();
+                return sincronizacao.maisRecentes(5);
+            }
 
-                    } else {
-                        // Em caso de erro HTTP, mostra o código de status
-                        SwingUtilities.invokeLater(() ->
-                                areaConteudo.setText("⚠️ Erro ao carregar eventos. HTTP " + status)
-                        );
+            @Override
+            protected void done() {
+                try {
+                    List<Map<String, Object>> eventos = get();
+
+                    // Monta texto amigável para exibir na área de texto
+                    StringBuilder texto = new StringBuilder("📅 Eventos Recentes:\n\n");
+                    for (Map<String, Object> evento : eventos) {
+                        texto.append("• Título: ").append(evento.get("titulo")).append("\n")
+                                // Usa o mesmo nome de campo do DTO: "localEvento"
+                                .append("  Local: ").append(
+                                        evento.get("localEvento") != null
+                                                ? evento.get("localEvento")
+                                                : "Não informado"
+                                ).append("\n")
+                                .append("  Data: ").append(
+                                        evento.get("dataEvento") != null
+                                                ? evento.get("dataEvento")
+                                                : "Sem data"
+                                ).append("\n")
+                                .append("  Organizador: ").append(
+                                        evento.get("organizadorNome") != null
+                                                ? evento.get("organizadorNome")
+                                                : "Desconhecido"
+                                ).append("\n")
+                                .append("--------------------------------------------------------------\n");
                     }
+                    areaConteudo.setText(texto.toString());
 
                 } catch (Exception e) {
-                    // Erro de rede, parsing, etc.
-                    SwingUtilities.invokeLater(() ->
-                            areaConteudo.setText("❌ Falha na comunicação com servidor: " + e.getMessage())
-                    );
+                    // Erro de rede, HTTP, parsing, etc.
+                    Throwable causa = e.getCause() != null ? e.getCause() : e;
+                    areaConteudo.setText("❌ Falha na comunicação com servidor: " + causa.getMessage());
                 }
-                return null;
             }
         };
         worker.execute(); // dispara execução em background
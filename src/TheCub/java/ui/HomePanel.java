@@ -69,151 +69,98 @@ public class HomePanel extends JPanel {
     }
 
     /**
-     * Faz chamadas REST paralelas para buscar métricas, artigos e eventos.
+     * Busca a home inteira em uma única chamada (GET /api/public/home).
+     * O servidor carrega as seções em paralelo; as que não responderem a
+     * tempo chegam vazias e são listadas em "secoesIndisponiveis".
      */
     private void carregarDadosAPI() {
-        new SwingWorker<Void, Void>() {
+        new SwingWorker<Map<String, Object>, Void>() {
             @Override
-            protected Void doInBackground() {
+            protected Map<String, Object> doInBackground() throws Exception {
+                return buscarHome();
+            }
+
+            @Override
+            protected void done() {
                 try {
-                    carregarMetricas();
-                    carregarArtigosRecentes();
-                    carregarEventosProximos();
+                    Map<String, Object> home = get();
+                    List<String> indisponiveis = (List<String>) home.getOrDefault("secoesIndisponiveis", List.of());
+                    exibirMetricas((Map<String, Object>) home.get("metricas"), indisponiveis.contains("metricas"));
+                    exibirArtigos((List<Map<String, Object>>) home.get("recentes"), indisponiveis.contains("recentes"));
+                    exibirEventos((List<Map<String, Object>>) home.get("proximosEventos"), indisponiveis.contains("eventos"));
                 } catch (Exception e) {
-                    SwingUtilities.invokeLater(() ->
-                            lblMetricas.setText("❌ Erro ao carregar dados: " + e.getMessage()));
+                    Throwable causa = e.getCause() != null ? e.getCause() : e;
+                    lblMetricas.setText("❌ Erro ao carregar dados: " + causa.getMessage());
                 }
-                return null;
             }
         }.execute();
     }
 
-    // ====== API MÉTRICAS ======
-    private void carregarMetricas() {
-        try {
-            URL url = new URL("http://localhost:8081/api/admin/relatorios/metricas");
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("Accept", "application/json");
-
-            if (conn.getResponseCode() == 200) {
-                BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-                StringBuilder json = new StringBuilder();
-                String line;
-                while ((line = br.readLine()) != null) json.append(line);
-                br.close();
-
-                ObjectMapper mapper = new ObjectMapper();
-                Map<String, Object> metricas = mapper.readValue(json.toString(), Map.class);
-
-                SwingUtilities.invokeLater(() -> lblMetricas.setText(String.format(
-                        "📊 Usuários: %s | Noticia: %s | Comentários: %s | Eventos: %s",
-                        metricas.get("totalUsuarios"),
-                        metricas.get("totalArtigos"),
-                        metricas.get("totalComentarios"),
-                        metricas.get("totalEventos")
-                )));
-            } else {
-                SwingUtilities.invokeLater(() ->
-                {
-                    try {
-                        lblMetricas.setText("⚠️ Falha ao obter métricas. HTTP " + conn.getResponseCode());
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-            }
-        } catch (Exception e) {
-            SwingUtilities.invokeLater(() ->
-                    lblMetricas.setText("❌ Erro nas métricas: " + e.getMessage()));
+    // ====== API HOME ======
+    private Map<String, Object> buscarHome() throws IOException {
+        URL url = new URL("http://localhost:8081/api/public/home");
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        conn.setRequestMethod("GET");
+        conn.setRequestProperty("Accept", "application/json");
+
+        if (conn.getResponseCode() != 200) {
+            throw new IOException("HTTP " + conn.getResponseCode());
         }
-    }
 
-    // ====== API ARTIGOS ======
-    private void carregarArtigosRecentes() {
-        try {
-            URL url = new URL("http://localhost:8081/api/admin/artigos?size=3&page=0");
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("Accept", "application/json");
-
-            if (conn.getResponseCode() == 200) {
-                BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-                StringBuilder json = new StringBuilder();
-                String line;
-                while ((line = br.readLine()) != null) json.append(line);
-                br.close();
-
-                ObjectMapper mapper = new ObjectMapper();
-                Map<String, Object> obj = mapper.readValue(json.toString(), Map.class);
-                List<Map<String, Object>> artigos = (List<Map<String, Object>>) obj.get("content");
-
-                StringBuilder texto = new StringBuilder("📰 Noticia Recentes:\n\n");
-                for (Map<String, Object> artigo : artigos) {
-                    texto.append("• ").append(artigo.get("titulo")).append("\n")
-                            .append("  Autor: ").append(artigo.get("autorNome")).append("\n")
-                            .append("  Status: ").append(artigo.get("status")).append("\n")
-                            .append("----------------------------------------------------------\n");
-                }
+        StringBuilder json = new StringBuilder();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
+            String line;
+            while ((line = br.readLine()) != null) json.append(line);
+        }
 
-                SwingUtilities.invokeLater(() -> areaArtigos.setText(texto.toString()));
-            } else {
-                SwingUtilities.invokeLater(() ->
-                {
-                    try {
-                        areaArtigos.setText("⚠️ Erro ao buscar artigos. HTTP " + conn.getResponseCode());
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-            }
-        } catch (Exception e) {
-            SwingUtilities.invokeLater(() ->
-                    areaArtigos.setText("❌ Falha ao obter artigos: " + e.getMessage()));
+        ObjectMapper mapper = new ObjectMapper();
+        return mapper.readValue(json.toString(), Map.class);
+    }
+
+    // ====== MÉTRICAS ======
+    private void exibirMetricas(Map<String, Object> metricas, boolean indisponivel) {
+        if (indisponivel || metricas == null) {
+            lblMetricas.setText("⚠️ Métricas indisponíveis no momento.");
+            return;
         }
+        lblMetricas.setText(String.format(
+                "📊 Usuários: %s | Noticia: %s | Comentários: %s | Eventos: %s",
+                metricas.get("totalUsuarios"),
+                metricas.get("totalArtigos"),
+                metricas.get("totalComentarios"),
+                metricas.get("totalEventos")
+        ));
     }
 
-    // ====== API EVENTOS ======
-    private void carregarEventosProximos() {
-        try {
-            URL url = new URL("http://localhost:8081/api/admin/eventos?size=3&page=0");
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("Accept", "application/json");
-
-            if (conn.getResponseCode() == 200) {
-                BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-                StringBuilder json = new StringBuilder();
-                String line;
-                while ((line = br.readLine()) != null) json.append(line);
-                br.close();
-
-                ObjectMapper mapper = new ObjectMapper();
-                Map<String, Object> obj = mapper.readValue(json.toString(), Map.class);
-                List<Map<String, Object>> eventos = (List<Map<String, Object>>) obj.get("content");
-
-                StringBuilder texto = new StringBuilder("📅 Próximos Eventos:\n\n");
-                for (Map<String, Object> evento : eventos) {
-                    texto.append("• ").append(evento.get("titulo")).append("\n")
-                            .append("  Local: ").append(evento.getOrDefault("local", "Não informado")).append("\n")
-                            .append("  Data: ").append(evento.getOrDefault("dataEvento", "Sem data")).append("\n")
-                            .append("----------------------------------------------------------\n");
-                }
+    // ====== ARTIGOS ======
+    private void exibirArtigos(List<Map<String, Object>> artigos, boolean indisponivel) {
+        if (indisponivel || artigos == null) {
+            areaArtigos.setText("⚠️ Artigos recentes indisponíveis no momento.");
+            return;
+        }
+        StringBuilder texto = new StringBuilder("📰 Noticia Recentes:\n\n");
+        for (Map<String, Object> artigo : artigos) {
+            texto.append("• ").append(artigo.get("titulo")).append("\n")
+                    .append("  Autor: ").append(artigo.get("autorNome")).append("\n")
+                    .append("  Status: ").append(artigo.get("status")).append("\n")
+                    .append("----------------------------------------------------------\n");
+        }
+        areaArtigos.setText(texto.toString());
+    }
 
-                SwingUtilities.invokeLater(() -> areaEventos.setText(texto.toString()));
-            } else {
-                SwingUtilities.invokeLater(() ->
-                {
-                    try {
-                        areaEventos.setText("⚠️ Erro ao buscar eventos. HTTP " + conn.getResponseCode());
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-            }
-        } catch (Exception e) {
-            SwingUtilities.invokeLater(() ->
-                    areaEventos.setText("❌ Falha ao obter eventos: " + e.getMessage()));
+    // ====== EVENTOS ======
+    private void exibirEventos(List<Map<String, Object>> eventos, boolean indisponivel) {
+        if (indisponivel || eventos == null) {
+            areaEventos.setText("⚠️ Próximos eventos indisponíveis no momento.");
+            return;
+        }
+        StringBuilder texto = new StringBuilder("📅 Próximos Eventos:\n\n");
+        for (Map<String, Object> evento : eventos) {
+            texto.append("• ").append(evento.get("titulo")).append("\n")
+                    .append("  Local: ").append(evento.getOrDefault("localEvento", "Não informado")).append("\n")
+                    .append("  Data: ").append(evento.getOrDefault("dataEvento", "Sem data")).append("\n")
+                    .append("----------------------------------------------------------\n");
         }
+        areaEventos.setText(texto.toString());
     }
 }
@@ -3,18 +3,12 @@ package ui;
 import dominio.entidades.Usuario;
 import javax.swing.*;
 import java.awt.*;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Painel Swing para gerenciamento/visualização de artigos.
- * Esse painel se conecta à API REST (Spring Boot) para listar artigos recentes.
+ * Esse painel mantém uma cópia local dos artigos via feed de sincronização da API REST.
  */
 public class NoticiaPanel extends JPanel {
 
@@ -24,6 +18,9 @@ public class NoticiaPanel extends JPanel {
     // Área de texto onde os artigos serão exibidos
     private JTextArea areaConteudo;
 
+    // Cópia local dos artigos, atualizada pelo feed de sincronização
+    private final SincronizacaoCliente sincronizacao = new SincronizacaoCliente("artigos");
+
     /**
      * Construtor recebe o usuário logado (pode ser útil depois para filtros/permissões).
      */
@@ -55,80 +52,48 @@ public class NoticiaPanel extends JPanel {
 
         // Adiciona área de texto dentro de um JScrollPane (barra de rolagem)
         add(new JScrollPane(areaConteudo), BorderLayout.CENTER);
+
+        // Atualiza só o que mudou desde a última carga
+        JButton btnAtualizar = new JButton("🔄 Atualizar");
+        btnAtualizar.addActionListener(e -> carregarArtigosAPI());
+        add(btnAtualizar, BorderLayout.SOUTH);
     }
 
     /**
-     * Consome a API REST do backend e carrega a listagem de artigos no painel.
+     * Sincroniza a cópia local de artigos com a API (feed incremental) e
+     * mostra os alterados mais recentemente.
      * Faz a chamada em background (SwingWorker) para não travar a UI.
      */
     private void carregarArtigosAPI() {
-        new SwingWorker<Void, Void>() {
+        new SwingWorker<List<Map<String, Object>>, Void>() {
             @Override
-            protected Void doInBackground() {
-                try {
-                    // Endpoint da API que lista artigos (paginado)
-                    URL url = new URL("http://localhost:8081/api/admin/artigos?size=5&page=0");
-                    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-                    connection.setRequestMethod("GET");
-                    connection.setRequestProperty("Accept", "application/json");
-                    // Se em algum momento você usar JWT, aqui dá pra adicionar Authorization header
-
-                    // Se resposta OK (200)
-                    if (connection.getResponseCode() == 200) {
-                        // Lê o corpo da resposta JSON
-                        BufferedReader reader = new BufferedReader(
-                                new InputStreamReader(connection.getInputStream())
-                        );
-                        StringBuilder response = new StringBuilder();
-                        String line;
-                        while ((line = reader.readLine()) != null) {
-                            response.append(line);
-                        }
-                        reader.close();
-
-                        // Usa Jackson para converter JSON em Map genérico
-                        ObjectMapper mapper = new ObjectMapper();
-                        Map<String, Object> json = mapper.readValue(response.toString(), Map.class);
-
-                        // A lista de artigos vem no campo "content" (padrão do Page do Spring)
-                        List<Map<String, Object>> artigos =
-                                (List<Map<String, Object>>) json.get("content");
-
-                        // Monta o texto que será exibido na área de conteúdo
-                        StringBuilder texto = new StringBuilder("📰 Noticia Recentes:\n\n");
-                        for (Map<String, Object> artigo : artigos) {
-                            texto.append("• Título: ").append(artigo.get("titulo")).append("\n")
-                                    .append("  Autor: ").append(artigo.get("autorNome")).append("\n")
-                                    .append("  Status: ").append(artigo.get("status")).append("\n")
-                                    .append("  Visualizações: ").append(artigo.get("visualizacoes")).append("\n")
-                                    .append("------------------------------------------------------------\n");
-                        }
-
-                        // Atualiza a UI na thread de eventos do Swing
-                        SwingUtilities.invokeLater(() ->
-                                areaConteudo.setText(texto.toString())
-                        );
+            protected List<Map<String, Object>> doInBackground() throws Exception {
+                // Primeira vez baixa tudo; depois só o que mudou desde o cursor
+                sincronizacao.sincronizar();
+                return sincronizacao.maisRecentes(5);
+            }
 
-                    } else {
-                        // Caso a resposta NÃO seja 200, mostra código HTTP de erro
-                        SwingUtilities.invokeLater(() -> {
-                            try {
-                                areaConteudo.setText(
-                                        "@@@@@@@ Erro ao carregar artigos. HTTP " + connection.getResponseCode()
-                                );
-                            } catch (IOException e) {
-                                throw new RuntimeException(e);
-                            }
-                        });
+            @Override
+            protected void done() {
+                try {
+                    List<Map<String, Object>> artigos = get();
+
+                    // Monta o texto que será exibido na área de conteúdo
+                    StringBuilder texto = new StringBuilder("📰 Noticia Recentes:\n\n");
+                    for (Map<String, Object> artigo : artigos) {
+                        texto.append("• Título: ").append(artigo.get("titulo")).append("\n")
+                                .append("  Autor: ").append(artigo.get("autorNome")).append("\n")
+                                .append("  Status: ").append(artigo.get("status")).append("\n")
+                                .append("  Visualizações: ").append(artigo.get("visualizacoes")).append("\n")
+                                .append("------------------------------------------------------------\n");
                     }
+                    areaConteudo.setText(texto.toString());
 
                 } catch (Exception e) {
-                    // Erros de conexão, parsing etc.
-                    SwingUtilities.invokeLater(() ->
-                            areaConteudo.setText("############ Falha na comunicação com servidor: " + e.getMessage())
-                    );
+                    // Erros de conexão, HTTP, parsing etc.
+                    Throwable causa = e.getCause() != null ? e.getCause() : e;
+                    areaConteudo.setText("############ Falha na comunicação com servidor: " + causa.getMessage());
                 }
-                return null;
             }
         }.execute(); // Inicia a execução em background
     }
@@ -1,13 +1,18 @@
 package ui;
 
 import dominio.entidades.Usuario;
+import dominio.enums.TipoRelatorio;
 import javax.swing.*;
 import java.awt.*;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -22,6 +27,23 @@ public class RelatoriosPanel extends JPanel {
     // Área de texto onde os relatórios serão exibidos
     private JTextArea areaConteudo;
 
+    // ID do artigo para o gráfico de analytics
+    private JTextField campoArtigoId;
+
+    // Largura máxima das barras do gráfico em texto
+    private static final int LARGURA_BARRA = 40;
+
+    // Relatório pesado a pedir na fila (/api/admin/relatorios/jobs)
+    private JComboBox<TipoRelatorio> comboRelatorio;
+
+    // Intervalo entre consultas da situação do job
+    private static final long INTERVALO_POLLING_MS = 2000;
+
+    // Linhas do arquivo exibidas na área de texto (o arquivo completo fica no servidor)
+    private static final int MAXIMO_LINHAS_EXIBIDAS = 200;
+
+    private static final String API = "http://localhost:8081";
+
     // Construtor: recebe o usuário logado, monta UI e carrega dados da API
     public RelatoriosPanel(Usuario usuario) {
         this.usuarioLogado = usuario;
@@ -46,6 +68,34 @@ public class RelatoriosPanel extends JPanel {
         areaConteudo.setText("Carregando relatórios e estatísticas da API...\n");
 
         add(new JScrollPane(areaConteudo), BorderLayout.CENTER);
+
+        // Analytics de um artigo (série dos últimos 30 dias)
+        JPanel painelAnalytics = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        campoArtigoId = new JTextField(8);
+        JButton btnAnalytics = new JButton("📈 Analytics do artigo (30 dias)");
+        btnAnalytics.addActionListener(e -> carregarAnalyticsArtigo());
+        JButton btnGeral = new JButton("📊 Relatório geral");
+        btnGeral.addActionListener(e -> carregarRelatoriosAPI());
+        painelAnalytics.add(new JLabel("ID do artigo:"));
+        painelAnalytics.add(campoArtigoId);
+        painelAnalytics.add(btnAnalytics);
+        painelAnalytics.add(btnGeral);
+
+        // Relatórios pesados: gerados em fila no servidor, sem travar a requisição
+        comboRelatorio = new JComboBox<>(TipoRelatorio.values());
+        comboRelatorio.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                Object texto = value instanceof TipoRelatorio tipo ? tipo.getDescricao() : value;
+                return super.getListCellRendererComponent(list, texto, index, isSelected, cellHasFocus);
+            }
+        });
+        JButton btnRelatorio = new JButton("📑 Gerar relatório (30 dias)");
+        btnRelatorio.addActionListener(e -> gerarRelatorio((TipoRelatorio) comboRelatorio.getSelectedItem()));
+        painelAnalytics.add(comboRelatorio);
+        painelAnalytics.add(btnRelatorio);
+        add(painelAnalytics, BorderLayout.SOUTH);
     }
 
     /**
@@ -125,4 +175,157 @@ public class RelatoriosPanel extends JPanel {
 
         areaConteudo.setText(texto.toString());
     }
+
+    /**
+     * Busca a série diária do artigo (/api/admin/artigos/{id}/analytics) e
+     * desenha um gráfico de barras em texto. Os dados vêm dos rollups.
+     */
+    private void carregarAnalyticsArtigo() {
+        String id = campoArtigoId.getText().trim();
+        if (!id.matches("\\d+")) {
+            areaConteudo.setText("⚠️ Informe o ID numérico do artigo.");
+            return;
+        }
+        areaConteudo.setText("Carregando analytics do artigo " + id + "...\n");
+
+        SwingWorker<Map<String, Object>, Void> worker = new SwingWorker<>() {
+            @Override
+            protected Map<String, Object> doInBackground() throws Exception {
+                URL url = new URL("http://localhost:8081/api/admin/artigos/" + id + "/analytics");
+                HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+                conn.setRequestMethod("GET");
+                conn.setRequestProperty("Accept", "application/json");
+                if (conn.getResponseCode() != 200) {
+                    throw new IOException("HTTP " + conn.getResponseCode());
+                }
+                try (InputStream corpo = conn.getInputStream()) {
+                    return new ObjectMapper().readValue(corpo, Map.class);
+                }
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    renderizarAnalytics(get());
+                } catch (Exception e) {
+                    Throwable causa = e.getCause() != null ? e.getCause() : e;
+                    areaConteudo.setText("❌ Falha ao carregar analytics: " + causa.getMessage());
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void renderizarAnalytics(Map<String, Object> serie) {
+        List<Map<String, Object>> pontos = (List<Map<String, Object>>) serie.get("pontos");
+        long maximo = 1;
+        for (Map<String, Object> ponto : pontos) {
+            maximo = Math.max(maximo, ((Number) ponto.get("visualizacoes")).longValue());
+        }
+
+        StringBuilder texto = new StringBuilder();
+        texto.append(String.format("===== 📈 ANALYTICS DO ARTIGO %s (%s a %s) =====%n%n",
+                serie.get("artigoId"), serie.get("de"), serie.get("ate")));
+        if (pontos.isEmpty()) {
+            texto.append("Nenhuma visualização ou reação no período.\n");
+        }
+        for (Map<String, Object> ponto : pontos) {
+            long visualizacoes = ((Number) ponto.get("visualizacoes")).longValue();
+            int largura = (int) (visualizacoes * LARGURA_BARRA / maximo);
+            String dia = String.valueOf(ponto.get("inicio"));
+            texto.append(String.format("%-10s │%-" + LARGURA_BARRA + "s│ %6d  👍 %d  😐 %d  👎 %d%n",
+                    dia.substring(0, Math.min(10, dia.length())), "█".repeat(largura), visualizacoes,
+                    ((Number) ponto.get("gostei")).longValue(),
+                    ((Number) ponto.get("neutro")).longValue(),
+                    ((Number) ponto.get("naoGostei")).longValue()));
+        }
+        texto.append(String.format("%nTotal: %s visualizações | 👍 %s | 😐 %s | 👎 %s%n",
+                serie.get("totalVisualizacoes"), serie.get("totalGostei"),
+                serie.get("totalNeutro"), serie.get("totalNaoGostei")));
+        areaConteudo.setText(texto.toString());
+    }
+
+    /**
+     * Pede o relatório à fila do servidor e acompanha o job por polling até
+     * ficar pronto; então baixa o arquivo e mostra as primeiras linhas.
+     * Um pedido igual a um relatório já pronto volta na hora (reaproveitado).
+     */
+    private void gerarRelatorio(TipoRelatorio tipo) {
+        areaConteudo.setText("Solicitando relatório \"" + tipo.getDescricao() + "\"...\n");
+
+        SwingWorker<String, String> worker = new SwingWorker<>() {
+            @Override
+            protected String doInBackground() throws Exception {
+                ObjectMapper mapper = new ObjectMapper();
+
+                HttpURLConnection post = (HttpURLConnection) new URL(API + "/api/admin/relatorios/jobs").openConnection();
+                post.setRequestMethod("POST");
+                post.setDoOutput(true);
+                post.setRequestProperty("Content-Type", "application/json");
+                post.setRequestProperty("Accept", "application/json");
+                try (OutputStream corpo = post.getOutputStream()) {
+                    corpo.write(mapper.writeValueAsBytes(Map.of("tipo", tipo.name())));
+                }
+                if (post.getResponseCode() != 202) {
+                    throw new IOException("HTTP " + post.getResponseCode());
+                }
+                Map<String, Object> job;
+                try (InputStream corpo = post.getInputStream()) {
+                    job = mapper.readValue(corpo, Map.class);
+                }
+
+                Object id = job.get("id");
+                while (!"CONCLUIDO".equals(job.get("status")) && !"FALHOU".equals(job.get("status"))) {
+                    publish("⏳ Relatório " + id + ": " + job.get("status") + "...");
+                    Thread.sleep(INTERVALO_POLLING_MS);
+                    HttpURLConnection get = (HttpURLConnection) new URL(API + "/api/admin/relatorios/jobs/" + id).openConnection();
+                    get.setRequestProperty("Accept", "application/json");
+                    if (get.getResponseCode() != 200) {
+                        throw new IOException("HTTP " + get.getResponseCode());
+                    }
+                    try (InputStream corpo = get.getInputStream()) {
+                        job = mapper.readValue(corpo, Map.class);
+                    }
+                }
+                if ("FALHOU".equals(job.get("status"))) {
+                    throw new IOException(String.valueOf(job.get("erro")));
+                }
+
+                StringBuilder texto = new StringBuilder();
+                texto.append(String.format("===== 📑 %s (%s a %s) =====%n", tipo.getDescricao(), job.get("de"), job.get("ate")));
+                texto.append(String.format("%s linhas%s | download: %s%s%n%n", job.get("linhas"),
+                        Boolean.TRUE.equals(job.get("reaproveitado")) ? " (reaproveitado)" : "",
+                        API, job.get("downloadUrl")));
+                HttpURLConnection arquivo = (HttpURLConnection) new URL(API + job.get("downloadUrl")).openConnection();
+                try (BufferedReader leitor = new BufferedReader(
+                        new InputStreamReader(arquivo.getInputStream(), StandardCharsets.UTF_8))) {
+                    String linha;
+                    int exibidas = 0;
+                    while ((linha = leitor.readLine()) != null && exibidas++ < MAXIMO_LINHAS_EXIBIDAS) {
+                        texto.append(linha.replace("\uFEFF", "")).append('\n');
+                    }
+                    if (linha != null) {
+                        texto.append("...\n");
+                    }
+                }
+                return texto.toString();
+            }
+
+            @Override
+            protected void process(List<String> situacoes) {
+                areaConteudo.setText(situacoes.get(situacoes.size() - 1) + "\n");
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    areaConteudo.setText(get());
+                } catch (Exception e) {
+                    Throwable causa = e.getCause() != null ? e.getCause() : e;
+                    areaConteudo.setText("❌ Falha ao gerar relatório: " + causa.getMessage());
+                }
+            }
+        };
+        worker.execute();
+    }
 }
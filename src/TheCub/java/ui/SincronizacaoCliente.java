@@ -0,0 +1,97 @@
+package ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cópia local de uma entidade mantida pelo feed de sincronização
+ * (/api/admin/sincronizacao/{entidade}).
+ *
+ * A primeira chamada baixa tudo em lotes; as seguintes mandam o cursor
+ * e aplicam só o que mudou, em vez de rebaixar a página inteira.
+ */
+public class SincronizacaoCliente {
+
+    private static final String BASE_URL = "http://localhost:8081/api/admin/sincronizacao/";
+    private static final int LIMITE = 500;
+
+    private final String entidade;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    // Registros conhecidos, por id
+    private final Map<Long, Map<String, Object>> registros = new LinkedHashMap<>();
+
+    // Cursor recebido na última chamada (null = nunca sincronizou)
+    private String cursor;
+
+    public SincronizacaoCliente(String entidade) {
+        this.entidade = entidade;
+    }
+
+    /**
+     * Aplica todos os lotes pendentes desde o último cursor.
+     * Chamar fora da EDT (SwingWorker).
+     *
+     * @throws IOException se a API responder com erro ou não estiver acessível
+     */
+    public synchronized void sincronizar() throws IOException {
+        boolean temMais;
+        do {
+            Map<String, Object> lote = buscarLote();
+
+            List<Map<String, Object>> alterados = (List<Map<String, Object>>) lote.get("alterados");
+            for (Map<String, Object> registro : alterados) {
+                registros.put(((Number) registro.get("id")).longValue(), registro);
+            }
+            List<Number> excluidos = (List<Number>) lote.get("excluidos");
+            for (Number id : excluidos) {
+                registros.remove(id.longValue());
+            }
+
+            cursor = (String) lote.get("cursor");
+            temMais = Boolean.TRUE.equals(lote.get("temMais"));
+        } while (temMais);
+    }
+
+    /**
+     * Os "quantidade" registros alterados mais recentemente.
+     */
+    public synchronized List<Map<String, Object>> maisRecentes(int quantidade) {
+        // dataAtualizacao vem em ISO-8601: a ordem do texto é a ordem cronológica
+        Comparator<Map<String, Object>> porAtualizacao = Comparator.comparing(
+                r -> String.valueOf(r.get("dataAtualizacao")));
+        List<Map<String, Object>> lista = new ArrayList<>(registros.values());
+        lista.sort(porAtualizacao.reversed());
+        return lista.subList(0, Math.min(quantidade, lista.size()));
+    }
+
+    private Map<String, Object> buscarLote() throws IOException {
+        String endereco = BASE_URL + entidade + "?limite=" + LIMITE;
+        if (cursor != null) {
+            endereco += "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+        }
+
+        HttpURLConnection connection = (HttpURLConnection) new URL(endereco).openConnection();
+        connection.setRequestMethod("GET");
+        connection.setRequestProperty("Accept", "application/json");
+
+        int status = connection.getResponseCode();
+        if (status != 200) {
+            throw new IOException("HTTP " + status);
+        }
+        try (InputStream corpo = connection.getInputStream()) {
+            return mapper.readValue(corpo, Map.class);
+        }
+    }
+}